@@ -16,6 +16,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryRecordCodec;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.ExpeditedInputs;
@@ -27,8 +28,9 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.StorageController;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.student.StudentManager;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundStorageWriter;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -64,17 +66,24 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(addressBookFilePath);
+        AddressBookStorage binaryAddressBookStorage =
+                new BinaryAddressBookStorage(BinaryRecordCodec.toBinaryPath(addressBookFilePath));
+        storage = config.isUseBinarySnapshots()
+                ? new StorageManager(binaryAddressBookStorage, xmlAddressBookStorage, userPrefsStorage)
+                : new StorageManager(xmlAddressBookStorage, binaryAddressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
-        StorageController.retrieveData();
+        BackgroundStorageWriter.getInstance().setCoalescingWindow(config.getSaveCoalescingWindow());
+        StorageController.setUseBinarySnapshots(config.isUseBinarySnapshots());
         ExpeditedInputs.loadInputData();
 
-        model = initModelManager(storage, userPrefs);
-        StudentManager sm = StudentManager.getInstance();
-        sm.initializeModel(model);
+        StartupLoader startupLoader = new StartupLoader();
+        model = initModelManager(startupLoader, storage, userPrefs);
+        startupLoader.buildManagers(model);
+        startupLoader.logTimings();
 
         logic = new LogicManager(model);
 
@@ -89,12 +98,13 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The other data files are loaded by {@code startupLoader} at the same time.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private Model initModelManager(StartupLoader startupLoader, Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = startupLoader.loadData(storage);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
@@ -108,7 +118,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, config);
     }
 
     private void initLogging(Config config) {
@@ -202,6 +212,7 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        BackgroundStorageWriter.getInstance().shutdown();
         Platform.exit();
         System.exit(0);
     }
@@ -0,0 +1,115 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
+import seedu.address.model.QuarantineReport;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.StorageController;
+import seedu.address.model.classroom.ClassroomManager;
+import seedu.address.model.course.CourseManager;
+import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.model.module.ModuleManager;
+import seedu.address.model.note.NoteManager;
+import seedu.address.model.student.StudentManager;
+import seedu.address.model.user.UserManager;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the data of Trajectory on startup.
+ * The data files of the {@link StorageController} are parsed in parallel while the address book is read, and the
+ * managers are then built in the order they depend on each other: courses, students, modules, classrooms and
+ * grades, followed by the independent notes and users. The time taken by each phase is recorded so that it can be
+ * logged once startup has finished.
+ */
+public class StartupLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupLoader.class);
+
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+
+    /**
+     * Parses the data files of the {@link StorageController} and reads the address book from {@code storage}.
+     * The data files are parsed on the common fork-join pool while the address book is read on the calling thread.
+     * The data files have been parsed by the time this method returns, even if reading the address book fails.
+     *
+     * @throws DataConversionException if the address book is not in the expected format.
+     * @throws IOException if there was any problem when reading the address book.
+     */
+    public Optional<ReadOnlyAddressBook> loadData(Storage storage) throws DataConversionException, IOException {
+        requireNonNull(storage);
+        long startTime = System.nanoTime();
+        ForkJoinTask<?> dataFiles = ForkJoinPool.commonPool().submit(() -> {
+            StorageController.retrieveData();
+            record("data files", startTime);
+        });
+        long addressBookStartTime = System.nanoTime();
+        try {
+            return storage.readAddressBook();
+        } finally {
+            record("address book", addressBookStartTime);
+            dataFiles.join();
+        }
+    }
+
+    /**
+     * Builds the managers from the loaded data in dependency order, linking the student manager to {@code model}.
+     */
+    public void buildManagers(Model model) {
+        requireNonNull(model);
+        time("courses", CourseManager::getInstance);
+        time("students", () -> StudentManager.getInstance().initializeModel(model));
+        time("modules", ModuleManager::getInstance);
+        time("classrooms", ClassroomManager::getInstance);
+        time("grades", () -> {
+            GradebookManager.getInstance();
+            GradesManager.getInstance();
+        });
+        time("notes", NoteManager::getInstance);
+        time("users", UserManager::getInstance);
+    }
+
+    /**
+     * Returns the time in milliseconds taken by each phase so far, in the order the phases finished.
+     */
+    public synchronized Map<String, Long> getPhaseMillis() {
+        return new LinkedHashMap<>(phaseMillis);
+    }
+
+    /**
+     * Logs the time taken by each phase and the number of records that could not be loaded.
+     */
+    public void logTimings() {
+        StringBuilder sb = new StringBuilder("Startup timings:");
+        getPhaseMillis().forEach((phase, millis) -> sb.append(String.format(" %1$s %2$d ms,", phase, millis)));
+        sb.append(String.format(" %1$d record(s) quarantined", QuarantineReport.getInstance().size()));
+        logger.info(sb.toString());
+    }
+
+    /**
+     * Runs {@code phase} and records the time it took under {@code name}.
+     */
+    private void time(String name, Runnable phase) {
+        long startTime = System.nanoTime();
+        try {
+            phase.run();
+        } finally {
+            record(name, startTime);
+        }
+    }
+
+    private synchronized void record(String name, long startTime) {
+        phaseMillis.put(name, (System.nanoTime() - startTime) / 1_000_000);
+    }
+}
@@ -16,6 +16,10 @@ public class Config {
     private String appTitle = "Trajectory";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveCoalescingWindow = 300;
+    private boolean useBinarySnapshots = false;
+    private int undoHistoryLimit = 1000;
+    private int undoHistoryPersonLimit = 1_000_000;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +45,50 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the time in milliseconds that changes are collected for before they are saved together.
+     */
+    public long getSaveCoalescingWindow() {
+        return saveCoalescingWindow;
+    }
+
+    public void setSaveCoalescingWindow(long saveCoalescingWindow) {
+        this.saveCoalescingWindow = saveCoalescingWindow;
+    }
+
+    /**
+     * Returns true if data files are to be saved in the compact binary format instead of XML.
+     */
+    public boolean isUseBinarySnapshots() {
+        return useBinarySnapshots;
+    }
+
+    public void setUseBinarySnapshots(boolean useBinarySnapshots) {
+        this.useBinarySnapshots = useBinarySnapshots;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the maximum number of student records kept in memory for undoing commands.
+     */
+    public int getUndoHistoryPersonLimit() {
+        return undoHistoryPersonLimit;
+    }
+
+    public void setUndoHistoryPersonLimit(int undoHistoryPersonLimit) {
+        this.undoHistoryPersonLimit = undoHistoryPersonLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +102,17 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveCoalescingWindow == o.saveCoalescingWindow
+                && useBinarySnapshots == o.useBinarySnapshots
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryPersonLimit == o.undoHistoryPersonLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveCoalescingWindow, useBinarySnapshots,
+                undoHistoryLimit, undoHistoryPersonLimit);
     }
 
     @Override
@@ -0,0 +1,633 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads and writes records in a compact binary format.
+ * <p>
+ * A file starts with a header holding a magic number, the format version and a description of the record layout,
+ * followed by a table of every distinct string in the file and then the records, each prefixed with its length.
+ * Strings are written as indexes into the string table, so values that repeat across records, such as module codes
+ * and matriculation numbers, are stored once. Integers and lengths are written as variable-length integers.
+ * Files are read through a memory-mapped buffer.
+ * <p>
+ * The fields of a record are found by reflection, so records must have a no-argument constructor and only hold
+ * strings, primitives, lists of supported values or other records. A file written for an older layout of the
+ * records can still be read as long as every field it holds still exists with the same type: fields added since are
+ * left as the no-argument constructor sets them. A file holding fields that were removed or changed type cannot be
+ * read.
+ *
+ * @param <R> the class of the records.
+ */
+public class BinaryRecordCodec<R> implements RecordCodec<R> {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final int MAGIC = 0x54524a42;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Map<Class<?>, BinaryRecordCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    private final Class<R> recordClass;
+    private final RecordLayout layout;
+
+    private BinaryRecordCodec(Class<R> recordClass) {
+        this.recordClass = recordClass;
+        this.layout = new RecordLayout(recordClass);
+    }
+
+    /**
+     * Returns the codec for records of {@code recordClass}.
+     *
+     * @throws IllegalArgumentException if the records hold fields that cannot be written in this format.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> BinaryRecordCodec<R> forClass(Class<R> recordClass) {
+        requireNonNull(recordClass);
+        return (BinaryRecordCodec<R>) codecs.computeIfAbsent(recordClass, BinaryRecordCodec::new);
+    }
+
+    /**
+     * Returns the path of the binary file that stands in for {@code file}, which has the same name with its
+     * {@code .xml} extension replaced.
+     */
+    public static Path toBinaryPath(Path file) {
+        String fileName = file.getFileName().toString();
+        String baseName = fileName.endsWith(".xml") ? fileName.substring(0, fileName.length() - 4) : fileName;
+        return file.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    public Class<R> getRecordClass() {
+        return recordClass;
+    }
+
+    @Override
+    public <E extends Exception> void read(Path file, RecordHandler<? super R, E> handler)
+            throws IOException, DataConversionException, E {
+        requireNonNull(file);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || readVarInt(buffer) != FORMAT_VERSION) {
+                throw new DataConversionException(new IOException(file + " is not a binary data file"));
+            }
+            RecordLayout storedLayout;
+            try {
+                storedLayout = layout.forDescription(readInlineString(buffer));
+            } catch (IllegalArgumentException e) {
+                throw new DataConversionException(new IOException(file + " was written for a layout of "
+                        + recordClass.getSimpleName() + " that cannot be read: " + e.getMessage(), e));
+            }
+
+            String[] strings = new String[readVarInt(buffer) + 1];
+            for (int i = 1; i < strings.length; i++) {
+                strings[i] = readInlineString(buffer);
+            }
+
+            int recordCount = readVarInt(buffer);
+            for (int i = 0; i < recordCount; i++) {
+                int length = readVarInt(buffer);
+                int recordEnd = buffer.position() + length;
+                R record = recordClass.cast(storedLayout.read(buffer, strings));
+                if (buffer.position() != recordEnd) {
+                    throw new DataConversionException(new IOException("Record " + i + " in " + file
+                            + " does not match its length"));
+                }
+                handler.handle(record);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new DataConversionException(new IOException(file + " is incomplete or corrupted", e));
+        }
+    }
+
+    /**
+     * Writes {@code records} to {@code file}.
+     * The records are written to a temporary file that then replaces {@code file}, so {@code file} is left intact
+     * if writing fails.
+     */
+    @Override
+    public void write(Path file, Iterable<? extends R> records) throws IOException {
+        requireNonNull(file);
+        requireNonNull(records);
+
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        int recordCount = 0;
+        for (R record : records) {
+            recordBytes.reset();
+            layout.write(recordBytes, record, strings);
+            writeVarInt(body, recordBytes.size());
+            recordBytes.writeTo(body);
+            recordCount++;
+        }
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            out.write(ByteBuffer.allocate(4).putInt(MAGIC).array());
+            writeVarInt(out, FORMAT_VERSION);
+            writeInlineString(out, layout.describe());
+            writeVarInt(out, strings.size());
+            for (String string : strings.values()) {
+                writeInlineString(out, string);
+            }
+            writeVarInt(out, recordCount);
+            body.writeTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    //=========== Encoding helpers =============================================================
+
+    /**
+     * Writes {@code value} seven bits at a time, least significant first, with the high bit of each byte set if
+     * more bytes follow.
+     */
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            out.write((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt(OutputStream, int)}.
+     */
+    private static int readVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    private static void writeInlineString(OutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readInlineString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readVarInt(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Assigns each distinct string an index, starting from 1 so that 0 can stand for null.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        /**
+         * Returns the index of {@code string}, adding it to the table if it is not there yet.
+         */
+        int indexOf(String string) {
+            if (string == null) {
+                return 0;
+            }
+            Integer index = indexes.get(string);
+            if (index == null) {
+                values.add(string);
+                index = values.size();
+                indexes.put(string, index);
+            }
+            return index;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        List<String> values() {
+            return values;
+        }
+    }
+
+    /**
+     * The kinds of values that can be written, with the code used to describe them in the file header.
+     */
+    private enum Kind {
+        STRING("s"), INT("i"), LONG("l"), FLOAT("f"), DOUBLE("d"), BOOLEAN("b"), LIST("L"), RECORD("R");
+
+        private final String code;
+
+        Kind(String code) {
+            this.code = code;
+        }
+    }
+
+    /**
+     * Describes how to write and read a value of a given type.
+     */
+    private static class ValueType {
+        private final Kind kind;
+        private final ValueType elementType;
+        private final RecordLayout recordLayout;
+
+        private ValueType(Kind kind, ValueType elementType, RecordLayout recordLayout) {
+            this.kind = kind;
+            this.elementType = elementType;
+            this.recordLayout = recordLayout;
+        }
+
+        /**
+         * Returns the value type for fields declared with {@code type}.
+         *
+         * @throws IllegalArgumentException if values of {@code type} cannot be written.
+         */
+        static ValueType of(Type type) {
+            if (type == String.class) {
+                return new ValueType(Kind.STRING, null, null);
+            } else if (type == int.class) {
+                return new ValueType(Kind.INT, null, null);
+            } else if (type == long.class) {
+                return new ValueType(Kind.LONG, null, null);
+            } else if (type == float.class) {
+                return new ValueType(Kind.FLOAT, null, null);
+            } else if (type == double.class) {
+                return new ValueType(Kind.DOUBLE, null, null);
+            } else if (type == boolean.class) {
+                return new ValueType(Kind.BOOLEAN, null, null);
+            } else if (type instanceof ParameterizedType
+                    && List.class.isAssignableFrom((Class<?>) ((ParameterizedType) type).getRawType())) {
+                Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+                return new ValueType(Kind.LIST, of(elementType), null);
+            } else if (type instanceof Class && !((Class<?>) type).isPrimitive()
+                    && !((Class<?>) type).getName().startsWith("java.")) {
+                return new ValueType(Kind.RECORD, null, new RecordLayout((Class<?>) type));
+            }
+            throw new IllegalArgumentException("Cannot write values of type " + type + " in binary format");
+        }
+
+        /**
+         * Returns a description of this type that changes whenever the way values of this type are written changes.
+         */
+        String describe() {
+            switch (kind) {
+            case LIST:
+                return kind.code + "<" + elementType.describe() + ">";
+            case RECORD:
+                return kind.code + recordLayout.describe();
+            default:
+                return kind.code;
+            }
+        }
+
+        /**
+         * Writes {@code value} to {@code out}, adding any strings in it to {@code strings}.
+         */
+        void write(OutputStream out, Object value, StringTable strings) throws IOException {
+            switch (kind) {
+            case STRING:
+                writeVarInt(out, strings.indexOf((String) value));
+                break;
+            case INT:
+                int intValue = (Integer) value;
+                writeVarInt(out, (intValue << 1) ^ (intValue >> 31));
+                break;
+            case LONG:
+                out.write(ByteBuffer.allocate(8).putLong((Long) value).array());
+                break;
+            case FLOAT:
+                out.write(ByteBuffer.allocate(4).putFloat((Float) value).array());
+                break;
+            case DOUBLE:
+                out.write(ByteBuffer.allocate(8).putDouble((Double) value).array());
+                break;
+            case BOOLEAN:
+                out.write((Boolean) value ? 1 : 0);
+                break;
+            case LIST:
+                // lengths are written one higher so that 0 can stand for a null list
+                List<?> list = (List<?>) value;
+                writeVarInt(out, list == null ? 0 : list.size() + 1);
+                if (list != null) {
+                    for (Object element : list) {
+                        elementType.write(out, element, strings);
+                    }
+                }
+                break;
+            case RECORD:
+                out.write(value == null ? 0 : 1);
+                if (value != null) {
+                    recordLayout.write(out, value, strings);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown kind: " + kind);
+            }
+        }
+
+        /**
+         * Reads a value of this type from {@code buffer}, looking up strings in {@code strings}.
+         */
+        Object read(ByteBuffer buffer, String[] strings) {
+            switch (kind) {
+            case STRING:
+                return strings[readVarInt(buffer)];
+            case INT:
+                int encoded = readVarInt(buffer);
+                return (encoded >>> 1) ^ -(encoded & 1);
+            case LONG:
+                return buffer.getLong();
+            case FLOAT:
+                return buffer.getFloat();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case LIST:
+                int size = readVarInt(buffer) - 1;
+                if (size < 0) {
+                    return null;
+                }
+                ArrayList<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(elementType.read(buffer, strings));
+                }
+                return list;
+            case RECORD:
+                return buffer.get() == 0 ? null : recordLayout.read(buffer, strings);
+            default:
+                throw new IllegalStateException("Unknown kind: " + kind);
+            }
+        }
+    }
+
+    /**
+     * The fields of a record class, in name order, or the fields of a stored layout of the class along with the
+     * fields of the class they are read into.
+     */
+    private static class RecordLayout {
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+        private final ValueType[] types;
+
+        private RecordLayout(Constructor<?> constructor, Field[] fields, ValueType[] types) {
+            this.constructor = constructor;
+            this.fields = fields;
+            this.types = types;
+        }
+
+        /**
+         * Creates the layout of {@code recordClass}.
+         *
+         * @throws IllegalArgumentException if the records cannot be written in this format.
+         */
+        RecordLayout(Class<?> recordClass) {
+            try {
+                constructor = recordClass.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(recordClass + " has no no-argument constructor", e);
+            }
+
+            fields = Arrays.stream(recordClass.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers())
+                            && !Modifier.isTransient(field.getModifiers())
+                            && !field.isSynthetic())
+                    .sorted(Comparator.comparing(Field::getName))
+                    .toArray(Field[]::new);
+            types = new ValueType[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].setAccessible(true);
+                types[i] = ValueType.of(fields[i].getGenericType());
+            }
+        }
+
+        /**
+         * Returns the names and types of the fields, which are written in the file header so that a file is read
+         * with the layout it was written with.
+         */
+        String describe() {
+            StringBuilder description = new StringBuilder("(");
+            for (int i = 0; i < fields.length; i++) {
+                description.append(i == 0 ? "" : ",").append(fields[i].getName()).append(':')
+                        .append(types[i].describe());
+            }
+            return description.append(')').toString();
+        }
+
+        /**
+         * Returns the layout that reads records written with the layout described by {@code description} into
+         * records of this layout.
+         *
+         * @throws IllegalArgumentException if {@code description} is malformed, or holds a field that this layout
+         * does not have or that has a different type in this layout.
+         */
+        RecordLayout forDescription(String description) {
+            if (description.equals(describe())) {
+                return this;
+            }
+            LayoutParser parser = new LayoutParser(description);
+            RecordLayout storedLayout = parser.parseLayout(this);
+            parser.expectEnd();
+            return storedLayout;
+        }
+
+        /**
+         * Returns the field of this layout named {@code name}, or -1 if there is none.
+         */
+        int indexOf(String name) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].getName().equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Writes the fields of {@code record} to {@code out} in order.
+         */
+        void write(OutputStream out, Object record, StringTable strings) throws IOException {
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    types[i].write(out, fields[i].get(record), strings);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Creates a record and reads its fields from {@code buffer} in order.
+         */
+        Object read(ByteBuffer buffer, String[] strings) {
+            try {
+                Object record = constructor.newInstance();
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i].set(record, types[i].read(buffer, strings));
+                }
+                return record;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Parses the layout descriptions written by {@link RecordLayout#describe()}, matching each stored field with the
+     * field of the same name in the current layout.
+     */
+    private static class LayoutParser {
+        private final String description;
+        private int position;
+
+        LayoutParser(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Parses a layout whose fields are read into the fields of {@code currentLayout}.
+         */
+        RecordLayout parseLayout(RecordLayout currentLayout) {
+            List<Field> fields = new ArrayList<>();
+            List<ValueType> types = new ArrayList<>();
+            expect('(');
+            while (!accept(')')) {
+                if (!fields.isEmpty()) {
+                    expect(',');
+                }
+                String name = parseName();
+                expect(':');
+                int index = currentLayout.indexOf(name);
+                if (index < 0) {
+                    throw new IllegalArgumentException("field " + name + " no longer exists");
+                }
+                ValueType type = parseType(currentLayout.types[index]);
+                if (type == null) {
+                    throw new IllegalArgumentException("field " + name + " has changed type");
+                }
+                fields.add(currentLayout.fields[index]);
+                types.add(type);
+            }
+            return new RecordLayout(currentLayout.constructor, fields.toArray(new Field[0]),
+                    types.toArray(new ValueType[0]));
+        }
+
+        /**
+         * Parses a type whose values are read as values of {@code currentType}.
+         *
+         * @return the parsed type, or null if its values cannot be read as values of {@code currentType}.
+         */
+        private ValueType parseType(ValueType currentType) {
+            String code = String.valueOf(next());
+            if (!code.equals(currentType.kind.code)) {
+                return null;
+            }
+            switch (currentType.kind) {
+            case LIST:
+                expect('<');
+                ValueType elementType = parseType(currentType.elementType);
+                expect('>');
+                return elementType == null ? null : new ValueType(Kind.LIST, elementType, null);
+            case RECORD:
+                return new ValueType(Kind.RECORD, null, parseLayout(currentType.recordLayout));
+            default:
+                return currentType;
+            }
+        }
+
+        /**
+         * Parses the name of a field.
+         */
+        private String parseName() {
+            int start = position;
+            while (position < description.length()
+                    && Character.isJavaIdentifierPart(description.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw new IllegalArgumentException("malformed layout " + description);
+            }
+            return description.substring(start, position);
+        }
+
+        /**
+         * Returns the next character of the description.
+         */
+        private char next() {
+            if (position >= description.length()) {
+                throw new IllegalArgumentException("malformed layout " + description);
+            }
+            return description.charAt(position++);
+        }
+
+        /**
+         * Skips {@code expected} if it is the next character of the description.
+         *
+         * @return true if it was skipped.
+         */
+        private boolean accept(char expected) {
+            if (position < description.length() && description.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Skips {@code expected}, which must be the next character of the description.
+         */
+        private void expect(char expected) {
+            if (!accept(expected)) {
+                throw new IllegalArgumentException("malformed layout " + description);
+            }
+        }
+
+        /**
+         * Checks that the whole description has been parsed.
+         */
+        void expectEnd() {
+            if (position != description.length()) {
+                throw new IllegalArgumentException("malformed layout " + description);
+            }
+        }
+    }
+}
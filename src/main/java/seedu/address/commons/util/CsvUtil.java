@@ -6,6 +6,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -63,9 +64,26 @@ public class CsvUtil {
         requireNonNull(headersParam);
         requireNonNull(dataParam);
 
+        return streamToCsv(fileNameParam, headersParam, dataParam.iterator()) >= 0;
+    }
+
+    /**
+     * This method creates a CSV file from CSV-friendly Strings, writing each String as it is produced
+     * by {@code rows} so that the rows never have to be held in memory together.
+     *
+     * @return the number of rows written if writing to file is successful, -1 otherwise
+     */
+    public static int streamToCsv(
+            String fileNameParam,
+            ArrayList<String> headersParam,
+            Iterator<String> rows) {
+
+        requireNonNull(fileNameParam);
+        requireNonNull(headersParam);
+        requireNonNull(rows);
+
         String fileName = BASE_DIRECTORY + fileNameParam + ".csv";
         String headers = parseHeaders(headersParam);
-        ArrayList<String> data = new ArrayList<>(dataParam);
 
         try {
             File file = new File(fileName);
@@ -75,10 +93,11 @@ public class CsvUtil {
         } catch (SecurityException e) {
             logger.info(MESSAGE_CREATE_DIRECTORY_ERROR);
             e.printStackTrace();
-            return false;
+            return -1;
         }
 
         FileWriter fileWriter = null;
+        int rowCount = 0;
 
         try {
             fileWriter = new FileWriter(fileName);
@@ -86,15 +105,16 @@ public class CsvUtil {
             fileWriter.append(headers);
             fileWriter.append(NEW_LINE_SEPARATOR);
 
-            for (String obj : data) {
-                fileWriter.append(obj);
+            while (rows.hasNext()) {
+                fileWriter.append(rows.next());
                 fileWriter.append(NEW_LINE_SEPARATOR);
+                rowCount++;
             }
 
         } catch (IOException e) {
             logger.info(String.format(MESSAGE_ERROR, fileNameParam));
             e.printStackTrace();
-            return false;
+            return -1;
         } finally {
             try {
                 fileWriter.flush();
@@ -105,6 +125,6 @@ public class CsvUtil {
             }
         }
 
-        return true;
+        return rowCount;
     }
 }
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import java.util.Arrays;
+
+/**
+ * Maps non-negative int keys to consecutive indexes, in the order the keys are added, without boxing.
+ * Callers keep the values of the keys in arrays at those indexes, which gives an insertion-ordered map from ints to
+ * primitive values. Keys are found by open addressing in a table kept at most half full. Removing a key moves the
+ * keys after it down by one index, so callers shift their arrays the same way.
+ */
+public class IntIndexMap {
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] table = newTable(INITIAL_CAPACITY * 2);
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the index of {@code key}, or -1 if it has not been added.
+     */
+    public int indexOf(int key) {
+        return table[findSlot(table, key, keys)];
+    }
+
+    /**
+     * Adds {@code key} if it has not been added, and returns its index.
+     */
+    public int add(int key) {
+        int slot = findSlot(table, key, keys);
+        if (table[slot] != EMPTY) {
+            return table[slot];
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        keys[size] = key;
+        table[slot] = size;
+        size++;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return size - 1;
+    }
+
+    /**
+     * Removes {@code key}, moving the keys after it down by one index.
+     * @return The index the key had, or -1 if it has not been added.
+     */
+    public int remove(int key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return -1;
+        }
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        size--;
+        int[] newTable = newTable(table.length);
+        for (int i = 0; i < size; i++) {
+            newTable[findSlot(newTable, keys[i], keys)] = i;
+        }
+        table = newTable;
+        return index;
+    }
+
+    /**
+     * Returns the key at {@code index}.
+     */
+    public int keyAt(int index) {
+        return keys[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the size of the table, placing every key again.
+     */
+    private void rehash() {
+        int[] newTable = newTable(table.length * 2);
+        for (int index = 0; index < size; index++) {
+            newTable[findSlot(newTable, keys[index], keys)] = index;
+        }
+        table = newTable;
+    }
+
+    /**
+     * Returns the slot of {@code table} holding the index of {@code key}, or the empty slot it would be stored in.
+     */
+    private static int findSlot(int[] table, int key, int[] keys) {
+        int mask = table.length - 1;
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (table[slot] != EMPTY && keys[table[slot]] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps one canonical instance of each distinct value, so that equal values can share a single instance.
+ * Canonical instances are only weakly held, and are dropped once nothing else refers to them.
+ * @param <T> the type of the values, which must be immutable and implement {@code equals} and {@code hashCode}
+ */
+public class Interner<T> {
+
+    private final Map<T, WeakReference<T>> canonicalInstances = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance if there
+     * is none. Returns null if {@code value} is null.
+     */
+    public synchronized T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        WeakReference<T> reference = canonicalInstances.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            canonicalInstances.put(value, new WeakReference<>(value));
+            return value;
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances currently held.
+     */
+    public synchronized int size() {
+        return canonicalInstances.size();
+    }
+}
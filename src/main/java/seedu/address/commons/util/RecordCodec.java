@@ -0,0 +1,38 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads and writes files that hold a list of records, one record at a time.
+ *
+ * @param <R> the class of the records.
+ */
+public interface RecordCodec<R> {
+
+    /**
+     * Handles a record read from a file.
+     */
+    @FunctionalInterface
+    interface RecordHandler<R, E extends Exception> {
+        void handle(R record) throws E;
+    }
+
+    /**
+     * Passes the records in {@code file} to {@code handler} in order, as they are read.
+     *
+     * @throws java.io.FileNotFoundException Thrown if the file is missing.
+     * @throws DataConversionException       Thrown if the file is empty or does not have the correct format.
+     */
+    <E extends Exception> void read(Path file, RecordHandler<? super R, E> handler)
+            throws IOException, DataConversionException, E;
+
+    /**
+     * Writes {@code records} to {@code file}, replacing its contents.
+     *
+     * @throws DataConversionException Thrown if the records cannot be converted to the format of the file.
+     */
+    void write(Path file, Iterable<? extends R> records) throws IOException, DataConversionException;
+}
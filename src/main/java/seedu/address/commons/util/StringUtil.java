@@ -12,6 +12,16 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final Interner<String> STRING_INTERNER = new Interner<>();
+
+    /**
+     * Returns the canonical instance of {@code value}, so that identifiers repeated across many records, such as
+     * module codes and matric numbers, share one {@code String}. Returns null if {@code value} is null.
+     */
+    public static String intern(String value) {
+        return STRING_INTERNER.intern(value);
+    }
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
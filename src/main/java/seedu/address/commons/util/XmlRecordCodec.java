@@ -0,0 +1,180 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads and writes XML files that hold a list of records, one record at a time.
+ * The files have a root element, optionally a single element wrapping the list, and one element per record, which
+ * is the format JAXB produces for a class holding a list of records. Only the record being read or written is held
+ * in memory, so records can be converted to and from model objects as they are streamed.
+ *
+ * @param <R> the JAXB-annotated class of the records.
+ */
+public class XmlRecordCodec<R> implements RecordCodec<R> {
+
+    private static final String INDENT = "    ";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    private final QName rootName;
+    private final String listName;
+    private final QName recordName;
+    private final Class<R> recordClass;
+
+    /**
+     * Creates a codec for files with root element {@code rootName} whose records of type {@code recordClass} are
+     * {@code recordName} elements.
+     *
+     * @param listName the name of the element wrapping the records, or null if the records are direct children of
+     *                 the root element.
+     */
+    public XmlRecordCodec(QName rootName, String listName, String recordName, Class<R> recordClass) {
+        requireNonNull(rootName);
+        requireNonNull(recordName);
+        requireNonNull(recordClass);
+        this.rootName = rootName;
+        this.listName = listName;
+        this.recordName = new QName(recordName);
+        this.recordClass = recordClass;
+    }
+
+    public Class<R> getRecordClass() {
+        return recordClass;
+    }
+
+    @Override
+    public <E extends Exception> void read(Path file, RecordHandler<? super R, E> handler)
+            throws IOException, DataConversionException, E {
+        requireNonNull(file);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!reader.getName().equals(rootName)) {
+                    throw new DataConversionException(new JAXBException("Unexpected root element "
+                            + reader.getName() + " in " + file + ", expected " + rootName));
+                }
+
+                Unmarshaller um = XmlUtil.getUnmarshaller(recordClass);
+                while (reader.hasNext()) {
+                    if (reader.isStartElement() && reader.getName().equals(recordName)) {
+                        // Unmarshalling consumes the record and leaves the reader at the event after it
+                        handler.handle(um.unmarshal(reader, recordClass).getValue());
+                    } else {
+                        reader.next();
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code records} to {@code file}, one record per line.
+     * The records are written to a temporary file that then replaces {@code file}, so {@code file} is left intact
+     * if writing fails.
+     */
+    @Override
+    public void write(Path file, Iterable<? extends R> records) throws IOException, DataConversionException {
+        requireNonNull(file);
+        requireNonNull(records);
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        boolean isWritten = false;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, "UTF-8");
+            Marshaller m = XmlUtil.getMarshaller(recordClass, true);
+            String recordIndent = "\n" + (listName == null ? INDENT : INDENT + INDENT);
+
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+            writeStartRoot(writer);
+            if (listName != null) {
+                writer.writeCharacters("\n" + INDENT);
+                writer.writeStartElement(listName);
+            }
+            for (R record : records) {
+                writer.writeCharacters(recordIndent);
+                m.marshal(new JAXBElement<>(recordName, recordClass, record), writer);
+            }
+            if (listName != null) {
+                writer.writeCharacters("\n" + INDENT);
+                writer.writeEndElement();
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndDocument();
+            writer.close();
+            isWritten = true;
+        } catch (XMLStreamException | JAXBException e) {
+            throw new DataConversionException(e);
+        } finally {
+            if (!isWritten) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns {@code record} as an XML fragment in the format it is written to files in.
+     */
+    public String toXml(R record) throws DataConversionException {
+        requireNonNull(record);
+        StringWriter writer = new StringWriter();
+        try {
+            Marshaller m = XmlUtil.getMarshaller(recordClass, true);
+            m.marshal(new JAXBElement<>(recordName, recordClass, record), writer);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the start tag of the root element, declaring its namespace if it has one.
+     */
+    private void writeStartRoot(XMLStreamWriter writer) throws XMLStreamException {
+        if (rootName.getNamespaceURI().isEmpty()) {
+            writer.writeStartElement(rootName.getLocalPart());
+            return;
+        }
+        writer.writeStartElement(rootName.getPrefix(), rootName.getLocalPart(), rootName.getNamespaceURI());
+        writer.writeNamespace(rootName.getPrefix(), rootName.getNamespaceURI());
+    }
+}
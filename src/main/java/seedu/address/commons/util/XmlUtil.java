@@ -2,9 +2,14 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +18,16 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * JAXB contexts are expensive to create, so they are created once per class and cached. Marshallers and unmarshallers
+ * are not thread-safe, so they are cached per thread.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+            ThreadLocal.withInitial(HashMap::new);
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +49,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +72,79 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass(), false);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns {@code data} as an xml fragment without the xml declaration, on a single line unless the data
+     * itself contains line breaks.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> byte[] toXmlBytes(T data) throws JAXBException {
+        requireNonNull(data);
+
+        Marshaller m = getMarshaller(data.getClass(), true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        m.marshal(data, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the xml data in {@code bytes} as an object of the specified type.
+     *
+     * @throws JAXBException Thrown if the data does not have the correct format.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T fromXmlBytes(byte[] bytes, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(bytes);
+        requireNonNull(classToConvert);
+
+        Unmarshaller um = getUnmarshaller(classToConvert);
+
+        return ((T) um.unmarshal(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Returns the cached JAXB context for {@code type}, creating it on first use.
+     */
+    static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's marshaller for {@code type}.
+     * Fragments are written without an xml declaration or line breaks; whole documents are written formatted.
+     */
+    static Marshaller getMarshaller(Class<?> type, boolean isFragment) throws JAXBException {
+        Marshaller m = marshallers.get().get(type);
+        if (m == null) {
+            m = getContext(type).createMarshaller();
+            marshallers.get().put(type, m);
+        }
+        m.setProperty(Marshaller.JAXB_FRAGMENT, isFragment);
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, !isFragment);
+        return m;
+    }
+
+    /**
+     * Returns this thread's unmarshaller for {@code type}.
+     */
+    static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Unmarshaller um = unmarshallers.get().get(type);
+        if (um == null) {
+            um = getContext(type).createUnmarshaller();
+            unmarshallers.get().put(type, um);
+        }
+        return um;
+    }
+
 }
@@ -34,7 +34,12 @@ public class LogicManager extends ComponentManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
             Command command = addressBookParser.parseCommand(commandText);
-            return command.execute(model, history);
+            model.beginCommand();
+            try {
+                return command.execute(model, history);
+            } finally {
+                model.commitCommand();
+            }
         } finally {
             history.add(commandText);
         }
@@ -84,17 +84,12 @@ public class ClassAddStudentAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_FAIL);
         }
 
-        Attendance attendance = classroomManager.findAttendanceForClass(classToMarkAttendance, date);
-        if (attendance == null) {
-            attendance = new Attendance();
-        }
-
         if (classroomManager.isDuplicateClassroomStudentAttendance(classToMarkAttendance, matricNo, date)) {
             throw new CommandException(String.format(MESSAGE_DUPLICATE_CLASSROOM_STUDENT_ATTENDANCE, matricNo));
         }
 
-        classroomManager.markStudentAttendance(classToMarkAttendance, attendance, matricNo);
-        classroomManager.saveClassroomAttendanceList();
+        classroomManager.markStudentAttendance(classToMarkAttendance, date, matricNo);
+        classroomManager.saveClassroomAttendance(classToMarkAttendance, date);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, matricNo,
                 classToMarkAttendance.getClassName(), classToMarkAttendance.getModuleCode()),
@@ -94,17 +94,16 @@ public class ClassDeleteStudentAttendanceCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NOT_CLASSROOM_STUDENT_ATTENDANCE, matricNo));
         }
 
-        Attendance attendance = classroomManager.findAttendanceForClass(classToModifyAttendance, date);
-        if (attendance == null) {
+        if (!classroomManager.hasAttendanceForClass(classToModifyAttendance, date)) {
             throw new CommandException(MESSAGE_NO_CLASSROOM_STUDENT_ATTENDANCE);
         }
 
-        if (!classroomManager.isStudentAttendanceMarked(attendance, matricNo)) {
+        if (!classroomManager.isStudentAttendanceMarked(classToModifyAttendance, date, matricNo)) {
             throw new CommandException(String.format(MESSAGE_UNMARKED_CLASSROOM_STUDENT_ATTENDANCE, matricNo));
         }
 
-        classroomManager.modifyStudentAttendance(classToModifyAttendance, attendance, matricNo);
-        classroomManager.saveClassroomAttendanceList();
+        classroomManager.modifyStudentAttendance(classToModifyAttendance, date, matricNo);
+        classroomManager.saveClassroomAttendance(classToModifyAttendance, date);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, matricNo,
                 classToModifyAttendance.getClassName(), classToModifyAttendance.getModuleCode()),
@@ -1,9 +1,13 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_TO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 
+import java.time.LocalDate;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -12,7 +16,8 @@ import seedu.address.model.classroom.ClassroomManager;
 import seedu.address.model.module.ModuleManager;
 
 /**
- * Lists the attendance for a class in the system.
+ * Lists the attendance for a class in the system, optionally only from and to given dates, with the attendance rate
+ * of each student over those dates.
  */
 public class ClassListStudentAttendanceCommand extends Command {
     public static final String COMMAND_WORD = "class listattendance";
@@ -21,24 +26,37 @@ public class ClassListStudentAttendanceCommand extends Command {
             + " for the system. "
             + "Parameters: "
             + PREFIX_CLASS_NAME + "CLASS_NAME "
-            + PREFIX_MODULE_CODE + "MODULE_CODE\n"
+            + PREFIX_MODULE_CODE + "MODULE_CODE "
+            + "[" + PREFIX_ATTENDANCE_FROM + "FROM_DATE] "
+            + "[" + PREFIX_ATTENDANCE_TO + "TO_DATE]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_CLASS_NAME + "T16 "
-            + PREFIX_MODULE_CODE + "CG1111";
+            + PREFIX_MODULE_CODE + "CG1111 "
+            + PREFIX_ATTENDANCE_FROM + "01-10-2018 "
+            + PREFIX_ATTENDANCE_TO + "31-10-2018";
 
     public static final String MESSAGE_SUCCESS = "Attendance is listed for"
             + " Class: %1$s"
             + ", Module code: %2$s";
     public static final String MESSAGE_FAIL = "Class belonging to module not found!";
     public static final String MESSAGE_MODULE_CODE_INVALID = "Module code does not exist";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The from date cannot be after the to date";
 
     private final String className;
     private final String moduleCode;
+    private final LocalDate from;
+    private final LocalDate to;
 
     public ClassListStudentAttendanceCommand(String className, String moduleCode) {
-        requireAllNonNull(className, moduleCode);
+        this(className, moduleCode, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    public ClassListStudentAttendanceCommand(String className, String moduleCode, LocalDate from, LocalDate to) {
+        requireAllNonNull(className, moduleCode, from, to);
         this.className = className;
         this.moduleCode = moduleCode;
+        this.from = from;
+        this.to = to;
     }
 
     /**
@@ -64,7 +82,7 @@ public class ClassListStudentAttendanceCommand extends Command {
         }
 
         return new CommandResult(String.format(MESSAGE_SUCCESS + "\n", className, moduleCode),
-                classroomManager.getClassroomAttendanceHtmlRepresentation(classToListAttendance));
+                classroomManager.getClassroomAttendanceHtmlRepresentation(classToListAttendance, from, to));
     }
 
     @Override
@@ -72,7 +90,9 @@ public class ClassListStudentAttendanceCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof ClassListStudentAttendanceCommand // instanceof handles nulls
                 && className.equals(((ClassListStudentAttendanceCommand) other).className)
-                && moduleCode.equals(((ClassListStudentAttendanceCommand) other).moduleCode));
+                && moduleCode.equals(((ClassListStudentAttendanceCommand) other).moduleCode)
+                && from.equals(((ClassListStudentAttendanceCommand) other).from)
+                && to.equals(((ClassListStudentAttendanceCommand) other).to));
 
     }
 }
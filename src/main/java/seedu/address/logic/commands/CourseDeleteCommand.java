@@ -41,7 +41,7 @@ public class CourseDeleteCommand extends Command {
         if (!cm.hasCourse(courseCode)) {
             throw new CommandException(MESSAGE_NO_SUCH_COURSE);
         }
-        if (StudentManager.getInstance().getStudentsInCourse(courseCode).size() > 0) {
+        if (StudentManager.getInstance().getStudentCountInCourse(courseCode) > 0) {
             throw new CommandException(MESSAGE_ATTACHED_STUDENTS);
         }
 
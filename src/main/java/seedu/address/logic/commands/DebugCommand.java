@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 
 import seedu.address.logic.CommandHistory;
@@ -55,8 +56,8 @@ public class DebugCommand extends Command {
 
         ModuleManager moduleManager = ModuleManager.getInstance();
         ClassroomManager classroomManager = ClassroomManager.getInstance();
-        GradebookManager gradebookManager = new GradebookManager();
-        GradesManager gradesManager = new GradesManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
+        GradesManager gradesManager = GradesManager.getInstance();
         NoteManager noteManager = NoteManager.getInstance();
 
         StorageController.wipeAllProductionData();
@@ -123,16 +124,23 @@ public class DebugCommand extends Command {
         moduleManager.saveModuleList();
 
         Module module = moduleManager.getModuleByModuleCode("MA1508E");
-        module.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0168372L"));
-        module.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0166371K"));
-        module.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0196361C"));
+        moduleManager.enrolStudentInModule(module,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0168372L"));
+        moduleManager.enrolStudentInModule(module,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0166371K"));
+        moduleManager.enrolStudentInModule(module,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0196361C"));
         Module module2 = moduleManager.getModuleByModuleCode("CS2113");
-        module2.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0168372L"));
-        module2.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0166371K"));
+        moduleManager.enrolStudentInModule(module2,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0168372L"));
+        moduleManager.enrolStudentInModule(module2,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0166371K"));
         Module module3 = moduleManager.getModuleByModuleCode("GEQ1000");
-        module3.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0166371K"));
+        moduleManager.enrolStudentInModule(module3,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0166371K"));
         Module module4 = moduleManager.getModuleByModuleCode("CS1010");
-        module4.addStudent(StudentManager.getInstance().retrieveStudentByMatricNo("A0196361C"));
+        moduleManager.enrolStudentInModule(module4,
+                StudentManager.getInstance().retrieveStudentByMatricNo("A0196361C"));
 
         classroomManager.clearClassrooms();
         Classroom classroom1 = new Classroom(new ClassName("ALL"),
@@ -155,20 +163,20 @@ public class DebugCommand extends Command {
         classroomManager.assignStudent(classroom3, "A0168372K"); //GEQ1000
         classroomManager.assignStudent(classroom4, "A0196361C"); //CS1010
 
-        classroomManager.markStudentAttendance(classroom1, new Attendance("12-11-2018"), "A0168372L");
-        classroomManager.markStudentAttendance(classroom1, new Attendance("12-11-2018"), "A0166371K");
-        classroomManager.markStudentAttendance(classroom1, new Attendance("12-11-2018"), "A0196361C");
-        classroomManager.markStudentAttendance(classroom1, new Attendance("14-11-2018"), "A0168372L");
-        classroomManager.markStudentAttendance(classroom1, new Attendance("14-11-2018"), "A0166371K");
-        classroomManager.markStudentAttendance(classroom1, new Attendance("14-11-2018"), "A0196361C");
+        classroomManager.markStudentAttendance(classroom1, "12-11-2018", "A0168372L");
+        classroomManager.markStudentAttendance(classroom1, "12-11-2018", "A0166371K");
+        classroomManager.markStudentAttendance(classroom1, "12-11-2018", "A0196361C");
+        classroomManager.markStudentAttendance(classroom1, "14-11-2018", "A0168372L");
+        classroomManager.markStudentAttendance(classroom1, "14-11-2018", "A0166371K");
+        classroomManager.markStudentAttendance(classroom1, "14-11-2018", "A0196361C");
 
-        classroomManager.markStudentAttendance(classroom2, new Attendance("09-11-2018"), "A0168372L");
-        classroomManager.markStudentAttendance(classroom3, new Attendance("11-11-2018"), "A0168372K");
+        classroomManager.markStudentAttendance(classroom2, "09-11-2018", "A0168372L");
+        classroomManager.markStudentAttendance(classroom3, "11-11-2018", "A0168372K");
 
         //Nat will be absent for class
-        Attendance specialAttendance = new Attendance();
-        classroomManager.markStudentAttendance(classroom4, specialAttendance, "A0168372L");
-        classroomManager.modifyStudentAttendance(classroom4, specialAttendance, "A0168372L");
+        String specialAttendanceDate = Attendance.DATE_FORMATTER.format(LocalDate.now());
+        classroomManager.markStudentAttendance(classroom4, specialAttendanceDate, "A0168372L");
+        classroomManager.modifyStudentAttendance(classroom4, specialAttendanceDate, "A0168372L");
 
         classroomManager.saveClassroomList();
 
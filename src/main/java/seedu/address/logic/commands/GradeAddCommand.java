@@ -39,8 +39,8 @@ public class GradeAddCommand extends Command {
 
     @Override
     public CommandResult execute (Model model, CommandHistory history) throws CommandException {
-        GradesManager gradesManager = new GradesManager();
-        GradebookManager gradebookManager = new GradebookManager();
+        GradesManager gradesManager = GradesManager.getInstance();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         boolean hasMarksExceed = gradebookManager.hasMarksExceed(
                 toAddGrade.getModuleCode(),
                 toAddGrade.getGradeComponentName(),
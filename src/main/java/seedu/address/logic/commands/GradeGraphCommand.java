@@ -1,17 +1,24 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADEBOOK_ITEM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK_COUNT;
+
+import java.util.List;
+import java.util.StringJoiner;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.grades.GradeStatistics;
 import seedu.address.model.grades.Grades;
 import seedu.address.model.grades.GradesManager;
 import seedu.address.ui.GradeGraphDisplay;
 
 /**
- * Shows grades of student in a graph form in Trajectory.
+ * Shows grades of student in a graph form in Trajectory, with a summary of the marks, optionally followed by the
+ * students with the highest and lowest marks and the percentile rank of one student.
  */
 public class GradeGraphCommand extends Command {
     public static final String COMMAND_WORD = "grade graph";
@@ -19,28 +26,98 @@ public class GradeGraphCommand extends Command {
             + " for one grade component.\n"
             + "Parameters: "
             + PREFIX_MODULE_CODE + "MODULE_CODE "
-            + PREFIX_GRADEBOOK_ITEM + "COMPONENT_NAME \n"
+            + PREFIX_GRADEBOOK_ITEM + "COMPONENT_NAME "
+            + "[" + PREFIX_RANK_COUNT + "COUNT] "
+            + "[" + PREFIX_MATRIC + "MATRIC_NO]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_MODULE_CODE + "CS2113 "
-            + PREFIX_GRADEBOOK_ITEM + "Assignment 1";
+            + PREFIX_GRADEBOOK_ITEM + "Assignment 1 "
+            + PREFIX_RANK_COUNT + "5";
     private static final String MESSAGE_GRAPH_SUCCESS = "\nSuccessfully Shown!";
+    private static final String MESSAGE_STATISTICS = "\nStudents: %1$d, Mean: %2$.2f, Median: %3$.2f, "
+            + "Std. Dev: %4$.2f, Min: %5$.2f, Max: %6$.2f";
+    private static final String MESSAGE_HISTOGRAM = "\nMarks distribution: %1$s";
+    private static final String MESSAGE_TOP = "\nTop %1$d: %2$s";
+    private static final String MESSAGE_BOTTOM = "\nBottom %1$d: %2$s";
+    private static final String MESSAGE_PERCENTILE_RANK = "\n%1$s: %2$.2f marks, percentile rank %3$.1f";
 
     private final Grades toGraphGrade;
+    private final int rankCount;
+    private final String adminNo;
 
     public GradeGraphCommand (Grades grade) {
+        this(grade, 0, null);
+    }
+
+    /**
+     * Creates a GradeGraphCommand that also lists the {@code rankCount} students with the highest and lowest marks,
+     * if it is positive, and the percentile rank of the student with {@code adminNo}, if it is not null.
+     */
+    public GradeGraphCommand (Grades grade, int rankCount, String adminNo) {
         this.toGraphGrade = grade;
+        this.rankCount = rankCount;
+        this.adminNo = adminNo;
     }
 
     @Override
     public CommandResult execute (Model model, CommandHistory history) throws CommandException {
-        GradesManager gradesManager = new GradesManager();
+        GradesManager gradesManager = GradesManager.getInstance();
         GradeGraphDisplay gradeGraphDisplay = new GradeGraphDisplay();
         gradeGraphDisplay.configureLineChart();
         gradesManager.createGraph(gradeGraphDisplay.getLineChart(), toGraphGrade);
         gradeGraphDisplay.initGraph();
         gradeGraphDisplay.showStage();
 
-        return new CommandResult(MESSAGE_GRAPH_SUCCESS);
+        GradeStatistics statistics = gradesManager.getStatistics(
+                toGraphGrade.getModuleCode(), toGraphGrade.getGradeComponentName());
+        if (statistics == null) {
+            return new CommandResult(MESSAGE_GRAPH_SUCCESS);
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_GRAPH_SUCCESS);
+        message.append(String.format(MESSAGE_STATISTICS, statistics.getCount(), statistics.getMean(),
+                statistics.getQuantile(0.5), statistics.getStandardDeviation(), statistics.getMin(),
+                statistics.getMax()));
+        message.append(String.format(MESSAGE_HISTOGRAM, describeHistogram(statistics.getHistogram())));
+        if (rankCount > 0) {
+            message.append(String.format(MESSAGE_TOP, rankCount,
+                    describeStudents(gradesManager, statistics.getTop(rankCount))));
+            message.append(String.format(MESSAGE_BOTTOM, rankCount,
+                    describeStudents(gradesManager, statistics.getBottom(rankCount))));
+        }
+        Grades studentGrade = adminNo == null ? null : gradesManager.findAdminNo(toGraphGrade.getModuleCode(),
+                toGraphGrade.getGradeComponentName(), adminNo);
+        if (studentGrade != null) {
+            message.append(String.format(MESSAGE_PERCENTILE_RANK, adminNo, studentGrade.getMarks(),
+                    statistics.getPercentileRank(studentGrade.getMarks())));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    /**
+     * Returns the counts of {@code histogram} labelled with the range of marks of each bucket.
+     */
+    private static String describeHistogram(int[] histogram) {
+        StringJoiner description = new StringJoiner(", ");
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            float from = bucket * GradeStatistics.BUCKET_WIDTH;
+            description.add(String.format("%.0f-%.0f: %d", from, from + GradeStatistics.BUCKET_WIDTH,
+                    histogram[bucket]));
+        }
+        return description.toString();
+    }
+
+    /**
+     * Returns the admin no. in {@code adminNos} with their marks for the graphed component.
+     */
+    private String describeStudents(GradesManager gradesManager, List<String> adminNos) {
+        StringJoiner description = new StringJoiner(", ");
+        for (String student : adminNos) {
+            Grades grade = gradesManager.findAdminNo(toGraphGrade.getModuleCode(),
+                    toGraphGrade.getGradeComponentName(), student);
+            description.add(String.format("%s (%.2f)", student, grade.getMarks()));
+        }
+        return description.toString();
     }
 
 }
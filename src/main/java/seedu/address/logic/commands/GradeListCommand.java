@@ -18,7 +18,7 @@ public class GradeListCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        GradesManager gradesManager = new GradesManager();
+        GradesManager gradesManager = GradesManager.getInstance();
         StringBuilder sb = new StringBuilder();
 
         int count = gradesManager.getGrades().size();
@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS_PAGE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.model.grades.ModuleResult;
+import seedu.address.ui.HtmlTableProcessor;
+
+/**
+ * Lists the students of a module in Trajectory ranked by their weighted scores, one page at a time.
+ */
+public class GradeResultsCommand extends Command {
+    public static final String COMMAND_WORD = "grade results";
+    public static final int RESULTS_PER_PAGE = 20;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the students of a module ranked by their"
+            + " weighted scores.\n"
+            + "Parameters: "
+            + PREFIX_MODULE_CODE + "MODULE_CODE ["
+            + PREFIX_RESULTS_PAGE + "PAGE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MODULE_CODE + "CS2113 "
+            + PREFIX_RESULTS_PAGE + "2";
+    public static final String MESSAGE_RESULTS_SUCCESS = "Showing results %1$d to %2$d of %3$d (page %4$d of %5$d)";
+    public static final String MESSAGE_NO_RESULTS = "No student of %1$s has been graded.";
+    public static final String MESSAGE_PAGE_INVALID = "There are only %1$d page(s) of results.";
+    public static final String MESSAGE_WEIGHTAGE_INCOMPLETE = "\nNote: the components of %1$s have a total weightage"
+            + " of %2$d, not 100. Scores are out of %2$d.";
+
+    private final String moduleCode;
+    private final int page;
+
+    public GradeResultsCommand(String moduleCode, int page) {
+        this.moduleCode = moduleCode;
+        this.page = page;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        List<ModuleResult> results = GradesManager.getInstance().getModuleResults(moduleCode);
+        if (results.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_RESULTS, moduleCode));
+        }
+        int pageCount = (results.size() + RESULTS_PER_PAGE - 1) / RESULTS_PER_PAGE;
+        if (page > pageCount) {
+            return new CommandResult(String.format(MESSAGE_PAGE_INVALID, pageCount));
+        }
+        int from = (page - 1) * RESULTS_PER_PAGE;
+        int to = Math.min(from + RESULTS_PER_PAGE, results.size());
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(HtmlTableProcessor.getH3Representation("Results of " + moduleCode));
+        sb.append(HtmlTableProcessor.renderTableStart(new ArrayList<String>(
+                Arrays.asList("Rank", "Admin. No", "Weighted Score"))));
+
+        sb.append(HtmlTableProcessor.getTableItemStart());
+        for (ModuleResult result : results.subList(from, to)) {
+            sb.append(HtmlTableProcessor
+                    .renderTableItem(new ArrayList<String>(Arrays
+                            .asList(Integer.toString(result.getRank()),
+                                    result.getAdminNo(),
+                                    String.format("%.2f", result.getScore())))));
+        }
+        sb.append(HtmlTableProcessor.getTableItemEnd());
+
+        String message = String.format(MESSAGE_RESULTS_SUCCESS, from + 1, to, results.size(), page, pageCount);
+        int totalWeightage = GradebookManager.getInstance().getTotalWeightage(moduleCode);
+        if (totalWeightage != 100) {
+            message += String.format(MESSAGE_WEIGHTAGE_INCOMPLETE, moduleCode, totalWeightage);
+        }
+        return new CommandResult(message, sb.toString());
+    }
+}
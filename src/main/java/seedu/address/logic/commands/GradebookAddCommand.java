@@ -41,7 +41,7 @@ public class GradebookAddCommand extends Command {
 
     @Override
     public CommandResult execute (Model model, CommandHistory history) throws CommandException {
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         gradebookManager.addGradebookComponent(toAddGradebookItem);
         gradebookManager.saveGradebookList();
         String gradebookList = gradebookManager.listGradebookComponent();
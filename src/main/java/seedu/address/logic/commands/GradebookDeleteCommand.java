@@ -9,7 +9,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.gradebook.Gradebook;
 import seedu.address.model.gradebook.GradebookManager;
-import seedu.address.model.grades.Grades;
 import seedu.address.model.grades.GradesManager;
 
 /**
@@ -30,7 +29,6 @@ public class GradebookDeleteCommand extends Command {
 
     private final Gradebook toDeleteGradebookComponent;
     private final GradebookManager gradebookManager;
-    private final Grades toDeleteGrades;
     private final GradesManager gradesManager;
 
     /**
@@ -38,22 +36,20 @@ public class GradebookDeleteCommand extends Command {
      */
     public GradebookDeleteCommand(String moduleCode, String gradebookComponentName) {
         requireNonNull(moduleCode, gradebookComponentName);
-        gradebookManager = new GradebookManager();
-        gradesManager = new GradesManager();
+        gradebookManager = GradebookManager.getInstance();
+        gradesManager = GradesManager.getInstance();
         this.toDeleteGradebookComponent = gradebookManager.findGradebookComponent(moduleCode, gradebookComponentName);
-        this.toDeleteGrades = gradesManager.findGrade(moduleCode, gradebookComponentName);
     }
 
     @Override
     public CommandResult execute (Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        GradesManager gradesManager = new GradesManager();
         if (toDeleteGradebookComponent == null) {
             return new CommandResult(MESSAGE_DELETE_FAIL);
         }
         gradebookManager.deleteGradebookComponent(toDeleteGradebookComponent);
         gradebookManager.saveGradebookList();
-        gradesManager.deleteGrades(toDeleteGrades);
+        // the grades of the component were removed along with it
         gradesManager.saveGradeList();
         String gradebookList = gradebookManager.listGradebookComponent();
         int size = gradebookManager.getGradebookSize();
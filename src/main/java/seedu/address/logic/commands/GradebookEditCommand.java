@@ -12,6 +12,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.gradebook.Gradebook;
 import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.GradesManager;
 
 /**
  * Edits a gradebook component in Trajectory.
@@ -48,7 +49,8 @@ public class GradebookEditCommand extends Command {
         int newMaxMarks = toEditGradebookItem.getGradeComponentMaxMarks();
         int newWeightage = toEditGradebookItem.getGradeComponentWeightage();
 
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
+        GradesManager gradesManager = GradesManager.getInstance();
         Gradebook gradebook = gradebookManager.findGradebookComponent(
                 toEditGradebookItem.getModuleCode(),
                 toEditGradebookItem.getGradeComponentName());
@@ -61,20 +63,13 @@ public class GradebookEditCommand extends Command {
         if (newGradeComponentName.equals("") && newMaxMarks == 0 && newWeightage == 0) {
             return new CommandResult(MESSAGE_INVALID_ENTRY);
         }
-        if (!toEditGradebookItem.getgradebookNewComponentName().equals("")) {
-            if (checkIfComponentNameExist == null) {
-                gradebook.setGradeComponentName(toEditGradebookItem.getgradebookNewComponentName());
-            } else {
-                return new CommandResult(MESSAGE_DUPLICATE_COMPONENT_NAME);
-            }
-        }
-        if (toEditGradebookItem.getGradeComponentMaxMarks() != 0) {
-            gradebook.setgradebookMaxMarks(toEditGradebookItem.getGradeComponentMaxMarks());
-        }
-        if (toEditGradebookItem.getGradeComponentWeightage() != 0) {
-            gradebook.setgradebookWeightage(toEditGradebookItem.getGradeComponentWeightage());
+        if (!newGradeComponentName.equals("") && checkIfComponentNameExist != null) {
+            return new CommandResult(MESSAGE_DUPLICATE_COMPONENT_NAME);
         }
+        gradebookManager.editGradebookComponent(gradebook, newGradeComponentName, newMaxMarks, newWeightage);
         gradebookManager.saveGradebookList();
+        // the grades of a renamed component are moved to its new name
+        gradesManager.saveGradeList();
         String gradebookList = gradebookManager.listGradebookComponent();
         int size = gradebookManager.getGradebookSize();
         return new CommandResult(MESSAGE_EDIT_GRADEBOOK_SUCCESS + size + "\n" + "", gradebookList);
@@ -37,7 +37,7 @@ public class GradebookFindCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         Gradebook gradebook = gradebookManager.findGradebookComponent(
                 toFindGradebookComponent.getModuleCode(),
                 toFindGradebookComponent.getGradeComponentName());
@@ -13,7 +13,7 @@ public class GradebookListCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         String gradebookList = gradebookManager.listGradebookComponent();
         int size = gradebookManager.getGradebookSize();
         return new CommandResult(MESSAGE_LIST_SUCCESS + size + "\n" + "", gradebookList);
@@ -5,6 +5,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_TITLE;
@@ -33,7 +36,9 @@ public class NoteAddCommand extends Command {
             + "[" + PREFIX_NOTE_START_TIME + "START_TIME] "
             + "[" + PREFIX_NOTE_END_DATE + "END_DATE] "
             + "[" + PREFIX_NOTE_END_TIME + "END_TIME] "
-            + "[" + PREFIX_NOTE_LOCATION + "LOCATION]\n"
+            + "[" + PREFIX_NOTE_LOCATION + "LOCATION] "
+            + "[" + PREFIX_NOTE_REPEAT + "REPEAT " + PREFIX_NOTE_REPEAT_UNTIL + "UNTIL_DATE "
+            + "[" + PREFIX_NOTE_REPEAT_EXCEPT + "EXCEPT_DATE]...]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_MODULE_CODE + "CS2113 "
             + PREFIX_NOTE_TITLE + "My First Note "
@@ -63,15 +68,20 @@ public class NoteAddCommand extends Command {
             noteManager.saveNoteList();
 
             String noteList = noteManager.getHtmlNoteList();
+            String clashWarning = noteManager.getClashWarning(noteToAdd);
 
+            String message;
             if (noteToAdd.getModuleCode() != null) {
-                return new CommandResult(
-                        String.format(MESSAGE_WITH_MODULE_CODE_SUCCESS, noteToAdd.getModuleCode().toString()),
-                        noteList);
+                message = String.format(MESSAGE_WITH_MODULE_CODE_SUCCESS, noteToAdd.getModuleCode().toString());
             } else {
-                return new CommandResult(MESSAGE_WITHOUT_MODULE_CODE_SUCCESS, noteList);
+                message = MESSAGE_WITHOUT_MODULE_CODE_SUCCESS;
             }
 
+            if (!clashWarning.isEmpty()) {
+                message += "\n" + clashWarning;
+            }
+            return new CommandResult(message, noteList);
+
         } else {
             return new CommandResult(MESSAGE_CANCEL);
         }
@@ -4,6 +4,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_TITLE;
@@ -17,6 +20,7 @@ import seedu.address.model.note.NoteDate;
 import seedu.address.model.note.NoteDateTime;
 import seedu.address.model.note.NoteLocation;
 import seedu.address.model.note.NoteManager;
+import seedu.address.model.note.NoteRecurrence;
 import seedu.address.model.note.NoteTime;
 import seedu.address.model.note.NoteTitle;
 import seedu.address.ui.BrowserPanel;
@@ -62,7 +66,11 @@ public class NoteEditCommand extends Command {
             + "[" + PREFIX_NOTE_END_TIME
             + "NEW_END_TIME] "
             + "[" + PREFIX_NOTE_LOCATION
-            + "NEW_LOCATION]\n"
+            + "NEW_LOCATION] "
+            + "[" + PREFIX_NOTE_REPEAT
+            + "NEW_REPEAT " + PREFIX_NOTE_REPEAT_UNTIL
+            + "NEW_UNTIL_DATE [" + PREFIX_NOTE_REPEAT_EXCEPT
+            + "NEW_EXCEPT_DATE]...]\n"
             + "Example: " + COMMAND_WORD + " "
             + "4 "
             + PREFIX_NOTE_TITLE + "My second note "
@@ -76,6 +84,8 @@ public class NoteEditCommand extends Command {
     private final NoteDate endDate;
     private final NoteTime endTime;
     private final NoteLocation location;
+    private final NoteRecurrence recurrence;
+    private final boolean isRecurrenceRemoved;
 
     public NoteEditCommand(
             int index,
@@ -85,7 +95,9 @@ public class NoteEditCommand extends Command {
             NoteTime startTime,
             NoteDate endDate,
             NoteTime endTime,
-            NoteLocation location) {
+            NoteLocation location,
+            NoteRecurrence recurrence,
+            boolean isRecurrenceRemoved) {
         this.index = index;
         this.moduleCode = moduleCode;
         this.title = title;
@@ -94,6 +106,8 @@ public class NoteEditCommand extends Command {
         this.endDate = endDate;
         this.endTime = endTime;
         this.location = location;
+        this.recurrence = recurrence;
+        this.isRecurrenceRemoved = isRecurrenceRemoved;
     }
 
     @Override
@@ -157,6 +171,22 @@ public class NoteEditCommand extends Command {
             }
         }
 
+        NoteRecurrence newRecurrence;
+
+        if (recurrence != null || isRecurrenceRemoved) {
+            newRecurrence = recurrence;
+        } else {
+            newRecurrence = noteToEdit.getRecurrence();
+        }
+
+        if (newRecurrence != null && newStartDate == null) {
+            throw new CommandException(NoteDate.MESSAGE_START_DATE_MISSING_FIELD);
+        }
+
+        if (newRecurrence != null && newRecurrence.getUntil().isBefore(newStartDate.getDate())) {
+            throw new CommandException(NoteRecurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
         NoteTextEditWindow noteTextEditWindow = new NoteTextEditWindow(noteToEdit);
         noteTextEditWindow.showAndWait();
 
@@ -193,10 +223,17 @@ public class NoteEditCommand extends Command {
                 noteToEdit.setLocation(location);
             }
 
+            noteToEdit.setRecurrence(newRecurrence);
+
+            noteManager.updateNote(noteToEdit);
             noteManager.saveNoteList();
 
             String noteList = noteManager.getHtmlNoteList();
+            String clashWarning = noteManager.getClashWarning(noteToEdit);
 
+            if (!clashWarning.isEmpty()) {
+                return new CommandResult(MESSAGE_SUCCESS + "\n" + clashWarning, noteList);
+            }
             return new CommandResult(MESSAGE_SUCCESS, noteList);
         } else {
             return new CommandResult(MESSAGE_CANCEL);
@@ -3,7 +3,7 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CsvUtil.MESSAGE_ERROR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_FILE_NAME;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 
 import seedu.address.commons.util.CsvUtil;
 import seedu.address.logic.CommandHistory;
@@ -46,19 +46,15 @@ public class NoteExportCommand extends Command {
 
         NoteManager noteManager = NoteManager.getInstance();
 
-        ArrayList<String> csvAdaptedNoteList = noteManager.getCsvAdaptedNotes();
+        Iterator<String> csvAdaptedNotes = noteManager.getCsvAdaptedNotes().iterator();
 
-        int size = csvAdaptedNoteList.size();
-        boolean writeSuccess;
-
-        if (size > 0) {
-            writeSuccess = CsvUtil.writeToCsv(
-                    fileName, noteManager.getCsvHeaders(), csvAdaptedNoteList);
-        } else {
+        if (!csvAdaptedNotes.hasNext()) {
             return new CommandResult(MESSAGE_NO_EXPORTABLE_NOTES);
         }
 
-        if (writeSuccess) {
+        int size = CsvUtil.streamToCsv(fileName, noteManager.getCsvHeaders(), csvAdaptedNotes);
+
+        if (size >= 0) {
             return new CommandResult(String.format(
                     MESSAGE_SUCCESS, size, CsvUtil.BASE_DIRECTORY + fileName + ".csv"));
         } else {
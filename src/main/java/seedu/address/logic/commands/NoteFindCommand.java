@@ -17,7 +17,8 @@ public class NoteFindCommand extends Command {
     public static final String COMMAND_WORD = "note find";
 
     public static final String MESSAGE_INVALID_KEYWORD = "Invalid keyword!\n"
-            + "A keyword should not have spaces in between and it should not be blank.";
+            + "A keyword should not have spaces in between unless they are within double quotes, "
+            + "and it should not be blank.";
 
     public static final String MESSAGE_NOT_FOUND = "No notes were found.";
 
@@ -27,14 +28,12 @@ public class NoteFindCommand extends Command {
             + "Parameters: "
             + PREFIX_NOTE_KEY_WORD + "KEYWORD "
             + "[" + PREFIX_NOTE_KEY_WORD + "MORE_KEYWORDS]..\n"
+            + "A keyword may list alternatives separated by |, be a phrase within double quotes, "
+            + "or end with * to match words starting with it.\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_NOTE_KEY_WORD + "git "
-            + PREFIX_NOTE_KEY_WORD + "OOP";
-
-    private static final String REGEX_KEYWORD_OPEN = "(?=.*";
-    private static final String REGEX_KEYWORD_CLOSE = ")";
-    private static final String REGEX_STARTER = "(?i)^";
-    private static final String REGEX_CLOSER = ".*$";
+            + PREFIX_NOTE_KEY_WORD + "git|svn "
+            + PREFIX_NOTE_KEY_WORD + "\"merge conflict\" "
+            + PREFIX_NOTE_KEY_WORD + "OOP*";
 
     private final List<String> keywords;
 
@@ -47,8 +46,7 @@ public class NoteFindCommand extends Command {
 
         NoteManager noteManager = NoteManager.getInstance();
 
-        String keywordsMatcherRegEx = buildKeywordsMatcherRegEx(keywords);
-        noteManager.setFilteredNotesByKeyword(keywordsMatcherRegEx);
+        noteManager.setFilteredNotesByKeywords(keywords);
 
         if (noteManager.getFilteredNotes().size() == 0) {
             noteManager.refreshFilteredNotes();
@@ -60,24 +58,4 @@ public class NoteFindCommand extends Command {
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, size), noteList);
     }
-
-    /**
-     * Builds a regex string that can check if all
-     *
-     * @param keywords list containing all the required keywords
-     * @return a working regex string that searches for all keywords
-     */
-    private String buildKeywordsMatcherRegEx(List<String> keywords) {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append(REGEX_STARTER);
-        for (String keyword : keywords) {
-            sb.append(REGEX_KEYWORD_OPEN);
-            sb.append(keyword);
-            sb.append(REGEX_KEYWORD_CLOSE);
-        }
-        sb.append(REGEX_CLOSER);
-
-        return sb.toString();
-    }
 }
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.note.NoteManager;
+
+/**
+ * Lists the notes that are on at some time within a period.
+ */
+public class NoteScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "note schedule";
+
+    public static final String MESSAGE_NOT_FOUND = "No notes were found.";
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$s note(s) between %2$s and %3$s.";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists notes that are on within a period. "
+            + "Parameters: "
+            + PREFIX_NOTE_START_DATE + "START_DATE "
+            + "[" + PREFIX_NOTE_START_TIME + "START_TIME] "
+            + "[" + PREFIX_NOTE_END_DATE + "END_DATE] "
+            + "[" + PREFIX_NOTE_END_TIME + "END_TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NOTE_START_DATE + "01-10-2018 "
+            + PREFIX_NOTE_END_DATE + "07-10-2018";
+
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy hh:mm a");
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    public NoteScheduleCommand(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+
+        NoteManager noteManager = NoteManager.getInstance();
+
+        noteManager.setFilteredNotesByDateRange(from, to);
+
+        if (noteManager.getFilteredNotes().size() == 0) {
+            noteManager.refreshFilteredNotes();
+            return new CommandResult(MESSAGE_NOT_FOUND);
+        }
+
+        int size = noteManager.getFilteredNotes().size();
+        String noteList = noteManager.getHtmlNoteList();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, size,
+                from.format(DATE_TIME_FORMAT), to.format(DATE_TIME_FORMAT)), noteList);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NoteScheduleCommand // instanceof handles nulls
+                && from.equals(((NoteScheduleCommand) other).from)
+                && to.equals(((NoteScheduleCommand) other).to));
+    }
+}
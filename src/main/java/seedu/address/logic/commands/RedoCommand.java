@@ -8,7 +8,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Reverts the {@code model}'s address book to its previously undone state.
+ * Reapplies the changes to the {@code model}'s address book and other datasets reverted by the previous undo.
  */
 public class RedoCommand extends Command {
 
@@ -10,15 +10,16 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.student.StudentManager;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose name, email or matric no. matches any of the argument keywords,
+ * best matches first. Keywords match words exactly, in part or with a typo, case insensitively.
  */
 public class StudentFindCommand extends Command {
 
     public static final String COMMAND_WORD = "student find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names, emails or matric "
+            + "numbers match any of the specified keywords (case-insensitive), even in part or with a typo, "
+            + "and displays them as a list with index numbers, best matches first.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
@@ -31,7 +32,7 @@ public class StudentFindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.findPersons(predicate.getKeywords());
         CourseManager.getInstance();
         StudentManager.getInstance().initializeModel(model);
         return new CommandResult(
@@ -8,7 +8,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
 /**
- * Reverts the {@code model}'s address book to its previous state.
+ * Reverts the changes made by the previous command to the {@code model}'s address book and other datasets.
  */
 public class UndoCommand extends Command {
 
@@ -28,6 +28,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.GradeAddCommand;
 import seedu.address.logic.commands.GradeGraphCommand;
 import seedu.address.logic.commands.GradeListCommand;
+import seedu.address.logic.commands.GradeResultsCommand;
 import seedu.address.logic.commands.GradebookAddCommand;
 import seedu.address.logic.commands.GradebookDeleteCommand;
 import seedu.address.logic.commands.GradebookEditCommand;
@@ -50,6 +51,7 @@ import seedu.address.logic.commands.NoteEditCommand;
 import seedu.address.logic.commands.NoteExportCommand;
 import seedu.address.logic.commands.NoteFindCommand;
 import seedu.address.logic.commands.NoteListCommand;
+import seedu.address.logic.commands.NoteScheduleCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.StudentAddCommand;
 import seedu.address.logic.commands.StudentEditCommand;
@@ -163,6 +165,9 @@ public class AddressBookParser {
         case NoteFindCommand.COMMAND_WORD:
             return new NoteFindCommandParser().parse(arguments);
 
+        case NoteScheduleCommand.COMMAND_WORD:
+            return new NoteScheduleCommandParser().parse(arguments);
+
         case StudentEditCommand.COMMAND_WORD:
             return new EditCommandParser().parse(arguments);
 
@@ -244,6 +249,9 @@ public class AddressBookParser {
         case GradeGraphCommand.COMMAND_WORD:
             return new GradeGraphCommandParser().parse(arguments);
 
+        case GradeResultsCommand.COMMAND_WORD:
+            return new GradeResultsCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -44,8 +44,8 @@ public class ClassAddCommandParser implements Parser<ClassAddCommand> {
         ParserUtil.parseEnrollment(maxEnrollment);
 
         Classroom classRoom = new Classroom(
-                new ClassName(className),
-                new ModuleCode(moduleCode),
+                ClassName.of(className),
+                ModuleCode.of(moduleCode),
                 new Enrollment(maxEnrollment));
         return new ClassAddCommand(classRoom);
     }
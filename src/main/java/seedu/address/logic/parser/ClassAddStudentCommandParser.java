@@ -37,8 +37,7 @@ public class ClassAddStudentCommandParser implements Parser<ClassAddStudentComma
         ParserUtil.parseClassName(className);
         String moduleCode = argMultimap.getValue(PREFIX_MODULE_CODE).get().toUpperCase();
         ParserUtil.parseModuleCode(moduleCode);
-        String matricNo = argMultimap.getValue(PREFIX_MATRIC).get().toUpperCase();
-        ParserUtil.parseMatric(matricNo);
+        String matricNo = ParserUtil.parseMatric(argMultimap.getValue(PREFIX_MATRIC).get().toUpperCase()).matricNo;
 
         return new ClassAddStudentCommand(className, moduleCode, matricNo);
     }
@@ -2,9 +2,12 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE_TO;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 
+import java.time.LocalDate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.ClassListStudentAttendanceCommand;
@@ -23,8 +26,8 @@ public class ClassListStudentAttendanceCommandParser implements Parser<ClassList
     @Override
     public ClassListStudentAttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_CLASS_NAME, PREFIX_MODULE_CODE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS_NAME, PREFIX_MODULE_CODE,
+                PREFIX_ATTENDANCE_FROM, PREFIX_ATTENDANCE_TO);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS_NAME, PREFIX_MODULE_CODE)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -37,7 +40,19 @@ public class ClassListStudentAttendanceCommandParser implements Parser<ClassList
         String moduleCode = argMultimap.getValue(PREFIX_MODULE_CODE).get().toUpperCase();
         ParserUtil.parseModuleCode(moduleCode);
 
-        return new ClassListStudentAttendanceCommand(className, moduleCode);
+        LocalDate from = LocalDate.MIN;
+        if (argMultimap.getValue(PREFIX_ATTENDANCE_FROM).isPresent()) {
+            from = ParserUtil.parseAttendanceDate(argMultimap.getValue(PREFIX_ATTENDANCE_FROM).get());
+        }
+        LocalDate to = LocalDate.MAX;
+        if (argMultimap.getValue(PREFIX_ATTENDANCE_TO).isPresent()) {
+            to = ParserUtil.parseAttendanceDate(argMultimap.getValue(PREFIX_ATTENDANCE_TO).get());
+        }
+        if (from.isAfter(to)) {
+            throw new ParseException(ClassListStudentAttendanceCommand.MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new ClassListStudentAttendanceCommand(className, moduleCode, from, to);
     }
 
     /**
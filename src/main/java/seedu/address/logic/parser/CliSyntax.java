@@ -22,6 +22,8 @@ public class CliSyntax {
     /* Class prefixes */
     public static final Prefix PREFIX_CLASS_NAME = new Prefix("cn/");
     public static final Prefix PREFIX_MAXENROLLMENT = new Prefix("e/");
+    public static final Prefix PREFIX_ATTENDANCE_FROM = new Prefix("fr/");
+    public static final Prefix PREFIX_ATTENDANCE_TO = new Prefix("to/");
 
     /* Course prefixes */
     public static final Prefix PREFIX_COURSE_CODE = new Prefix("c/");
@@ -36,6 +38,8 @@ public class CliSyntax {
 
     /* Grade info prefixes */
     public static final Prefix PREFIX_STUDENT_MARKS = new Prefix("m/");
+    public static final Prefix PREFIX_RESULTS_PAGE = new Prefix("pg/");
+    public static final Prefix PREFIX_RANK_COUNT = new Prefix("top/");
 
     /* Module prefixes */
     public static final Prefix PREFIX_MODULE_CODE = new Prefix("mc/");
@@ -50,6 +54,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_NOTE_FILE_NAME = new Prefix("fn/");
     public static final Prefix PREFIX_NOTE_KEY_WORD = new Prefix("k/");
     public static final Prefix PREFIX_NOTE_LOCATION = new Prefix("lc/");
+    public static final Prefix PREFIX_NOTE_REPEAT = new Prefix("rp/");
+    public static final Prefix PREFIX_NOTE_REPEAT_EXCEPT = new Prefix("rx/");
+    public static final Prefix PREFIX_NOTE_REPEAT_UNTIL = new Prefix("ru/");
     public static final Prefix PREFIX_NOTE_START_DATE = new Prefix("sd/");
     public static final Prefix PREFIX_NOTE_START_TIME = new Prefix("st/");
     public static final Prefix PREFIX_NOTE_TITLE = new Prefix("tt/");
@@ -77,7 +84,8 @@ public class CliSyntax {
             new AbstractMap.SimpleEntry<>("grade", new ArrayList<>(Arrays.asList(
                     "add",
                     "graph",
-                    "list"
+                    "list",
+                    "results"
             ))),
             new AbstractMap.SimpleEntry<>("gradebook", new ArrayList<>(Arrays.asList(
                     "add",
@@ -103,7 +111,8 @@ public class CliSyntax {
                     "edit",
                     "export",
                     "find",
-                    "list"
+                    "list",
+                    "schedule"
             ))),
             new AbstractMap.SimpleEntry<>("student", new ArrayList<>(Arrays.asList(
                     "add",
@@ -48,7 +48,7 @@ public class CourseEditCommandParser implements Parser<CourseEditCommand> {
             throw new ParseException(CourseEditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new CourseEditCommand(new CourseCode(argMultimap.getValue(PREFIX_COURSE_CODE)
+        return new CourseEditCommand(CourseCode.of(argMultimap.getValue(PREFIX_COURSE_CODE)
                 .get()), editCourseDescriptor);
     }
 
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STUDENT_MARKS;
 
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.GradeAddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.gradebook.GradebookManager;
@@ -36,8 +37,8 @@ public class GradeAddCommandParser implements Parser<GradeAddCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public GradeAddCommand parse(String args) throws ParseException {
-        GradesManager gradesManager = new GradesManager();
-        GradebookManager gradebookManager = new GradebookManager();
+        GradesManager gradesManager = GradesManager.getInstance();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         ModuleManager moduleManager = ModuleManager.getInstance();
         float studentMarksArg = 0;
 
@@ -99,9 +100,9 @@ public class GradeAddCommandParser implements Parser<GradeAddCommand> {
             throw new ParseException(MESSAGE_MARKS_INVALID);
         }
         Grades grade = new Grades(
-                moduleCodeArg,
-                gradeComponentNameArg,
-                studentAdminNoArg,
+                StringUtil.intern(moduleCodeArg),
+                StringUtil.intern(gradeComponentNameArg),
+                StringUtil.intern(studentAdminNoArg),
                 studentMarksArg);
         return new GradeAddCommand(grade);
     }
@@ -3,10 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.GradeGraphCommand.MESSAGE_USAGE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GRADEBOOK_ITEM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATRIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RANK_COUNT;
 
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.GradeGraphCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.gradebook.GradebookManager;
@@ -25,6 +28,9 @@ public class GradeGraphCommandParser implements Parser<GradeGraphCommand> {
     public static final String MESSAGE_GRADEBOOK_INVALID = "Gradebook component does not exist";
     public static final String MESSAGE_GRADE_COMPONENT_INCOMPLETE = "Not all marks of students enrolled in module are "
             + "keyed in";
+    public static final String MESSAGE_RANK_COUNT_INVALID = "Number of top and bottom students must be a positive "
+            + "integer";
+    public static final String MESSAGE_STUDENT_NOT_GRADED = "Student has not been graded for this component";
 
     /**
      * Parses the given {@code String args} of arguments in the context of the GradeGraphCommand
@@ -32,10 +38,11 @@ public class GradeGraphCommandParser implements Parser<GradeGraphCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public GradeGraphCommand parse(String args) throws ParseException {
-        GradebookManager gradebookManager = new GradebookManager();
-        GradesManager gradesManager = new GradesManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
+        GradesManager gradesManager = GradesManager.getInstance();
         ModuleManager moduleManager = ModuleManager.getInstance();
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM,
+                PREFIX_RANK_COUNT, PREFIX_MATRIC);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -70,10 +77,23 @@ public class GradeGraphCommandParser implements Parser<GradeGraphCommand> {
             throw new ParseException(MESSAGE_GRADE_COMPONENT_INCOMPLETE);
         }
 
+        int rankCount = 0;
+        if (argMultimap.getValue(PREFIX_RANK_COUNT).isPresent()) {
+            String rankCountArg = argMultimap.getValue(PREFIX_RANK_COUNT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(rankCountArg)) {
+                throw new ParseException(MESSAGE_RANK_COUNT_INVALID);
+            }
+            rankCount = Integer.parseInt(rankCountArg);
+        }
+        String adminNo = argMultimap.getValue(PREFIX_MATRIC).map(String::trim).orElse(null);
+        if (adminNo != null && !gradesManager.isDuplicate(moduleCodeArg, gradeComponentNameArg, adminNo)) {
+            throw new ParseException(MESSAGE_STUDENT_NOT_GRADED);
+        }
+
         Grades grade = new Grades(
                 moduleCodeArg,
                 gradeComponentNameArg);
-        return new GradeGraphCommand(grade);
+        return new GradeGraphCommand(grade, rankCount, adminNo);
 
     }
 
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RESULTS_PAGE;
+
+import seedu.address.logic.commands.GradeResultsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.module.ModuleManager;
+
+/**
+ * Parses input arguments and creates a new GradeResultsCommand object
+ */
+public class GradeResultsCommandParser implements Parser<GradeResultsCommand> {
+    public static final String MESSAGE_MODULE_CODE_INVALID = "Module code does not exist";
+    public static final String MESSAGE_PAGE_ERROR = "Page must be a positive number";
+
+    /**
+     * Parses the given {@code String args} of arguments in the context of the GradeResultsCommand
+     * and returns a GradeResultsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GradeResultsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE, PREFIX_RESULTS_PAGE);
+
+        if (!argMultimap.getValue(PREFIX_MODULE_CODE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GradeResultsCommand.MESSAGE_USAGE));
+        }
+        String moduleCodeArg = argMultimap.getValue(PREFIX_MODULE_CODE).get();
+        if (!ModuleManager.getInstance().doesModuleExist(moduleCodeArg)) {
+            throw new ParseException(MESSAGE_MODULE_CODE_INVALID);
+        }
+
+        int page = 1;
+        if (argMultimap.getValue(PREFIX_RESULTS_PAGE).isPresent()) {
+            try {
+                page = Integer.parseInt(argMultimap.getValue(PREFIX_RESULTS_PAGE).get().trim());
+            } catch (NumberFormatException nfe) {
+                throw new ParseException(MESSAGE_PAGE_ERROR);
+            }
+            if (page <= 0) {
+                throw new ParseException(MESSAGE_PAGE_ERROR);
+            }
+        }
+        return new GradeResultsCommand(moduleCodeArg, page);
+    }
+}
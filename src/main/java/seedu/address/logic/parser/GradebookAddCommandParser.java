@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.GradebookAddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.gradebook.Gradebook;
@@ -38,7 +39,7 @@ public class GradebookAddCommandParser implements Parser<GradebookAddCommand> {
     public GradebookAddCommand parse(String args) throws ParseException {
         int gradeComponentMaxMarksArg = 0;
         int gradeComponentWeightageArg = 0;
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         ModuleManager moduleManager = ModuleManager.getInstance();
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM,
@@ -105,8 +106,8 @@ public class GradebookAddCommandParser implements Parser<GradebookAddCommand> {
             throw new ParseException(MESSAGE_MODULE_CODE_INVALID);
         }
         Gradebook gradebook = new Gradebook(
-                moduleCodeArg.replaceAll("\\s+", " "),
-                gradeComponentNameArg.replaceAll("\\s+", " "),
+                StringUtil.intern(moduleCodeArg.replaceAll("\\s+", " ")),
+                StringUtil.intern(gradeComponentNameArg.replaceAll("\\s+", " ")),
                 gradeComponentMaxMarksArg,
                 gradeComponentWeightageArg);
         return new GradebookAddCommand(gradebook);
@@ -10,6 +10,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.GradebookEditCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.gradebook.Gradebook;
@@ -40,7 +41,7 @@ public class GradebookEditCommandParser {
         int gradeComponentMaxMarksArg = 0;
         int gradeComponentWeightageArg = 0;
         String newGradeComponentNameArg = "";
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         ModuleManager moduleManager = ModuleManager.getInstance();
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM,
@@ -114,7 +115,7 @@ public class GradebookEditCommandParser {
         Gradebook gradebook = new Gradebook(
                 moduleCodeArg,
                 gradeComponentNameArg,
-                newGradeComponentNameArg,
+                StringUtil.intern(newGradeComponentNameArg),
                 gradeComponentMaxMarksArg,
                 gradeComponentWeightageArg);
         return new GradebookEditCommand(gradebook);
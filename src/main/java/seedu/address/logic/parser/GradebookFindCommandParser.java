@@ -24,7 +24,7 @@ public class GradebookFindCommandParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public GradebookFindCommand parse(String args) throws ParseException {
-        GradebookManager gradebookManager = new GradebookManager();
+        GradebookManager gradebookManager = GradebookManager.getInstance();
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_MODULE_CODE, PREFIX_GRADEBOOK_ITEM)
@@ -7,6 +7,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_TITLE;
@@ -21,6 +24,7 @@ import seedu.address.model.note.Note;
 import seedu.address.model.note.NoteDate;
 import seedu.address.model.note.NoteDateTime;
 import seedu.address.model.note.NoteLocation;
+import seedu.address.model.note.NoteRecurrence;
 import seedu.address.model.note.NoteText;
 import seedu.address.model.note.NoteTime;
 import seedu.address.model.note.NoteTitle;
@@ -54,7 +58,10 @@ public class NoteAddCommandParser implements Parser<NoteAddCommand> {
                         PREFIX_NOTE_START_TIME,
                         PREFIX_NOTE_END_DATE,
                         PREFIX_NOTE_END_TIME,
-                        PREFIX_NOTE_LOCATION);
+                        PREFIX_NOTE_LOCATION,
+                        PREFIX_NOTE_REPEAT,
+                        PREFIX_NOTE_REPEAT_UNTIL,
+                        PREFIX_NOTE_REPEAT_EXCEPT);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NoteAddCommand.MESSAGE_USAGE));
@@ -256,6 +263,16 @@ public class NoteAddCommandParser implements Parser<NoteAddCommand> {
             }
         }
 
+        NoteRecurrence recurrence = parseNoteRecurrence(argMultimap);
+
+        if (recurrence != null && startDate == null) {
+            throw new ParseException(NoteDate.MESSAGE_START_DATE_MISSING_FIELD);
+        }
+
+        if (recurrence != null && recurrence.getUntil().isBefore(startDate.getDate())) {
+            throw new ParseException(NoteRecurrence.MESSAGE_UNTIL_BEFORE_START);
+        }
+
         Note note = new Note(
                 moduleCode,
                 title,
@@ -265,10 +282,42 @@ public class NoteAddCommandParser implements Parser<NoteAddCommand> {
                 endTime,
                 location,
                 noteText);
+        note.setRecurrence(recurrence);
 
         return new NoteAddCommand(note);
     }
 
+    /**
+     * Parses the repeat interval, the date to repeat until and the dates to skip in the given
+     * {@code ArgumentMultimap} into a {@code NoteRecurrence}, or returns null if no repeat interval is given.
+     *
+     * @throws ParseException if a value is blank or invalid, or only some of the values are given
+     */
+    static NoteRecurrence parseNoteRecurrence(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getValue(PREFIX_NOTE_REPEAT).isPresent()) {
+            if (argMultimap.getValue(PREFIX_NOTE_REPEAT_UNTIL).isPresent()
+                    || argMultimap.getValue(PREFIX_NOTE_REPEAT_EXCEPT).isPresent()) {
+                throw new ParseException(NoteRecurrence.MESSAGE_REPEAT_MISSING_FIELD);
+            }
+            return null;
+        }
+
+        if (!argMultimap.getValue(PREFIX_NOTE_REPEAT_UNTIL).isPresent()) {
+            throw new ParseException(NoteRecurrence.MESSAGE_UNTIL_MISSING_FIELD);
+        }
+
+        if (argMultimap.getValue(PREFIX_NOTE_REPEAT).get().trim().isEmpty()
+                || argMultimap.getValue(PREFIX_NOTE_REPEAT_UNTIL).get().trim().isEmpty()
+                || argMultimap.getAllValues(PREFIX_NOTE_REPEAT_EXCEPT).stream().anyMatch(s -> s.trim().isEmpty())) {
+            throw new ParseException(MESSAGE_BLANK_FIELD);
+        }
+
+        return ParserUtil.parseNoteRecurrence(
+                argMultimap.getValue(PREFIX_NOTE_REPEAT).get(),
+                argMultimap.getValue(PREFIX_NOTE_REPEAT_UNTIL).get(),
+                argMultimap.getAllValues(PREFIX_NOTE_REPEAT_EXCEPT));
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -7,6 +7,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_TITLE;
@@ -20,6 +23,7 @@ import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ModuleManager;
 import seedu.address.model.note.NoteDate;
 import seedu.address.model.note.NoteLocation;
+import seedu.address.model.note.NoteRecurrence;
 import seedu.address.model.note.NoteTime;
 import seedu.address.model.note.NoteTitle;
 
@@ -61,7 +65,10 @@ public class NoteEditCommandParser implements Parser<NoteEditCommand> {
                         PREFIX_NOTE_START_TIME,
                         PREFIX_NOTE_END_DATE,
                         PREFIX_NOTE_END_TIME,
-                        PREFIX_NOTE_LOCATION);
+                        PREFIX_NOTE_LOCATION,
+                        PREFIX_NOTE_REPEAT,
+                        PREFIX_NOTE_REPEAT_UNTIL,
+                        PREFIX_NOTE_REPEAT_EXCEPT);
 
         if (!index.matches("\\d+") || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -75,6 +82,8 @@ public class NoteEditCommandParser implements Parser<NoteEditCommand> {
         NoteDate endDate = null;
         NoteTime endTime = null;
         NoteLocation location = null;
+        NoteRecurrence recurrence = null;
+        boolean isRecurrenceRemoved = false;
 
         StringBuilder messageErrors = new StringBuilder();
         boolean dateErrorFound = false;
@@ -223,6 +232,23 @@ public class NoteEditCommandParser implements Parser<NoteEditCommand> {
             }
         }
 
+        if (argMultimap.getValue(PREFIX_NOTE_REPEAT).isPresent()
+                && argMultimap.getValue(PREFIX_NOTE_REPEAT).get().trim().equalsIgnoreCase(NoteRecurrence.REPEAT_NONE)) {
+            if (argMultimap.getValue(PREFIX_NOTE_REPEAT_UNTIL).isPresent()
+                    || argMultimap.getValue(PREFIX_NOTE_REPEAT_EXCEPT).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        NoteEditCommand.MESSAGE_USAGE));
+            }
+            isRecurrenceRemoved = true;
+        } else {
+            try {
+                recurrence = NoteAddCommandParser.parseNoteRecurrence(argMultimap);
+            } catch (ParseException e) {
+                messageErrors.append(e.getMessage());
+                messageErrors.append(DOUBLE_NEW_LINE_SEPARATOR);
+            }
+        }
+
         if (messageErrors.length() > 0) {
             throw new ParseException(MESSAGE_ERROR_IN_PARSING_FOUND + DOUBLE_NEW_LINE_SEPARATOR
                     + messageErrors.toString().substring(0, messageErrors.length() - 1));
@@ -236,6 +262,8 @@ public class NoteEditCommandParser implements Parser<NoteEditCommand> {
                 startTime,
                 endDate,
                 endTime,
-                location);
+                location,
+                recurrence,
+                isRecurrenceRemoved);
     }
 }
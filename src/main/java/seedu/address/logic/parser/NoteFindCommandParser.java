@@ -30,11 +30,14 @@ public class NoteFindCommandParser implements Parser<NoteFindCommand> {
         }
 
         String keywordInvalidPatternRegEx = ".+ +.+";
+        String phraseRegEx = "\"[^\"]*\"";
 
         List<String> keywordsList = new ArrayList<>();
         for (String keyword : argMultimap.getAllValues(PREFIX_NOTE_KEY_WORD)) {
             String trimmedKeyword = keyword.trim();
-            if (trimmedKeyword.isEmpty() || trimmedKeyword.matches(keywordInvalidPatternRegEx)) {
+            // spaces are only allowed within phrases
+            if (trimmedKeyword.isEmpty()
+                    || trimmedKeyword.replaceAll(phraseRegEx, "\"\"").matches(keywordInvalidPatternRegEx)) {
                 throw new ParseException(NoteFindCommand.MESSAGE_INVALID_KEYWORD);
             }
             keywordsList.add(trimmedKeyword);
@@ -0,0 +1,90 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_BLANK_FIELD;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DAY_OF_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import seedu.address.logic.commands.NoteScheduleCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.note.NoteDate;
+import seedu.address.model.note.NoteTime;
+
+/**
+ * Parses input arguments and creates a new NoteScheduleCommand object
+ */
+public class NoteScheduleCommandParser implements Parser<NoteScheduleCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NoteScheduleCommand
+     * and returns a NoteScheduleCommand object for execution.
+     * The end date defaults to the start date, and the start and end times default to the start and end of the day.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public NoteScheduleCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args,
+                        PREFIX_NOTE_START_DATE,
+                        PREFIX_NOTE_START_TIME,
+                        PREFIX_NOTE_END_DATE,
+                        PREFIX_NOTE_END_TIME);
+
+        if (!argMultimap.getValue(PREFIX_NOTE_START_DATE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NoteScheduleCommand.MESSAGE_USAGE));
+        }
+
+        NoteDate startDate = parseDate(argMultimap.getValue(PREFIX_NOTE_START_DATE).get());
+        NoteDate endDate = startDate;
+        if (argMultimap.getValue(PREFIX_NOTE_END_DATE).isPresent()) {
+            endDate = parseDate(argMultimap.getValue(PREFIX_NOTE_END_DATE).get());
+        }
+        NoteTime startTime = parseTime(argMultimap.getValue(PREFIX_NOTE_START_TIME), NoteTime.DEFAULT_START_TIME);
+        NoteTime endTime = parseTime(argMultimap.getValue(PREFIX_NOTE_END_TIME), NoteTime.DEFAULT_END_TIME);
+
+        LocalDateTime from = LocalDateTime.of(startDate.getDate(), startTime.getTime());
+        LocalDateTime to = LocalDateTime.of(endDate.getDate(), endTime.getTime());
+        if (to.isBefore(from)) {
+            throw new ParseException(NoteAddCommandParser.MESSAGE_INVALID_DATE_TIME_DIFFERENCE);
+        }
+
+        return new NoteScheduleCommand(from, to);
+    }
+
+    /**
+     * Parses {@code date} into a {@code NoteDate}, checking that its day exists in its month.
+     */
+    private static NoteDate parseDate(String date) throws ParseException {
+        if (date.trim().isEmpty()) {
+            throw new ParseException(MESSAGE_BLANK_FIELD);
+        }
+
+        NoteDate noteDate = ParserUtil.parseNoteDate(date);
+        if (!NoteDate.isValidDayOfMonth(date, noteDate.getDate().lengthOfMonth())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DAY_OF_MONTH,
+                    noteDate.getDate().getMonth(),
+                    noteDate.getDate().getYear(),
+                    noteDate.getDate().lengthOfMonth()));
+        }
+        return noteDate;
+    }
+
+    /**
+     * Parses {@code time} into a {@code NoteTime}, or returns {@code defaultTime} if it is not present.
+     */
+    private static NoteTime parseTime(Optional<String> time, LocalTime defaultTime) throws ParseException {
+        if (!time.isPresent()) {
+            return new NoteTime(defaultTime.format(NoteTime.TIME_FORMAT));
+        }
+        if (time.get().trim().isEmpty()) {
+            throw new ParseException(MESSAGE_BLANK_FIELD);
+        }
+        return ParserUtil.parseNoteTime(time.get());
+    }
+}
@@ -4,13 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TIME_FORMAT;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.classroom.Attendance;
 import seedu.address.model.classroom.ClassName;
 import seedu.address.model.classroom.Enrollment;
 import seedu.address.model.course.CourseCode;
@@ -20,6 +24,7 @@ import seedu.address.model.module.ModuleCode;
 import seedu.address.model.module.ModuleName;
 import seedu.address.model.note.NoteDate;
 import seedu.address.model.note.NoteLocation;
+import seedu.address.model.note.NoteRecurrence;
 import seedu.address.model.note.NoteTime;
 import seedu.address.model.note.NoteTitle;
 import seedu.address.model.person.Address;
@@ -106,7 +111,7 @@ public class ParserUtil {
         if (!MatricNo.isValidMatricNo(trimmedMatricNo)) {
             throw new ParseException(MatricNo.MESSAGE_MATRIC_NO_CONSTRAINTS);
         }
-        return new MatricNo(trimmedMatricNo);
+        return MatricNo.of(trimmedMatricNo);
     }
 
     /**
@@ -164,7 +169,7 @@ public class ParserUtil {
         if (!CourseCode.isValidCourseCode(trimmedCourseCode)) {
             throw new ParseException(CourseCode.MESSAGE_COURSE_CODE_CONSTRAINTS);
         }
-        return new CourseCode(trimmedCourseCode);
+        return CourseCode.of(trimmedCourseCode);
     }
 
     /**
@@ -221,7 +226,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_MODULE_CODE_CONSTRAINT);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -250,7 +255,7 @@ public class ParserUtil {
         if (!ClassName.isValidClassName(className)) {
             throw new ParseException(ClassName.MESSAGE_CLASSNAME_CONSTRAINTS);
         }
-        return new ClassName(trimmedClassName);
+        return ClassName.of(trimmedClassName);
     }
 
     /**
@@ -268,6 +273,21 @@ public class ParserUtil {
         return new Enrollment(trimmedMaxEnrollment);
     }
 
+    /**
+     * Parses a {@code String date} of attendance into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseAttendanceDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!Attendance.isValidDate(trimmedDate)) {
+            throw new ParseException(Attendance.MESSAGE_DATE_CONSTRAINTS);
+        }
+        return Attendance.parseDate(trimmedDate);
+    }
+
     /**
      * Parses a {@code String date} into a {@code LocalDate}.
      * Leading and trailing whitespaces will be trimmed and
@@ -331,4 +351,37 @@ public class ParserUtil {
         }
         return new NoteLocation(trimmedLocation);
     }
+
+    /**
+     * Parses a {@code String repeat} interval, a {@code String until} date and {@code Collection<String> exceptions}
+     * dates into a {@code NoteRecurrence}.
+     * The interval is "daily", "weekly" or a positive number of days, in any case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if any of the given values is invalid.
+     */
+    public static NoteRecurrence parseNoteRecurrence(String repeat, String until, Collection<String> exceptions)
+            throws ParseException {
+        requireNonNull(repeat);
+        requireNonNull(until);
+        requireNonNull(exceptions);
+        String trimmedRepeat = repeat.trim().toLowerCase();
+        int intervalDays;
+        if (trimmedRepeat.equals(NoteRecurrence.REPEAT_DAILY)) {
+            intervalDays = 1;
+        } else if (trimmedRepeat.equals(NoteRecurrence.REPEAT_WEEKLY)) {
+            intervalDays = NoteRecurrence.DAYS_PER_WEEK;
+        } else if (StringUtil.isNonZeroUnsignedInteger(trimmedRepeat)) {
+            intervalDays = Integer.parseInt(trimmedRepeat);
+        } else {
+            throw new ParseException(NoteRecurrence.MESSAGE_INVALID_INTERVAL);
+        }
+
+        LocalDate untilDate = parseNoteDate(until).getDate();
+        List<LocalDate> exceptionDates = new ArrayList<>();
+        for (String exception : exceptions) {
+            exceptionDates.add(parseNoteDate(exception).getDate());
+        }
+        return new NoteRecurrence(intervalDays, untilDate, exceptionDates);
+    }
 }
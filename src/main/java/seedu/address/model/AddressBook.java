@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
@@ -47,6 +48,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces the persons from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, with {@code persons}.
+     */
+    void setPersons(int fromIndex, int toIndex, List<Person> persons) {
+        this.persons.setPersons(fromIndex, toIndex, persons);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -94,6 +102,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons whose names, emails or matric no. match any of {@code keywords}, with their scores.
+     * A higher score is a better match.
+     */
+    public Map<Person, Double> findPersons(List<String> keywords) {
+        return persons.search(keywords);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.StorageController.Dataset;
+
+/**
+ * A reversible change to one of the datasets of the {@link StorageController}.
+ * The change replaces the records {@code removed} starting at {@code index} of the dataset with {@code added}.
+ * Only the records that changed are held, so the cost of keeping the change follows the size of the change rather
+ * than that of the dataset.
+ */
+public class DatasetChange {
+
+    private final Dataset dataset;
+    private final int index;
+    private final List<?> removed;
+    private final List<?> added;
+
+    public DatasetChange(Dataset dataset, int index, List<?> removed, List<?> added) {
+        requireNonNull(dataset);
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.dataset = dataset;
+        this.index = index;
+        this.removed = Collections.unmodifiableList(removed);
+        this.added = Collections.unmodifiableList(added);
+    }
+
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<?> getRemoved() {
+        return removed;
+    }
+
+    public List<?> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the records added by this change, as records of the type held by its dataset.
+     */
+    @SuppressWarnings("unchecked")
+    public <X> List<X> getAddedRecords() {
+        return (List<X>) added;
+    }
+
+    /**
+     * Returns the change that reverts this change.
+     */
+    public DatasetChange invert() {
+        return new DatasetChange(dataset, index, added, removed);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof DatasetChange)) {
+            return false;
+        }
+
+        DatasetChange otherChange = (DatasetChange) other;
+        return dataset == otherChange.dataset
+                && index == otherChange.index
+                && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dataset, index, removed, added);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+/**
+ * Holds the ID registries shared by the managers, so that relations between students, modules and gradebook
+ * components can refer to each entity by the same dense int ID.
+ * Students are registered by matric no., modules by module code, and gradebook components by module code and
+ * component name, as given by {@link #getComponentKey(String, String)}.
+ */
+public class EntityRegistry {
+    private static EntityRegistry instance;
+
+    private final IdRegistry studentIds = new IdRegistry();
+    private final IdRegistry moduleIds = new IdRegistry();
+    private final IdRegistry componentIds = new IdRegistry();
+
+    private EntityRegistry() {}
+
+    public static EntityRegistry getInstance() {
+        if (instance == null) {
+            instance = new EntityRegistry();
+        }
+        return instance;
+    }
+
+    public IdRegistry getStudentIds() {
+        return studentIds;
+    }
+
+    public IdRegistry getModuleIds() {
+        return moduleIds;
+    }
+
+    public IdRegistry getComponentIds() {
+        return componentIds;
+    }
+
+    /**
+     * Returns the key the gradebook component {@code componentName} of the module with {@code moduleCode} is
+     * registered by.
+     */
+    public static String getComponentKey(String moduleCode, String componentName) {
+        return moduleCode + "\n" + componentName;
+    }
+}
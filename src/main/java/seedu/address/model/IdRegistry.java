@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each distinct key of one kind of entity a dense int ID, starting from 0 in the order the keys are first
+ * registered. IDs are never reused, so an ID stays valid for the whole session even if its entity is deleted, and
+ * relations can store IDs in place of keys and index arrays and bit sets by them.
+ */
+public class IdRegistry {
+    public static final int NO_ID = -1;
+
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+
+    /**
+     * Returns the ID of {@code key}, registering it if it has none.
+     */
+    public synchronized int getOrAssignId(String key) {
+        requireNonNull(key);
+        Integer id = idsByKey.get(key);
+        if (id == null) {
+            id = keys.size();
+            idsByKey.put(key, id);
+            keys.add(key);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the ID of {@code key}, or {@code NO_ID} if it has not been registered.
+     */
+    public synchronized int getId(String key) {
+        return idsByKey.getOrDefault(key, NO_ID);
+    }
+
+    /**
+     * Returns the key with {@code id}.
+     */
+    public synchronized String getKey(int id) {
+        return keys.get(id);
+    }
+
+    /**
+     * Returns the number of keys registered, which is one more than the largest ID.
+     */
+    public synchronized int size() {
+        return keys.size();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -53,22 +54,29 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Returns true if the model has previous address book states to restore.
+     * Updates the filtered person list to the persons whose names, emails or matric no. match any of
+     * {@code keywords}, exactly, in part or with a typo, ordered from the best match.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void findPersons(List<String> keywords);
+
+    /**
+     * Returns true if the model has previous states to restore.
      */
     boolean canUndoAddressBook();
 
     /**
-     * Returns true if the model has undone address book states to restore.
+     * Returns true if the model has undone states to restore.
      */
     boolean canRedoAddressBook();
 
     /**
-     * Restores the model's address book to its previous state.
+     * Restores the model's address book and other datasets to their state before the last command.
      */
     void undoAddressBook();
 
     /**
-     * Restores the model's address book to its previously undone state.
+     * Restores the model's address book and other datasets to their state before the last undo.
      */
     void redoAddressBook();
 
@@ -77,5 +85,16 @@ public interface Model {
      */
     void commitAddressBook();
 
+    /**
+     * Starts recording the changes made by a command to the other datasets, so that they are undone and redone
+     * together with its changes to the address book.
+     */
+    void beginCommand();
+
+    /**
+     * Stops recording the changes made by a command and saves them as one state for undo/redo.
+     */
+    void commitCommand();
+
 
 }
@@ -3,13 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.Person;
@@ -21,19 +27,39 @@ public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedAddressBook versionedAddressBook;
+    private final TransactionLog transactionLog;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private List<String> findKeywords;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, new Config());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, limiting its undo history as configured
+     * in {@code config}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs, Config config) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, config);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, config.getUndoHistoryLimit(),
+                config.getUndoHistoryPersonLimit());
+        transactionLog = new TransactionLog(config.getUndoHistoryLimit());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
+        // the matches of a find hold the persons found, so they are found again when persons are added or edited
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            if (findKeywords != null) {
+                applyFind();
+            }
+        });
     }
 
     public ModelManager() {
@@ -91,42 +117,75 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        findKeywords = null;
+        sortedPersons.setComparator(null);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void findPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        findKeywords = keywords;
+        applyFind();
+    }
+
+    /**
+     * Shows only the persons matching {@code findKeywords}, best matches first.
+     */
+    private void applyFind() {
+        Map<Person, Double> scores = versionedAddressBook.findPersons(findKeywords);
+        // the sort is stable, so persons matching equally well stay in the order of the address book
+        Comparator<Person> byScore = Comparator.comparingDouble(person -> scores.getOrDefault(person, 0.0));
+        filteredPersons.setPredicate(scores::containsKey);
+        sortedPersons.setComparator(byScore.reversed());
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
     public boolean canUndoAddressBook() {
-        return versionedAddressBook.canUndo();
+        return transactionLog.canUndo();
     }
 
     @Override
     public boolean canRedoAddressBook() {
-        return versionedAddressBook.canRedo();
+        return transactionLog.canRedo();
     }
 
     @Override
     public void undoAddressBook() {
-        versionedAddressBook.undo();
-        indicateAddressBookChanged();
+        if (transactionLog.undo(versionedAddressBook)) {
+            indicateAddressBookChanged();
+        }
     }
 
     @Override
     public void redoAddressBook() {
-        versionedAddressBook.redo();
-        indicateAddressBookChanged();
+        if (transactionLog.redo(versionedAddressBook)) {
+            indicateAddressBookChanged();
+        }
     }
 
     @Override
     public void commitAddressBook() {
         versionedAddressBook.commit();
+        transactionLog.recordAddressBookCommit();
+    }
+
+    @Override
+    public void beginCommand() {
+        transactionLog.beginCommand();
+    }
+
+    @Override
+    public void commitCommand() {
+        transactionLog.commitCommand();
     }
 
     @Override
@@ -144,6 +203,6 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-                && filteredPersons.equals(other.filteredPersons);
+                && sortedPersons.equals(other.sortedPersons);
     }
 }
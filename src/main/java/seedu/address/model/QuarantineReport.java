@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Collects the stored records that could not be loaded into the model, so that they are reported rather than
+ * dropped silently. Each record is logged as it is quarantined, together with its stored form, so it can be
+ * recovered from the log file and corrected by hand.
+ */
+public class QuarantineReport {
+
+    private static final Logger logger = LogsCenter.getLogger(QuarantineReport.class);
+
+    private static QuarantineReport instance;
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * A record that could not be loaded.
+     */
+    public static class Entry {
+        private final String datasetName;
+        private final int index;
+        private final String record;
+        private final String reason;
+
+        public Entry(String datasetName, int index, String record, String reason) {
+            this.datasetName = datasetName;
+            this.index = index;
+            this.record = record;
+            this.reason = reason;
+        }
+
+        public String getDatasetName() {
+            return datasetName;
+        }
+
+        /**
+         * Returns the position of the record in its dataset.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getRecord() {
+            return record;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return datasetName + " record " + index + " (" + reason + "): " + record;
+        }
+    }
+
+    private QuarantineReport() {}
+
+    public static synchronized QuarantineReport getInstance() {
+        if (instance == null) {
+            instance = new QuarantineReport();
+        }
+        return instance;
+    }
+
+    /**
+     * Records that the record at {@code index} of the given dataset could not be loaded for {@code reason}.
+     */
+    public synchronized void add(String datasetName, int index, String record, String reason) {
+        requireNonNull(datasetName);
+        Entry entry = new Entry(datasetName, index, record, reason);
+        entries.add(entry);
+        logger.warning("Quarantined " + entry);
+    }
+
+    public synchronized List<Entry> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
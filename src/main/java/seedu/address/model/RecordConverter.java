@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.XmlRecordCodec;
+
+/**
+ * Converts the records of a dataset into model objects.
+ * Large datasets are split into chunks that are converted in parallel on the common fork-join pool, and the
+ * converted objects are returned in the order of their records. Records that cannot be converted are reported to
+ * the {@link QuarantineReport} instead of being dropped silently.
+ */
+public class RecordConverter {
+
+    /** Datasets up to this size are converted on the calling thread. */
+    private static final int CHUNK_SIZE = 512;
+
+    /**
+     * Converts a record into a model object, returning null or throwing an exception if the record is invalid.
+     */
+    @FunctionalInterface
+    public interface Converter<X, M> {
+        M convert(X record) throws Exception;
+    }
+
+    /**
+     * Receives a record that has been converted, along with its index in its dataset and its model object.
+     */
+    @FunctionalInterface
+    public interface IndexedConsumer<X, M> {
+        void accept(int index, X record, M model);
+    }
+
+    private RecordConverter() {}
+
+    /**
+     * Returns the model objects converted from {@code records}, leaving out and quarantining the records that cannot
+     * be converted.
+     *
+     * @param datasetName the name of the dataset that the records are reported under.
+     * @param codec the codec of the dataset, used to report invalid records in their stored form.
+     */
+    public static <X, M> ArrayList<M> convertAll(String datasetName, List<X> records, XmlRecordCodec<X> codec,
+            Converter<? super X, ? extends M> converter) {
+        ArrayList<M> converted = new ArrayList<>(records.size());
+        convertEach(datasetName, records, codec, converter, (record, model) -> converted.add(model));
+        return converted;
+    }
+
+    /**
+     * Converts {@code records} and passes each record that can be converted to {@code consumer} along with its model
+     * object, in the order of the records. The records that cannot be converted are quarantined.
+     *
+     * @see #convertAll(String, List, XmlRecordCodec, Converter)
+     */
+    public static <X, M> void convertEach(String datasetName, List<X> records, XmlRecordCodec<X> codec,
+            Converter<? super X, ? extends M> converter, BiConsumer<? super X, ? super M> consumer) {
+        convertEach(datasetName, records, 0, codec, converter, (index, record, model) ->
+                consumer.accept(record, model));
+    }
+
+    /**
+     * Converts {@code records}, found from {@code firstIndex} of their dataset, and passes each record that can be
+     * converted to {@code consumer} along with its index in the dataset and its model object, in the order of the
+     * records. The records that cannot be converted are quarantined under their index in the dataset.
+     */
+    public static <X, M> void convertEach(String datasetName, List<X> records, int firstIndex, XmlRecordCodec<X> codec,
+            Converter<? super X, ? extends M> converter, IndexedConsumer<? super X, ? super M> consumer) {
+        Object[] results = new Object[records.size()];
+        String[] failures = new String[records.size()];
+        ConversionTask<X, M> task = new ConversionTask<>(records, converter, results, failures, 0, records.size());
+        if (records.size() <= CHUNK_SIZE) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (failures[i] != null) {
+                quarantine(datasetName, firstIndex + i, records.get(i), codec, failures[i]);
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            M result = (M) results[i];
+            consumer.accept(firstIndex + i, records.get(i), result);
+        }
+    }
+
+    /**
+     * Returns the position in {@code models} of the model stored as {@code record}, or -1 if there is none.
+     * {@code storedRecords} holds the record each model is stored as. The models are expected to be in the order of
+     * their records, so the model at {@code index}, the index of the record in its dataset, is checked first. A
+     * record stored before its dataset was reloaded is matched by equality.
+     */
+    public static <M> int indexOfModel(List<M> models, Map<M, ?> storedRecords, Object record, int index) {
+        if (index >= 0 && index < models.size() && storedRecords.get(models.get(index)) == record) {
+            return index;
+        }
+        for (int i = 0; i < models.size(); i++) {
+            if (storedRecords.get(models.get(i)) == record) {
+                return i;
+            }
+        }
+        for (int i = 0; i < models.size(); i++) {
+            if (record.equals(storedRecords.get(models.get(i)))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reports {@code record}, the record at {@code index} of the given dataset, to the {@link QuarantineReport} in
+     * the form it is stored in.
+     */
+    public static <X> void quarantine(String datasetName, int index, X record, XmlRecordCodec<X> codec,
+            String reason) {
+        String storedForm;
+        try {
+            storedForm = codec.toXml(record);
+        } catch (DataConversionException e) {
+            storedForm = String.valueOf(record);
+        }
+        QuarantineReport.getInstance().add(datasetName, index, storedForm, reason);
+    }
+
+    /**
+     * Converts the records in a range, splitting it in halves until the halves fit in a chunk.
+     */
+    private static class ConversionTask<X, M> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<X> records;
+        private final Converter<? super X, ? extends M> converter;
+        private final Object[] results;
+        private final String[] failures;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<X> records, Converter<? super X, ? extends M> converter, Object[] results,
+                String[] failures, int start, int end) {
+            this.records = records;
+            this.converter = converter;
+            this.results = results;
+            this.failures = failures;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > CHUNK_SIZE) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new ConversionTask<>(records, converter, results, failures, start, middle),
+                        new ConversionTask<>(records, converter, results, failures, middle, end));
+                return;
+            }
+
+            for (int i = start; i < end; i++) {
+                try {
+                    results[i] = converter.convert(records.get(i));
+                    if (results[i] == null) {
+                        failures[i] = "invalid value";
+                    }
+                } catch (Exception e) {
+                    failures[i] = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -2,12 +2,31 @@ package seedu.address.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-
-import seedu.address.commons.util.XmlUtil;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.BinaryRecordCodec;
+import seedu.address.commons.util.RecordCodec;
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.model.user.User;
 import seedu.address.model.user.UserManager;
+import seedu.address.storage.BackgroundStorageWriter;
+import seedu.address.storage.JournalEntry;
+import seedu.address.storage.RecordPositions;
+import seedu.address.storage.StorageJournal;
 import seedu.address.storage.adapter.XmlAdaptedClassroom;
 import seedu.address.storage.adapter.XmlAdaptedClassroomAttendance;
 import seedu.address.storage.adapter.XmlAdaptedCourse;
@@ -29,11 +48,35 @@ import seedu.address.storage.serializable.XmlSerializableUserList;
 
 /**
  * This class is a storage controller for the other datasets that work alongside the main student list.
+ * Each dataset carries a version counter that is bumped whenever its in-memory list is replaced with
+ * different content, so that {@link #storeData()} only stores the datasets that actually changed since they were
+ * last stored.
+ * A change is stored by appending the records that changed to the {@link StorageJournal} of the dataset's file, and
+ * the file itself is only rewritten in full once its journal has grown larger than the file. On startup, the files
+ * are loaded and their journals are replayed on top of them.
+ * Datasets are written as XML files, or as compact binary files next to them if binary snapshots are enabled. On
+ * startup, each dataset is loaded from whichever of its two files was written last, so switching formats or
+ * dropping in an XML file converts the dataset to the configured format on the next store. A dataset with a file
+ * that cannot be read, such as a binary file written for a layout of its records that can no longer be read, is not
+ * stored for the rest of the session, so that the file is kept for the user to recover.
+ * Writes are handed to the {@link BackgroundStorageWriter}, which reads the in-memory lists off the class lock, so
+ * the lists are never handed out: the getters return read-only views and the setters store a copy of the list they
+ * are given, recording the difference from the list they replace, which costs time in the size of the dataset.
+ * Managers instead add, remove and replace the records they stored one at a time, through
+ * {@link #addRecord(Dataset, Object)}, {@link #removeRecord(Dataset, Object)} and
+ * {@link #replaceRecord(Dataset, Object, Object)}, which find the record through the {@link RecordPositions} of the
+ * dataset, change the list in place and journal only that record. The only in-place changes are made there, and a
+ * list being written in full by the writer is copied before it is changed.
+ * While a change recorder is set, every change to a dataset is also given to it as a reversible
+ * {@link DatasetChange}, which is how the changes made by a command are undone.
  */
 public class StorageController {
+    private static final Logger logger = LogsCenter.getLogger(StorageController.class);
+
     private static final String BASE_DIRECTORY = "data/";
     private static final String TEST_DIRECTORY = "testStorage/";
     private static String workingDirectory = BASE_DIRECTORY;
+    private static boolean useBinarySnapshots = false;
 
     private static String storageCourses = workingDirectory + "courseList.xml";
     private static String storageModules = workingDirectory + "modules.xml";
@@ -57,10 +100,47 @@ public class StorageController {
     private static ArrayList<XmlAdaptedStudentModule> studentModuleStorage = new ArrayList<>();
     private static ArrayList<XmlAdaptedClassroomAttendance> classAttendanceStorage = new ArrayList<>();
 
+    private static final Map<Dataset, Long> versions = new EnumMap<>(Dataset.class);
+    private static final Map<Dataset, Long> storedVersions = new EnumMap<>(Dataset.class);
+    private static final Map<Dataset, Long> lastStoredBytes = new EnumMap<>(Dataset.class);
+    private static final Map<Dataset, Long> lastStoredMillis = new EnumMap<>(Dataset.class);
+    private static final Map<Dataset, List<JournalEntry<? extends List<?>>>> pendingEntries =
+            new EnumMap<>(Dataset.class);
+    private static final Set<Dataset> snapshotsNeeded = EnumSet.noneOf(Dataset.class);
+    private static final Set<Dataset> datasetsBeingWritten = EnumSet.noneOf(Dataset.class);
+    private static final Set<Dataset> unreadableDatasets = EnumSet.noneOf(Dataset.class);
+    private static final Map<Dataset, RecordPositions> recordPositions = new EnumMap<>(Dataset.class);
+
+    private static Consumer<DatasetChange> changeRecorder = null;
+
+    private static long totalBytesSkipped = 0;
+    private static long totalMillisSkipped = 0;
+    private static long totalBytesWritten = 0;
+    private static long totalNanosWritten = 0;
+
+    /**
+     * The datasets managed by this storage controller, one per file.
+     */
+    public enum Dataset {
+        COURSES, MODULES, CLASSES, NOTES, GRADEBOOK, USERS, STUDENT_MODULE, CLASS_ATTENDANCE, GRADES
+    }
+
+    static {
+        for (Dataset dataset : Dataset.values()) {
+            versions.put(dataset, 0L);
+            storedVersions.put(dataset, 0L);
+            lastStoredBytes.put(dataset, 0L);
+            lastStoredMillis.put(dataset, 0L);
+            pendingEntries.put(dataset, new ArrayList<>());
+            recordPositions.put(dataset, new RecordPositions());
+        }
+    }
+
     /**
      * This method switches the class to use a test directory with fresh empty files.
      */
     public static void enterTestMode() {
+        flush();
         workingDirectory = TEST_DIRECTORY;
 
         storageCourses = workingDirectory + "courseList.xml";
@@ -76,6 +156,9 @@ public class StorageController {
 
         System.out.println(workingDirectory);
         System.out.println(storageCourses);
+        synchronized (StorageController.class) {
+            unreadableDatasets.clear();
+        }
         createTestFolder();
         wipeAllTestData();
         createFiles();
@@ -100,6 +183,7 @@ public class StorageController {
      * This method wipes all production files.
      */
     public static void wipeAllProductionData() {
+        flush();
         for (File file: new File(BASE_DIRECTORY).listFiles()) {
             if (!file.isDirectory()) {
                 file.delete();
@@ -109,199 +193,813 @@ public class StorageController {
     }
     /**
      * This method retrieves all datasets saved locally.
+     * The files are parsed in parallel on the common fork-join pool.
      */
-    public static void retrieveData() {
+    public static synchronized void retrieveData() {
         createFiles();
-        try {
-            XmlSerializableCourseList cl = XmlUtil
-                    .getDataFromFile(Paths.get(storageCourses), XmlSerializableCourseList.class);
-            courseStorage = cl.getList();
+        ForkJoinTask<LoadedDataset<XmlAdaptedCourse>> courses =
+                submitLoad(Dataset.COURSES, XmlSerializableCourseList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedModule>> modules =
+                submitLoad(Dataset.MODULES, XmlSerializableModuleList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedClassroom>> classes =
+                submitLoad(Dataset.CLASSES, XmlSerializableClassroomList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedNote>> notes =
+                submitLoad(Dataset.NOTES, XmlSerializableNoteList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedGradebook>> gradebook =
+                submitLoad(Dataset.GRADEBOOK, XmlSerializableGradebookList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedUser>> users =
+                submitLoad(Dataset.USERS, XmlSerializableUserList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedStudentModule>> studentModule =
+                submitLoad(Dataset.STUDENT_MODULE, XmlSerializableStudentModuleList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedClassroomAttendance>> classAttendance =
+                submitLoad(Dataset.CLASS_ATTENDANCE, XmlSerializableClassroomAttendanceList.CODEC);
+        ForkJoinTask<LoadedDataset<XmlAdaptedGrades>> grades =
+                submitLoad(Dataset.GRADES, XmlSerializableGradeList.CODEC);
+
+        courseStorage = courses.join().apply();
+        moduleStorage = modules.join().apply();
+        classesStorage = classes.join().apply();
+        noteStorage = notes.join().apply();
+        gradebookStorage = gradebook.join().apply();
+        userStorage = users.join().apply();
+        studentModuleStorage = studentModule.join().apply();
+        classAttendanceStorage = classAttendance.join().apply();
+        gradesStorage = grades.join().apply();
+    }
 
-            XmlSerializableModuleList moduleList =
-                    XmlUtil.getDataFromFile(Paths.get(storageModules), XmlSerializableModuleList.class);
-            moduleStorage = moduleList.getModules();
+    /**
+     * Starts loading the given dataset on the common fork-join pool.
+     */
+    private static <R> ForkJoinTask<LoadedDataset<R>> submitLoad(Dataset dataset, XmlRecordCodec<R> xmlCodec) {
+        Path xmlFile = Paths.get(getFilePath(dataset));
+        Path configuredFile = getSnapshotPath(dataset);
+        return ForkJoinPool.commonPool().submit(() -> loadDataset(dataset, xmlCodec, xmlFile, configuredFile));
+    }
 
-            XmlSerializableClassroomList classroomList =
-                    XmlUtil.getDataFromFile(Paths.get(storageClasses), XmlSerializableClassroomList.class);
-            classesStorage = classroomList.getClassroomList();
+    /**
+     * The records of a dataset as loaded from its files, along with what has to be recorded about the files.
+     * Datasets are loaded off the class lock, so the bookkeeping is only done when the loaded dataset is applied.
+     */
+    private static class LoadedDataset<R> {
+        private final Dataset dataset;
+        private final ArrayList<R> records;
+        private final long bytes;
+        private final boolean isLoaded;
+        private final boolean isFullStoreNeeded;
+        private final boolean isUnreadable;
+
+        LoadedDataset(Dataset dataset, ArrayList<R> records, long bytes, boolean isLoaded,
+                boolean isFullStoreNeeded, boolean isUnreadable) {
+            this.dataset = dataset;
+            this.records = records;
+            this.bytes = bytes;
+            this.isLoaded = isLoaded;
+            this.isFullStoreNeeded = isFullStoreNeeded;
+            this.isUnreadable = isUnreadable;
+        }
 
-            XmlSerializableNoteList noteList =
-                    XmlUtil.getDataFromFile(Paths.get(storageNotes), XmlSerializableNoteList.class);
-            noteStorage = noteList.getNotes();
+        /**
+         * Records the dataset as stored if it was loaded and marks it to be written in full if needed, or marks it
+         * as not to be stored if one of its files could not be read.
+         * Must be called while holding the class lock.
+         *
+         * @return the records of the dataset.
+         */
+        ArrayList<R> apply() {
+            // Changes recorded against the list being replaced no longer apply
+            pendingEntries.get(dataset).clear();
+            recordPositions.get(dataset).clear();
+            if (isUnreadable) {
+                unreadableDatasets.add(dataset);
+            } else {
+                unreadableDatasets.remove(dataset);
+            }
+            lastStoredBytes.put(dataset, bytes);
+            if (isLoaded) {
+                storedVersions.put(dataset, versions.get(dataset));
+            }
+            if (isFullStoreNeeded) {
+                markDirty(dataset);
+            }
+            return records;
+        }
+    }
 
-            XmlSerializableGradebookList gradebookSerializable = XmlUtil.getDataFromFile(Paths.get(storageGradebook),
-                    XmlSerializableGradebookList.class);
-            gradebookStorage = gradebookSerializable.getGradebookList();
+    /**
+     * Returns the records of the given dataset, read from whichever of its XML and binary files was written last
+     * and with the changes in the journal of that file replayed on top of them.
+     * If that file cannot be read, the other file is tried, but the dataset is then not stored so that the file
+     * that could not be read is not overwritten. If the records are not read from the file in the configured
+     * format, or the journal cannot be replayed, the dataset has to be written in full on the next store.
+     * Does not touch the state of this class, so that datasets can be loaded in parallel.
+     */
+    private static <R> LoadedDataset<R> loadDataset(Dataset dataset, XmlRecordCodec<R> xmlCodec, Path xmlFile,
+            Path configuredFile) {
+        Path binaryFile = BinaryRecordCodec.toBinaryPath(xmlFile);
+        Path otherFile = configuredFile.equals(binaryFile) ? xmlFile : binaryFile;
 
-            XmlSerializableUserList ul = XmlUtil
-                    .getDataFromFile(Paths.get(storageUsers), XmlSerializableUserList.class);
-            userStorage = ul.getList();
+        List<Path> candidates = new ArrayList<>();
+        try {
+            long configuredTime = new StorageJournal(configuredFile).lastModified();
+            long otherTime = new StorageJournal(otherFile).lastModified();
+            if (otherTime > configuredTime) {
+                candidates.add(otherFile);
+            }
+            if (configuredTime >= 0) {
+                candidates.add(configuredFile);
+            }
+            if (otherTime >= 0 && otherTime <= configuredTime) {
+                candidates.add(otherFile);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to inspect the files of " + dataset + ": " + e);
+        }
 
-            XmlSerializableStudentModuleList studentModuleList =
-                    XmlUtil.getDataFromFile(Paths.get(storageStudentModule), XmlSerializableStudentModuleList.class);
-            studentModuleStorage = studentModuleList.getStudentModuleList();
+        boolean isUnreadable = false;
+        for (Path file : candidates) {
+            RecordCodec<R> codec = file.equals(binaryFile) ? BinaryRecordCodec.forClass(xmlCodec.getRecordClass())
+                    : xmlCodec;
+            ArrayList<R> records = new ArrayList<>();
+            try {
+                codec.read(file, records::add);
+            } catch (IOException | DataConversionException e) {
+                logger.severe("Failed to load " + dataset + " from " + file + ", so " + dataset
+                        + " will not be stored until the file is fixed or removed: " + e);
+                isUnreadable = true;
+                continue;
+            }
 
-            XmlSerializableClassroomAttendanceList classroomAttendanceList =
-                    XmlUtil.getDataFromFile(Paths.get(storageClassAttendance),
-                            XmlSerializableClassroomAttendanceList.class);
-            classAttendanceStorage = classroomAttendanceList.getClassroomAttendanceList();
+            boolean isReplayed = replayJournal(dataset, file, records);
+            boolean isConverted = !file.equals(configuredFile);
+            if (isConverted) {
+                logger.info("Loaded " + dataset + " from " + file + ", converting it to " + configuredFile);
+            }
+            return new LoadedDataset<>(dataset, records, file.toFile().length(), true, !isReplayed || isConverted,
+                    isUnreadable);
+        }
+        return new LoadedDataset<>(dataset, new ArrayList<>(), 0, false, false, isUnreadable);
+    }
 
-            XmlSerializableGradeList gradeSerializable = XmlUtil.getDataFromFile(Paths.get(storageGrades),
-                    XmlSerializableGradeList.class);
-            gradesStorage = gradeSerializable.getGradeList();
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * Applies the changes recorded in the journal of {@code file} to {@code list}, the records of the given dataset
+     * freshly loaded from {@code file}.
+     * If the journal does not fit the list, the remaining entries are dropped.
+     *
+     * @return false if the journal could not be replayed in full, in which case the dataset has to be written in
+     * full on the next store so that the journal is reset.
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean replayJournal(Dataset dataset, Path file, List<?> records) {
+        List<Object> list = (List<Object>) records;
+        try {
+            List<? extends JournalEntry<?>> entries = new StorageJournal(file).read(getSerializableClass(dataset));
+            for (JournalEntry<?> entry : entries) {
+                entry.applyTo(list, unwrapDataset(dataset, entry.getRecords()));
+            }
+            if (!entries.isEmpty()) {
+                logger.info("Replayed " + entries.size() + " journal entries for " + dataset);
+            }
+            return true;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            logger.warning("Failed to replay journal for " + dataset + ": " + e);
+            return false;
         }
     }
 
     /**
      * This method creates files for all datasets if they do not exist on the local filesystem.
      */
-    public static void createFiles() {
+    public static synchronized void createFiles() {
         new File(BASE_DIRECTORY).mkdirs();
-        File classes = new File(storageClasses);
-        File courses = new File(storageCourses);
-        File modules = new File(storageModules);
-        File notes = new File(storageNotes);
-        File gradebook = new File(storageGradebook);
-        File users = new File(storageUsers);
-        File studentModule = new File(storageStudentModule);
-        File classAttendance = new File(storageClassAttendance);
-        File grades = new File(storageGrades);
+        for (Dataset dataset : Dataset.values()) {
+            try {
+                getSnapshotPath(dataset).toFile().createNewFile();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
 
-        try {
-            classes.createNewFile();
-            courses.createNewFile();
-            modules.createNewFile();
-            notes.createNewFile();
-            gradebook.createNewFile();
-            users.createNewFile();
-            studentModule.createNewFile();
-            classAttendance.createNewFile();
-            grades.createNewFile();
-        } catch (IOException e) {
-            e.printStackTrace();
+        // Freshly created files are empty and cannot be parsed, so they must be written on the next store.
+        for (Dataset dataset : Dataset.values()) {
+            if (getSnapshotPath(dataset).toFile().length() == 0) {
+                markDirty(dataset);
+            }
+        }
+    }
+
+    /**
+     * This method queues the datasets that have changed since they were last stored to be written to local storage
+     * by the {@link BackgroundStorageWriter}.
+     * Datasets that are still clean are skipped, and the bytes and time that rewriting them would have cost
+     * are added to the running totals reported by {@link #getTotalBytesSkipped()} and
+     * {@link #getTotalMillisSkipped()}. Datasets with a file that could not be read are never stored.
+     */
+    public static synchronized void storeData() {
+        int datasetsQueued = 0;
+        long bytesSkipped = 0;
+        long millisSkipped = 0;
+
+        for (Dataset dataset : Dataset.values()) {
+            if (unreadableDatasets.contains(dataset)) {
+                logger.warning("Not storing " + dataset + " as one of its files could not be read");
+                continue;
+            }
+            if (isDirty(dataset)) {
+                BackgroundStorageWriter.getInstance().submit(dataset.name(), () -> storeDataset(dataset));
+                datasetsQueued++;
+                continue;
+            }
+
+            long bytes = lastStoredBytes.get(dataset);
+            long millis = lastStoredMillis.get(dataset);
+            if (millis == 0 && totalBytesWritten > 0) {
+                // Not written yet in this session, so estimate from the throughput of earlier writes
+                millis = bytes * totalNanosWritten / totalBytesWritten / 1_000_000;
+            }
+            bytesSkipped += bytes;
+            millisSkipped += millis;
         }
+        totalBytesSkipped += bytesSkipped;
+        totalMillisSkipped += millisSkipped;
+
+        logger.info(String.format("Queued %1$d dataset(s) for storage, skipped %2$d clean dataset(s) "
+                        + "(%3$d bytes, ~%4$d ms saved)",
+                datasetsQueued, Dataset.values().length - datasetsQueued, bytesSkipped, millisSkipped));
     }
 
     /**
-     * This method stores all data within the arraylists above to local storage.
+     * Stores the changes made to the given dataset and records it as stored.
+     * The changes are appended to the journal of the dataset, unless the dataset has to be written in full or the
+     * journal has grown large enough to be compacted into the file.
+     * Runs on the writer thread, so the changes and the list to write are taken under the class lock and written
+     * outside it.
      */
-    public static void storeData() {
+    private static void storeDataset(Dataset dataset) throws Exception {
+        Path file;
+        List<?> list;
+        long version;
+        List<JournalEntry<? extends List<?>>> entries;
+        StorageJournal journal;
+        boolean isSnapshotNeeded;
+        boolean isBinary;
+        synchronized (StorageController.class) {
+            if (!isDirty(dataset) || unreadableDatasets.contains(dataset)) {
+                return;
+            }
+            file = getSnapshotPath(dataset);
+            journal = new StorageJournal(file);
+            isBinary = useBinarySnapshots;
+            list = getDatasetStorage(dataset);
+            version = versions.get(dataset);
+            isSnapshotNeeded = snapshotsNeeded.contains(dataset) || journal.shouldCompact();
+            entries = new ArrayList<>(pendingEntries.get(dataset));
+            pendingEntries.get(dataset).clear();
+            snapshotsNeeded.remove(dataset);
+            if (isSnapshotNeeded) {
+                // the list is read outside the lock, so it must not be changed in place until it is written
+                datasetsBeingWritten.add(dataset);
+            }
+        }
+
+        long startTime = System.nanoTime();
         try {
-            XmlSerializableCourseList cl = new XmlSerializableCourseList();
-            cl.setCourseList(courseStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageCourses), cl);
+            if (isSnapshotNeeded) {
+                writeDataset(dataset, file, list, isBinary);
+                journal.reset();
+                long elapsedNanos = System.nanoTime() - startTime;
+                long bytes = file.toFile().length();
+                synchronized (StorageController.class) {
+                    lastStoredBytes.put(dataset, bytes);
+                    lastStoredMillis.put(dataset, elapsedNanos / 1_000_000);
+                    totalBytesWritten += bytes;
+                    totalNanosWritten += elapsedNanos;
+                }
+                logger.fine(String.format("Stored %1$s in full (%2$d bytes in %3$d ms)", dataset, bytes,
+                        elapsedNanos / 1_000_000));
+            } else {
+                long journalSize = journal.size();
+                for (JournalEntry<? extends List<?>> entry : entries) {
+                    journal.append(entry.map(records -> wrapDataset(dataset, records)));
+                }
+                long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+                logger.fine(String.format("Appended %1$d change(s) to the journal of %2$s (%3$d bytes in %4$d ms)",
+                        entries.size(), dataset, journal.size() - journalSize, elapsedMillis));
+            }
+        } catch (Exception e) {
+            // The journal may now be missing changes, so fall back to writing the dataset in full next time
+            markDirty(dataset);
+            throw e;
+        } finally {
+            synchronized (StorageController.class) {
+                if (getDatasetStorage(dataset) == list) {
+                    datasetsBeingWritten.remove(dataset);
+                }
+            }
+        }
 
-            XmlSerializableModuleList moduleList = new XmlSerializableModuleList();
-            moduleList.setModules(moduleStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageModules), moduleList);
+        synchronized (StorageController.class) {
+            storedVersions.put(dataset, Math.max(storedVersions.get(dataset), version));
+        }
+    }
 
-            XmlSerializableClassroomList classroomList = new XmlSerializableClassroomList();
-            classroomList.setClassroomList(classesStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageClasses), classroomList);
+    /**
+     * Blocks until all queued datasets have been written to local storage.
+     */
+    public static void flush() {
+        BackgroundStorageWriter.getInstance().flush();
+    }
 
-            XmlSerializableNoteList noteList = new XmlSerializableNoteList();
-            noteList.setNotes(noteStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageNotes), noteList);
+    /**
+     * Writes {@code list}, the contents of the given dataset, to {@code file} in the binary or XML format.
+     */
+    private static void writeDataset(Dataset dataset, Path file, List<?> list, boolean isBinary) throws Exception {
+        writeRecords(getXmlCodec(dataset), file, list, isBinary);
+    }
 
-            XmlSerializableGradebookList gradebookList = new XmlSerializableGradebookList();
-            gradebookList.setGradebookList(gradebookStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageGradebook), gradebookList);
+    @SuppressWarnings("unchecked")
+    private static <R> void writeRecords(XmlRecordCodec<R> xmlCodec, Path file, List<?> list, boolean isBinary)
+            throws Exception {
+        RecordCodec<R> codec = isBinary ? BinaryRecordCodec.forClass(xmlCodec.getRecordClass()) : xmlCodec;
+        codec.write(file, (List<R>) list);
+    }
 
-            XmlSerializableUserList ul = new XmlSerializableUserList();
-            ul.setUserList(userStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageUsers), ul);
+    /**
+     * Returns the codec for the XML file of the given dataset.
+     */
+    private static XmlRecordCodec<?> getXmlCodec(Dataset dataset) {
+        switch (dataset) {
+        case COURSES:
+            return XmlSerializableCourseList.CODEC;
+        case MODULES:
+            return XmlSerializableModuleList.CODEC;
+        case CLASSES:
+            return XmlSerializableClassroomList.CODEC;
+        case NOTES:
+            return XmlSerializableNoteList.CODEC;
+        case GRADEBOOK:
+            return XmlSerializableGradebookList.CODEC;
+        case USERS:
+            return XmlSerializableUserList.CODEC;
+        case STUDENT_MODULE:
+            return XmlSerializableStudentModuleList.CODEC;
+        case CLASS_ATTENDANCE:
+            return XmlSerializableClassroomAttendanceList.CODEC;
+        case GRADES:
+            return XmlSerializableGradeList.CODEC;
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
 
+    /**
+     * Returns {@code list}, the contents of the given dataset, wrapped in the serializable list class of the dataset.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object wrapDataset(Dataset dataset, List<?> list) {
+        switch (dataset) {
+        case COURSES:
+            XmlSerializableCourseList cl = new XmlSerializableCourseList();
+            cl.setCourseList((ArrayList<XmlAdaptedCourse>) list);
+            return cl;
+        case MODULES:
+            XmlSerializableModuleList moduleList = new XmlSerializableModuleList();
+            moduleList.setModules((ArrayList<XmlAdaptedModule>) list);
+            return moduleList;
+        case CLASSES:
+            XmlSerializableClassroomList classroomList = new XmlSerializableClassroomList();
+            classroomList.setClassroomList((ArrayList<XmlAdaptedClassroom>) list);
+            return classroomList;
+        case NOTES:
+            XmlSerializableNoteList noteList = new XmlSerializableNoteList();
+            noteList.setNotes((ArrayList<XmlAdaptedNote>) list);
+            return noteList;
+        case GRADEBOOK:
+            XmlSerializableGradebookList gradebookList = new XmlSerializableGradebookList();
+            gradebookList.setGradebookList((ArrayList<XmlAdaptedGradebook>) list);
+            return gradebookList;
+        case USERS:
+            XmlSerializableUserList ul = new XmlSerializableUserList();
+            ul.setUserList((ArrayList<XmlAdaptedUser>) list);
+            return ul;
+        case STUDENT_MODULE:
             XmlSerializableStudentModuleList studentModuleList = new XmlSerializableStudentModuleList();
-            studentModuleList.setStudentModuleList(studentModuleStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageStudentModule), studentModuleList);
-
+            studentModuleList.setStudentModuleList((ArrayList<XmlAdaptedStudentModule>) list);
+            return studentModuleList;
+        case CLASS_ATTENDANCE:
             XmlSerializableClassroomAttendanceList classroomAttendanceList =
                     new XmlSerializableClassroomAttendanceList();
-            classroomAttendanceList.setClassroomAttendanceList(classAttendanceStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageClassAttendance), classroomAttendanceList);
-
+            classroomAttendanceList.setClassroomAttendanceList((ArrayList<XmlAdaptedClassroomAttendance>) list);
+            return classroomAttendanceList;
+        case GRADES:
             XmlSerializableGradeList gradeList = new XmlSerializableGradeList();
-            gradeList.setGradeList(gradesStorage);
-            XmlUtil.saveDataToFile(Paths.get(storageGrades), gradeList);
+            gradeList.setGradeList((ArrayList<XmlAdaptedGrades>) list);
+            return gradeList;
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * Returns the records held by {@code serializable}, an instance of the serializable list class of the dataset.
+     */
+    private static List<?> unwrapDataset(Dataset dataset, Object serializable) {
+        switch (dataset) {
+        case COURSES:
+            return ((XmlSerializableCourseList) serializable).getList();
+        case MODULES:
+            return ((XmlSerializableModuleList) serializable).getModules();
+        case CLASSES:
+            return ((XmlSerializableClassroomList) serializable).getClassroomList();
+        case NOTES:
+            return ((XmlSerializableNoteList) serializable).getNotes();
+        case GRADEBOOK:
+            return ((XmlSerializableGradebookList) serializable).getGradebookList();
+        case USERS:
+            return ((XmlSerializableUserList) serializable).getList();
+        case STUDENT_MODULE:
+            return ((XmlSerializableStudentModuleList) serializable).getStudentModuleList();
+        case CLASS_ATTENDANCE:
+            return ((XmlSerializableClassroomAttendanceList) serializable).getClassroomAttendanceList();
+        case GRADES:
+            return ((XmlSerializableGradeList) serializable).getGradeList();
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
+
+    /**
+     * Returns the serializable list class of the given dataset.
+     */
+    private static Class<?> getSerializableClass(Dataset dataset) {
+        switch (dataset) {
+        case COURSES:
+            return XmlSerializableCourseList.class;
+        case MODULES:
+            return XmlSerializableModuleList.class;
+        case CLASSES:
+            return XmlSerializableClassroomList.class;
+        case NOTES:
+            return XmlSerializableNoteList.class;
+        case GRADEBOOK:
+            return XmlSerializableGradebookList.class;
+        case USERS:
+            return XmlSerializableUserList.class;
+        case STUDENT_MODULE:
+            return XmlSerializableStudentModuleList.class;
+        case CLASS_ATTENDANCE:
+            return XmlSerializableClassroomAttendanceList.class;
+        case GRADES:
+            return XmlSerializableGradeList.class;
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
+
+    /**
+     * Returns the path of the XML file of the given dataset.
+     */
+    private static String getFilePath(Dataset dataset) {
+        switch (dataset) {
+        case COURSES:
+            return storageCourses;
+        case MODULES:
+            return storageModules;
+        case CLASSES:
+            return storageClasses;
+        case NOTES:
+            return storageNotes;
+        case GRADEBOOK:
+            return storageGradebook;
+        case USERS:
+            return storageUsers;
+        case STUDENT_MODULE:
+            return storageStudentModule;
+        case CLASS_ATTENDANCE:
+            return storageClassAttendance;
+        case GRADES:
+            return storageGrades;
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
+
+    /**
+     * Returns the path of the file that the given dataset is written to, which is its binary file if binary
+     * snapshots are enabled.
+     */
+    private static Path getSnapshotPath(Dataset dataset) {
+        Path xmlFile = Paths.get(getFilePath(dataset));
+        return useBinarySnapshots ? BinaryRecordCodec.toBinaryPath(xmlFile) : xmlFile;
+    }
+
+    /**
+     * Returns the in-memory list that holds the given dataset.
+     */
+    private static List<?> getDatasetStorage(Dataset dataset) {
+        switch (dataset) {
+        case COURSES:
+            return courseStorage;
+        case MODULES:
+            return moduleStorage;
+        case CLASSES:
+            return classesStorage;
+        case NOTES:
+            return noteStorage;
+        case GRADEBOOK:
+            return gradebookStorage;
+        case USERS:
+            return userStorage;
+        case STUDENT_MODULE:
+            return studentModuleStorage;
+        case CLASS_ATTENDANCE:
+            return classAttendanceStorage;
+        case GRADES:
+            return gradesStorage;
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
+
+    /**
+     * Replaces the in-memory list that holds the given dataset with {@code list}, which must hold the records of
+     * the dataset, without recording a change.
+     */
+    @SuppressWarnings("unchecked")
+    private static void setDatasetStorage(Dataset dataset, ArrayList<?> list) {
+        switch (dataset) {
+        case COURSES:
+            courseStorage = (ArrayList<XmlAdaptedCourse>) list;
+            break;
+        case MODULES:
+            moduleStorage = (ArrayList<XmlAdaptedModule>) list;
+            break;
+        case CLASSES:
+            classesStorage = (ArrayList<XmlAdaptedClassroom>) list;
+            break;
+        case NOTES:
+            noteStorage = (ArrayList<XmlAdaptedNote>) list;
+            break;
+        case GRADEBOOK:
+            gradebookStorage = (ArrayList<XmlAdaptedGradebook>) list;
+            break;
+        case USERS:
+            userStorage = (ArrayList<XmlAdaptedUser>) list;
+            break;
+        case STUDENT_MODULE:
+            studentModuleStorage = (ArrayList<XmlAdaptedStudentModule>) list;
+            break;
+        case CLASS_ATTENDANCE:
+            classAttendanceStorage = (ArrayList<XmlAdaptedClassroomAttendance>) list;
+            break;
+        case GRADES:
+            gradesStorage = (ArrayList<XmlAdaptedGrades>) list;
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown dataset: " + dataset);
+        }
+    }
+
+    /**
+     * Sets whether datasets are written in the binary format instead of XML.
+     * Must be called before {@link #retrieveData()} for datasets in the other format to be converted on load.
+     */
+    public static synchronized void setUseBinarySnapshots(boolean useBinarySnapshots) {
+        StorageController.useBinarySnapshots = useBinarySnapshots;
+    }
+
+    public static synchronized boolean isUseBinarySnapshots() {
+        return useBinarySnapshots;
+    }
+
+    /**
+     * Marks the given dataset as changed so that it is written in full on the next {@link #storeData()}.
+     */
+    public static synchronized void markDirty(Dataset dataset) {
+        versions.put(dataset, versions.get(dataset) + 1);
+        snapshotsNeeded.add(dataset);
+    }
+
+    /**
+     * Replaces the in-memory list that holds the given dataset with a copy of {@code newList}, marking the dataset
+     * as changed and recording the change for its journal if the two lists differ in content.
+     * The list is copied so that callers cannot change it in place behind the back of the writer.
+     */
+    private static void replaceDataset(Dataset dataset, List<?> newList) {
+        List<?> currentList = getDatasetStorage(dataset);
+        JournalEntry<? extends List<?>> entry = JournalEntry.between(currentList, newList);
+        if (entry != null) {
+            versions.put(dataset, versions.get(dataset) + 1);
+            pendingEntries.get(dataset).add(entry);
+            if (changeRecorder != null) {
+                List<?> removed = currentList.subList(entry.getIndex(), entry.getIndex() + entry.getRemoveCount());
+                changeRecorder.accept(new DatasetChange(dataset, entry.getIndex(), new ArrayList<>(removed),
+                        entry.getRecords()));
+            }
+        }
+        // the list replacing the current one is not being written yet
+        datasetsBeingWritten.remove(dataset);
+        recordPositions.get(dataset).clear();
+        setDatasetStorage(dataset, new ArrayList<>(newList));
+    }
+
+    /**
+     * Sets the recorder that is given every change made to the datasets from now on, or stops recording the
+     * changes if {@code changeRecorder} is null. Changes applied through {@link #applyChange(DatasetChange)} are not
+     * recorded.
+     */
+    public static synchronized void setChangeRecorder(Consumer<DatasetChange> changeRecorder) {
+        StorageController.changeRecorder = changeRecorder;
+    }
+
+    /**
+     * Applies {@code change} to its dataset.
+     * The change is journaled like any other change, but is not given to the change recorder.
+     *
+     * @throws IndexOutOfBoundsException if the change does not fit the dataset.
+     */
+    public static synchronized void applyChange(DatasetChange change) {
+        spliceRecords(change.getDataset(), change.getIndex(), change.getRemoved().size(), change.getAdded(), false);
+    }
+
+    /**
+     * Replaces the {@code removeCount} records of the given dataset from {@code index} with {@code records}, which
+     * must be records of the dataset, and records the change. Unlike the setters, the dataset is not compared with
+     * a rebuilt list, so the change takes time in the number of records changed.
+     *
+     * @throws IndexOutOfBoundsException if the change does not fit the dataset.
+     */
+    public static synchronized void changeRecords(Dataset dataset, int index, int removeCount, List<?> records) {
+        spliceRecords(dataset, index, removeCount, records, true);
+    }
+
+    /**
+     * Adds {@code record}, which must be a record of the given dataset, to the end of the dataset and records the
+     * change.
+     */
+    public static synchronized void addRecord(Dataset dataset, Object record) {
+        spliceRecords(dataset, getDatasetStorage(dataset).size(), 0, Collections.singletonList(record), true);
+    }
+
+    /**
+     * Removes {@code record}, a record stored in the given dataset, and records the change.
+     * Does nothing if the dataset does not hold the record.
+     */
+    public static synchronized void removeRecord(Dataset dataset, Object record) {
+        int index = recordPositions.get(dataset).indexOf(getDatasetStorage(dataset), record);
+        if (index < 0) {
+            logger.warning("Record to remove not found in " + dataset);
+            return;
+        }
+        spliceRecords(dataset, index, 1, Collections.emptyList(), true);
+    }
+
+    /**
+     * Replaces {@code record}, a record stored in the given dataset, with {@code replacement} and records the
+     * change. If the dataset does not hold the record, {@code replacement} is added to the end of the dataset.
+     */
+    public static synchronized void replaceRecord(Dataset dataset, Object record, Object replacement) {
+        int index = recordPositions.get(dataset).indexOf(getDatasetStorage(dataset), record);
+        if (index < 0) {
+            logger.warning("Record to replace not found in " + dataset + ", adding its replacement");
+            addRecord(dataset, replacement);
+            return;
+        }
+        spliceRecords(dataset, index, 1, Collections.singletonList(replacement), true);
+    }
+
+    /**
+     * Replaces the {@code removeCount} records of the given dataset from {@code index} with {@code records} and
+     * journals the change, giving it to the change recorder as well if {@code isRecorded}.
+     * The list is changed in place, unless the writer is writing it in full, in which case a copy replaces it.
+     */
+    @SuppressWarnings("unchecked")
+    private static void spliceRecords(Dataset dataset, int index, int removeCount, List<?> records,
+                                      boolean isRecorded) {
+        if (datasetsBeingWritten.remove(dataset)) {
+            setDatasetStorage(dataset, new ArrayList<>(getDatasetStorage(dataset)));
+        }
+        List<Object> list = (List<Object>) getDatasetStorage(dataset);
+        JournalEntry<List<?>> entry = new JournalEntry<>(index, removeCount, new ArrayList<>(records));
+        List<Object> removed = new ArrayList<>(list.subList(index, index + removeCount));
+        entry.applyTo(list, records);
+        recordPositions.get(dataset).spliced(index, removed, records);
+
+        versions.put(dataset, versions.get(dataset) + 1);
+        pendingEntries.get(dataset).add(entry);
+        if (isRecorded && changeRecorder != null) {
+            changeRecorder.accept(new DatasetChange(dataset, index, removed, entry.getRecords()));
         }
     }
 
-    public static ArrayList<XmlAdaptedCourse> getCourseStorage() {
-        return courseStorage;
+    /**
+     * Returns true if the given dataset has changed since it was last stored or loaded.
+     */
+    public static synchronized boolean isDirty(Dataset dataset) {
+        return versions.get(dataset) > storedVersions.get(dataset);
+    }
+
+    /**
+     * Returns true if a file of the given dataset could not be read when it was last loaded, in which case the
+     * dataset is not stored.
+     */
+    public static synchronized boolean isUnreadable(Dataset dataset) {
+        return unreadableDatasets.contains(dataset);
+    }
+
+    /**
+     * Returns the number of times the given dataset has been changed in this session.
+     */
+    public static synchronized long getVersion(Dataset dataset) {
+        return versions.get(dataset);
+    }
+
+    /**
+     * Returns the total number of bytes that {@link #storeData()} did not have to rewrite in this session
+     * because the datasets were clean.
+     */
+    public static synchronized long getTotalBytesSkipped() {
+        return totalBytesSkipped;
+    }
+
+    /**
+     * Returns the (partly estimated) total time in milliseconds that {@link #storeData()} saved in this session
+     * by skipping clean datasets.
+     */
+    public static synchronized long getTotalMillisSkipped() {
+        return totalMillisSkipped;
     }
 
-    public static void setCourseStorage(ArrayList<XmlAdaptedCourse> courseStorage) {
-        StorageController.courseStorage = courseStorage;
+    public static synchronized List<XmlAdaptedCourse> getCourseStorage() {
+        return Collections.unmodifiableList(courseStorage);
     }
 
-    public static ArrayList<XmlAdaptedModule> getModuleStorage() {
-        return moduleStorage;
+    public static synchronized void setCourseStorage(List<XmlAdaptedCourse> courseStorage) {
+        replaceDataset(Dataset.COURSES, courseStorage);
     }
 
-    public static void setModuleStorage(ArrayList<XmlAdaptedModule> moduleList) {
-        moduleStorage = moduleList;
+    public static synchronized List<XmlAdaptedModule> getModuleStorage() {
+        return Collections.unmodifiableList(moduleStorage);
     }
 
-    public static ArrayList<XmlAdaptedClassroom> getClassesStorage() {
-        return classesStorage;
+    public static synchronized void setModuleStorage(List<XmlAdaptedModule> moduleList) {
+        replaceDataset(Dataset.MODULES, moduleList);
     }
 
-    public static void setClassesStorage(ArrayList<XmlAdaptedClassroom> classesStorage) {
-        StorageController.classesStorage = classesStorage;
+    public static synchronized List<XmlAdaptedClassroom> getClassesStorage() {
+        return Collections.unmodifiableList(classesStorage);
     }
 
-    public static ArrayList<XmlAdaptedGradebook> getGradebookStorage() {
-        return gradebookStorage;
+    public static synchronized void setClassesStorage(List<XmlAdaptedClassroom> classesStorage) {
+        replaceDataset(Dataset.CLASSES, classesStorage);
     }
 
-    public static void setGradebookStorage(ArrayList<XmlAdaptedGradebook> gradebookStorage) {
-        StorageController.gradebookStorage = gradebookStorage;
+    public static synchronized List<XmlAdaptedGradebook> getGradebookStorage() {
+        return Collections.unmodifiableList(gradebookStorage);
     }
 
-    public static ArrayList<XmlAdaptedNote> getNoteStorage() {
-        return noteStorage;
+    public static synchronized void setGradebookStorage(List<XmlAdaptedGradebook> gradebookStorage) {
+        replaceDataset(Dataset.GRADEBOOK, gradebookStorage);
     }
 
-    public static void setNoteStorage(ArrayList<XmlAdaptedNote> noteList) {
-        noteStorage = noteList;
+    public static synchronized List<XmlAdaptedNote> getNoteStorage() {
+        return Collections.unmodifiableList(noteStorage);
     }
 
-    public static ArrayList<XmlAdaptedUser> getUserStorage() {
-        return userStorage;
+    public static synchronized void setNoteStorage(List<XmlAdaptedNote> noteList) {
+        replaceDataset(Dataset.NOTES, noteList);
     }
 
-    public static void setUserStorage(ArrayList<XmlAdaptedUser> userStorage) {
-        StorageController.userStorage = userStorage;
+    public static synchronized List<XmlAdaptedUser> getUserStorage() {
+        return Collections.unmodifiableList(userStorage);
     }
 
-    public static ArrayList<XmlAdaptedStudentModule> getStudentModuleStorage() {
-        return studentModuleStorage;
+    public static synchronized void setUserStorage(List<XmlAdaptedUser> userStorage) {
+        replaceDataset(Dataset.USERS, userStorage);
     }
 
-    public static void setStudentModuleStorage(ArrayList<XmlAdaptedStudentModule> studentModuleStorage) {
-        StorageController.studentModuleStorage = studentModuleStorage;
+    public static synchronized List<XmlAdaptedStudentModule> getStudentModuleStorage() {
+        return Collections.unmodifiableList(studentModuleStorage);
     }
 
-    public static ArrayList<XmlAdaptedClassroomAttendance> getClassAttendanceStorage() {
-        return classAttendanceStorage;
+    public static synchronized void setStudentModuleStorage(List<XmlAdaptedStudentModule> studentModuleStorage) {
+        replaceDataset(Dataset.STUDENT_MODULE, studentModuleStorage);
     }
 
-    public static void setClassAttendanceStorage(ArrayList<XmlAdaptedClassroomAttendance> classAttendanceStorage) {
-        StorageController.classAttendanceStorage = classAttendanceStorage;
+    public static synchronized List<XmlAdaptedClassroomAttendance> getClassAttendanceStorage() {
+        return Collections.unmodifiableList(classAttendanceStorage);
     }
 
-    public static ArrayList<XmlAdaptedGrades> getGradeStorage() {
-        return gradesStorage;
+    public static synchronized void setClassAttendanceStorage(
+            List<XmlAdaptedClassroomAttendance> classAttendanceStorage) {
+        replaceDataset(Dataset.CLASS_ATTENDANCE, classAttendanceStorage);
     }
 
-    public static void setGradeStorage(ArrayList<XmlAdaptedGrades> gradesStorage) {
-        StorageController.gradesStorage = gradesStorage;
+    public static synchronized List<XmlAdaptedGrades> getGradeStorage() {
+        return Collections.unmodifiableList(gradesStorage);
+    }
 
+    public static synchronized void setGradeStorage(List<XmlAdaptedGrades> gradesStorage) {
+        replaceDataset(Dataset.GRADES, gradesStorage);
     }
 
     public static void setUpSampleData() {
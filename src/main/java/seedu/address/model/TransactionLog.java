@@ -0,0 +1,217 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.StorageController.Dataset;
+import seedu.address.model.classroom.ClassroomManager;
+import seedu.address.model.course.CourseManager;
+import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.model.module.ModuleManager;
+import seedu.address.model.note.NoteManager;
+
+/**
+ * Records the changes made by each command, so that they can be undone and redone together.
+ * A transaction holds the changes a command made to the datasets of the {@link StorageController}, recorded as
+ * reversible {@link DatasetChange}s, and whether the command committed the address book. Undoing a transaction
+ * reverts each of its changes in the storage-layer and in the manager of its dataset, without reloading the manager,
+ * and undoes the address book commit, then stores only the datasets changed. The changes made while a transaction
+ * is undone or redone are not recorded, so they do not discard the transactions left to redo.
+ * Changes made outside of a command are not recorded, except for address book commits, which are then each a
+ * transaction of their own.
+ */
+public class TransactionLog {
+
+    private static final Logger logger = LogsCenter.getLogger(TransactionLog.class);
+
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final int historyLimit;
+    private int currentTransactionPointer;
+    private Transaction currentTransaction = new Transaction();
+    private boolean isCommandRunning;
+    private boolean isRestoring;
+
+    public TransactionLog(int historyLimit) {
+        this.historyLimit = historyLimit;
+    }
+
+    /**
+     * Starts recording the dataset changes made by a command into a new transaction.
+     */
+    public void beginCommand() {
+        commitTransaction();
+        isCommandRunning = true;
+        StorageController.setChangeRecorder(this::recordChange);
+    }
+
+    /**
+     * Stops recording dataset changes and saves the changes made by the command as one transaction.
+     */
+    public void commitCommand() {
+        StorageController.setChangeRecorder(null);
+        isCommandRunning = false;
+        commitTransaction();
+    }
+
+    /**
+     * Records that the address book has been committed by the current command.
+     */
+    public void recordAddressBookCommit() {
+        if (currentTransaction.isAddressBookCommitted) {
+            commitTransaction();
+        }
+        currentTransaction.isAddressBookCommitted = true;
+        if (!isCommandRunning) {
+            commitTransaction();
+        }
+    }
+
+    private void recordChange(DatasetChange change) {
+        if (!isRestoring && change.getDataset() != Dataset.USERS) {
+            currentTransaction.changes.add(change);
+        }
+    }
+
+    /**
+     * Saves the current transaction at the end of the log if it holds any changes.
+     * Undone transactions are removed from the log.
+     */
+    private void commitTransaction() {
+        if (currentTransaction.isEmpty()) {
+            return;
+        }
+        transactions.subList(currentTransactionPointer, transactions.size()).clear();
+        transactions.add(currentTransaction);
+        currentTransactionPointer++;
+        currentTransaction = new Transaction();
+
+        if (transactions.size() > historyLimit) {
+            transactions.remove(0);
+            currentTransactionPointer--;
+        }
+    }
+
+    /**
+     * Returns true if {@code undo()} has transactions to undo.
+     */
+    public boolean canUndo() {
+        return currentTransactionPointer > 0 || !currentTransaction.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code redo()} has transactions to redo.
+     */
+    public boolean canRedo() {
+        return currentTransaction.isEmpty() && currentTransactionPointer < transactions.size();
+    }
+
+    /**
+     * Undoes the last transaction, undoing its address book commit on {@code addressBook}.
+     *
+     * @return true if the address book was changed.
+     */
+    public boolean undo(VersionedAddressBook addressBook) {
+        commitTransaction();
+        if (currentTransactionPointer == 0) {
+            throw new VersionedAddressBook.NoUndoableStateException();
+        }
+        currentTransactionPointer--;
+        Transaction transaction = transactions.get(currentTransactionPointer);
+        isRestoring = true;
+        try {
+            for (int i = transaction.changes.size() - 1; i >= 0; i--) {
+                restore(transaction.changes.get(i).invert());
+            }
+            boolean isAddressBookChanged = transaction.isAddressBookCommitted && addressBook.canUndo();
+            if (isAddressBookChanged) {
+                addressBook.undo();
+            }
+            store(transaction);
+            return isAddressBookChanged;
+        } finally {
+            isRestoring = false;
+        }
+    }
+
+    /**
+     * Redoes the last undone transaction, redoing its address book commit on {@code addressBook}.
+     *
+     * @return true if the address book was changed.
+     */
+    public boolean redo(VersionedAddressBook addressBook) {
+        if (!canRedo()) {
+            throw new VersionedAddressBook.NoRedoableStateException();
+        }
+        Transaction transaction = transactions.get(currentTransactionPointer);
+        currentTransactionPointer++;
+        isRestoring = true;
+        try {
+            transaction.changes.forEach(TransactionLog::restore);
+            boolean isAddressBookChanged = transaction.isAddressBookCommitted && addressBook.canRedo();
+            if (isAddressBookChanged) {
+                addressBook.redo();
+            }
+            store(transaction);
+            return isAddressBookChanged;
+        } finally {
+            isRestoring = false;
+        }
+    }
+
+    /**
+     * Makes {@code change} in the storage-layer, then applies it to the manager of its dataset, which updates its
+     * models and indexes for the records changed only.
+     */
+    private static void restore(DatasetChange change) {
+        StorageController.applyChange(change);
+        switch (change.getDataset()) {
+        case COURSES:
+            CourseManager.getInstance().applyStoredChange(change);
+            break;
+        case MODULES:
+        case STUDENT_MODULE:
+            ModuleManager.getInstance().applyStoredChange(change);
+            break;
+        case CLASSES:
+        case CLASS_ATTENDANCE:
+            ClassroomManager.getInstance().applyStoredChange(change);
+            break;
+        case GRADEBOOK:
+            GradebookManager.getInstance().applyStoredChange(change);
+            break;
+        case GRADES:
+            GradesManager.getInstance().applyStoredChange(change);
+            break;
+        case NOTES:
+            NoteManager.getInstance().applyStoredChange(change);
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Stores the datasets changed by {@code transaction}, which has just been undone or redone.
+     */
+    private static void store(Transaction transaction) {
+        if (!transaction.changes.isEmpty()) {
+            logger.info("Restored " + transaction.changes.size() + " change(s)");
+            StorageController.storeData();
+        }
+    }
+
+    /**
+     * The changes made by one command.
+     */
+    private static class Transaction {
+        private final List<DatasetChange> changes = new ArrayList<>();
+        private boolean isAddressBookCommitted;
+
+        boolean isEmpty() {
+            return changes.isEmpty() && !isAddressBookCommitted;
+        }
+    }
+}
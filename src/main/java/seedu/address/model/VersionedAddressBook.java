@@ -2,35 +2,72 @@ package seedu.address.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Rather than a copy of every state, the history holds the changes made to the person list between commits, which
+ * share their persons with the list itself. Undoing or redoing a commit replays only the changes of that commit.
+ * The history is limited to a number of commits and to a number of persons held by its changes, beyond which the
+ * oldest commits can no longer be undone.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    private final List<Delta> history = new ArrayList<>();
+    private final int historyLimit;
+    private final int historyPersonLimit;
+    private int historyPersonCount;
     private int currentStatePointer;
+    private Delta uncommittedChanges = new Delta();
+    private boolean isRestoring;
+
+    /** Held so that the listener stays registered, as unmodifiable views only listen weakly to their backing list. */
+    private final ObservableList<Person> observedPersons;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} that keeps at most {@code historyLimit} commits, holding at most
+     * {@code historyPersonLimit} persons in their changes. The latest commit is kept regardless of the person limit.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit, int historyPersonLimit) {
         super(initialState);
+        this.historyLimit = historyLimit;
+        this.historyPersonLimit = historyPersonLimit;
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
         currentStatePointer = 0;
+        observedPersons = getPersonList();
+        observedPersons.addListener(this::recordChange);
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit as a new state at the end of the history.
+     * Undone states are removed from the history.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        history.add(uncommittedChanges);
+        historyPersonCount += uncommittedChanges.getPersonCount();
+        uncommittedChanges = new Delta();
         currentStatePointer++;
+
+        while (history.size() > historyLimit
+                || (historyPersonCount > historyPersonLimit && history.size() > 1)) {
+            historyPersonCount -= history.remove(0).getPersonCount();
+            currentStatePointer--;
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        List<Delta> undoneStates = history.subList(currentStatePointer, history.size());
+        undoneStates.forEach(delta -> historyPersonCount -= delta.getPersonCount());
+        undoneStates.clear();
     }
 
     /**
@@ -40,8 +77,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardUncommittedChanges();
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restore(history.get(currentStatePointer), false);
     }
 
     /**
@@ -51,8 +89,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardUncommittedChanges();
+        restore(history.get(currentStatePointer), true);
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
     }
 
     /**
@@ -66,7 +105,47 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < history.size();
+    }
+
+    /**
+     * Records a change to the person list as an uncommitted change, unless it is made by restoring a state.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        if (isRestoring) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            uncommittedChanges.add(new Edit(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                    new ArrayList<>(change.getAddedSubList())));
+        }
+    }
+
+    private void discardUncommittedChanges() {
+        restore(uncommittedChanges, false);
+        uncommittedChanges = new Delta();
+    }
+
+    /**
+     * Applies the changes of {@code delta} to the person list if {@code isForward}, or reverts them otherwise.
+     */
+    private void restore(Delta delta, boolean isForward) {
+        isRestoring = true;
+        try {
+            if (isForward) {
+                delta.edits.forEach(edit -> setPersons(edit.from, edit.from + edit.removed.size(), edit.added));
+            } else {
+                for (int i = delta.edits.size() - 1; i >= 0; i--) {
+                    Edit edit = delta.edits.get(i);
+                    setPersons(edit.from, edit.from + edit.added.size(), edit.removed);
+                }
+            }
+        } finally {
+            isRestoring = false;
+        }
     }
 
     @Override
@@ -85,15 +164,80 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+                && history.equals(otherVersionedAddressBook.history)
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * The changes made to the person list between two commits, in the order they were made.
+     */
+    private static class Delta {
+        private final List<Edit> edits = new ArrayList<>();
+        private int personCount;
+
+        void add(Edit edit) {
+            edits.add(edit);
+            personCount += edit.removed.size() + edit.added.size();
+        }
+
+        /**
+         * Returns the number of persons held by the changes.
+         */
+        int getPersonCount() {
+            return personCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Delta && edits.equals(((Delta) other).edits));
+        }
+
+        @Override
+        public int hashCode() {
+            return edits.hashCode();
+        }
+    }
+
+    /**
+     * A replacement of the persons {@code removed} at index {@code from} of the person list with {@code added}.
+     */
+    private static class Edit {
+        private final int from;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        Edit(int from, List<Person> removed, List<Person> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Edit)) {
+                return false;
+            }
+            Edit otherEdit = (Edit) other;
+            return from == otherEdit.from
+                    && removed.equals(otherEdit.removed)
+                    && added.equals(otherEdit.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
     public static class NoUndoableStateException extends RuntimeException {
-        private NoUndoableStateException() {
+        NoUndoableStateException() {
             super("Current state pointer at start of addressBookState list, unable to undo.");
         }
     }
@@ -102,7 +246,7 @@ public class VersionedAddressBook extends AddressBook {
      * Thrown when trying to {@code redo()} but can't.
      */
     public static class NoRedoableStateException extends RuntimeException {
-        private NoRedoableStateException() {
+        NoRedoableStateException() {
             super("Current state pointer at end of addressBookState list, unable to redo.");
         }
     }
@@ -46,6 +46,13 @@ public class Attendance {
         return true;
     }
 
+    /**
+     * Converts a valid date in the format of {@link #DATE_FORMATTER} to a {@code LocalDate}.
+     */
+    public static LocalDate parseDate(String date) {
+        return LocalDate.parse(date, DATE_FORMATTER);
+    }
+
     public String getDate() {
         return date;
     }
@@ -0,0 +1,171 @@
+package seedu.address.model.classroom;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.IntIndexMap;
+import seedu.address.model.EntityRegistry;
+import seedu.address.model.IdRegistry;
+
+/**
+ * Stores the attendance of a classroom, one record per date in date order.
+ * Each student whose attendance is taken is given a position in the classroom, mapped from their ID in the
+ * {@link EntityRegistry}, and the record of a date is a {@code BitSet} with the bits of the students present set.
+ * Marking and checking attendance take constant time, the dates in a range are found without a scan, and counting
+ * the students present on a date is a population count.
+ */
+public class AttendanceStore {
+
+    private final IdRegistry studentIds = EntityRegistry.getInstance().getStudentIds();
+    private final IntIndexMap positionsByStudentId = new IntIndexMap();
+    private final NavigableMap<Long, BitSet> presenceByEpochDay = new TreeMap<>();
+
+    /**
+     * Adds an empty attendance record for {@code date}, if there isn't already one.
+     */
+    public void addDate(LocalDate date) {
+        getOrCreateRecord(date);
+    }
+
+    /**
+     * Removes the attendance record for {@code date}, if there is one.
+     */
+    public void removeDate(LocalDate date) {
+        presenceByEpochDay.remove(date.toEpochDay());
+    }
+
+    /**
+     * Returns true if there is an attendance record for {@code date}.
+     */
+    public boolean hasDate(LocalDate date) {
+        return presenceByEpochDay.containsKey(date.toEpochDay());
+    }
+
+    /**
+     * Marks the student with {@code matricNo} present on {@code date}, adding a record for the date if needed.
+     * @return True if the student was not already marked present.
+     */
+    public boolean mark(LocalDate date, String matricNo) {
+        requireNonNull(matricNo);
+        BitSet record = getOrCreateRecord(date);
+        int position = getOrCreatePosition(matricNo);
+        if (record.get(position)) {
+            return false;
+        }
+        record.set(position);
+        return true;
+    }
+
+    /**
+     * Marks the student with {@code matricNo} absent on {@code date}. The record for the date is kept.
+     * @return True if the student was marked present.
+     */
+    public boolean unmark(LocalDate date, String matricNo) {
+        if (!isPresent(date, matricNo)) {
+            return false;
+        }
+        presenceByEpochDay.get(date.toEpochDay()).clear(getPosition(matricNo));
+        return true;
+    }
+
+    /**
+     * Returns true if the student with {@code matricNo} is marked present on {@code date}.
+     */
+    public boolean isPresent(LocalDate date, String matricNo) {
+        BitSet record = presenceByEpochDay.get(date.toEpochDay());
+        int position = getPosition(matricNo);
+        return record != null && position >= 0 && record.get(position);
+    }
+
+    /**
+     * Returns the dates with an attendance record, in date order.
+     */
+    public List<LocalDate> getDates() {
+        return toDates(presenceByEpochDay);
+    }
+
+    /**
+     * Returns the dates with an attendance record from {@code from} to {@code to} inclusive, in date order.
+     */
+    public List<LocalDate> getDates(LocalDate from, LocalDate to) {
+        return toDates(getRecords(from, to));
+    }
+
+    /**
+     * Returns the matric no. of the students marked present on {@code date}, in the order their attendance was
+     * first taken.
+     */
+    public List<String> getStudentsPresent(LocalDate date) {
+        List<String> studentsPresent = new ArrayList<>();
+        BitSet record = presenceByEpochDay.get(date.toEpochDay());
+        if (record != null) {
+            record.stream().forEach(position ->
+                    studentsPresent.add(studentIds.getKey(positionsByStudentId.keyAt(position))));
+        }
+        return studentsPresent;
+    }
+
+    /**
+     * Returns the number of students marked present on {@code date}.
+     */
+    public int countPresent(LocalDate date) {
+        BitSet record = presenceByEpochDay.get(date.toEpochDay());
+        return record == null ? 0 : record.cardinality();
+    }
+
+    /**
+     * Returns the number of dates from {@code from} to {@code to} inclusive on which the student with
+     * {@code matricNo} is marked present.
+     */
+    public int countPresent(String matricNo, LocalDate from, LocalDate to) {
+        int position = getPosition(matricNo);
+        if (position < 0) {
+            return 0;
+        }
+        return (int) getRecords(from, to).values().stream().filter(record -> record.get(position)).count();
+    }
+
+    /**
+     * Returns the fraction of the dates from {@code from} to {@code to} inclusive on which the student with
+     * {@code matricNo} is marked present, or 0 if there are no records in that range.
+     */
+    public double getAttendanceRate(String matricNo, LocalDate from, LocalDate to) {
+        int dateCount = getRecords(from, to).size();
+        return dateCount == 0 ? 0 : (double) countPresent(matricNo, from, to) / dateCount;
+    }
+
+    private NavigableMap<Long, BitSet> getRecords(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return new TreeMap<>();
+        }
+        return presenceByEpochDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true);
+    }
+
+    private BitSet getOrCreateRecord(LocalDate date) {
+        return presenceByEpochDay.computeIfAbsent(date.toEpochDay(), epochDay -> new BitSet());
+    }
+
+    /**
+     * Returns the position of the student with {@code matricNo}, or -1 if their attendance has not been taken.
+     */
+    private int getPosition(String matricNo) {
+        int studentId = studentIds.getId(matricNo);
+        return studentId == IdRegistry.NO_ID ? -1 : positionsByStudentId.indexOf(studentId);
+    }
+
+    private int getOrCreatePosition(String matricNo) {
+        return positionsByStudentId.add(studentIds.getOrAssignId(matricNo));
+    }
+
+    private static List<LocalDate> toDates(NavigableMap<Long, BitSet> records) {
+        List<LocalDate> dates = new ArrayList<>();
+        records.keySet().forEach(epochDay -> dates.add(LocalDate.ofEpochDay(epochDay)));
+        return dates;
+    }
+}
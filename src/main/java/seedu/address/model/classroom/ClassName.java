@@ -3,6 +3,9 @@ package seedu.address.model.classroom;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a classname.
  */
@@ -10,6 +13,7 @@ public class ClassName {
     public static final String MESSAGE_CLASSNAME_CONSTRAINTS =
             "Class Name should only contain between 1 to 3 alphanumeric characters and it should not be blank.";
     private static final String MESSAGE_CLASSNAME_REGEX = "^[a-zA-Z0-9]{1,3}$";
+    private static final Interner<ClassName> INTERNER = new Interner<>();
     private String value;
 
     public ClassName(String className) {
@@ -18,6 +22,13 @@ public class ClassName {
         value = className;
     }
 
+    /**
+     * Returns the canonical {@code ClassName} for {@code className}, so that equal class names share one instance.
+     */
+    public static ClassName of(String className) {
+        return INTERNER.intern(new ClassName(StringUtil.intern(className)));
+    }
+
     public static Boolean isValidClassName(String test) {
         return test.matches(MESSAGE_CLASSNAME_REGEX);
     }
@@ -4,20 +4,25 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.model.module.ModuleCode;
 import seedu.address.ui.HtmlTableProcessor;
 
 /**
  * Represents a classroom in the app.
+ * The students of a classroom held by the {@link ClassroomManager} are only assigned and unassigned through it, so
+ * that its index of the classrooms of each student stays up to date.
  */
 public class Classroom {
     private ClassName className;
     private ModuleCode moduleCode;
     private Enrollment maxEnrollment;
-    private ArrayList<String> students = new ArrayList<>();
-    private ArrayList<Attendance> attendanceList = new ArrayList<Attendance>();
+    private Set<String> students = new LinkedHashSet<>();
+    private AttendanceStore attendance = new AttendanceStore();
 
     public Classroom(ClassName className, ModuleCode moduleCode, Enrollment maxEnrollment) {
         requireNonNull(className);
@@ -38,20 +43,39 @@ public class Classroom {
         return maxEnrollment;
     }
 
-    public ArrayList<String> getStudents() {
-        return students;
+    /**
+     * Returns the matric no. of the students assigned to this classroom, in the order they were assigned, as an
+     * unmodifiable set.
+     */
+    public Set<String> getStudents() {
+        return Collections.unmodifiableSet(students);
+    }
+
+    public void setStudents(Set<String> students) {
+        this.students = new LinkedHashSet<>(students);
+    }
+
+    void addStudent(String matricNo) {
+        students.add(matricNo);
+    }
+
+    void removeStudent(String matricNo) {
+        students.remove(matricNo);
     }
 
-    public void setStudents(ArrayList<String> students) {
-        this.students = students;
+    /**
+     * Removes the students with {@code matricNo}, regardless of case.
+     */
+    void removeStudentIgnoringCase(String matricNo) {
+        students.removeIf(student -> student.equalsIgnoreCase(matricNo));
     }
 
-    public ArrayList<Attendance> getAttendanceList() {
-        return attendanceList;
+    public AttendanceStore getAttendance() {
+        return attendance;
     }
 
-    public void setAttendanceList(ArrayList<Attendance> attendanceList) {
-        this.attendanceList = attendanceList;
+    public void setAttendance(AttendanceStore attendance) {
+        this.attendance = attendance;
     }
 
     @Override
@@ -2,31 +2,57 @@ package seedu.address.model.classroom;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.ClassListCommand;
 import seedu.address.logic.commands.ClassListStudentAttendanceCommand;
+import seedu.address.model.DatasetChange;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
+import seedu.address.model.StorageController.Dataset;
 import seedu.address.model.module.ModuleManager;
 import seedu.address.model.student.StudentManager;
 import seedu.address.storage.adapter.XmlAdaptedClassroom;
 import seedu.address.storage.adapter.XmlAdaptedClassroomAttendance;
+import seedu.address.storage.serializable.XmlSerializableClassroomAttendanceList;
+import seedu.address.storage.serializable.XmlSerializableClassroomList;
 import seedu.address.ui.HtmlTableProcessor;
 
 /**
  * This classroom manager stores classrooms for Trajectory.
+ * Classrooms are kept in the order they were added, keyed by their class name and module code regardless of case,
+ * and are also indexed by module code so that the classrooms of a module can be found without a scan.
+ * The classrooms each student is assigned to are indexed too, by matric no. regardless of case, so that deleting a
+ * student only visits those. Students are only assigned to and unassigned from classrooms here, to keep the index
+ * up to date.
+ * The record each classroom is stored as, and the records of the attendance of each classroom on each date, are kept
+ * by key, so each change is passed on to the storage-layer as it is made. The records of the attendance are kept by
+ * classroom, so that a classroom restored after its attendance takes its attendance from them.
  */
 public class ClassroomManager {
     private static final Logger logger = LogsCenter.getLogger(ClassroomManager.class);
 
     private static ClassroomManager classroomManager = null;
-    private ArrayList<Classroom> classroomList = new ArrayList<>();
+    private final Map<String, Classroom> classroomsByKey = new LinkedHashMap<>();
+    private final Map<String, Set<String>> classroomKeysByModuleCode = new HashMap<>();
+    private final Map<String, Set<String>> classroomKeysByMatricNo = new HashMap<>();
+    private final Map<String, XmlAdaptedClassroom> storedClassrooms = new HashMap<>();
+    private final Map<String, Map<LocalDate, List<XmlAdaptedClassroomAttendance>>> storedAttendanceRows =
+            new HashMap<>();
 
     private ClassroomManager() {
         readClassroomList();
@@ -40,127 +66,344 @@ public class ClassroomManager {
     }
 
     /**
-     * Adds a new classroomList to the in-memory array list
+     * Adds a new classroom, unless a classroom with the same class name and module code already exists
      */
     public void addClassroom(Classroom classroom) {
-        classroomList.add(classroom);
+        if (putClassroom(classroom)) {
+            XmlAdaptedClassroom record = new XmlAdaptedClassroom(classroom);
+            storedClassrooms.put(getClassroomKey(classroom), record);
+            StorageController.addRecord(Dataset.CLASSES, record);
+            for (LocalDate date : classroom.getAttendance().getDates()) {
+                storeAttendanceRow(classroom, date);
+            }
+        }
     }
 
     /**
-     * Finds a classroom from classroomList
+     * Adds and indexes {@code classroom}, unless a classroom with the same class name and module code already
+     * exists, without storing it.
+     * @return True if the classroom was added.
      */
-    public Classroom findClassroom(String className, String moduleCode) {
-        for (Classroom classroom : classroomList) {
-            if (classroom.getClassName().getValue().equalsIgnoreCase(className)
-                    && classroom.getModuleCode().moduleCode.equalsIgnoreCase(moduleCode)) {
-                return classroom;
-            }
+    private boolean putClassroom(Classroom classroom) {
+        String key = getClassroomKey(classroom);
+        if (classroomsByKey.putIfAbsent(key, classroom) != null) {
+            return false;
         }
-        return null;
+        String moduleCode = classroom.getModuleCode().moduleCode.toLowerCase();
+        classroomKeysByModuleCode.computeIfAbsent(moduleCode, code -> new LinkedHashSet<>()).add(key);
+        indexStudents(classroom);
+        return true;
+    }
+
+    /**
+     * Finds a classroom by its class name and module code, regardless of case.
+     * @return The matching classroom, or {@code null} if there isn't one.
+     */
+    public Classroom findClassroom(String className, String moduleCode) {
+        return classroomsByKey.get(getClassroomKey(className, moduleCode));
+    }
+
+    /**
+     * Returns the classrooms of the module with {@code moduleCode}, regardless of case.
+     */
+    public List<Classroom> getClassroomsOfModule(String moduleCode) {
+        return classroomKeysByModuleCode.getOrDefault(moduleCode.toLowerCase(), Collections.emptySet()).stream()
+                .map(classroomsByKey::get)
+                .collect(Collectors.toList());
     }
 
     /**
      * Search for duplication of student assigned to classroom
      */
     public boolean isDuplicateClassroomStudent(Classroom classroom, String matricNo) {
-        if (!classroom.getStudents().isEmpty()) {
-            return classroom.getStudents().contains(matricNo);
-        }
-        return false;
+        return classroom.getStudents().contains(matricNo);
     }
 
     /**
      * Search for duplication of student attendance marked for classroom
      */
     public boolean isDuplicateClassroomStudentAttendance(Classroom classroom, String matricNo, String date) {
-        return classroom.getAttendanceList()
-                .stream()
-                .anyMatch(attendance -> attendance.getDate().equalsIgnoreCase(date)
-                        && attendance.getStudentsPresent().contains(matricNo));
+        return classroom.getAttendance().isPresent(Attendance.parseDate(date), matricNo);
     }
 
     /**
-     * Removes a classroom from classroomList
+     * Removes a classroom from Trajectory
      */
     public void deleteClassroom(Classroom classroom) {
-        classroomList.remove(classroom);
+        if (unindexClassroom(classroom)) {
+            removeStoredRecords(classroom);
+        }
     }
 
     /**
-     * Gets the classroom list from storage and converts it to a Classroom array list
+     * Removes {@code classroom} and its students from the indexes, without removing its records.
+     * @return True if the classroom was indexed.
+     */
+    private boolean unindexClassroom(Classroom classroom) {
+        String key = getClassroomKey(classroom);
+        if (!classroomsByKey.remove(key, classroom)) {
+            return false;
+        }
+        unindexStudents(classroom);
+        String moduleCode = classroom.getModuleCode().moduleCode.toLowerCase();
+        Set<String> keys = classroomKeysByModuleCode.get(moduleCode);
+        keys.remove(key);
+        if (keys.isEmpty()) {
+            classroomKeysByModuleCode.remove(moduleCode);
+        }
+        return true;
+    }
+
+    /**
+     * Applies {@code change}, already made to the classrooms or their attendance in storage, to those in memory
+     * without passing it on again. A classroom replaced by one with the same key keeps its place and its attendance.
+     */
+    public void applyStoredChange(DatasetChange change) {
+        if (change.getDataset() == Dataset.CLASS_ATTENDANCE) {
+            applyStoredAttendanceChange(change);
+            return;
+        }
+        Map<String, Classroom> removed = new HashMap<>();
+        for (Object record : change.getRemoved()) {
+            XmlAdaptedClassroom removedRecord = (XmlAdaptedClassroom) record;
+            String key = getClassroomKey(removedRecord.getClassName(), removedRecord.getModuleCode());
+            if (removedRecord.equals(storedClassrooms.get(key))) {
+                storedClassrooms.remove(key);
+                Classroom classroom = classroomsByKey.get(key);
+                if (classroom != null) {
+                    removed.put(key, classroom);
+                }
+            }
+        }
+        List<XmlAdaptedClassroom> added = change.getAddedRecords();
+        RecordConverter.convertEach("classes", added, change.getIndex(), XmlSerializableClassroomList.CODEC,
+                XmlAdaptedClassroom::toModelType, (index, record, classroom) ->
+                        insertClassroom(index, record, classroom, removed));
+        removed.values().forEach(this::unindexClassroom);
+    }
+
+    /**
+     * Adds {@code classroom}, read from {@code record} at {@code index} of storage, in place of the classroom with the
+     * same key in {@code removed}, taking over its attendance. Otherwise the classroom is added at the same index of
+     * the classrooms unless a classroom with the same key exists, with the attendance in the stored records.
+     */
+    private void insertClassroom(int index, XmlAdaptedClassroom record, Classroom classroom,
+            Map<String, Classroom> removed) {
+        String key = getClassroomKey(classroom);
+        Classroom previous = removed.remove(key);
+        if (previous != null) {
+            classroom.setAttendance(previous.getAttendance());
+            classroomsByKey.replace(key, classroom);
+            unindexStudents(previous);
+            indexStudents(classroom);
+        } else {
+            classroom.setAttendance(readStoredAttendance(key));
+            if (!putClassroomAt(index, classroom)) {
+                return;
+            }
+        }
+        storedClassrooms.put(key, record);
+    }
+
+    /**
+     * Adds and indexes {@code classroom} at {@code position} of the classrooms, or at the end if there are fewer
+     * classrooms, unless a classroom with the same key exists. The index keeps the order of the classrooms, so the
+     * classrooms are indexed again around a classroom added before the end.
+     * @return True if the classroom was added.
+     */
+    private boolean putClassroomAt(int position, Classroom classroom) {
+        if (position >= classroomsByKey.size() || hasClassroom(classroom)) {
+            return putClassroom(classroom);
+        }
+        List<Map.Entry<String, Classroom>> entries = new ArrayList<>(classroomsByKey.entrySet());
+        entries.add(position, new SimpleEntry<>(getClassroomKey(classroom), classroom));
+        classroomsByKey.clear();
+        entries.forEach(entry -> classroomsByKey.put(entry.getKey(), entry.getValue()));
+        String moduleCode = classroom.getModuleCode().moduleCode.toLowerCase();
+        classroomKeysByModuleCode.computeIfAbsent(moduleCode, code -> new LinkedHashSet<>())
+                .add(getClassroomKey(classroom));
+        indexStudents(classroom);
+        return true;
+    }
+
+    /**
+     * Applies {@code change}, already made to the attendance of the classrooms in storage, to the attendance of the
+     * classrooms in memory. The attendance of each date changed is read again from its records.
+     */
+    private void applyStoredAttendanceChange(DatasetChange change) {
+        for (Object record : change.getRemoved()) {
+            XmlAdaptedClassroomAttendance row = (XmlAdaptedClassroomAttendance) record;
+            String key = getClassroomKey(row.getClassName(), row.getModuleCode());
+            LocalDate date = Attendance.parseDate(row.getDate());
+            Map<LocalDate, List<XmlAdaptedClassroomAttendance>> rowsByDate = storedAttendanceRows.get(key);
+            List<XmlAdaptedClassroomAttendance> rows = rowsByDate == null ? null : rowsByDate.get(date);
+            if (rows != null && rows.remove(row)) {
+                if (rows.isEmpty()) {
+                    removeAttendanceRowsInMemory(key, date);
+                }
+                refreshAttendance(key, date);
+            }
+        }
+        for (Object record : change.getAdded()) {
+            XmlAdaptedClassroomAttendance row = (XmlAdaptedClassroomAttendance) record;
+            String key = getClassroomKey(row.getClassName(), row.getModuleCode());
+            LocalDate date = Attendance.parseDate(row.getDate());
+            storedAttendanceRows.computeIfAbsent(key, classroomKey -> new HashMap<>())
+                    .computeIfAbsent(date, rowDate -> new ArrayList<>()).add(row);
+            refreshAttendance(key, date);
+        }
+    }
+
+    /**
+     * Replaces the attendance of the classroom with {@code classroomKey} on {@code date} with that in its records.
+     */
+    private void refreshAttendance(String classroomKey, LocalDate date) {
+        Classroom classroom = classroomsByKey.get(classroomKey);
+        if (classroom == null) {
+            return;
+        }
+        AttendanceStore attendance = classroom.getAttendance();
+        attendance.removeDate(date);
+        List<XmlAdaptedClassroomAttendance> rows =
+                storedAttendanceRows.getOrDefault(classroomKey, Collections.emptyMap()).get(date);
+        if (rows != null) {
+            markAttendance(attendance, date, rows);
+        }
+    }
+
+    /**
+     * Returns the attendance of the classroom with {@code classroomKey} in the records kept for it.
+     */
+    private AttendanceStore readStoredAttendance(String classroomKey) {
+        AttendanceStore attendance = new AttendanceStore();
+        storedAttendanceRows.getOrDefault(classroomKey, Collections.emptyMap())
+                .forEach((date, rows) -> markAttendance(attendance, date, rows));
+        return attendance;
+    }
+
+    /**
+     * Adds the attendance on {@code date} in {@code rows} to {@code attendance}.
+     */
+    private static void markAttendance(AttendanceStore attendance, LocalDate date,
+            List<XmlAdaptedClassroomAttendance> rows) {
+        attendance.addDate(date);
+        for (XmlAdaptedClassroomAttendance row : rows) {
+            row.getStudentsPresent().forEach(matricNo -> attendance.mark(date, matricNo));
+        }
+    }
+
+    /**
+     * Replaces the classrooms and their attendance with those currently in storage.
+     */
+    public void reloadClassroomList() {
+        clearClassroomsInMemory();
+        readClassroomList();
+    }
+
+    /**
+     * Gets the classroom list from storage and converts it to a Classroom array list.
+     * The attendance records are grouped by classroom in one pass beforehand, so that each classroom takes its
+     * attendance in a single lookup.
      */
     private void readClassroomList() {
         ModuleManager moduleManager = ModuleManager.getInstance();
         StudentManager studentManager = StudentManager.getInstance();
-        ArrayList<XmlAdaptedClassroom> xmlClassroomList = StorageController.getClassesStorage();
-        ArrayList<XmlAdaptedClassroomAttendance> xmlClassroomAttendanceList =
+        List<SimpleEntry<XmlAdaptedClassroom, Classroom>> classrooms = new ArrayList<>();
+        RecordConverter.convertEach("classes", StorageController.getClassesStorage(),
+                XmlSerializableClassroomList.CODEC, XmlAdaptedClassroom::toModelType, (record, classroom) ->
+                        classrooms.add(new SimpleEntry<>(record, classroom)));
+        List<XmlAdaptedClassroomAttendance> xmlClassroomAttendanceList =
                 StorageController.getClassAttendanceStorage();
+        Map<String, AttendanceStore> attendanceByClassroom = readAttendanceList(xmlClassroomAttendanceList);
 
-        for (XmlAdaptedClassroom xmlClassroom : xmlClassroomList) {
-            try {
-                Classroom classroom = xmlClassroom.toModelType();
-                if (!moduleManager.doesModuleExist(classroom.getModuleCode().moduleCode)) {
-                    continue;
-                }
-                ArrayList<String> studentsAssigned = classroom.getStudents();
-                ArrayList<String> modelStudentsAssigned = new ArrayList<>();
-                classroom.setStudents(modelStudentsAssigned);
-                for (String matricNo : studentsAssigned) {
-                    if (studentManager.doesStudentExistForGivenMatricNo(matricNo)) {
-                        if (!isClassroomFull(classroom)) {
-                            classroom.getStudents().add(matricNo);
-                        }
+        for (SimpleEntry<XmlAdaptedClassroom, Classroom> entry : classrooms) {
+            Classroom classroom = entry.getValue();
+            if (!moduleManager.doesModuleExist(classroom.getModuleCode().moduleCode)) {
+                continue;
+            }
+            Set<String> studentsAssigned = classroom.getStudents();
+            classroom.setStudents(new LinkedHashSet<>());
+            for (String matricNo : studentsAssigned) {
+                if (studentManager.doesStudentExistForGivenMatricNo(matricNo)) {
+                    if (!isClassroomFull(classroom)) {
+                        classroom.addStudent(matricNo);
                     }
                 }
-                classroomList.add(classroom);
-                readAttendanceList(xmlClassroomAttendanceList, classroom);
-            } catch (IllegalValueException ive) {
-                logger.info("Illegal values found when reading classroom list: " + ive.getMessage());
+            }
+            if (putClassroom(classroom)) {
+                storedClassrooms.put(getClassroomKey(classroom), entry.getKey());
+            }
+
+            AttendanceStore attendance = attendanceByClassroom.get(getClassroomKey(classroom));
+            if (attendance != null) {
+                classroom.setAttendance(attendance);
+            }
+            if (xmlClassroomAttendanceList.isEmpty()) {
+                classroom.getAttendance().addDate(LocalDate.now());
             }
         }
     }
 
     /**
-     * Reads back the classroom attendance and store into the classroom attendance list in-memory
+     * Converts the classroom attendance read from storage into the attendance of the classroom it belongs to, keyed
+     * by {@link #getClassroomKey(String, String)}, and keeps the records of each classroom and date.
      */
-    private void readAttendanceList(ArrayList<XmlAdaptedClassroomAttendance> xmlClassroomAttendanceList,
-                                    Classroom classroom) throws IllegalValueException {
-        if (xmlClassroomAttendanceList == null || xmlClassroomAttendanceList.size() == 0) {
-            for (Classroom c : classroomList) {
-                c.getAttendanceList().add(new Attendance());
-            }
-        }
+    private Map<String, AttendanceStore> readAttendanceList(
+            List<XmlAdaptedClassroomAttendance> xmlClassroomAttendanceList) {
+        Map<String, AttendanceStore> attendanceByClassroom = new HashMap<>();
+        RecordConverter.convertEach("class attendance", xmlClassroomAttendanceList,
+                XmlSerializableClassroomAttendanceList.CODEC, XmlAdaptedClassroomAttendance::toModelType, (record,
+                        attendance) -> readAttendance(attendanceByClassroom, record, attendance));
+        return attendanceByClassroom;
+    }
 
-        assert xmlClassroomAttendanceList != null;
-        for (XmlAdaptedClassroomAttendance xmlClassroomAttendance : xmlClassroomAttendanceList) {
-            if (xmlClassroomAttendance.getClassName().equalsIgnoreCase(classroom.getClassName().getValue())
-                    && xmlClassroomAttendance.getModuleCode().equalsIgnoreCase(
-                    classroom.getModuleCode().moduleCode)) {
-                Attendance attendance = xmlClassroomAttendance.toModelType();
-                classroom.getAttendanceList().add(attendance);
-            }
-        }
+    /**
+     * Adds {@code attendance}, read from {@code record}, to the attendance of the classroom it belongs to in
+     * {@code attendanceByClassroom}.
+     */
+    private void readAttendance(Map<String, AttendanceStore> attendanceByClassroom,
+            XmlAdaptedClassroomAttendance record, Attendance attendance) {
+        String classroomKey = getClassroomKey(record.getClassName(), record.getModuleCode());
+        AttendanceStore classroomAttendance =
+                attendanceByClassroom.computeIfAbsent(classroomKey, key -> new AttendanceStore());
+        LocalDate date = Attendance.parseDate(attendance.getDate());
+        classroomAttendance.addDate(date);
+        attendance.getStudentsPresent().forEach(matricNo -> classroomAttendance.mark(date, matricNo));
+        storedAttendanceRows.computeIfAbsent(classroomKey, key -> new HashMap<>())
+                .computeIfAbsent(date, rowDate -> new ArrayList<>()).add(record);
     }
 
     /**
-     * Converts the classroom array list and invokes the StorageController to save the current classroom list to file
+     * Returns the key that identifies a classroom regardless of case.
+     */
+    private static String getClassroomKey(String className, String moduleCode) {
+        return className.toLowerCase() + "\n" + moduleCode.toLowerCase();
+    }
+
+    private static String getClassroomKey(Classroom classroom) {
+        return getClassroomKey(classroom.getClassName().getValue(), classroom.getModuleCode().moduleCode);
+    }
+
+    /**
+     * Invokes the StorageController to save the changes made to the classrooms to file
      */
     public void saveClassroomList() {
-        ArrayList<XmlAdaptedClassroom> xmlClassroomList =
-                classroomList
-                        .stream()
-                        .map(XmlAdaptedClassroom::new)
-                        .collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setClassesStorage(xmlClassroomList);
         StorageController.storeData();
     }
 
+    /**
+     * Returns the classrooms in the order they were added.
+     */
     public ArrayList<Classroom> getClassroomList() {
-        return this.classroomList;
+        return new ArrayList<>(classroomsByKey.values());
     }
 
+    /**
+     * Replaces the classrooms with {@code classroomList}.
+     */
     public void setClassroomList(ArrayList<Classroom> classroomList) {
-        this.classroomList = classroomList;
+        clearClassrooms();
+        classroomList.forEach(this::addClassroom);
     }
 
     /**
@@ -176,22 +419,44 @@ public class ClassroomManager {
      * Replaces the classroom {@code classtoEdit} in the list with {@code editedClass}.
      */
     public void updateClassroom(Classroom classtoEdit, Classroom editedClass) {
-        int index = classroomList.indexOf(classtoEdit);
-        classroomList.set(index, editedClass);
+        if (getClassroomKey(classtoEdit).equals(getClassroomKey(editedClass))) {
+            Classroom previous = classroomsByKey.replace(getClassroomKey(classtoEdit), editedClass);
+            if (previous != null) {
+                unindexStudents(previous);
+                indexStudents(editedClass);
+                for (LocalDate date : previous.getAttendance().getDates()) {
+                    removeAttendanceRows(getClassroomKey(previous), date);
+                }
+                storeClassroom(editedClass);
+                for (LocalDate date : editedClass.getAttendance().getDates()) {
+                    storeAttendanceRow(editedClass, date);
+                }
+            }
+            return;
+        }
+        deleteClassroom(classtoEdit);
+        addClassroom(editedClass);
     }
 
     /**
      * Assigns a student by matricNo to the class
      */
     public void assignStudent(Classroom classToAssignStudent, String matricNo) {
-        classToAssignStudent.getStudents().add(matricNo);
+        classToAssignStudent.addStudent(matricNo);
+        classroomKeysByMatricNo.computeIfAbsent(getStudentKey(matricNo), student -> new HashSet<>())
+                .add(getClassroomKey(classToAssignStudent));
+        storeClassroom(classToAssignStudent);
     }
 
     /**
      * Unassigns a student by matricNo from the class
      */
     public void unassignStudent(Classroom classToUnassignStudent, String matricNo) {
-        classToUnassignStudent.getStudents().remove(matricNo);
+        classToUnassignStudent.removeStudent(matricNo);
+        if (classToUnassignStudent.getStudents().stream().noneMatch(student -> student.equalsIgnoreCase(matricNo))) {
+            unindexStudent(matricNo, getClassroomKey(classToUnassignStudent));
+        }
+        storeClassroom(classToUnassignStudent);
     }
 
     /**
@@ -203,53 +468,118 @@ public class ClassroomManager {
 
     /**
      * Marks the attendance for a student for the class in the given day.
-     * If an attendance is available for the class, append the student to the attendance, otherwise
-     * add the attendance to the class attendance list.
-     */
-    public void markStudentAttendance(Classroom classToMarkAttendance, Attendance attendance, String matricNo) {
-        attendance.getStudentsPresent().add(matricNo);
-        for (Attendance attend : classToMarkAttendance.getAttendanceList()) {
-            if (attend.getDate().equalsIgnoreCase(attendance.getDate())) {
-                int index = classToMarkAttendance.getAttendanceList().indexOf(attend);
-                classToMarkAttendance.getAttendanceList().set(index, attendance);
-                return;
-            }
-        }
-        classToMarkAttendance.getAttendanceList().add(attendance);
+     * The attendance for the day is added to the class if there isn't one yet.
+     */
+    public void markStudentAttendance(Classroom classToMarkAttendance, String date, String matricNo) {
+        LocalDate localDate = Attendance.parseDate(date);
+        classToMarkAttendance.getAttendance().mark(localDate, matricNo);
+        storeAttendanceRow(classToMarkAttendance, localDate);
     }
 
     /**
-     * Returns the attendance for a classroom for the given date
+     * Returns whether the classroom has an attendance for the given date
      */
-    public Attendance findAttendanceForClass(Classroom classroom, String date) {
-        for (Attendance attendance : classroom.getAttendanceList()) {
-            if (attendance.getDate().equalsIgnoreCase(date)) {
-                return attendance;
-            }
-        }
-        return null;
+    public boolean hasAttendanceForClass(Classroom classroom, String date) {
+        return classroom.getAttendance().hasDate(Attendance.parseDate(date));
     }
 
     /**
      * Saves the classroom attendance list
      */
     public void saveClassroomAttendanceList() {
-        ArrayList<XmlAdaptedClassroomAttendance> xmlClassroomAttendanceList = new ArrayList<>();
-        for (Classroom classroom : classroomList) {
-            xmlClassroomAttendanceList.addAll(
-                    classroom.getAttendanceList()
-                            .stream()
-                            .map(attendance -> new XmlAdaptedClassroomAttendance(
-                                    classroom.getClassName().getValue(),
-                                    classroom.getModuleCode().moduleCode,
-                                    attendance.getDate(), attendance.getStudentsPresent()))
-                            .collect(Collectors.toCollection(ArrayList::new))
-            );
-        }
-        StorageController.setClassAttendanceStorage(xmlClassroomAttendanceList);
         StorageController.storeData();
     }
 
+    /**
+     * Saves the attendance of {@code classroom} on {@code date}. Its record was already replaced or added when the
+     * attendance was marked, so only that record is journaled.
+     */
+    public void saveClassroomAttendance(Classroom classroom, String date) {
+        StorageController.storeData();
+    }
+
+    /**
+     * Replaces the record {@code classroom} is stored as with one of its current class details and students, or
+     * adds one if it has none.
+     */
+    private void storeClassroom(Classroom classroom) {
+        String key = getClassroomKey(classroom);
+        XmlAdaptedClassroom record = new XmlAdaptedClassroom(classroom);
+        XmlAdaptedClassroom previous = storedClassrooms.put(key, record);
+        if (previous == null) {
+            StorageController.addRecord(Dataset.CLASSES, record);
+        } else {
+            StorageController.replaceRecord(Dataset.CLASSES, previous, record);
+        }
+    }
+
+    /**
+     * Replaces the records of the attendance of {@code classroom} on {@code date} with one of its current
+     * attendance, or adds one if there is none.
+     */
+    private void storeAttendanceRow(Classroom classroom, LocalDate date) {
+        AttendanceStore attendance = classroom.getAttendance();
+        if (!attendance.hasDate(date)) {
+            return;
+        }
+        XmlAdaptedClassroomAttendance record = new XmlAdaptedClassroomAttendance(
+                classroom.getClassName().getValue(), classroom.getModuleCode().moduleCode,
+                Attendance.DATE_FORMATTER.format(date), new ArrayList<>(attendance.getStudentsPresent(date)));
+        List<XmlAdaptedClassroomAttendance> previous = storedAttendanceRows
+                .computeIfAbsent(getClassroomKey(classroom), key -> new HashMap<>())
+                .put(date, new ArrayList<>(Collections.singletonList(record)));
+        if (previous == null) {
+            StorageController.addRecord(Dataset.CLASS_ATTENDANCE, record);
+            return;
+        }
+        // a classroom read with several records for a date keeps only the first, now holding all of its attendance
+        StorageController.replaceRecord(Dataset.CLASS_ATTENDANCE, previous.get(0), record);
+        for (int i = 1; i < previous.size(); i++) {
+            StorageController.removeRecord(Dataset.CLASS_ATTENDANCE, previous.get(i));
+        }
+    }
+
+    /**
+     * Removes the records of the attendance of the classroom with {@code classroomKey} on {@code date}.
+     */
+    private void removeAttendanceRows(String classroomKey, LocalDate date) {
+        List<XmlAdaptedClassroomAttendance> rows = removeAttendanceRowsInMemory(classroomKey, date);
+        if (rows != null) {
+            rows.forEach(row -> StorageController.removeRecord(Dataset.CLASS_ATTENDANCE, row));
+        }
+    }
+
+    /**
+     * Forgets the records of the attendance of the classroom with {@code classroomKey} on {@code date}, leaving the
+     * storage-layer as it is.
+     * @return The records forgotten, or null if there were none.
+     */
+    private List<XmlAdaptedClassroomAttendance> removeAttendanceRowsInMemory(String classroomKey, LocalDate date) {
+        Map<LocalDate, List<XmlAdaptedClassroomAttendance>> rowsByDate = storedAttendanceRows.get(classroomKey);
+        if (rowsByDate == null) {
+            return null;
+        }
+        List<XmlAdaptedClassroomAttendance> rows = rowsByDate.remove(date);
+        if (rowsByDate.isEmpty()) {
+            storedAttendanceRows.remove(classroomKey);
+        }
+        return rows;
+    }
+
+    /**
+     * Removes the record of {@code classroom}, which has been removed, and the records of its attendance.
+     */
+    private void removeStoredRecords(Classroom classroom) {
+        String key = getClassroomKey(classroom);
+        XmlAdaptedClassroom record = storedClassrooms.remove(key);
+        if (record != null) {
+            StorageController.removeRecord(Dataset.CLASSES, record);
+        }
+        for (LocalDate date : classroom.getAttendance().getDates()) {
+            removeAttendanceRows(key, date);
+        }
+    }
+
     /**
      * Returns whether a specified student is from the specified class
      */
@@ -258,16 +588,13 @@ public class ClassroomManager {
     }
 
     /**
-     * Modifies the classroom attendance for the specified student
+     * Modifies the classroom attendance for the specified student on the given day
      * if student is marked present, mark them absent
      */
-    public void modifyStudentAttendance(Classroom classToMarkAttendance, Attendance attendance, String matricNo) {
-        ArrayList<Attendance> attendanceList = classToMarkAttendance.getAttendanceList();
-        int index = attendanceList.indexOf(attendance);
-
-        ArrayList<String> studentPresents = attendanceList.get(index).getStudentsPresent();
-        studentPresents.remove(matricNo);
-        classToMarkAttendance.setAttendanceList(attendanceList);
+    public void modifyStudentAttendance(Classroom classToMarkAttendance, String date, String matricNo) {
+        LocalDate localDate = Attendance.parseDate(date);
+        classToMarkAttendance.getAttendance().unmark(localDate, matricNo);
+        storeAttendanceRow(classToMarkAttendance, localDate);
     }
 
     /**
@@ -278,7 +605,7 @@ public class ClassroomManager {
 
         builder.append(HtmlTableProcessor.getBanner("Class List"));
 
-        for (Classroom c : classroomList) {
+        for (Classroom c : classroomsByKey.values()) {
             builder.append(HtmlTableProcessor.renderTableStart(new ArrayList<>(
                     Arrays.asList("Class Name", "Module Code", "Max Enrollment Size"))));
             builder.append(HtmlTableProcessor.getTableItemStart());
@@ -304,17 +631,28 @@ public class ClassroomManager {
      * Returns a string of the classroom attendance list in html representation
      */
     public String getClassroomAttendanceHtmlRepresentation(Classroom classToListAttendance) {
+        return getClassroomAttendanceHtmlRepresentation(classToListAttendance, LocalDate.MIN, LocalDate.MAX);
+    }
+
+    /**
+     * Returns a string of the classroom attendance list from {@code from} to {@code to} inclusive in html
+     * representation, followed by the attendance rate of each student over those dates.
+     */
+    public String getClassroomAttendanceHtmlRepresentation(Classroom classToListAttendance, LocalDate from,
+                                                           LocalDate to) {
         final StringBuilder builder = new StringBuilder();
         builder.append(HtmlTableProcessor.getBanner(String.format(
                 ClassListStudentAttendanceCommand.HTML_TABLE_TITLE_ATTENDANCE,
                 classToListAttendance.getClassName(), classToListAttendance.getModuleCode())));
+        AttendanceStore attendance = classToListAttendance.getAttendance();
         String studentStatus = "";
-        for (Attendance attendance : classToListAttendance.getAttendanceList()) {
+        for (LocalDate date : attendance.getDates(from, to)) {
             builder.append(HtmlTableProcessor.renderTableStart(new ArrayList<>(
                     Collections.singletonList("Date of attendance"))));
             builder.append(HtmlTableProcessor.getTableItemStart());
             builder.append(HtmlTableProcessor
-                    .renderTableItem(new ArrayList<>(Collections.singletonList(attendance.getDate()))));
+                    .renderTableItem(new ArrayList<>(Collections.singletonList(
+                            Attendance.DATE_FORMATTER.format(date)))));
             builder.append(HtmlTableProcessor.getTableItemEnd());
 
             builder.append(HtmlTableProcessor.renderTableStart(new ArrayList<>(Arrays
@@ -323,7 +661,7 @@ public class ClassroomManager {
             builder.append(HtmlTableProcessor.getTableItemStart());
             for (String student : classToListAttendance.getStudents()) {
                 studentStatus = "Absent";
-                if (attendance.getStudentsPresent().contains(student)) {
+                if (attendance.isPresent(date, student)) {
                     studentStatus = "Present";
                 }
                 builder.append(HtmlTableProcessor
@@ -334,14 +672,24 @@ public class ClassroomManager {
             }
             builder.append(HtmlTableProcessor.getTableItemEnd());
         }
+
+        builder.append(HtmlTableProcessor.renderTableStart(new ArrayList<>(Arrays
+                .asList("Matric No", "Days present", "Attendance rate"))));
+        builder.append(HtmlTableProcessor.getTableItemStart());
+        for (String student : classToListAttendance.getStudents()) {
+            builder.append(HtmlTableProcessor.renderTableItem(new ArrayList<>(Arrays.asList(student,
+                    String.valueOf(attendance.countPresent(student, from, to)),
+                    String.format("%.0f%%", attendance.getAttendanceRate(student, from, to) * 100)))));
+        }
+        builder.append(HtmlTableProcessor.getTableItemEnd());
         return builder.toString();
     }
 
     /**
      * Returns whether a student's attendance is marked
      */
-    public boolean isStudentAttendanceMarked(Attendance attendance, String matricNo) {
-        return attendance.getStudentsPresent().contains(matricNo);
+    public boolean isStudentAttendanceMarked(Classroom classroom, String date, String matricNo) {
+        return classroom.getAttendance().isPresent(Attendance.parseDate(date), matricNo);
     }
 
     /**
@@ -356,30 +704,85 @@ public class ClassroomManager {
      * Handles the removal of module by module code
      */
     public void handleModuleDeletedByModuleCode(String moduleCode) {
-        for (Classroom c : classroomList) {
-            if (c.getModuleCode().moduleCode.equalsIgnoreCase(moduleCode)) {
-                classroomList.remove(c);
+        Set<String> keys = classroomKeysByModuleCode.remove(moduleCode.toLowerCase());
+        if (keys != null) {
+            for (String key : keys) {
+                Classroom classroom = classroomsByKey.remove(key);
+                unindexStudents(classroom);
+                removeStoredRecords(classroom);
             }
         }
     }
 
     /**
-     * Handles the removal of student by matric no
+     * Handles the removal of student by matric no, regardless of case
      */
     public void handleStudentDeletedByMatricNo(String matricNo) {
-        for (Classroom c : classroomList) {
-            for (String student : c.getStudents()) {
-                if (student.equalsIgnoreCase(matricNo)) {
-                    c.getStudents().remove(student);
-                }
+        Set<String> keys = classroomKeysByMatricNo.remove(getStudentKey(matricNo));
+        if (keys != null) {
+            for (String key : keys) {
+                Classroom classroom = classroomsByKey.get(key);
+                classroom.removeStudentIgnoringCase(matricNo);
+                storeClassroom(classroom);
             }
         }
     }
 
     /**
-     * Clears the memory for classroom
+     * Returns the key that identifies a student in the index of the classrooms of each student, regardless of case.
+     */
+    private static String getStudentKey(String matricNo) {
+        return matricNo.toUpperCase();
+    }
+
+    /**
+     * Indexes the students assigned to {@code classroom} under its key.
+     */
+    private void indexStudents(Classroom classroom) {
+        String key = getClassroomKey(classroom);
+        for (String matricNo : classroom.getStudents()) {
+            classroomKeysByMatricNo.computeIfAbsent(getStudentKey(matricNo), student -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes the students assigned to {@code classroom} from the index.
+     */
+    private void unindexStudents(Classroom classroom) {
+        String key = getClassroomKey(classroom);
+        for (String matricNo : classroom.getStudents()) {
+            unindexStudent(matricNo, key);
+        }
+    }
+
+    /**
+     * Removes the classroom with {@code key} from the classrooms indexed for the student with {@code matricNo}.
+     */
+    private void unindexStudent(String matricNo, String key) {
+        String studentKey = getStudentKey(matricNo);
+        Set<String> keys = classroomKeysByMatricNo.get(studentKey);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            classroomKeysByMatricNo.remove(studentKey);
+        }
+    }
+
+    /**
+     * Removes every classroom and its attendance
      */
     public void clearClassrooms() {
-        classroomList.clear();
+        clearClassroomsInMemory();
+        StorageController.setClassesStorage(new ArrayList<>());
+        StorageController.setClassAttendanceStorage(new ArrayList<>());
+    }
+
+    /**
+     * Clears the memory for classroom, leaving the storage-layer as it is
+     */
+    private void clearClassroomsInMemory() {
+        classroomsByKey.clear();
+        classroomKeysByModuleCode.clear();
+        classroomKeysByMatricNo.clear();
+        storedClassrooms.clear();
+        storedAttendanceRows.clear();
     }
 }
@@ -3,6 +3,9 @@ package seedu.address.model.course;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a course code, for individual courses.
  * Guarantees: immutable; is valid as declared in {@link #isValidCourseCode(String)}
@@ -15,6 +18,8 @@ public class CourseCode {
 
     public static final String COURSE_CODE_VALIDATION_REGEX = "^[a-zA-Z\\s]{1,10}$";
 
+    private static final Interner<CourseCode> INTERNER = new Interner<>();
+
     public final String courseCode;
 
     /**
@@ -28,6 +33,14 @@ public class CourseCode {
         this.courseCode = courseCode;
     }
 
+    /**
+     * Returns the canonical {@code CourseCode} for {@code courseCode}, so that equal course codes share one instance.
+     * @param courseCode has to be a valid course code.
+     */
+    public static CourseCode of(String courseCode) {
+        return INTERNER.intern(new CourseCode(StringUtil.intern(courseCode)));
+    }
+
     /**
      * Returns true if a given string is a valid course code.
      */
@@ -2,20 +2,32 @@ package seedu.address.model.course;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
+import seedu.address.model.DatasetChange;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
+import seedu.address.model.StorageController.Dataset;
 import seedu.address.model.student.StudentManager;
 import seedu.address.storage.adapter.XmlAdaptedCourse;
+import seedu.address.storage.serializable.XmlSerializableCourseList;
 import seedu.address.ui.HtmlTableProcessor;
 
 /**
  * This class represents the model-level layer for course management.
+ * Courses are indexed by their course code, which is matched case-insensitively.
+ * Each change to the courses is passed on to the storage-layer as it is made, through the record stored for the
+ * course changed.
  */
 public class CourseManager {
 
-    private static CourseManager initCM = new CourseManager();
+    private static CourseManager initCM;
     private ArrayList<Course> courseList = new ArrayList<Course>();
+    private final Map<String, Course> coursesByCode = new HashMap<>();
+    private final Map<Course, XmlAdaptedCourse> storedRecords = new IdentityHashMap<>();
 
     private CourseManager() {
         loadCourses();
@@ -25,16 +37,79 @@ public class CourseManager {
      * Loads all the courses from the storage-layer.
      */
     public void loadCourses() {
-        for (XmlAdaptedCourse xmlCourse : StorageController.getCourseStorage()) {
-            courseList.add(xmlCourse.toModelType());
+        RecordConverter.convertEach("courses", StorageController.getCourseStorage(),
+                XmlSerializableCourseList.CODEC, XmlAdaptedCourse::toModelType, this::loadCourse);
+    }
+
+    /**
+     * Adds {@code course}, read from {@code record} in the storage-layer.
+     */
+    private void loadCourse(XmlAdaptedCourse record, Course course) {
+        courseList.add(course);
+        coursesByCode.putIfAbsent(getKey(course), course);
+        storedRecords.put(course, record);
+    }
+
+    /**
+     * Replaces the courses with those currently in the storage-layer.
+     */
+    public void reloadCourses() {
+        courseList = new ArrayList<>();
+        coursesByCode.clear();
+        storedRecords.clear();
+        loadCourses();
+    }
+
+    /**
+     * Applies {@code change}, already made to the courses in the storage-layer, to the courses in memory without
+     * passing it on again.
+     */
+    public void applyStoredChange(DatasetChange change) {
+        for (Object record : change.getRemoved()) {
+            int index = RecordConverter.indexOfModel(courseList, storedRecords, record, change.getIndex());
+            if (index >= 0) {
+                Course removed = courseList.remove(index);
+                storedRecords.remove(removed);
+                reindex(getKey(removed));
+            }
         }
+        List<XmlAdaptedCourse> added = change.getAddedRecords();
+        RecordConverter.convertEach("courses", added, change.getIndex(), XmlSerializableCourseList.CODEC,
+                XmlAdaptedCourse::toModelType, this::insertCourse);
     }
 
+    /**
+     * Inserts {@code course}, read from {@code record} at {@code index} of the storage-layer, at the same index of
+     * the courses in memory, or at the end if there are fewer courses.
+     */
+    private void insertCourse(int index, XmlAdaptedCourse record, Course course) {
+        courseList.add(Math.min(index, courseList.size()), course);
+        storedRecords.put(course, record);
+        reindex(getKey(course));
+    }
+
+    /**
+     * Deletes a course.
+     */
     public void deleteCourse (Course course) {
-        courseList.remove(course);
+        int index = courseList.indexOf(course);
+        if (index < 0) {
+            return;
+        }
+        Course deleted = courseList.remove(index);
+        reindex(getKey(deleted));
+        StorageController.removeRecord(Dataset.COURSES, storedRecords.remove(deleted));
     }
+
+    /**
+     * Adds a course.
+     */
     public void addCourse(Course course) {
         courseList.add(course);
+        coursesByCode.putIfAbsent(getKey(course), course);
+        XmlAdaptedCourse record = new XmlAdaptedCourse(course);
+        storedRecords.put(course, record);
+        StorageController.addRecord(Dataset.COURSES, record);
     }
 
     public static CourseManager getInstance() {
@@ -50,12 +125,7 @@ public class CourseManager {
      * @return
      */
     public boolean hasCourse(String courseCode) {
-        for (Course c: courseList) {
-            if (c.getCourseCode().toString().equals(courseCode)) {
-                return true;
-            }
-        }
-        return false;
+        return coursesByCode.containsKey(courseCode.toLowerCase());
     }
 
     /**
@@ -64,8 +134,12 @@ public class CourseManager {
      * @param newCourse
      */
     public void updateCourse(Course oldCourse, Course newCourse) {
-        courseList.set(courseList.indexOf(oldCourse), newCourse);
-
+        Course replaced = courseList.set(courseList.indexOf(oldCourse), newCourse);
+        reindex(getKey(oldCourse));
+        reindex(getKey(newCourse));
+        XmlAdaptedCourse record = new XmlAdaptedCourse(newCourse);
+        StorageController.replaceRecord(Dataset.COURSES, storedRecords.remove(replaced), record);
+        storedRecords.put(newCourse, record);
     }
 
     /**
@@ -73,6 +147,9 @@ public class CourseManager {
      */
     public void clearAll() {
         courseList = new ArrayList<Course>();
+        coursesByCode.clear();
+        storedRecords.clear();
+        StorageController.setCourseStorage(new ArrayList<>());
     }
 
     public String getTableRepresentation() {
@@ -93,23 +170,13 @@ public class CourseManager {
         return sb.toString();
     }
     public Course getCourse(String courseCode) {
-        for (Course c: courseList) {
-            if (courseCode.equalsIgnoreCase(c.getCourseCode().toString())) {
-                return c;
-            }
-        }
-
-        return null;
-
+        return coursesByCode.get(courseCode.toLowerCase());
     }
 
     /**
      * Saves all courses currently in memory to file.
      */
     public void saveCourseList() {
-        ArrayList<XmlAdaptedCourse> xmlAdaptedCourses =
-                courseList.stream().map(XmlAdaptedCourse::new).collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setCourseStorage(xmlAdaptedCourses);
         StorageController.storeData();
     }
 
@@ -118,8 +185,39 @@ public class CourseManager {
         return courseList;
     }
 
+    /**
+     * Replaces all courses with {@code courses}.
+     */
     public void setCourses(ArrayList<Course> courses) {
         this.courseList = courses;
+        coursesByCode.clear();
+        storedRecords.clear();
+        ArrayList<XmlAdaptedCourse> records = new ArrayList<>();
+        for (Course course : courses) {
+            coursesByCode.putIfAbsent(getKey(course), course);
+            XmlAdaptedCourse record = new XmlAdaptedCourse(course);
+            storedRecords.put(course, record);
+            records.add(record);
+        }
+        StorageController.setCourseStorage(records);
+    }
+
+
+    /**
+     * Points the index entry of {@code key} to the first course with that key, or removes it if there is none.
+     */
+    private void reindex(String key) {
+        coursesByCode.remove(key);
+        for (Course c : courseList) {
+            if (getKey(c).equals(key)) {
+                coursesByCode.put(key, c);
+                return;
+            }
+        }
+    }
+
+    private static String getKey(Course course) {
+        return course.getCourseCode().toString().toLowerCase();
     }
 
     public String getOrderedByCourseRepresentation() {
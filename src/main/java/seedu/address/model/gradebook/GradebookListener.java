@@ -0,0 +1,33 @@
+package seedu.address.model.gradebook;
+
+/**
+ * Listens to changes to the gradebook components held by the {@link GradebookManager}.
+ * Every method does nothing by default, so that listeners only handle the changes they depend on.
+ */
+public interface GradebookListener {
+
+    /**
+     * Called after {@code component} is added.
+     */
+    default void onComponentAdded(Gradebook component) {}
+
+    /**
+     * Called after {@code component} is removed.
+     */
+    default void onComponentRemoved(Gradebook component) {}
+
+    /**
+     * Called after the component {@code oldName} of the module with {@code moduleCode} is renamed to {@code newName}.
+     */
+    default void onComponentRenamed(String moduleCode, String oldName, String newName) {}
+
+    /**
+     * Called after the maximum marks or weightage of {@code component} change.
+     */
+    default void onComponentUpdated(Gradebook component) {}
+
+    /**
+     * Called after every component is replaced, such as when the components are cleared or reloaded.
+     */
+    default void onGradebookReset() {}
+}
@@ -2,54 +2,265 @@ package seedu.address.model.gradebook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import seedu.address.model.DatasetChange;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
+import seedu.address.model.StorageController.Dataset;
 import seedu.address.storage.adapter.XmlAdaptedGradebook;
+import seedu.address.storage.serializable.XmlSerializableGradebookList;
 import seedu.address.ui.HtmlTableProcessor;
 
 /**
  * The API of the GradebookManager component.
+ * Gradebook components are kept in the order they were added, keyed by module code and component name, together
+ * with the total weightage of each module. Changes to the components are published to {@link GradebookListener}s,
+ * and passed on to the storage-layer through the record stored for the component changed.
  */
 public class GradebookManager {
-    private ArrayList<Gradebook> gradebooks = new ArrayList<>();
+    private static GradebookManager instance;
 
-    public GradebookManager() {
+    private final Map<List<String>, Gradebook> gradebooksByKey = new LinkedHashMap<>();
+    private final Map<String, Integer> weightageByModule = new HashMap<>();
+    private final List<GradebookListener> listeners = new ArrayList<>();
+    private final Map<Gradebook, XmlAdaptedGradebook> storedRecords = new IdentityHashMap<>();
+
+    private GradebookManager() {
         readGradebookComponentsList();
     }
+
+    public static GradebookManager getInstance() {
+        if (instance == null) {
+            instance = new GradebookManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers {@code listener} to be notified of changes to the gradebook components.
+     */
+    public void addListener(GradebookListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the gradebook components in the order they were added.
+     */
     public ArrayList<Gradebook> getGradebooks() {
-        return gradebooks;
+        return new ArrayList<>(gradebooksByKey.values());
     }
 
     /**
      * Gets gradebook component list from storage and converts it to a Gradebook array list
      */
     private void readGradebookComponentsList() {
-        ArrayList<XmlAdaptedGradebook> xmlGradebookList = StorageController.getGradebookStorage();
-        for (XmlAdaptedGradebook xmlGradebook : xmlGradebookList) {
-            gradebooks.add(xmlGradebook.toGradebookType());
+        RecordConverter.convertEach("gradebook", StorageController.getGradebookStorage(),
+                XmlSerializableGradebookList.CODEC, XmlAdaptedGradebook::toGradebookType, this::loadComponent);
+    }
+
+    /**
+     * Adds {@code gradebook}, read from {@code record} in storage, unless a component with the same key exists.
+     */
+    private void loadComponent(XmlAdaptedGradebook record, Gradebook gradebook) {
+        if (index(gradebook)) {
+            storedRecords.put(gradebook, record);
+        }
+    }
+
+    /**
+     * Replaces the gradebook components with those currently in storage.
+     */
+    public void reloadGradebookList() {
+        gradebooksByKey.clear();
+        weightageByModule.clear();
+        storedRecords.clear();
+        readGradebookComponentsList();
+        listeners.forEach(GradebookListener::onGradebookReset);
+    }
+
+    /**
+     * Applies {@code change}, already made to the gradebook components in storage, to the components in memory
+     * without passing it on again. A component replaced by one with the same key keeps its place.
+     * Listeners are told that the components removed or added were updated, so that the grades of the components
+     * are reweighed without being removed, as the grades are changed by changes of their own.
+     */
+    public void applyStoredChange(DatasetChange change) {
+        Map<List<String>, Gradebook> removed = new HashMap<>();
+        for (Object record : change.getRemoved()) {
+            XmlAdaptedGradebook removedRecord = (XmlAdaptedGradebook) record;
+            List<String> key = getKey(removedRecord.getModuleCode(), removedRecord.getGradeComponentName());
+            Gradebook gradebook = gradebooksByKey.get(key);
+            if (gradebook != null && removedRecord.equals(storedRecords.get(gradebook))) {
+                removed.put(key, gradebook);
+            }
+        }
+        List<Gradebook> changed = new ArrayList<>();
+        List<XmlAdaptedGradebook> added = change.getAddedRecords();
+        RecordConverter.convertEach("gradebook", added, change.getIndex(), XmlSerializableGradebookList.CODEC,
+                XmlAdaptedGradebook::toGradebookType, (index, record, gradebook) ->
+                        insertComponent(index, record, gradebook, removed, changed));
+        for (Gradebook gradebook : removed.values()) {
+            unindex(gradebook);
+            storedRecords.remove(gradebook);
+            changed.add(gradebook);
+        }
+        for (Gradebook gradebook : changed) {
+            listeners.forEach(listener -> listener.onComponentUpdated(gradebook));
         }
     }
 
     /**
-     * Converts the Gradebook array list and invokes the StorageController to save the current gradebook list to file.
+     * Adds {@code gradebook}, read from {@code record} at {@code index} of storage, in place of the component with
+     * the same key in {@code removed}, or else at the same index of the components unless a component with the same
+     * key exists. The component added is added to {@code changed}.
+     */
+    private void insertComponent(int index, XmlAdaptedGradebook record, Gradebook gradebook,
+            Map<List<String>, Gradebook> removed, List<Gradebook> changed) {
+        List<String> key = getKey(gradebook.getModuleCode(), gradebook.getGradeComponentName());
+        Gradebook previous = removed.remove(key);
+        if (previous != null) {
+            gradebooksByKey.put(key, gradebook);
+            weightageByModule.merge(gradebook.getModuleCode(),
+                    gradebook.getGradeComponentWeightage() - previous.getGradeComponentWeightage(), Integer::sum);
+            storedRecords.remove(previous);
+        } else if (!indexAt(index, gradebook)) {
+            return;
+        }
+        storedRecords.put(gradebook, record);
+        changed.add(gradebook);
+    }
+
+    /**
+     * Adds {@code gradebook} to the index at {@code position} of the components, or at the end if there are fewer
+     * components, unless a component with the same key exists. The index keeps the order of the components, so the
+     * components are indexed again around a component added before the end.
+     * @return True if the component was added.
+     */
+    private boolean indexAt(int position, Gradebook gradebook) {
+        if (position >= gradebooksByKey.size()) {
+            return index(gradebook);
+        }
+        if (findGradebookComponent(gradebook.getModuleCode(), gradebook.getGradeComponentName()) != null) {
+            return false;
+        }
+        List<Gradebook> gradebooks = getGradebooks();
+        gradebooks.add(position, gradebook);
+        gradebooksByKey.clear();
+        for (Gradebook component : gradebooks) {
+            gradebooksByKey.put(getKey(component.getModuleCode(), component.getGradeComponentName()), component);
+        }
+        weightageByModule.merge(gradebook.getModuleCode(), gradebook.getGradeComponentWeightage(), Integer::sum);
+        return true;
+    }
+
+    /**
+     * Invokes the StorageController to save the changes made to the gradebook components to file.
      */
     public void saveGradebookList() {
-        ArrayList<XmlAdaptedGradebook> xmlAdaptedGradebooks =
-                gradebooks.stream().map(XmlAdaptedGradebook::new).collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setGradebookStorage(xmlAdaptedGradebooks);
         StorageController.storeData();
     }
 
+    /**
+     * Removes every gradebook component.
+     */
     public void clearGradebook() {
-        gradebooks.clear();
+        gradebooksByKey.clear();
+        weightageByModule.clear();
+        storedRecords.clear();
+        StorageController.setGradebookStorage(new ArrayList<>());
+        listeners.forEach(GradebookListener::onGradebookReset);
     }
 
     /**
      This method adds gradebook component to a module in Trajectory.
+     A component with the same module code and name as an existing component is not added.
      */
     public void addGradebookComponent (Gradebook gradebook) {
-        gradebooks.add(gradebook);
+        if (index(gradebook)) {
+            storeRecord(gradebook);
+            listeners.forEach(listener -> listener.onComponentAdded(gradebook));
+        }
+    }
+
+    /**
+     This method edits gradebook component of a module in Trajectory.
+     Only a non-empty new component name and non-zero maximum marks and weightage are applied.
+     */
+    public void editGradebookComponent (Gradebook gradebook, String newComponentName, int maxMarks, int weightage) {
+        String moduleCode = gradebook.getModuleCode();
+        String oldComponentName = gradebook.getGradeComponentName();
+        boolean isRenamed = !newComponentName.equals("") && !newComponentName.equals(oldComponentName);
+        boolean isUpdated = maxMarks != 0 || weightage != 0;
+
+        if (isRenamed) {
+            unindex(gradebook);
+            gradebook.setGradeComponentName(newComponentName);
+            index(gradebook);
+        }
+        if (maxMarks != 0) {
+            gradebook.setgradebookMaxMarks(maxMarks);
+        }
+        if (weightage != 0) {
+            weightageByModule.merge(moduleCode, weightage - gradebook.getGradeComponentWeightage(), Integer::sum);
+            gradebook.setgradebookWeightage(weightage);
+        }
+
+        if (isRenamed) {
+            // a renamed component moves to the end of the components, as it is indexed again
+            StorageController.removeRecord(Dataset.GRADEBOOK, storedRecords.remove(gradebook));
+            storeRecord(gradebook);
+            listeners.forEach(listener -> listener.onComponentRenamed(moduleCode, oldComponentName, newComponentName));
+        } else if (isUpdated) {
+            XmlAdaptedGradebook record = new XmlAdaptedGradebook(gradebook);
+            StorageController.replaceRecord(Dataset.GRADEBOOK, storedRecords.put(gradebook, record), record);
+        }
+        if (isUpdated) {
+            listeners.forEach(listener -> listener.onComponentUpdated(gradebook));
+        }
+    }
+
+    /**
+     * Adds {@code gradebook} to the index unless a component with the same key exists.
+     * @return True if the component was added.
+     */
+    private boolean index(Gradebook gradebook) {
+        if (gradebooksByKey.putIfAbsent(getKey(gradebook.getModuleCode(), gradebook.getGradeComponentName()),
+                gradebook) != null) {
+            return false;
+        }
+        weightageByModule.merge(gradebook.getModuleCode(), gradebook.getGradeComponentWeightage(), Integer::sum);
+        return true;
+    }
+
+    /**
+     * Removes {@code gradebook} from the index.
+     * @return True if the component was in the index.
+     */
+    private boolean unindex(Gradebook gradebook) {
+        if (!gradebooksByKey.remove(getKey(gradebook.getModuleCode(), gradebook.getGradeComponentName()),
+                gradebook)) {
+            return false;
+        }
+        weightageByModule.merge(gradebook.getModuleCode(), -gradebook.getGradeComponentWeightage(), Integer::sum);
+        return true;
+    }
+
+    /**
+     * Adds the record of {@code gradebook}, a component just indexed, to the end of the stored components.
+     */
+    private void storeRecord(Gradebook gradebook) {
+        XmlAdaptedGradebook record = new XmlAdaptedGradebook(gradebook);
+        storedRecords.put(gradebook, record);
+        StorageController.addRecord(Dataset.GRADEBOOK, record);
+    }
+
+    private static List<String> getKey(String moduleCode, String gradebookComponentName) {
+        return Arrays.asList(moduleCode, gradebookComponentName);
     }
 
     /**
@@ -81,28 +292,24 @@ public class GradebookManager {
      This method gets size of gradebook.
      */
     public int getGradebookSize () {
-        int count = getGradebooks().size();
-        return count;
+        return gradebooksByKey.size();
     }
 
     /**
      This method deletes gradebook component to a module in Trajectory.
      */
     public void deleteGradebookComponent (Gradebook gradebook) {
-        gradebooks.remove(gradebook);
+        if (unindex(gradebook)) {
+            StorageController.removeRecord(Dataset.GRADEBOOK, storedRecords.remove(gradebook));
+            listeners.forEach(listener -> listener.onComponentRemoved(gradebook));
+        }
     }
 
     /**
      This method finds gradebook component to a module in Trajectory.
      */
     public Gradebook findGradebookComponent (String moduleCode, String gradebookComponentName) {
-        for (Gradebook gradebook : gradebooks) {
-            if (gradebook.getModuleCode().equals(moduleCode)
-                    && gradebook.getGradeComponentName().equals(gradebookComponentName)) {
-                return gradebook;
-            }
-        }
-        return null;
+        return gradebooksByKey.get(getKey(moduleCode, gradebookComponentName));
     }
 
     /**
@@ -193,17 +400,22 @@ public class GradebookManager {
         }
         return isWeightageValid;
     }
+    /**
+     This method gets the total weightage of the gradebook components of a module.
+     */
+    public int getTotalWeightage (String moduleCode) {
+        return weightageByModule.getOrDefault(moduleCode, 0);
+    }
+
     /**
      This method checks if edited weightage adds up to a maximum of 100.
      */
     public boolean hasEditWeightageExceed (String moduleCode, String gradeComponentName, int gradebookWeightage) {
         boolean hasEditWeightageExceed = false;
-        int totalWeightage = 0;
-        for (Gradebook gradebook : gradebooks) {
-            if (gradebook.getModuleCode().equals(moduleCode)
-                    && !gradebook.getGradeComponentName().equals(gradeComponentName)) {
-                totalWeightage += gradebook.getGradeComponentWeightage();
-            }
+        int totalWeightage = weightageByModule.getOrDefault(moduleCode, 0);
+        Gradebook editedGradebook = findGradebookComponent(moduleCode, gradeComponentName);
+        if (editedGradebook != null) {
+            totalWeightage -= editedGradebook.getGradeComponentWeightage();
         }
         if (totalWeightage + gradebookWeightage > 100) {
             hasEditWeightageExceed = true;
@@ -216,12 +428,7 @@ public class GradebookManager {
      */
     public boolean hasAddWeightageExceed (String moduleCode, int gradebookWeightage) {
         boolean hasAddWeightageExceed = false;
-        int totalWeightage = 0;
-        for (Gradebook gradebook : gradebooks) {
-            if (gradebook.getModuleCode().equals(moduleCode)) {
-                totalWeightage += gradebook.getGradeComponentWeightage();
-            }
-        }
+        int totalWeightage = weightageByModule.getOrDefault(moduleCode, 0);
         if (totalWeightage + gradebookWeightage > 100) {
             hasAddWeightageExceed = true;
         }
@@ -233,8 +440,7 @@ public class GradebookManager {
      */
     public boolean hasMarksExceed (String moduleCode, String gradebookComponentName, float studentMarks) {
         boolean isMarksValid = true;
-        GradebookManager gradebookManager = new GradebookManager();
-        Gradebook gradebook = gradebookManager.findGradebookComponent(moduleCode, gradebookComponentName);
+        Gradebook gradebook = findGradebookComponent(moduleCode, gradebookComponentName);
 
         if (studentMarks > gradebook.getGradeComponentMaxMarks()) {
             isMarksValid = false;
@@ -247,8 +453,7 @@ public class GradebookManager {
      This method gets max marks of grade component.
      */
     public int getMaxMarks (String moduleCode, String gradebookComponentName) {
-        GradebookManager gradebookManager = new GradebookManager();
-        Gradebook gradebook = gradebookManager.findGradebookComponent(moduleCode, gradebookComponentName);
+        Gradebook gradebook = findGradebookComponent(moduleCode, gradebookComponentName);
         return gradebook.getGradeComponentMaxMarks();
     }
 
@@ -257,9 +462,7 @@ public class GradebookManager {
      */
     public boolean isGradeComponentValid (String moduleCode, String gradebookComponentName) {
         boolean isGradeComponentValid = true;
-        GradebookManager gradebookManager = new GradebookManager();
-        Gradebook gradebook = gradebookManager.findGradebookComponent(moduleCode,
-                gradebookComponentName);
+        Gradebook gradebook = findGradebookComponent(moduleCode, gradebookComponentName);
         if (gradebook == null) {
             isGradeComponentValid = false;
         }
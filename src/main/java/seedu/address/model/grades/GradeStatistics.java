@@ -0,0 +1,183 @@
+package seedu.address.model.grades;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Summarises the marks of one gradebook component, updated as each grade is added or removed.
+ * The count, mean and variance are kept as running values, and the admin no. of the students graded are kept
+ * grouped by their marks in ascending order, which gives the minimum and maximum, exact quantiles and the best and
+ * worst students by walking only as far as needed. Marks are also counted in fixed-width buckets for histograms.
+ */
+public class GradeStatistics {
+    public static final int BUCKET_COUNT = 10;
+    public static final float BUCKET_WIDTH = 10;
+
+    private final NavigableMap<Float, List<String>> adminNosByMarks = new TreeMap<>();
+    private final int[] buckets = new int[BUCKET_COUNT];
+    private int count;
+    private double mean;
+    private double squaredDeviations;
+
+    /**
+     * Adds the {@code marks} of the student with {@code adminNo}.
+     */
+    void add(String adminNo, float marks) {
+        adminNosByMarks.computeIfAbsent(marks, key -> new ArrayList<>()).add(adminNo);
+        buckets[getBucket(marks)]++;
+        count++;
+        double deviation = marks - mean;
+        mean += deviation / count;
+        squaredDeviations += deviation * (marks - mean);
+    }
+
+    /**
+     * Removes the {@code marks} of the student with {@code adminNo}, reversing {@link #add(String, float)}.
+     */
+    void remove(String adminNo, float marks) {
+        List<String> adminNos = adminNosByMarks.get(marks);
+        if (adminNos == null || !adminNos.remove(adminNo)) {
+            return;
+        }
+        if (adminNos.isEmpty()) {
+            adminNosByMarks.remove(marks);
+        }
+        buckets[getBucket(marks)]--;
+        count--;
+        if (count == 0) {
+            mean = 0;
+            squaredDeviations = 0;
+            return;
+        }
+        double previousMean = mean;
+        mean = (previousMean * (count + 1) - marks) / count;
+        squaredDeviations = Math.max(0, squaredDeviations - (marks - mean) * (marks - previousMean));
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the population variance of the marks, or 0 if there are no marks.
+     */
+    public double getVariance() {
+        return count == 0 ? 0 : squaredDeviations / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the lowest marks, or 0 if there are no marks.
+     */
+    public float getMin() {
+        return count == 0 ? 0 : adminNosByMarks.firstKey();
+    }
+
+    /**
+     * Returns the highest marks, or 0 if there are no marks.
+     */
+    public float getMax() {
+        return count == 0 ? 0 : adminNosByMarks.lastKey();
+    }
+
+    /**
+     * Returns the marks at {@code fraction} of the way through the marks in ascending order, by the nearest-rank
+     * method, or 0 if there are no marks. A fraction of 0.5 gives the median.
+     */
+    public float getQuantile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        int rank = Math.max(1, (int) Math.ceil(fraction * count));
+        int seen = 0;
+        for (Map.Entry<Float, List<String>> entry : adminNosByMarks.entrySet()) {
+            seen += entry.getValue().size();
+            if (seen >= rank) {
+                return entry.getKey();
+            }
+        }
+        return adminNosByMarks.lastKey();
+    }
+
+    /**
+     * Returns the percentage of the marks that are at or below {@code marks}, or 0 if there are no marks.
+     */
+    public double getPercentileRank(float marks) {
+        if (count == 0) {
+            return 0;
+        }
+        int atOrBelow = 0;
+        for (List<String> adminNos : adminNosByMarks.headMap(marks, true).values()) {
+            atOrBelow += adminNos.size();
+        }
+        return 100.0 * atOrBelow / count;
+    }
+
+    /**
+     * Returns the admin no. of the {@code n} students with the highest marks, highest first.
+     * Students with the same marks are in the order they were graded.
+     */
+    public List<String> getTop(int n) {
+        return collect(adminNosByMarks.descendingMap(), n);
+    }
+
+    /**
+     * Returns the admin no. of the {@code n} students with the lowest marks, lowest first.
+     * Students with the same marks are in the order they were graded.
+     */
+    public List<String> getBottom(int n) {
+        return collect(adminNosByMarks, n);
+    }
+
+    /**
+     * Returns the number of students with each distinct marks, in ascending order of marks.
+     */
+    public NavigableMap<Float, Integer> getFrequencies() {
+        NavigableMap<Float, Integer> frequencies = new TreeMap<>();
+        adminNosByMarks.forEach((marks, adminNos) -> frequencies.put(marks, adminNos.size()));
+        return frequencies;
+    }
+
+    /**
+     * Returns the number of marks in each of the {@code BUCKET_COUNT} buckets of width {@code BUCKET_WIDTH},
+     * starting from 0. Marks beyond the last bucket are counted in it.
+     */
+    public int[] getHistogram() {
+        return Arrays.copyOf(buckets, BUCKET_COUNT);
+    }
+
+    private static int getBucket(float marks) {
+        return Math.max(0, Math.min(BUCKET_COUNT - 1, (int) (marks / BUCKET_WIDTH)));
+    }
+
+    /**
+     * Returns the first {@code n} admin no. of {@code adminNosByMarks}, in its order.
+     */
+    private static List<String> collect(Map<Float, List<String>> adminNosByMarks, int n) {
+        if (n <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> collected = new ArrayList<>(n);
+        for (List<String> adminNos : adminNosByMarks.values()) {
+            for (String adminNo : adminNos) {
+                if (collected.size() == n) {
+                    return collected;
+                }
+                collected.add(adminNo);
+            }
+        }
+        return collected;
+    }
+}
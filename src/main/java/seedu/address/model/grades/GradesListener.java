@@ -0,0 +1,35 @@
+package seedu.address.model.grades;
+
+/**
+ * Listens to changes to the grades held by the {@link GradesManager}.
+ * Every method does nothing by default, so that listeners only handle the changes they depend on.
+ */
+public interface GradesListener {
+
+    /**
+     * Called after {@code grade} is added.
+     */
+    default void onGradeAdded(Grades grade) {}
+
+    /**
+     * Called after {@code grade} is removed.
+     */
+    default void onGradeRemoved(Grades grade) {}
+
+    /**
+     * Called after every grade of the component {@code componentName} of the module with {@code moduleCode} is
+     * removed.
+     */
+    default void onComponentGradesRemoved(String moduleCode, String componentName) {}
+
+    /**
+     * Called after the grades of the component {@code oldName} of the module with {@code moduleCode} are moved to
+     * the component {@code newName}.
+     */
+    default void onComponentGradesRenamed(String moduleCode, String oldName, String newName) {}
+
+    /**
+     * Called after every grade is replaced, such as when the grades are cleared or reloaded.
+     */
+    default void onGradesReset() {}
+}
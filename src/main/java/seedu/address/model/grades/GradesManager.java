@@ -2,54 +2,141 @@ package seedu.address.model.grades;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import javafx.scene.chart.LineChart;
 import javafx.scene.chart.XYChart;
+import seedu.address.commons.util.IntIndexMap;
+import seedu.address.model.DatasetChange;
+import seedu.address.model.EntityRegistry;
+import seedu.address.model.IdRegistry;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
-import seedu.address.model.module.Module;
+import seedu.address.model.StorageController.Dataset;
+import seedu.address.model.gradebook.Gradebook;
+import seedu.address.model.gradebook.GradebookListener;
+import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.exceptions.DuplicateGradeException;
 import seedu.address.model.module.ModuleManager;
-import seedu.address.model.person.Person;
 import seedu.address.storage.adapter.XmlAdaptedGrades;
+import seedu.address.storage.serializable.XmlSerializableGradeList;
 import seedu.address.ui.HtmlTableProcessor;
 
 /**
  * The API of the GradesManager component.
+ * Grades are held by gradebook component and then by student, both by their IDs in the {@link EntityRegistry}.
+ * The order the grades were added in is kept alongside, so they are listed and stored in that order.
+ * The marks of each component are stored as primitive floats, and the module code, component name and admin no. of a
+ * grade are only looked up when the grade is listed.
+ * Changes to the grades are published to {@link GradesListener}s, and the grades of a gradebook component follow the
+ * component when it is renamed or deleted.
+ * The record each grade is stored as is kept with its marks, so each change is passed on to the storage-layer as it
+ * is made.
+ * The weighted score of each student in each module is kept up to date as grades and components change, so results
+ * are not recomputed from every grade when they are asked for.
  */
-public class GradesManager {
-    private ArrayList<Grades> grades = new ArrayList<>();
+public class GradesManager implements GradebookListener {
+    private static GradesManager instance;
 
-    public GradesManager() {
+    private final IdRegistry studentIds = EntityRegistry.getInstance().getStudentIds();
+    private final IdRegistry componentIds = EntityRegistry.getInstance().getComponentIds();
+    private final Map<Integer, ComponentGrades> gradesByComponent = new LinkedHashMap<>();
+    private final GradeOrder gradeOrder = new GradeOrder();
+    private final List<GradesListener> listeners = new ArrayList<>();
+    private final WeightedScores weightedScores = new WeightedScores();
+    private int gradeCount;
+
+    private GradesManager() {
         readGradesList();
+        GradebookManager.getInstance().addListener(this);
+    }
+
+    public static GradesManager getInstance() {
+        if (instance == null) {
+            instance = new GradesManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers {@code listener} to be notified of changes to the grades.
+     */
+    public void addListener(GradesListener listener) {
+        listeners.add(listener);
     }
+
+    /**
+     * Returns the grades in the order they were added.
+     */
     public ArrayList<Grades> getGrades() {
+        ArrayList<Grades> grades = new ArrayList<>(gradeCount);
+        gradeOrder.addTo(grades);
         return grades;
     }
 
     /**
-     * Gets grades list from storage and converts it to a Grade array list
+     * Gets grades list from storage and converts it to a Grade array list.
+     * A grade for a student who already has a grade for the component is quarantined instead of being loaded.
      */
     private void readGradesList() {
-        ArrayList<XmlAdaptedGrades> xmlGradesList = StorageController.getGradeStorage();
-        for (XmlAdaptedGrades xmlGrades : xmlGradesList) {
-            grades.add(xmlGrades.toGradeType());
+        RecordConverter.convertEach("grades", StorageController.getGradeStorage(), XmlSerializableGradeList.CODEC,
+                XmlAdaptedGrades::toGradeType, this::loadGrade);
+    }
+
+    /**
+     * Adds {@code grade}, read from {@code record} in storage, or quarantines the record if the student already has
+     * a grade for the component.
+     */
+    private void loadGrade(XmlAdaptedGrades record, Grades grade) {
+        if (!putGrade(grade, record)) {
+            RecordConverter.quarantine("grades", indexOfRecord(StorageController.getGradeStorage(), record), record,
+                    XmlSerializableGradeList.CODEC, DuplicateGradeException.MESSAGE_DUPLICATE_GRADE);
+        }
+    }
+
+    /**
+     * Returns the position of {@code record} itself, rather than of a record equal to it, in {@code records}.
+     */
+    private static int indexOfRecord(List<XmlAdaptedGrades> records, XmlAdaptedGrades record) {
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i) == record) {
+                return i;
+            }
         }
+        return -1;
+    }
+
+    /**
+     * Replaces the grades with those currently in storage.
+     */
+    public void reloadGradeList() {
+        gradesByComponent.clear();
+        gradeOrder.clear();
+        weightedScores.clear();
+        gradeCount = 0;
+        readGradesList();
+        listeners.forEach(GradesListener::onGradesReset);
     }
 
     /**
-     * Converts the Gradebook array list and invokes the StorageController to save the current gradebook list to file.
+     * Invokes the StorageController to save the changes made to the grades to file.
      */
     public void saveGradeList() {
-        ArrayList<XmlAdaptedGrades> xmlAdaptedGrades =
-                grades.stream().map(XmlAdaptedGrades::new).collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setGradeStorage(xmlAdaptedGrades);
         StorageController.storeData();
     }
 
+    /**
+     * Removes every grade.
+     */
     public void clearGrade() {
-        grades.clear();
+        gradesByComponent.clear();
+        gradeOrder.clear();
+        weightedScores.clear();
+        gradeCount = 0;
+        StorageController.setGradeStorage(new ArrayList<>());
+        listeners.forEach(GradesListener::onGradesReset);
     }
 
     /**
@@ -81,40 +168,219 @@ public class GradesManager {
      This method gets size of grade.
      */
     public int getGradeSize () {
-        int count = getGrades().size();
-        return count;
+        return gradeCount;
+    }
+
+    /**
+     This method adds grade of a student for a grade component to Trajectory.
+     @throws DuplicateGradeException if the student already has a grade for the component.
+     */
+    public void addGrade (Grades grade) throws DuplicateGradeException {
+        XmlAdaptedGrades record = new XmlAdaptedGrades(grade);
+        if (!putGrade(grade, record)) {
+            throw new DuplicateGradeException();
+        }
+        StorageController.addRecord(Dataset.GRADES, record);
+        listeners.forEach(listener -> listener.onGradeAdded(grade));
+    }
+
+    /**
+     * Adds {@code grade}, stored as {@code record}, unless the student already has a grade for the component.
+     * @return True if the grade was added.
+     */
+    private boolean putGrade(Grades grade, XmlAdaptedGrades record) {
+        return putGrade(grade, record, -1);
+    }
+
+    /**
+     * Adds {@code grade}, stored as {@code record}, at {@code position} of the order of the grades, or as the last
+     * grade if {@code position} is negative, unless the student already has a grade for the component.
+     * @return True if the grade was added.
+     */
+    private boolean putGrade(Grades grade, XmlAdaptedGrades record, int position) {
+        String moduleCode = grade.getModuleCode();
+        String componentName = grade.getGradeComponentName();
+        int componentId = componentIds.getOrAssignId(EntityRegistry.getComponentKey(moduleCode, componentName));
+        ComponentGrades component = gradesByComponent.get(componentId);
+        if (component == null) {
+            component = new ComponentGrades(moduleCode, componentName, getWeightPerMark(moduleCode, componentName));
+            gradesByComponent.put(componentId, component);
+        }
+        int studentId = studentIds.getOrAssignId(grade.getAdminNo());
+        if (!component.add(studentId, grade.getAdminNo(), grade.getMarks(), record)) {
+            return false;
+        }
+        if (position < 0) {
+            gradeOrder.add(component, studentId);
+        } else {
+            gradeOrder.insert(position, component, studentId);
+        }
+        weightedScores.add(moduleCode, grade.getAdminNo(), grade.getMarks() * component.weightPerMark, 1);
+        gradeCount++;
+        return true;
+    }
+
+    /**
+     * Applies {@code change}, already made to the grades in storage, to the grades in memory and the statistics and
+     * weighted scores kept with them, without passing it on again.
+     */
+    public void applyStoredChange(DatasetChange change) {
+        for (Object record : change.getRemoved()) {
+            Grades removed = removeGrade((XmlAdaptedGrades) record, change.getIndex());
+            if (removed != null) {
+                listeners.forEach(listener -> listener.onGradeRemoved(removed));
+            }
+        }
+        List<XmlAdaptedGrades> added = change.getAddedRecords();
+        RecordConverter.convertEach("grades", added, change.getIndex(), XmlSerializableGradeList.CODEC,
+                XmlAdaptedGrades::toGradeType, this::insertGrade);
     }
 
     /**
-     This method adds grade component to a module in Trajectory.
+     * Adds {@code grade}, read from {@code record} at {@code index} of storage, at the same position of the order of
+     * the grades, or quarantines the record if the student already has a grade for the component.
      */
-    public void addGrade (Grades grade) {
-        grades.add(grade);
+    private void insertGrade(int index, XmlAdaptedGrades record, Grades grade) {
+        if (!putGrade(grade, record, index)) {
+            RecordConverter.quarantine("grades", index, record, XmlSerializableGradeList.CODEC,
+                    DuplicateGradeException.MESSAGE_DUPLICATE_GRADE);
+            return;
+        }
+        listeners.forEach(listener -> listener.onGradeAdded(grade));
+    }
+
+    /**
+     * Removes the grade stored as {@code record}, which was found at {@code position} of the order of the grades.
+     * A component left without grades is removed too.
+     * @return The grade removed, or null if no grade is stored as {@code record}.
+     */
+    private Grades removeGrade(XmlAdaptedGrades record, int position) {
+        String moduleCode = record.getModuleCode();
+        String componentName = record.getGradeComponentName();
+        ComponentGrades component = getComponentGrades(moduleCode, componentName);
+        int studentId = studentIds.getId(record.getAdminNo());
+        int index = component == null || studentId == IdRegistry.NO_ID ? -1 : component.indexOf(studentId);
+        if (index < 0 || !record.equals(component.records[index])) {
+            return null;
+        }
+        Grades grade = component.get(index);
+        weightedScores.add(moduleCode, grade.getAdminNo(), -grade.getMarks() * component.weightPerMark, -1);
+        component.remove(index);
+        gradeOrder.remove(position, component, studentId);
+        gradeCount--;
+        if (component.size() == 0) {
+            gradesByComponent.remove(componentIds.getId(EntityRegistry.getComponentKey(moduleCode, componentName)));
+        }
+        return grade;
     }
 
     /**
      This method finds grade item.
      */
     public Grades findGrade (String moduleCode, String gradebookComponentName) {
-        for (Grades gradeList : grades) {
-            if (gradeList.getModuleCode().equals(moduleCode)
-                    && gradeList.getGradeComponentName().equals(gradebookComponentName)) {
-                return gradeList;
-            }
+        ComponentGrades component = getComponentGrades(moduleCode, gradebookComponentName);
+        if (component == null) {
+            return null;
         }
-        return null;
+        return component.get(0);
     }
 
     /**
      This method deletes all grades of student if gradebook component is deleted.
      */
     public void deleteGrades (Grades grade) {
-        if (!grades.isEmpty()) {
-            grades.remove(grade);
-            Grades gradeCheck = findGrade(grade.getModuleCode(), grade.getGradeComponentName());
-            if (gradeCheck != null) {
-                deleteGrades(gradeCheck);
+        if (grade == null) {
+            return;
+        }
+        deleteComponentGrades(grade.getModuleCode(), grade.getGradeComponentName());
+    }
+
+    /**
+     * Removes every grade of the component {@code componentName} of the module with {@code moduleCode}.
+     */
+    private void deleteComponentGrades(String moduleCode, String componentName) {
+        int componentId = componentIds.getId(EntityRegistry.getComponentKey(moduleCode, componentName));
+        ComponentGrades component = gradesByComponent.remove(componentId);
+        if (component != null) {
+            for (int i = 0; i < component.size(); i++) {
+                weightedScores.add(moduleCode, component.getAdminNo(i),
+                        -component.getMarks(i) * component.weightPerMark, -1);
+                StorageController.removeRecord(Dataset.GRADES, component.records[i]);
             }
+            gradeCount -= component.size();
+            gradeOrder.removeComponent(component);
+            listeners.forEach(listener -> listener.onComponentGradesRemoved(moduleCode, componentName));
+        }
+    }
+
+    @Override
+    public void onComponentAdded(Gradebook component) {
+        reweigh(component.getModuleCode(), component.getGradeComponentName());
+    }
+
+    @Override
+    public void onComponentUpdated(Gradebook component) {
+        reweigh(component.getModuleCode(), component.getGradeComponentName());
+    }
+
+    @Override
+    public void onGradebookReset() {
+        for (ComponentGrades component : gradesByComponent.values()) {
+            reweigh(component.moduleCode, component.componentName);
+        }
+    }
+
+    /**
+     * Updates the weighted scores of the students graded for the component {@code componentName} of the module with
+     * {@code moduleCode} to the current weightage and maximum marks of the component.
+     */
+    private void reweigh(String moduleCode, String componentName) {
+        ComponentGrades component = getComponentGrades(moduleCode, componentName);
+        if (component == null) {
+            return;
+        }
+        double weightPerMark = getWeightPerMark(moduleCode, componentName);
+        double change = weightPerMark - component.weightPerMark;
+        component.weightPerMark = weightPerMark;
+        for (int i = 0; i < component.size(); i++) {
+            weightedScores.add(moduleCode, component.getAdminNo(i), component.getMarks(i) * change, 0);
+        }
+    }
+
+    /**
+     * Returns the weightage each mark of the component {@code componentName} of the module with {@code moduleCode}
+     * is worth, or 0 if there is no such component.
+     */
+    private static double getWeightPerMark(String moduleCode, String componentName) {
+        Gradebook gradebook = GradebookManager.getInstance().findGradebookComponent(moduleCode, componentName);
+        if (gradebook == null || gradebook.getGradeComponentMaxMarks() == 0) {
+            return 0;
+        }
+        return (double) gradebook.getGradeComponentWeightage() / gradebook.getGradeComponentMaxMarks();
+    }
+
+    @Override
+    public void onComponentRemoved(Gradebook component) {
+        deleteComponentGrades(component.getModuleCode(), component.getGradeComponentName());
+    }
+
+    @Override
+    public void onComponentRenamed(String moduleCode, String oldName, String newName) {
+        int newId = componentIds.getOrAssignId(EntityRegistry.getComponentKey(moduleCode, newName));
+        if (gradesByComponent.containsKey(newId)) {
+            return;
+        }
+        int oldId = componentIds.getId(EntityRegistry.getComponentKey(moduleCode, oldName));
+        ComponentGrades component = gradesByComponent.remove(oldId);
+        if (component != null) {
+            component.componentName = newName;
+            gradesByComponent.put(newId, component);
+            for (int i = 0; i < component.size(); i++) {
+                XmlAdaptedGrades record = new XmlAdaptedGrades(component.get(i));
+                StorageController.replaceRecord(Dataset.GRADES, component.records[i], record);
+                component.records[i] = record;
+            }
+            listeners.forEach(listener -> listener.onComponentGradesRenamed(moduleCode, oldName, newName));
         }
     }
 
@@ -124,19 +390,13 @@ public class GradesManager {
     public void createGraph (LineChart<Number, Number> lineChart, Grades grade) {
         XYChart.Series<Number, Number> series = new XYChart.Series<>();
 
-        // hashmap to store the frequency of element
-        Map<Float, Integer> hashMapOfGrades = new HashMap<>();
-        for (Grades gradesList : grades) {
-            if (gradesList.getModuleCode().equals(grade.getModuleCode())
-                    && gradesList.getGradeComponentName().equals(grade.getGradeComponentName())) {
-                Integer count = hashMapOfGrades.get(gradesList.getMarks());
-                hashMapOfGrades.put(gradesList.getMarks(), (count == null) ? 1 : count + 1);
+        GradeStatistics statistics = getStatistics(grade.getModuleCode(), grade.getGradeComponentName());
+        if (statistics != null) {
+            // the number of students with each marks, from the lowest marks
+            for (Map.Entry<Float, Integer> frequency : statistics.getFrequencies().entrySet()) {
+                series.getData().add(new XYChart.Data<>(frequency.getKey(), frequency.getValue()));
             }
         }
-        // displaying the occurrence of elements in the arraylist
-        for (Map.Entry<Float, Integer> val : hashMapOfGrades.entrySet()) {
-            series.getData().add(new XYChart.Data<>(val.getKey(), val.getValue()));
-        }
         lineChart.getData().add(series);
     }
 
@@ -168,14 +428,13 @@ public class GradesManager {
      This method finds admin no to an assigned grade item in Trajectory.
      */
     public Grades findAdminNo (String moduleCode, String gradebookComponentName, String adminNo) {
-        for (Grades grade : grades) {
-            if (grade.getModuleCode().equals(moduleCode)
-                    && grade.getGradeComponentName().equals(gradebookComponentName)
-                    && grade.getAdminNo().equals(adminNo)) {
-                return grade;
-            }
+        ComponentGrades component = getComponentGrades(moduleCode, gradebookComponentName);
+        int studentId = studentIds.getId(adminNo);
+        if (component == null || studentId == IdRegistry.NO_ID) {
+            return null;
         }
-        return null;
+        int index = component.indexOf(studentId);
+        return index < 0 ? null : component.get(index);
     }
 
     /**
@@ -193,30 +452,247 @@ public class GradesManager {
      This method checks if student is enrolled to module.
      */
     public boolean isStudentEnrolledToModule (String moduleCode, String adminNo) {
-        boolean isStudentEnrolledToModule = false;
-        ModuleManager moduleManager = ModuleManager.getInstance();
-        Module module = moduleManager.getModuleByModuleCode(moduleCode);
-        for (Person personList : module.getEnrolledStudents()) {
-            if (personList.getMatricNo().matricNo.equals(adminNo)) {
-                isStudentEnrolledToModule = true;
-            }
-        }
-        return isStudentEnrolledToModule;
+        return ModuleManager.getInstance().isStudentEnrolledInModule(moduleCode, adminNo);
     }
 
     /**
      This method checks if grades of all students enrolled to module are assigned to grade component.
      */
     public boolean isGradesComplete (String moduleCode, String componentName) {
-        boolean isGradesComplete = true;
-        ModuleManager moduleManager = ModuleManager.getInstance();
-        Module module = moduleManager.getModuleByModuleCode(moduleCode);
-        for (Person personList : module.getEnrolledStudents()) {
-            Grades grade = findAdminNo(moduleCode, componentName, personList.getMatricNo().matricNo);
-            if (grade == null) {
-                isGradesComplete = false;
+        ComponentGrades component = getComponentGrades(moduleCode, componentName);
+        return ModuleManager.getInstance().getEnrolledStudentIds(moduleCode).stream()
+                .allMatch(studentId -> component != null && component.indexOf(studentId) >= 0);
+    }
+
+    /**
+     * Returns the statistics of the marks of the component {@code componentName} of the module with
+     * {@code moduleCode}, or null if no student has been graded for it.
+     */
+    public GradeStatistics getStatistics(String moduleCode, String componentName) {
+        ComponentGrades component = getComponentGrades(moduleCode, componentName);
+        return component == null ? null : component.statistics;
+    }
+
+    /**
+     * Returns the weighted score of the student with {@code adminNo} in the module with {@code moduleCode}, out of
+     * the total weightage of the module's gradebook components, or 0 if the student has no grades in the module.
+     */
+    public double getWeightedScore(String moduleCode, String adminNo) {
+        return weightedScores.getScore(moduleCode, adminNo);
+    }
+
+    /**
+     * Returns the results of the students with grades in the module with {@code moduleCode}, ranked from the
+     * highest weighted score. Students with the same score share a rank and are ordered by admin no.
+     */
+    public List<ModuleResult> getModuleResults(String moduleCode) {
+        return weightedScores.getRanking(moduleCode);
+    }
+
+    /**
+     * Returns the grades of the component {@code componentName} of the module with {@code moduleCode}, or null if
+     * no student has been graded for it.
+     */
+    private ComponentGrades getComponentGrades(String moduleCode, String componentName) {
+        int componentId = componentIds.getId(EntityRegistry.getComponentKey(moduleCode, componentName));
+        return componentId == IdRegistry.NO_ID ? null : gradesByComponent.get(componentId);
+    }
+
+    /**
+     * The grades of one gradebook component, in the order they were added.
+     * The marks, and the records they are stored as, are held in arrays parallel to the IDs of the graded students.
+     * The weightage each mark was last counted with in the weighted scores, and the statistics of the marks, are kept
+     * with them.
+     */
+    private static class ComponentGrades {
+        private static final int INITIAL_CAPACITY = 8;
+
+        private final GradeStatistics statistics = new GradeStatistics();
+        private final IntIndexMap indexByStudentId = new IntIndexMap();
+        private final String moduleCode;
+        private String componentName;
+        private boolean isRemoved;
+        private float[] marks = new float[INITIAL_CAPACITY];
+        private XmlAdaptedGrades[] records = new XmlAdaptedGrades[INITIAL_CAPACITY];
+        private double weightPerMark;
+
+        ComponentGrades(String moduleCode, String componentName, double weightPerMark) {
+            this.moduleCode = moduleCode;
+            this.componentName = componentName;
+            this.weightPerMark = weightPerMark;
+        }
+
+        /**
+         * Adds the marks of the student with {@code studentId} and {@code adminNo}, stored as {@code record}, unless
+         * the student already has marks.
+         * @return True if the marks were added.
+         */
+        boolean add(int studentId, String adminNo, float studentMarks, XmlAdaptedGrades record) {
+            int size = size();
+            if (indexByStudentId.add(studentId) < size) {
+                return false;
+            }
+            if (size == marks.length) {
+                marks = Arrays.copyOf(marks, size * 2);
+                records = Arrays.copyOf(records, size * 2);
+            }
+            marks[size] = studentMarks;
+            records[size] = record;
+            statistics.add(adminNo, studentMarks);
+            return true;
+        }
+
+        /**
+         * Removes the marks at {@code index}, moving the marks after it down by one index.
+         */
+        void remove(int index) {
+            statistics.remove(getAdminNo(index), marks[index]);
+            indexByStudentId.remove(indexByStudentId.keyAt(index));
+            int size = size();
+            System.arraycopy(marks, index + 1, marks, index, size - index);
+            System.arraycopy(records, index + 1, records, index, size - index);
+            records[size] = null;
+        }
+
+        int indexOf(int studentId) {
+            return indexByStudentId.indexOf(studentId);
+        }
+
+        int size() {
+            return indexByStudentId.size();
+        }
+
+        float getMarks(int index) {
+            return marks[index];
+        }
+
+        String getAdminNo(int index) {
+            return EntityRegistry.getInstance().getStudentIds().getKey(indexByStudentId.keyAt(index));
+        }
+
+        Grades get(int index) {
+            return new Grades(moduleCode, componentName, getAdminNo(index), marks[index]);
+        }
+
+    }
+
+    /**
+     * The grades in the order they were added, as the component of each grade and the ID of the student graded.
+     * The grades of a removed component are skipped, and left in place until they make up half of the grades, or
+     * until a grade is inserted or removed by its position.
+     */
+    private static class GradeOrder {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private ComponentGrades[] components = new ComponentGrades[INITIAL_CAPACITY];
+        private int[] studentIds = new int[INITIAL_CAPACITY];
+        private int size;
+        private int removedCount;
+
+        /**
+         * Adds the grade of the student with {@code studentId} for {@code component} as the last grade.
+         */
+        void add(ComponentGrades component, int studentId) {
+            insert(size, component, studentId);
+        }
+
+        /**
+         * Inserts the grade of the student with {@code studentId} for {@code component} at {@code position}, or as
+         * the last grade if there are fewer grades.
+         */
+        void insert(int position, ComponentGrades component, int studentId) {
+            if (position < size && removedCount > 0) {
+                compact();
+            }
+            position = Math.min(position, size);
+            if (size == components.length) {
+                components = Arrays.copyOf(components, size * 2);
+                studentIds = Arrays.copyOf(studentIds, size * 2);
+            }
+            System.arraycopy(components, position, components, position + 1, size - position);
+            System.arraycopy(studentIds, position, studentIds, position + 1, size - position);
+            components[position] = component;
+            studentIds[position] = studentId;
+            size++;
+        }
+
+        /**
+         * Removes the grade of the student with {@code studentId} for {@code component}, which is expected at
+         * {@code position}.
+         */
+        void remove(int position, ComponentGrades component, int studentId) {
+            if (removedCount > 0) {
+                compact();
+            }
+            if (position < 0 || position >= size || components[position] != component
+                    || studentIds[position] != studentId) {
+                position = indexOf(component, studentId);
+                if (position < 0) {
+                    return;
+                }
+            }
+            System.arraycopy(components, position + 1, components, position, size - position - 1);
+            System.arraycopy(studentIds, position + 1, studentIds, position, size - position - 1);
+            size--;
+            components[size] = null;
+        }
+
+        /**
+         * Returns the position of the grade of the student with {@code studentId} for {@code component}, or -1 if
+         * there is none.
+         */
+        private int indexOf(ComponentGrades component, int studentId) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (components[i] == component && studentIds[i] == studentId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Skips the grades of {@code component} from now on, which has been removed.
+         */
+        void removeComponent(ComponentGrades component) {
+            component.isRemoved = true;
+            removedCount += component.size();
+            if (removedCount * 2 > size) {
+                compact();
+            }
+        }
+
+        /**
+         * Drops the grades of removed components.
+         */
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!components[i].isRemoved) {
+                    components[kept] = components[i];
+                    studentIds[kept] = studentIds[i];
+                    kept++;
+                }
+            }
+            Arrays.fill(components, kept, size, null);
+            size = kept;
+            removedCount = 0;
+        }
+
+        void clear() {
+            Arrays.fill(components, 0, size, null);
+            size = 0;
+            removedCount = 0;
+        }
+
+        /**
+         * Adds the grades that are not removed to {@code grades}, in order.
+         */
+        void addTo(List<Grades> grades) {
+            for (int i = 0; i < size; i++) {
+                if (!components[i].isRemoved) {
+                    grades.add(components[i].get(components[i].indexOf(studentIds[i])));
+                }
             }
         }
-        return isGradesComplete;
     }
 }
@@ -0,0 +1,29 @@
+package seedu.address.model.grades;
+
+/**
+ * Represents the weighted score of a student in a module, and its rank among the students graded in the module.
+ * Students with the same score share a rank.
+ */
+public class ModuleResult {
+    private final int rank;
+    private final String adminNo;
+    private final double score;
+
+    public ModuleResult(int rank, String adminNo, double score) {
+        this.rank = rank;
+        this.adminNo = adminNo;
+        this.score = score;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public String getAdminNo() {
+        return adminNo;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model.grades;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.IntIndexMap;
+import seedu.address.model.EntityRegistry;
+import seedu.address.model.IdRegistry;
+
+/**
+ * Keeps the weighted score of each graded student in each module.
+ * A grade contributes its marks scaled by the weightage and maximum marks of its gradebook component, so the score
+ * of a student is the sum of the contributions of their grades. Scores are updated by adding the change in
+ * contribution whenever a grade or component changes, and the ranking of a module is only sorted again after its
+ * scores change.
+ * Modules and students are held by their IDs in the {@link EntityRegistry}.
+ */
+class WeightedScores {
+
+    private final IdRegistry studentIds = EntityRegistry.getInstance().getStudentIds();
+    private final IdRegistry moduleIds = EntityRegistry.getInstance().getModuleIds();
+    private final List<ModuleScores> scoresByModule = new ArrayList<>();
+
+    /**
+     * Adds {@code contribution} to the score of the student with {@code adminNo} in the module with
+     * {@code moduleCode}, and {@code gradeChange} to the number of grades the student has in the module.
+     */
+    void add(String moduleCode, String adminNo, double contribution, int gradeChange) {
+        int moduleId = moduleIds.getOrAssignId(moduleCode);
+        while (scoresByModule.size() <= moduleId) {
+            scoresByModule.add(null);
+        }
+        ModuleScores scores = scoresByModule.get(moduleId);
+        if (scores == null) {
+            scores = new ModuleScores(studentIds);
+            scoresByModule.set(moduleId, scores);
+        }
+        scores.add(studentIds.getOrAssignId(adminNo), contribution, gradeChange);
+    }
+
+    /**
+     * Returns the score of the student with {@code adminNo} in the module with {@code moduleCode}, or 0 if the
+     * student has no grades in the module.
+     */
+    double getScore(String moduleCode, String adminNo) {
+        ModuleScores scores = get(moduleCode);
+        int studentId = studentIds.getId(adminNo);
+        return scores == null || studentId == IdRegistry.NO_ID ? 0 : scores.getScore(studentId);
+    }
+
+    /**
+     * Returns the results of the students with grades in the module with {@code moduleCode}, highest score first.
+     */
+    List<ModuleResult> getRanking(String moduleCode) {
+        ModuleScores scores = get(moduleCode);
+        return scores == null ? Collections.emptyList() : scores.getRanking();
+    }
+
+    void clear() {
+        scoresByModule.clear();
+    }
+
+    /**
+     * Returns the scores of the module with {@code moduleCode}, or null if no student has been graded in it.
+     */
+    private ModuleScores get(String moduleCode) {
+        int moduleId = moduleIds.getId(moduleCode);
+        return moduleId == IdRegistry.NO_ID || moduleId >= scoresByModule.size() ? null : scoresByModule.get(moduleId);
+    }
+
+    /**
+     * The scores of the students graded in one module, held in arrays parallel to the student IDs.
+     */
+    private static class ModuleScores {
+        private static final int INITIAL_CAPACITY = 8;
+        private static final double TIE_TOLERANCE = 1e-9;
+
+        private final IdRegistry studentIds;
+        private final IntIndexMap indexByStudentId = new IntIndexMap();
+        private double[] scores = new double[INITIAL_CAPACITY];
+        private int[] gradeCounts = new int[INITIAL_CAPACITY];
+        private List<ModuleResult> ranking;
+
+        ModuleScores(IdRegistry studentIds) {
+            this.studentIds = studentIds;
+        }
+
+        /**
+         * Adds {@code contribution} to the score of the student with {@code studentId}, and {@code gradeChange} to
+         * their number of grades.
+         */
+        void add(int studentId, double contribution, int gradeChange) {
+            int index = indexByStudentId.add(studentId);
+            if (index == scores.length) {
+                scores = Arrays.copyOf(scores, index * 2);
+                gradeCounts = Arrays.copyOf(gradeCounts, index * 2);
+            }
+            gradeCounts[index] += gradeChange;
+            // a student without grades has no score, whatever rounding the contributions left behind
+            scores[index] = gradeCounts[index] == 0 ? 0 : scores[index] + contribution;
+            ranking = null;
+        }
+
+        double getScore(int studentId) {
+            int index = indexByStudentId.indexOf(studentId);
+            return index < 0 ? 0 : scores[index];
+        }
+
+        List<ModuleResult> getRanking() {
+            if (ranking == null) {
+                ranking = Collections.unmodifiableList(rank());
+            }
+            return ranking;
+        }
+
+        /**
+         * Returns the results of the students with grades, highest score first.
+         */
+        private List<ModuleResult> rank() {
+            int size = indexByStudentId.size();
+            String[] adminNos = new String[size];
+            List<Integer> graded = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                if (gradeCounts[i] > 0) {
+                    adminNos[i] = studentIds.getKey(indexByStudentId.keyAt(i));
+                    graded.add(i);
+                }
+            }
+            graded.sort(Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparing(i -> adminNos[i]));
+
+            List<ModuleResult> results = new ArrayList<>(graded.size());
+            for (int position = 0; position < graded.size(); position++) {
+                int index = graded.get(position);
+                int rank = position + 1;
+                if (position > 0 && scores[graded.get(position - 1)] - scores[index] < TIE_TOLERANCE) {
+                    rank = results.get(position - 1).getRank();
+                }
+                results.add(new ModuleResult(rank, adminNos[index], scores[index]));
+            }
+            return results;
+        }
+    }
+}
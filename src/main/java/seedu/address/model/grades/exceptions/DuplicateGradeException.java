@@ -0,0 +1,13 @@
+package seedu.address.model.grades.exceptions;
+
+/**
+ * Indicates if an operation will result in duplicate grades.
+ * Grades are considered to be duplicates if they are for the same gradebook component and admin no.
+ */
+public class DuplicateGradeException extends RuntimeException {
+    public static final String MESSAGE_DUPLICATE_GRADE = "Student already has a grade for this component";
+
+    public DuplicateGradeException() {
+        super(MESSAGE_DUPLICATE_GRADE);
+    }
+}
@@ -0,0 +1,207 @@
+package seedu.address.model.module;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.EntityRegistry;
+import seedu.address.model.IdRegistry;
+
+/**
+ * Stores which students are enrolled in which modules, keyed by module code and matric no.
+ * Students and modules are stored by their IDs in the {@link EntityRegistry}: the students of each module are a bit
+ * set of student IDs, and the modules of each student a bit set of module IDs. Checking an enrolment is a bit test,
+ * and the matric no. and module codes are only looked up when listing enrolments.
+ * Enrolments are kept in the order they were made, as IDs are assigned when a key is first seen anywhere, not when it
+ * is enrolled.
+ */
+public class EnrolmentStore {
+
+    private final IdRegistry studentIds = EntityRegistry.getInstance().getStudentIds();
+    private final IdRegistry moduleIds = EntityRegistry.getInstance().getModuleIds();
+    private final List<EnrolledIds> studentsByModule = new ArrayList<>();
+    private final List<EnrolledIds> modulesByStudent = new ArrayList<>();
+
+    /**
+     * Enrols the student with {@code matricNo} in the module with {@code moduleCode}.
+     * @return True if the student was not already enrolled in the module.
+     */
+    public boolean enrol(String moduleCode, String matricNo) {
+        requireAllNonNull(moduleCode, matricNo);
+        int moduleId = moduleIds.getOrAssignId(moduleCode);
+        int studentId = studentIds.getOrAssignId(matricNo);
+        if (!getOrCreate(studentsByModule, moduleId).add(studentId)) {
+            return false;
+        }
+        getOrCreate(modulesByStudent, studentId).add(moduleId);
+        return true;
+    }
+
+    /**
+     * Removes the enrolment of the student with {@code matricNo} in the module with {@code moduleCode}.
+     * @return True if the student was enrolled in the module.
+     */
+    public boolean unenrol(String moduleCode, String matricNo) {
+        requireAllNonNull(moduleCode, matricNo);
+        if (!isEnrolled(moduleCode, matricNo)) {
+            return false;
+        }
+        int moduleId = moduleIds.getId(moduleCode);
+        int studentId = studentIds.getId(matricNo);
+        studentsByModule.get(moduleId).remove(studentId);
+        modulesByStudent.get(studentId).remove(moduleId);
+        return true;
+    }
+
+    /**
+     * Returns true if the student with {@code matricNo} is enrolled in the module with {@code moduleCode}.
+     */
+    public boolean isEnrolled(String moduleCode, String matricNo) {
+        EnrolledIds students = get(studentsByModule, moduleIds.getId(moduleCode));
+        int studentId = studentIds.getId(matricNo);
+        return students != null && studentId != IdRegistry.NO_ID && students.ids.get(studentId);
+    }
+
+    /**
+     * Returns the matric no. of the students enrolled in the module with {@code moduleCode}, in the order they were
+     * enrolled, which cannot be modified.
+     */
+    public Set<String> getStudentsOfModule(String moduleCode) {
+        return toKeys(get(studentsByModule, moduleIds.getId(moduleCode)), studentIds);
+    }
+
+    /**
+     * Returns the IDs of the students enrolled in the module with {@code moduleCode}.
+     */
+    public BitSet getStudentIdsOfModule(String moduleCode) {
+        EnrolledIds students = get(studentsByModule, moduleIds.getId(moduleCode));
+        return students == null ? new BitSet() : (BitSet) students.ids.clone();
+    }
+
+    /**
+     * Returns the codes of the modules the student with {@code matricNo} is enrolled in, in the order of enrolment,
+     * which cannot be modified.
+     */
+    public Set<String> getModulesOfStudent(String matricNo) {
+        return toKeys(get(modulesByStudent, studentIds.getId(matricNo)), moduleIds);
+    }
+
+    /**
+     * Removes every enrolment in the module with {@code moduleCode}.
+     */
+    public void removeModule(String moduleCode) {
+        int moduleId = moduleIds.getId(moduleCode);
+        EnrolledIds students = get(studentsByModule, moduleId);
+        if (students != null) {
+            students.ids.stream().forEach(studentId -> modulesByStudent.get(studentId).remove(moduleId));
+            students.clear();
+        }
+    }
+
+    /**
+     * Removes every enrolment of the student with {@code matricNo}.
+     */
+    public void removeStudent(String matricNo) {
+        int studentId = studentIds.getId(matricNo);
+        EnrolledIds modules = get(modulesByStudent, studentId);
+        if (modules != null) {
+            modules.ids.stream().forEach(moduleId -> studentsByModule.get(moduleId).remove(studentId));
+            modules.clear();
+        }
+    }
+
+    /**
+     * Removes every enrolment.
+     */
+    public void clear() {
+        studentsByModule.clear();
+        modulesByStudent.clear();
+    }
+
+    /**
+     * Returns the enrolled IDs at {@code id}, or null if there are none.
+     */
+    private static EnrolledIds get(List<EnrolledIds> index, int id) {
+        return id == IdRegistry.NO_ID || id >= index.size() ? null : index.get(id);
+    }
+
+    private static EnrolledIds getOrCreate(List<EnrolledIds> index, int id) {
+        while (index.size() <= id) {
+            index.add(null);
+        }
+        if (index.get(id) == null) {
+            index.set(id, new EnrolledIds());
+        }
+        return index.get(id);
+    }
+
+    /**
+     * Returns the keys in {@code registry} of {@code enrolled}, in the order they were enrolled.
+     */
+    private static Set<String> toKeys(EnrolledIds enrolled, IdRegistry registry) {
+        if (enrolled == null) {
+            return Collections.emptySet();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < enrolled.size; i++) {
+            keys.add(registry.getKey(enrolled.order[i]));
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * The IDs enrolled on one side of an enrolment, as a bit set for lookups and an array in the order they were
+     * enrolled for listing. Removing an ID shifts the IDs enrolled after it, which is cheap as a module has at most a
+     * few hundred students and a student a few modules.
+     */
+    private static class EnrolledIds {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final BitSet ids = new BitSet();
+        private int[] order = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Adds {@code id} after the IDs already enrolled.
+         * @return True if {@code id} was not already enrolled.
+         */
+        boolean add(int id) {
+            if (ids.get(id)) {
+                return false;
+            }
+            ids.set(id);
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+            }
+            order[size++] = id;
+            return true;
+        }
+
+        /**
+         * Removes {@code id}, keeping the order of the other IDs.
+         */
+        void remove(int id) {
+            if (!ids.get(id)) {
+                return;
+            }
+            ids.clear(id);
+            int index = 0;
+            while (order[index] != id) {
+                index++;
+            }
+            System.arraycopy(order, index + 1, order, index, size - index - 1);
+            size--;
+        }
+
+        void clear() {
+            ids.clear();
+            size = 0;
+        }
+    }
+}
@@ -1,28 +1,23 @@
 package seedu.address.model.module;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-import seedu.address.model.person.Person;
-
 /**
- * Represents a module in Trajectory
+ * Represents a module in Trajectory.
+ * The students enrolled in a module are kept by the {@link ModuleManager}.
  */
 public class Module {
     private ModuleCode moduleCode;
     private ModuleName moduleName;
     private Set<Module> prerequisites;
-    private ArrayList<Person> students;
 
     public Module(ModuleCode moduleCode, ModuleName moduleName) {
         this.moduleCode = moduleCode;
         this.moduleName = moduleName;
 
         this.prerequisites = new HashSet<>();
-        this.students = new ArrayList<>();
     }
 
     public ModuleCode getModuleCode() {
@@ -41,22 +36,6 @@ public class Module {
         return Collections.unmodifiableSet(prerequisites);
     }
 
-    /**
-     * Returns an immutable list of enrolled students, which throws
-     * {@code UnsupportedOperationException} if modification is attempted.
-     */
-    public List<Person> getEnrolledStudents() {
-        return Collections.unmodifiableList(students);
-    }
-
-    public void addStudent(Person student) {
-        this.students.add(student);
-    }
-
-    public void removeStudent(Person student) {
-        this.students.remove(student);
-    }
-
     /**
      * Returns true if both modules have the same module code and name.
      * This defines a weaker notion of equality between two modules.
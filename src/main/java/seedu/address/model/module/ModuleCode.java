@@ -3,6 +3,9 @@ package seedu.address.model.module;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a module code of a Module in Trajectory
  * Guarantees: immutable; is valid as declared in {@link #isValidModuleCode(String)}
@@ -22,6 +25,8 @@ public class ModuleCode {
      */
     private static final String MODULE_CODE_VALIDATION_REGEX = "^[A-Z]{2,3}[1-9][0-9]{3}[A-Z]?$";
 
+    private static final Interner<ModuleCode> INTERNER = new Interner<>();
+
     public final String moduleCode;
 
     /**
@@ -34,6 +39,14 @@ public class ModuleCode {
         this.moduleCode = moduleCode;
     }
 
+    /**
+     * Returns the canonical {@code ModuleCode} for {@code moduleCode}, so that equal module codes share one instance.
+     * @param moduleCode has to be a valid module code.
+     */
+    public static ModuleCode of(String moduleCode) {
+        return INTERNER.intern(new ModuleCode(StringUtil.intern(moduleCode)));
+    }
+
     /**
      * Returns true if the input is a valid module code
      */
@@ -52,4 +65,9 @@ public class ModuleCode {
                 || (other instanceof ModuleCode // instanceof handles nulls
                 && moduleCode.equals(((ModuleCode) other).moduleCode)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return moduleCode.hashCode();
+    }
 }
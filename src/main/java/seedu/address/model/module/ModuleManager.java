@@ -5,26 +5,41 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.DatasetChange;
+import seedu.address.model.EntityRegistry;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
+import seedu.address.model.StorageController.Dataset;
 import seedu.address.model.classroom.ClassroomManager;
 import seedu.address.model.module.exceptions.DuplicateModuleException;
 import seedu.address.model.person.Person;
 import seedu.address.model.student.StudentManager;
 import seedu.address.storage.adapter.XmlAdaptedModule;
 import seedu.address.storage.adapter.XmlAdaptedStudentModule;
+import seedu.address.storage.serializable.XmlSerializableModuleList;
+import seedu.address.storage.serializable.XmlSerializableStudentModuleList;
 import seedu.address.ui.HtmlProcessor;
 import seedu.address.ui.HtmlTableProcessor;
 
 /**
  * This module manager stores modules for Trajectory.
+ * It also stores the enrolments of students in modules in an {@link EnrolmentStore}, by their IDs in the
+ * {@link EntityRegistry}. Enrolled students are looked up from the {@link StudentManager} when they are retrieved,
+ * so edits to a student are reflected without updating the enrolments.
+ * The records each module and enrolment are stored as are kept with them, so each change is passed on to the
+ * storage-layer as it is made.
  */
 public class ModuleManager {
 
@@ -33,6 +48,10 @@ public class ModuleManager {
     private static ModuleManager instance;
 
     private ArrayList<Module> modules;
+    private final Map<String, Module> modulesByCode = new HashMap<>();
+    private final EnrolmentStore enrolments = new EnrolmentStore();
+    private final Map<Module, XmlAdaptedModule> storedModules = new IdentityHashMap<>();
+    private final Map<List<String>, XmlAdaptedStudentModule> storedEnrolments = new HashMap<>();
 
     private ModuleManager() {
         modules = new ArrayList<>();
@@ -46,6 +65,68 @@ public class ModuleManager {
         return instance;
     }
 
+    /**
+     * Replaces the modules and their enrolments with those currently in storage.
+     */
+    public void reloadModuleList() {
+        clearModulesInMemory();
+        readModuleList();
+    }
+
+    /**
+     * Applies {@code change}, already made to the modules or enrolments in storage, to those in memory without passing
+     * it on again. The enrolments and classrooms of a module are changed by changes of their own, so they are left
+     * as they are when a module is removed.
+     */
+    public void applyStoredChange(DatasetChange change) {
+        if (change.getDataset() == Dataset.STUDENT_MODULE) {
+            applyStoredEnrolmentChange(change);
+            return;
+        }
+        for (Object record : change.getRemoved()) {
+            int index = RecordConverter.indexOfModel(modules, storedModules, record, change.getIndex());
+            if (index >= 0) {
+                Module removed = modules.remove(index);
+                storedModules.remove(removed);
+                modulesByCode.remove(removed.getModuleCode().moduleCode, removed);
+            }
+        }
+        List<XmlAdaptedModule> added = change.getAddedRecords();
+        RecordConverter.convertEach("modules", added, change.getIndex(), XmlSerializableModuleList.CODEC,
+                XmlAdaptedModule::toModelType, this::insertModule);
+    }
+
+    /**
+     * Inserts {@code module}, read from {@code record} at {@code index} of storage, at the same index of the in-memory
+     * array list, or at the end if there are fewer modules.
+     */
+    private void insertModule(int index, XmlAdaptedModule record, Module module) {
+        modules.add(Math.min(index, modules.size()), module);
+        modulesByCode.putIfAbsent(module.getModuleCode().moduleCode, module);
+        storedModules.put(module, record);
+    }
+
+    /**
+     * Applies {@code change}, already made to the enrolments in storage, to the enrolments in memory.
+     */
+    private void applyStoredEnrolmentChange(DatasetChange change) {
+        for (Object record : change.getRemoved()) {
+            XmlAdaptedStudentModule enrolment = (XmlAdaptedStudentModule) record;
+            List<String> key = getEnrolmentKey(enrolment.getModuleCode(), enrolment.getStudentMatricNo());
+            if (storedEnrolments.remove(key, enrolment)) {
+                enrolments.unenrol(enrolment.getModuleCode(), enrolment.getStudentMatricNo());
+            }
+        }
+        for (Object record : change.getAdded()) {
+            XmlAdaptedStudentModule enrolment = (XmlAdaptedStudentModule) record;
+            String moduleCode = StringUtil.intern(enrolment.getModuleCode());
+            String matricNo = StringUtil.intern(enrolment.getStudentMatricNo());
+            if (enrolments.enrol(moduleCode, matricNo)) {
+                storedEnrolments.put(getEnrolmentKey(moduleCode, matricNo), enrolment);
+            }
+        }
+    }
+
     /**
      * Adds a new module to the in-memory array list
      */
@@ -54,6 +135,10 @@ public class ModuleManager {
             throw new DuplicateModuleException();
         }
         modules.add(module);
+        modulesByCode.put(module.getModuleCode().moduleCode, module);
+        XmlAdaptedModule record = new XmlAdaptedModule(module);
+        storedModules.put(module, record);
+        StorageController.addRecord(Dataset.MODULES, record);
     }
 
     /**
@@ -65,7 +150,26 @@ public class ModuleManager {
 
         int targetIndex = modules.indexOf(target);
 
-        modules.set(targetIndex, editedModule);
+        Module replaced = modules.set(targetIndex, editedModule);
+        XmlAdaptedModule record = new XmlAdaptedModule(editedModule);
+        StorageController.replaceRecord(Dataset.MODULES, storedModules.remove(replaced), record);
+        storedModules.put(editedModule, record);
+
+        String targetCode = target.getModuleCode().moduleCode;
+        String editedCode = editedModule.getModuleCode().moduleCode;
+        modulesByCode.remove(targetCode);
+        modulesByCode.put(editedCode, editedModule);
+        if (!targetCode.equals(editedCode)) {
+            for (String matricNo : new ArrayList<>(enrolments.getStudentsOfModule(targetCode))) {
+                if (enrolments.enrol(editedCode, matricNo)) {
+                    XmlAdaptedStudentModule enrolment = new XmlAdaptedStudentModule(matricNo, editedCode);
+                    StorageController.replaceRecord(Dataset.STUDENT_MODULE,
+                            storedEnrolments.remove(getEnrolmentKey(targetCode, matricNo)), enrolment);
+                    storedEnrolments.put(getEnrolmentKey(editedCode, matricNo), enrolment);
+                }
+            }
+            removeEnrolmentsOfModule(targetCode);
+        }
     }
 
     /**
@@ -73,94 +177,162 @@ public class ModuleManager {
      * rely on {@code Module}.
      */
     public void deleteModule(Module toDelete) {
-        modules.remove(toDelete);
+        int index = modules.indexOf(toDelete);
+        if (index >= 0) {
+            StorageController.removeRecord(Dataset.MODULES, storedModules.remove(modules.remove(index)));
+        }
+        modulesByCode.remove(toDelete.getModuleCode().moduleCode);
+        removeEnrolmentsOfModule(toDelete.getModuleCode().moduleCode);
         ClassroomManager.getInstance().handleModuleDeletedByModuleCode(toDelete.getModuleCode().moduleCode);
     }
 
+    /**
+     * Enrols {@code student} in {@code module}.
+     */
     public void enrolStudentInModule(Module module, Person student) {
-        module.addStudent(student);
+        String moduleCode = module.getModuleCode().moduleCode;
+        String matricNo = student.getMatricNo().matricNo;
+        if (enrolments.enrol(moduleCode, matricNo)) {
+            XmlAdaptedStudentModule record = new XmlAdaptedStudentModule(matricNo, moduleCode);
+            storedEnrolments.put(getEnrolmentKey(moduleCode, matricNo), record);
+            StorageController.addRecord(Dataset.STUDENT_MODULE, record);
+        }
     }
 
+    /**
+     * Removes the enrolment of {@code student} in {@code module}.
+     */
     public void removeStudentFromModule(Module module, Person student) {
-        module.removeStudent(student);
+        String moduleCode = module.getModuleCode().moduleCode;
+        String matricNo = student.getMatricNo().matricNo;
+        if (enrolments.unenrol(moduleCode, matricNo)) {
+            StorageController.removeRecord(Dataset.STUDENT_MODULE,
+                    storedEnrolments.remove(getEnrolmentKey(moduleCode, matricNo)));
+        }
     }
 
     public boolean isStudentEnrolledInModule(Module module, Person student) {
-        return module.getEnrolledStudents().stream().anyMatch(s -> s.equals(student));
+        return isStudentEnrolledInModule(module.getModuleCode().moduleCode, student.getMatricNo().matricNo);
     }
 
     /**
      * Overload for {@link #isStudentEnrolledInModule(Module, Person)} to accept {@code String} inputs.
-     * The module code and matric no. must be validated before calling this method, otherwise
-     * there is a risk of a {@code NullPointerException} being thrown.
      */
     public boolean isStudentEnrolledInModule(String moduleCode, String matricNo) {
-        Module module = getModuleByModuleCode(moduleCode);
-        Person student = StudentManager.getInstance().retrieveStudentByMatricNo(matricNo);
-        return isStudentEnrolledInModule(module, student);
+        return enrolments.isEnrolled(moduleCode, matricNo);
+    }
+
+    /**
+     * Returns the students enrolled in {@code module}, in the order they were enrolled.
+     */
+    public List<Person> getEnrolledStudents(Module module) {
+        StudentManager studentManager = StudentManager.getInstance();
+        List<Person> students = new ArrayList<>();
+        for (String matricNo : enrolments.getStudentsOfModule(module.getModuleCode().moduleCode)) {
+            if (studentManager.doesStudentExistForGivenMatricNo(matricNo)) {
+                students.add(studentManager.retrieveStudentByMatricNo(matricNo));
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns the matric no. of the students enrolled in the module with {@code moduleCode}.
+     */
+    public Set<String> getEnrolledMatricNos(String moduleCode) {
+        return enrolments.getStudentsOfModule(moduleCode);
+    }
+
+    /**
+     * Returns the IDs in the {@link EntityRegistry} of the students enrolled in the module with {@code moduleCode}.
+     */
+    public BitSet getEnrolledStudentIds(String moduleCode) {
+        return enrolments.getStudentIdsOfModule(moduleCode);
+    }
+
+    /**
+     * Returns the modules the student with {@code matricNo} is enrolled in, in the order the student was
+     * enrolled in them.
+     */
+    public List<Module> getModulesOfStudent(String matricNo) {
+        return enrolments.getModulesOfStudent(matricNo).stream()
+                .map(modulesByCode::get)
+                .collect(Collectors.toList());
     }
 
     /**
      * Removes a deleted student from the modules that student was previously enrolled in.
      */
     public void handleStudentDeleted(Person student) {
-        for (Module module : modules) {
-            if (isStudentEnrolledInModule(module, student)) {
-                removeStudentFromModule(module, student);
+        String matricNo = student.getMatricNo().matricNo;
+        for (String moduleCode : enrolments.getModulesOfStudent(matricNo)) {
+            StorageController.removeRecord(Dataset.STUDENT_MODULE,
+                    storedEnrolments.remove(getEnrolmentKey(moduleCode, matricNo)));
+        }
+        enrolments.removeStudent(matricNo);
+    }
+
+    /**
+     * Removes every enrolment in the module with {@code moduleCode}, along with the records not already replaced.
+     */
+    private void removeEnrolmentsOfModule(String moduleCode) {
+        for (String matricNo : enrolments.getStudentsOfModule(moduleCode)) {
+            XmlAdaptedStudentModule record = storedEnrolments.remove(getEnrolmentKey(moduleCode, matricNo));
+            if (record != null) {
+                StorageController.removeRecord(Dataset.STUDENT_MODULE, record);
             }
         }
+        enrolments.removeModule(moduleCode);
+    }
+
+    private static List<String> getEnrolmentKey(String moduleCode, String matricNo) {
+        return Arrays.asList(moduleCode, matricNo);
     }
 
     /**
      * Gets the module list from storage and converts it to a Module array list.
      * Also reads the association data between Student and Module and stores it in-memory in the module.
+     * Associations with a student or module that cannot be found are quarantined.
      */
     private void readModuleList() {
-        ArrayList<XmlAdaptedModule> xmlModuleList = StorageController.getModuleStorage();
-        ArrayList<XmlAdaptedStudentModule> xmlAdaptedStudentModuleList = StorageController.getStudentModuleStorage();
-        try {
-            for (XmlAdaptedModule xmlModule : xmlModuleList) {
-                Module m = xmlModule.toModelType();
-                modules.add(m);
-
-                // Look for associations between this module and any students (i.e. any enrolled students?)
-                for (XmlAdaptedStudentModule xmlStudentModule : xmlAdaptedStudentModuleList) {
-                    if (xmlStudentModule.getModuleCode().equals(m.getModuleCode().moduleCode)) {
-                        Person student = StudentManager.getInstance()
-                                .retrieveStudentByMatricNo(xmlStudentModule.getStudentMatricNo());
-
-                        m.addStudent(student);
-                    }
-                }
+        RecordConverter.convertEach("modules", StorageController.getModuleStorage(),
+                XmlSerializableModuleList.CODEC, XmlAdaptedModule::toModelType, this::loadModule);
+
+        List<XmlAdaptedStudentModule> xmlAdaptedStudentModuleList = StorageController.getStudentModuleStorage();
+        for (int i = 0; i < xmlAdaptedStudentModuleList.size(); i++) {
+            XmlAdaptedStudentModule xmlStudentModule = xmlAdaptedStudentModuleList.get(i);
+            if (!modulesByCode.containsKey(xmlStudentModule.getModuleCode())) {
+                RecordConverter.quarantine("student modules", i, xmlStudentModule,
+                        XmlSerializableStudentModuleList.CODEC, "module not found");
+                continue;
+            }
+            if (!StudentManager.getInstance().doesStudentExistForGivenMatricNo(xmlStudentModule.getStudentMatricNo())) {
+                RecordConverter.quarantine("student modules", i, xmlStudentModule,
+                        XmlSerializableStudentModuleList.CODEC, "student not found");
+                continue;
+            }
+            String moduleCode = StringUtil.intern(xmlStudentModule.getModuleCode());
+            String matricNo = StringUtil.intern(xmlStudentModule.getStudentMatricNo());
+            if (enrolments.enrol(moduleCode, matricNo)) {
+                storedEnrolments.put(getEnrolmentKey(moduleCode, matricNo), xmlStudentModule);
             }
-        } catch (NullPointerException npe) {
-            logger.info("Illegal values found when reading enrolled students: " + npe.getMessage());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found when reading module list: " + ive.getMessage());
         }
     }
 
     /**
-     * Converts the Module array list and invokes the StorageController to save the current module list to file.
-     * Also passes info on the association between Student and Module to be saved to file.
+     * Adds {@code module}, read from {@code record} in storage, to the in-memory array list.
      */
-    public void saveModuleList() {
-        ArrayList<XmlAdaptedModule> xmlAdaptedModules =
-                modules.stream().map(XmlAdaptedModule::new).collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setModuleStorage(xmlAdaptedModules);
-
-        ArrayList<XmlAdaptedStudentModule> xmlAdaptedStudentModuleList = new ArrayList<>();
-        for (Module m : modules) {
-            xmlAdaptedStudentModuleList.addAll(
-                    m.getEnrolledStudents()
-                            .stream()
-                            .map(s -> new XmlAdaptedStudentModule(
-                                    s.getMatricNo().matricNo, m.getModuleCode().moduleCode))
-                            .collect(Collectors.toCollection(ArrayList::new))
-            );
-        }
-        StorageController.setStudentModuleStorage(xmlAdaptedStudentModuleList);
+    private void loadModule(XmlAdaptedModule record, Module module) {
+        modules.add(module);
+        modulesByCode.putIfAbsent(module.getModuleCode().moduleCode, module);
+        storedModules.put(module, record);
+    }
 
+    /**
+     * Invokes the StorageController to save the changes made to the modules and to the association between Student
+     * and Module to file.
+     */
+    public void saveModuleList() {
         StorageController.storeData();
     }
 
@@ -183,10 +355,7 @@ public class ModuleManager {
      * @return The module object that matches the module code, or {@code null} if there isn't a matching module
      */
     public Module getModuleByModuleCode(String moduleCode) {
-        return this.modules.stream()
-                .filter(module -> module.getModuleCode().moduleCode.equals(moduleCode))
-                .findAny()
-                .orElse(null);
+        return modulesByCode.get(moduleCode);
     }
 
     /**
@@ -195,7 +364,7 @@ public class ModuleManager {
      * @return True if the module exists; false otherwise.
      */
     public boolean doesModuleExist(Module module) {
-        return this.modules.stream().anyMatch(m -> m.isSameModule(module));
+        return modulesByCode.containsKey(module.getModuleCode().moduleCode);
     }
 
     /**
@@ -262,10 +431,10 @@ public class ModuleManager {
         StringBuilder studentEntries = new StringBuilder();
 
         // Sort the students by name in alphabetical order
-        List<Person> enrolledStudents = new ArrayList<>(module.getEnrolledStudents());
+        List<Person> enrolledStudents = getEnrolledStudents(module);
         enrolledStudents.sort(Comparator.comparing(s -> s.getName().fullName));
 
-        if (module.getEnrolledStudents().isEmpty()) {
+        if (enrolledStudents.isEmpty()) {
             studentEntries.append("There are no students enrolled in this module.");
         } else {
             studentEntries.append(HtmlProcessor.getOrderedListStart());
@@ -287,8 +456,24 @@ public class ModuleManager {
         return sb.toString();
     }
 
+    /**
+     * Removes every module and enrolment from Trajectory.
+     */
     public void clearModules() {
+        clearModulesInMemory();
+        StorageController.setModuleStorage(new ArrayList<>());
+        StorageController.setStudentModuleStorage(new ArrayList<>());
+    }
+
+    /**
+     * Removes every module and enrolment from memory, leaving the storage-layer as it is.
+     */
+    private void clearModulesInMemory() {
         modules = new ArrayList<>();
+        modulesByCode.clear();
+        enrolments.clear();
+        storedModules.clear();
+        storedEnrolments.clear();
     }
 
     public ArrayList<Module> getModules() {
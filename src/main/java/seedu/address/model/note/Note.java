@@ -1,6 +1,9 @@
 package seedu.address.model.note;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
 
 import seedu.address.model.module.ModuleCode;
 
@@ -17,7 +20,7 @@ public class Note {
     private NoteTime endTime;
     private NoteLocation location;
     private NoteText noteText;
-
+    private NoteRecurrence recurrence;
 
     public Note(ModuleCode moduleCode,
                 NoteTitle title,
@@ -109,6 +112,15 @@ public class Note {
         this.noteText = noteText;
     }
 
+    // Recurrence
+    public NoteRecurrence getRecurrence() {
+        return this.recurrence;
+    }
+
+    public void setRecurrence(NoteRecurrence recurrence) {
+        this.recurrence = recurrence;
+    }
+
     /**
      * Combines LocalDate and LocalTime into LocalDateTime.
      *
@@ -118,6 +130,13 @@ public class Note {
         return LocalDateTime.of(this.startDate.getDate(), this.startTime.getTime());
     }
 
+    /**
+     * Returns the start date and time of the occurrence of this note starting on {@code occurrenceDate}.
+     */
+    public LocalDateTime getStartDateTime(LocalDate occurrenceDate) {
+        return LocalDateTime.of(occurrenceDate, this.startTime.getTime());
+    }
+
     /**
      * Combines LocalDate and LocalTime into LocalDateTime.
      *
@@ -126,4 +145,56 @@ public class Note {
     public LocalDateTime getEndDateTime() {
         return LocalDateTime.of(this.endDate.getDate(), this.endTime.getTime());
     }
+
+    /**
+     * Returns the end date and time of the occurrence of this note starting on {@code occurrenceDate}.
+     */
+    public LocalDateTime getEndDateTime(LocalDate occurrenceDate) {
+        long spanDays = ChronoUnit.DAYS.between(this.startDate.getDate(), this.endDate.getDate());
+        return LocalDateTime.of(occurrenceDate.plusDays(spanDays), this.endTime.getTime());
+    }
+
+    /**
+     * Returns the date the last occurrence of this note could start on.
+     */
+    public LocalDate getLastOccurrenceDate() {
+        return this.recurrence == null
+                ? this.startDate.getDate()
+                : this.recurrence.getLastDate(this.startDate.getDate());
+    }
+
+    /**
+     * Returns the start dates of every occurrence of this note, in order, or nothing if it has no start date.
+     * A note that does not repeat occurs once.
+     */
+    public Stream<LocalDate> getOccurrenceDates() {
+        if (this.startDate == null) {
+            return Stream.empty();
+        }
+        return getCandidateDates(this.startDate.getDate(), getLastOccurrenceDate());
+    }
+
+    /**
+     * Returns the start dates of the occurrences of this note that are on at some time between {@code from} and
+     * {@code to}, in order. The occurrences are generated as the stream is consumed.
+     */
+    public Stream<LocalDate> getOccurrenceDatesBetween(LocalDateTime from, LocalDateTime to) {
+        if (this.startDate == null) {
+            return Stream.empty();
+        }
+        long spanDays = ChronoUnit.DAYS.between(this.startDate.getDate(), this.endDate.getDate());
+        return getCandidateDates(from.toLocalDate().minusDays(spanDays), to.toLocalDate())
+                .filter(date -> NoteDateTime.isOverlapping(getStartDateTime(date), getEndDateTime(date), from, to));
+    }
+
+    /**
+     * Returns the start dates of the occurrences of this note from {@code from} to {@code to}.
+     */
+    private Stream<LocalDate> getCandidateDates(LocalDate from, LocalDate to) {
+        LocalDate firstDate = this.startDate.getDate();
+        if (this.recurrence == null) {
+            return from.isAfter(firstDate) || to.isBefore(firstDate) ? Stream.empty() : Stream.of(firstDate);
+        }
+        return this.recurrence.getDates(firstDate, from, to);
+    }
 }
@@ -46,4 +46,13 @@ public class NoteDateTime {
 
         return result >= 0;
     }
+
+    /**
+     * Returns true if the period from {@code start} to {@code end} overlaps the period from {@code from} to
+     * {@code to}: each starts before the other ends, or both start at the same time.
+     * A period ending when the other starts does not overlap it.
+     */
+    public static boolean isOverlapping(LocalDateTime start, LocalDateTime end, LocalDateTime from, LocalDateTime to) {
+        return start.isBefore(to) && from.isBefore(end) || start.equals(from);
+    }
 }
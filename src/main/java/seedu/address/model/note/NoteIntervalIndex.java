@@ -0,0 +1,255 @@
+package seedu.address.model.note;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * An interval tree of the notes with dates, for finding the notes that are on between two date-times.
+ * Notes are held in a treap ordered by their start date-time, and each node keeps the latest end date-time in its
+ * subtree, so a query skips every subtree that ends before it, or starts after it. Adding and removing a note, and
+ * finding the notes on in a period, take logarithmic time in the number of notes, plus the number of notes found.
+ * A repeating note is held once, spanning from its first occurrence to its last, and its occurrences are only
+ * generated to check the notes whose span overlaps a query.
+ *
+ * Two periods overlap as given by {@link NoteDateTime#isOverlapping}.
+ */
+public class NoteIntervalIndex {
+    private static final long PRIORITY_SEED = 2113;
+
+    private final Map<Note, Node> nodes = new IdentityHashMap<>();
+    private final Random priorities = new Random(PRIORITY_SEED);
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * Adds {@code note} to the index, if it has dates.
+     */
+    public void add(Note note) {
+        requireNonNull(note);
+        if (nodes.containsKey(note) || !hasDates(note)) {
+            return;
+        }
+        Node node = new Node(note, nextSequence++, priorities.nextInt());
+        nodes.put(note, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes {@code note} from the index.
+     */
+    public void remove(Note note) {
+        Node node = nodes.remove(note);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Indexes {@code note} by its current dates and times, in place of those it was indexed with.
+     */
+    public void update(Note note) {
+        remove(note);
+        add(note);
+    }
+
+    /**
+     * Removes every note.
+     */
+    public void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the notes that are on at some time between {@code from} and {@code to}, by start date-time.
+     */
+    public List<Note> getNotesBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Note> notes = new ArrayList<>();
+        collect(root, from, to, notes);
+        return notes;
+    }
+
+    /**
+     * Returns the other notes that overlap an occurrence of {@code note}, in the order of the occurrence they first
+     * overlap and then by start date-time, or an empty list if {@code note} has no dates.
+     */
+    public List<Note> getClashes(Note note) {
+        requireNonNull(note);
+        if (!hasDates(note)) {
+            return new ArrayList<>();
+        }
+        Set<Note> clashes = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Note> orderedClashes = new ArrayList<>();
+        note.getOccurrenceDates().forEach(date -> {
+            for (Note other : getNotesBetween(note.getStartDateTime(date), note.getEndDateTime(date))) {
+                if (other != note && clashes.add(other)) {
+                    orderedClashes.add(other);
+                }
+            }
+        });
+        return orderedClashes;
+    }
+
+    /**
+     * Adds the notes in the subtree at {@code node} that overlap the period from {@code from} to {@code to} to
+     * {@code notes}, in order.
+     */
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, List<Note> notes) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+        collect(node.left, from, to, notes);
+        if (node.start.isAfter(to)) {
+            return;
+        }
+        if (NoteDateTime.isOverlapping(node.start, node.end, from, to)
+                && (node.note.getRecurrence() == null
+                || node.note.getOccurrenceDatesBetween(from, to).findAny().isPresent())) {
+            notes.add(node.note);
+        }
+        collect(node.right, from, to, notes);
+    }
+
+    private static boolean hasDates(Note note) {
+        return note.getStartDate() != null && note.getEndDate() != null;
+    }
+
+    /**
+     * Inserts {@code node} into the subtree at {@code subtree}, and returns the new root of the subtree.
+     */
+    private static Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.updateMaxEnd();
+        return subtree;
+    }
+
+    /**
+     * Deletes {@code node} from the subtree at {@code subtree}, and returns the new root of the subtree.
+     */
+    private static Node delete(Node subtree, Node node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (node.isBefore(subtree)) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+        subtree.updateMaxEnd();
+        return subtree;
+    }
+
+    /**
+     * Merges the subtrees {@code first} and {@code second}, whose nodes are all before those of {@code second}, and
+     * returns the root of the merged subtree.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.updateMaxEnd();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.updateMaxEnd();
+        return second;
+    }
+
+    /**
+     * Rotates the subtree at {@code node} so that its left child becomes its root, and returns the new root.
+     */
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.updateMaxEnd();
+        left.updateMaxEnd();
+        return left;
+    }
+
+    /**
+     * Rotates the subtree at {@code node} so that its right child becomes its root, and returns the new root.
+     */
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.updateMaxEnd();
+        right.updateMaxEnd();
+        return right;
+    }
+
+    /**
+     * A note in the tree, with the start of its first occurrence and the end of its last when it was indexed.
+     * Notes starting at the same time are ordered by when they were added.
+     */
+    private static class Node {
+        private final Note note;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Note note, long sequence, int priority) {
+            this.note = note;
+            this.start = note.getStartDateTime();
+            this.end = note.getEndDateTime(note.getLastOccurrenceDate());
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        boolean isBefore(Node other) {
+            int comparison = start.compareTo(other.start);
+            return comparison < 0 || comparison == 0 && sequence < other.sequence;
+        }
+
+        /**
+         * Recomputes the latest end date-time in the subtree of this node from those of its children.
+         */
+        void updateMaxEnd() {
+            maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -2,26 +2,43 @@ package seedu.address.model.note;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.NoteDeleteCommand;
+import seedu.address.model.DatasetChange;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
+import seedu.address.model.StorageController.Dataset;
 import seedu.address.storage.adapter.CsvAdaptedNote;
 import seedu.address.storage.adapter.XmlAdaptedNote;
+import seedu.address.storage.serializable.XmlSerializableNoteList;
 import seedu.address.ui.HtmlCardProcessor;
 
 /**
  * Represents the in-memory model of the Note data.
+ * The titles and texts of the notes are kept in a {@link NoteSearchIndex}, and the dates of the notes in a
+ * {@link NoteIntervalIndex}, so finding notes by keywords or by date does not scan every note.
+ * Each note added, edited or deleted is passed on to the storage-layer as it is changed, through the record stored
+ * for the note.
  */
 public class NoteManager {
 
     public static final String NOTE_PAGE_IDENTIFIER = "<!-- NOTE -->";
 
+    public static final String MESSAGE_CLASH_WARNING = "Warning: this note clashes with %1$s other note(s):";
+    public static final String MESSAGE_CLASHING_NOTE = "- %1$s (%2$s %3$s to %4$s %5$s)";
+
     private static final Logger logger = LogsCenter.getLogger(NoteManager.class);
 
     private static final ArrayList<String> NOTE_CSV_HEADERS =
@@ -31,14 +48,21 @@ public class NoteManager {
 
     private static final int FILTERED_BY_MODULE_CODE = 1;
     private static final int FILTERED_BY_KEYWORDS = 2;
+    private static final int FILTERED_BY_DATE_RANGE = 3;
     private static final int NO_FILTER = 0;
 
     private static NoteManager noteManager = null;
 
     private ArrayList<Note> notes = new ArrayList<>();
     private List<Note> filteredNotes;
+    private final NoteSearchIndex searchIndex = new NoteSearchIndex();
+    private final NoteIntervalIndex intervalIndex = new NoteIntervalIndex();
+    private final Map<Note, XmlAdaptedNote> storedRecords = new IdentityHashMap<>();
 
     private String currentFilter = "";
+    private List<String> currentKeywords = Collections.emptyList();
+    private LocalDateTime currentFrom;
+    private LocalDateTime currentTo;
     private int currentFilterState = NO_FILTER;
 
     private NoteManager() {
@@ -59,6 +83,11 @@ public class NoteManager {
     public void addNote(Note note) {
         requireNonNull(note);
         notes.add(note);
+        searchIndex.add(note);
+        intervalIndex.add(note);
+        XmlAdaptedNote record = new XmlAdaptedNote(note);
+        storedRecords.put(note, record);
+        StorageController.addRecord(Dataset.NOTES, record);
 
         refreshFilteredNotes();
     }
@@ -71,11 +100,55 @@ public class NoteManager {
         if (index >= filteredNotes.size()) {
             throw new IndexOutOfBoundsException(NoteDeleteCommand.MESSAGE_INVALID_INDEX);
         }
-        notes.remove(getNoteAt(index));
+        Note noteToDelete = getNoteAt(index);
+        notes.remove(noteToDelete);
+        searchIndex.remove(noteToDelete);
+        intervalIndex.remove(noteToDelete);
+        StorageController.removeRecord(Dataset.NOTES, storedRecords.remove(noteToDelete));
 
         refreshFilteredNotes();
     }
 
+    /**
+     * Updates the search and interval indexes and the stored record of {@code note} after it has been edited.
+     */
+    public void updateNote(Note note) {
+        requireNonNull(note);
+        searchIndex.update(note);
+        intervalIndex.update(note);
+        XmlAdaptedNote record = new XmlAdaptedNote(note);
+        StorageController.replaceRecord(Dataset.NOTES, storedRecords.put(note, record), record);
+    }
+
+    /**
+     * Returns the other notes that are on at the same time as {@code note}, by start date and time.
+     */
+    public List<Note> getClashingNotes(Note note) {
+        return intervalIndex.getClashes(note);
+    }
+
+    /**
+     * Returns a warning listing the other notes that are on at the same time as {@code note}, or an empty string if
+     * there are none.
+     */
+    public String getClashWarning(Note note) {
+        List<Note> clashingNotes = getClashingNotes(note);
+        if (clashingNotes.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(String.format(MESSAGE_CLASH_WARNING, clashingNotes.size()));
+        for (Note clashingNote : clashingNotes) {
+            String title = clashingNote.getTitle().toString().trim();
+            sb.append("\n");
+            sb.append(String.format(MESSAGE_CLASHING_NOTE,
+                    title.isEmpty() ? HtmlCardProcessor.CARD_NO_TITLE : title,
+                    clashingNote.getStartDate(), clashingNote.getStartTime(),
+                    clashingNote.getEndDate(), clashingNote.getEndTime()));
+        }
+        return sb.toString();
+    }
+
     public String getHtmlNoteList() {
         StringBuilder sb = new StringBuilder();
 
@@ -107,6 +180,15 @@ public class NoteManager {
                         "From " + note.getStartDate() + " " + note.getStartTime()
                                 + " to " + note.getEndDate() + " " + note.getEndTime()));
             }
+            if (note.getRecurrence() != null) {
+                sb.append(HtmlCardProcessor.renderCardSubtitle(note.getRecurrence().toString()));
+            }
+            if (note.getRecurrence() != null && currentFilterState == FILTERED_BY_DATE_RANGE) {
+                sb.append(HtmlCardProcessor.renderCardSubtitle("On " + note
+                        .getOccurrenceDatesBetween(currentFrom, currentTo)
+                        .map(date -> date.format(NoteDate.DATE_FORMAT))
+                        .collect(Collectors.joining(", "))));
+            }
             sb.append(HtmlCardProcessor.renderCardSubtitle(HtmlCardProcessor
                     .adaptToHtml(note.getLocation().toString())));
             sb.append(HtmlCardProcessor.renderCardText(HtmlCardProcessor
@@ -140,18 +222,27 @@ public class NoteManager {
         }
     }
 
+    /**
+     * Replaces the notes with those currently in storage, keeping the current filter.
+     */
+    public void reloadNoteList() {
+        notes.clear();
+        searchIndex.clear();
+        intervalIndex.clear();
+        storedRecords.clear();
+        readNoteList();
+        refreshFilteredNotes();
+    }
+
     /**
      * Gets the note list from storage and converts it to a Notes array list.
      */
     private void readNoteList() {
-        ArrayList<XmlAdaptedNote> xmlNoteList = StorageController.getNoteStorage();
-        Note noteToRead;
-        for (XmlAdaptedNote xmlNote : xmlNoteList) {
-            noteToRead = xmlNote.toModelType();
-            if (noteToRead != null) {
-                notes.add(xmlNote.toModelType());
-            }
-        }
+        List<XmlAdaptedNote> xmlNoteList = StorageController.getNoteStorage();
+        RecordConverter.convertEach("notes", xmlNoteList, XmlSerializableNoteList.CODEC, XmlAdaptedNote::toModelType,
+                this::loadNote);
+        notes.forEach(searchIndex::add);
+        notes.forEach(intervalIndex::add);
 
         if (xmlNoteList.size() != this.notes.size()) {
             logger.info("Invalid value(s) found in notes XML data. "
@@ -160,12 +251,48 @@ public class NoteManager {
     }
 
     /**
-     * Converts the Note array list and invokes the StorageController to save the current note list to file.
+     * Adds {@code note}, read from {@code record} in storage, to the in-memory ArrayList.
+     */
+    private void loadNote(XmlAdaptedNote record, Note note) {
+        notes.add(note);
+        storedRecords.put(note, record);
+    }
+
+    /**
+     * Applies {@code change}, already made to the notes in storage, to the notes in memory and their indexes without
+     * passing it on again, keeping the current filter.
+     */
+    public void applyStoredChange(DatasetChange change) {
+        for (Object record : change.getRemoved()) {
+            int index = RecordConverter.indexOfModel(notes, storedRecords, record, change.getIndex());
+            if (index >= 0) {
+                Note removed = notes.remove(index);
+                storedRecords.remove(removed);
+                searchIndex.remove(removed);
+                intervalIndex.remove(removed);
+            }
+        }
+        List<XmlAdaptedNote> added = change.getAddedRecords();
+        RecordConverter.convertEach("notes", added, change.getIndex(), XmlSerializableNoteList.CODEC,
+                XmlAdaptedNote::toModelType, this::insertNote);
+        refreshFilteredNotes();
+    }
+
+    /**
+     * Inserts {@code note}, read from {@code record} at {@code index} of storage, at the same index of the in-memory
+     * ArrayList, or at the end if there are fewer notes.
+     */
+    private void insertNote(int index, XmlAdaptedNote record, Note note) {
+        notes.add(Math.min(index, notes.size()), note);
+        storedRecords.put(note, record);
+        searchIndex.add(note);
+        intervalIndex.add(note);
+    }
+
+    /**
+     * Invokes the StorageController to save the changes made to the notes to file.
      */
     public void saveNoteList() {
-        ArrayList<XmlAdaptedNote> xmlAdaptedNotes =
-                notes.stream().map(XmlAdaptedNote::new).collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setNoteStorage(xmlAdaptedNotes);
         StorageController.storeData();
     }
 
@@ -204,27 +331,40 @@ public class NoteManager {
     }
 
     /**
-     * Filter all notes that do not match the given {@code matcher} parameter.
+     * Filter all notes that do not match every one of the given {@code keywords}, ranking the remaining notes
+     * from the most relevant.
      *
-     * @param matcher contains the RegEx string for finding keyword(s)
-     *                from a Note object's {@code title} or {@code noteText}
+     * @param keywords contains the keywords to be found in a Note object's {@code title} or {@code noteText},
+     *                 in the form described by {@link NoteSearchIndex}
      */
-    public void setFilteredNotesByKeyword(String matcher) {
-        requireNonNull(matcher);
+    public void setFilteredNotesByKeywords(List<String> keywords) {
+        requireNonNull(keywords);
 
-        filteredNotes = notes.stream()
-                .filter(n -> n.getNoteText().toString().replaceAll("(\r\n|\n)", " ")
-                        .matches(matcher)
-                        || n.getTitle().toString()
-                        .matches(matcher))
-                .collect(Collectors.toList());
+        filteredNotes = searchIndex.search(keywords);
 
         if (filteredNotes.size() > 0) {
-            currentFilter = matcher;
+            currentKeywords = keywords;
             currentFilterState = FILTERED_BY_KEYWORDS;
         }
     }
 
+    /**
+     * Filter all notes that are not on at some time between {@code from} and {@code to},
+     * ordering the remaining notes by their start date and time.
+     */
+    public void setFilteredNotesByDateRange(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+
+        filteredNotes = intervalIndex.getNotesBetween(from, to);
+
+        if (filteredNotes.size() > 0) {
+            currentFrom = from;
+            currentTo = to;
+            currentFilterState = FILTERED_BY_DATE_RANGE;
+        }
+    }
+
     /**
      * Rebuilds the viewable notes list depending on the latest
      * non-empty resulting filter.
@@ -238,7 +378,10 @@ public class NoteManager {
             setFilteredNotesByModuleCode(currentFilter);
             break;
         case FILTERED_BY_KEYWORDS:
-            setFilteredNotesByKeyword(currentFilter);
+            setFilteredNotesByKeywords(currentKeywords);
+            break;
+        case FILTERED_BY_DATE_RANGE:
+            setFilteredNotesByDateRange(currentFrom, currentTo);
             break;
         default:
             setFilteredNotesNoFilter();
@@ -255,7 +398,12 @@ public class NoteManager {
     public void clearNotes() {
         notes.clear();
         filteredNotes.clear();
+        searchIndex.clear();
+        intervalIndex.clear();
+        storedRecords.clear();
+        StorageController.setNoteStorage(new ArrayList<>());
         currentFilter = "";
+        currentKeywords = Collections.emptyList();
     }
 
     public ArrayList<String> getCsvHeaders() {
@@ -276,29 +424,31 @@ public class NoteManager {
     }
 
     /**
-     * Builds an array list that contains CSV-formatted Note data.
+     * Builds a stream of CSV-formatted Note data, with one row for each occurrence of each exportable note.
+     * The occurrences of repeating notes are generated as the stream is consumed.
      *
-     * @return ArrayList of CSV-friendly representation of notes
+     * @return Stream of CSV-friendly representation of notes
      */
-    public ArrayList<String> getCsvAdaptedNotes() {
-        ArrayList<Note> exportableNotes = getExportableNotes();
-        ArrayList<String> csvAdaptedNoteList = new ArrayList<>();
-        CsvAdaptedNote csvAdaptedNote;
-
-        for (Note noteToConvert : exportableNotes) {
-            csvAdaptedNote = new CsvAdaptedNote(noteToConvert);
-            csvAdaptedNoteList.add(csvAdaptedNote.toString());
-        }
-
-        return csvAdaptedNoteList;
+    public Stream<String> getCsvAdaptedNotes() {
+        return getExportableNotes().stream()
+                .flatMap(note -> note.getOccurrenceDates()
+                        .map(occurrenceDate -> new CsvAdaptedNote(note, occurrenceDate).toString()));
     }
 
     /**
      * Deletes all notes that contains the {@code moduleCode}.
      */
     public void deleteNotesByModuleCode(String moduleCode) {
-        notes.removeIf(n -> n.getModuleCode() != null
-                && n.getModuleCode().toString().equalsIgnoreCase(moduleCode));
+        Iterator<Note> iterator = notes.iterator();
+        while (iterator.hasNext()) {
+            Note note = iterator.next();
+            if (note.getModuleCode() != null && note.getModuleCode().toString().equalsIgnoreCase(moduleCode)) {
+                iterator.remove();
+                searchIndex.remove(note);
+                intervalIndex.remove(note);
+                StorageController.removeRecord(Dataset.NOTES, storedRecords.remove(note));
+            }
+        }
         refreshFilteredNotes();
     }
 }
@@ -0,0 +1,128 @@
+package seedu.address.model.note;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_REPEAT_UNTIL;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Represents how a note repeats: every {@code intervalDays} days from its start date, up to and including a date,
+ * except on some dates.
+ * The occurrences are not stored, but are generated when they are needed.
+ * Guarantees: immutable; the interval is positive.
+ */
+public class NoteRecurrence {
+
+    public static final int DAYS_PER_WEEK = 7;
+
+    public static final String REPEAT_DAILY = "daily";
+    public static final String REPEAT_WEEKLY = "weekly";
+    public static final String REPEAT_NONE = "none";
+
+    public static final String MESSAGE_INVALID_INTERVAL =
+            "The repeat interval should be \"" + REPEAT_DAILY + "\", \"" + REPEAT_WEEKLY
+                    + "\" or a positive number of days.";
+
+    public static final String MESSAGE_UNTIL_MISSING_FIELD =
+            "A repeating note needs the last date it can be on. [" + PREFIX_NOTE_REPEAT_UNTIL + "UNTIL_DATE]";
+
+    public static final String MESSAGE_REPEAT_MISSING_FIELD =
+            "The REPEAT field is missing. Please provide the missing field. [" + PREFIX_NOTE_REPEAT + "REPEAT]";
+
+    public static final String MESSAGE_UNTIL_BEFORE_START =
+            "Invalid input! Please make sure a repeating note repeats until a date on or after its start date.";
+
+    private final int intervalDays;
+    private final LocalDate until;
+    private final SortedSet<LocalDate> exceptions;
+
+    public NoteRecurrence(int intervalDays, LocalDate until, Collection<LocalDate> exceptions) {
+        requireNonNull(until);
+        requireNonNull(exceptions);
+        checkArgument(intervalDays > 0, MESSAGE_INVALID_INTERVAL);
+        this.intervalDays = intervalDays;
+        this.until = until;
+        this.exceptions = Collections.unmodifiableSortedSet(new TreeSet<>(exceptions));
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    public SortedSet<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns the dates a note first starting on {@code firstDate} starts on again, from {@code from} to
+     * {@code to}, in order. The dates are generated as the stream is consumed.
+     */
+    public Stream<LocalDate> getDates(LocalDate firstDate, LocalDate from, LocalDate to) {
+        long daysToFrom = ChronoUnit.DAYS.between(firstDate, from);
+        long intervalsToFrom = daysToFrom <= 0 ? 0 : (daysToFrom + intervalDays - 1) / intervalDays;
+        LocalDate first = firstDate.plusDays(intervalsToFrom * intervalDays);
+        LocalDate last = until.isBefore(to) ? until : to;
+
+        Stream<LocalDate> dates = Stream.iterate(first, date -> !date.isAfter(last), this::getNextDate);
+        return dates.filter(date -> !exceptions.contains(date));
+    }
+
+    private LocalDate getNextDate(LocalDate date) {
+        return date.plusDays(intervalDays);
+    }
+
+    /**
+     * Returns the last date a note first starting on {@code firstDate} could start on, without taking the
+     * exceptions into account.
+     */
+    public LocalDate getLastDate(LocalDate firstDate) {
+        long days = ChronoUnit.DAYS.between(firstDate, until);
+        return days <= 0 ? firstDate : firstDate.plusDays(days - days % intervalDays);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (intervalDays == DAYS_PER_WEEK) {
+            sb.append("Every week");
+        } else if (intervalDays == 1) {
+            sb.append("Every day");
+        } else {
+            sb.append("Every ").append(intervalDays).append(" days");
+        }
+        sb.append(" until ").append(until.format(NoteDate.DATE_FORMAT));
+        if (!exceptions.isEmpty()) {
+            sb.append(", except ").append(exceptions.stream()
+                    .map(date -> date.format(NoteDate.DATE_FORMAT)).collect(Collectors.joining(", ")));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NoteRecurrence // instanceof handles nulls
+                && intervalDays == ((NoteRecurrence) other).intervalDays
+                && until.equals(((NoteRecurrence) other).until)
+                && exceptions.equals(((NoteRecurrence) other).exceptions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(intervalDays, until, exceptions);
+    }
+}
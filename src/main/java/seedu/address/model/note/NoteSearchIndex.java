@@ -0,0 +1,282 @@
+package seedu.address.model.note;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index of the words in the titles and texts of notes, for finding notes by keywords.
+ * Words are runs of letters and digits, compared case-insensitively. Each word maps to the positions it occurs at in
+ * each note, so a search only looks at the notes containing its words. The index is updated as notes are added,
+ * edited and removed.
+ *
+ * A search is a list of keywords, all of which a note must match. A keyword is one or more alternatives separated by
+ * {@code |}, and matches if any alternative does. An alternative of several words, such as {@code Git-Hub} or
+ * {@code "merge conflict"}, is a phrase whose words must occur one after another, and an alternative ending in
+ * {@code *} matches words starting with it. Matching notes are ranked by TF-IDF: a keyword counts for more the more
+ * often it occurs in a note, and the fewer notes it occurs in. Words in a title count twice.
+ */
+public class NoteSearchIndex {
+    public static final String ALTERNATIVE_SEPARATOR = "|";
+    public static final String PREFIX_WILDCARD = "*";
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Map<Note, Integer> docIds = new IdentityHashMap<>();
+    private final List<IndexedNote> docs = new ArrayList<>();
+    private final TreeMap<String, Map<Integer, int[]>> postings = new TreeMap<>();
+
+    /**
+     * Adds {@code note} to the index.
+     */
+    public void add(Note note) {
+        requireNonNull(note);
+        if (docIds.containsKey(note)) {
+            return;
+        }
+        docIds.put(note, docs.size());
+        docs.add(null);
+        index(note, docs.size() - 1);
+    }
+
+    /**
+     * Removes {@code note} from the index.
+     */
+    public void remove(Note note) {
+        Integer docId = docIds.remove(note);
+        if (docId != null) {
+            unindex(docId);
+            docs.set(docId, null);
+        }
+    }
+
+    /**
+     * Indexes the current title and text of {@code note} in place of those it was indexed with, keeping its rank among
+     * equally scored notes.
+     */
+    public void update(Note note) {
+        Integer docId = docIds.get(note);
+        if (docId == null) {
+            add(note);
+            return;
+        }
+        unindex(docId);
+        index(note, docId);
+    }
+
+    /**
+     * Removes every note.
+     */
+    public void clear() {
+        docIds.clear();
+        docs.clear();
+        postings.clear();
+    }
+
+    public int size() {
+        return docIds.size();
+    }
+
+    /**
+     * Returns the notes matching all of {@code keywords}, highest ranked first. Notes ranked equally are in the order
+     * they were added.
+     */
+    public List<Note> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Integer, Double> scores = null;
+        for (String keyword : keywords) {
+            Map<Integer, Integer> frequencies = match(keyword);
+            if (frequencies.isEmpty()) {
+                return new ArrayList<>();
+            }
+            double inverseDocumentFrequency = Math.log(1 + (double) size() / frequencies.size());
+            Map<Integer, Double> keywordScores = new HashMap<>();
+            for (Map.Entry<Integer, Integer> frequency : frequencies.entrySet()) {
+                if (scores == null || scores.containsKey(frequency.getKey())) {
+                    double termFrequency = 1 + Math.log(frequency.getValue());
+                    double previous = scores == null ? 0 : scores.get(frequency.getKey());
+                    keywordScores.put(frequency.getKey(), previous + termFrequency * inverseDocumentFrequency);
+                }
+            }
+            scores = keywordScores;
+        }
+        if (scores == null) {
+            return new ArrayList<>();
+        }
+
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        List<Note> notes = new ArrayList<>(ranked.size());
+        for (Map.Entry<Integer, Double> entry : ranked) {
+            notes.add(docs.get(entry.getKey()).note);
+        }
+        return notes;
+    }
+
+    /**
+     * Returns the weighted number of times {@code keyword} occurs in each note it occurs in, by document ID.
+     */
+    private Map<Integer, Integer> match(String keyword) {
+        Map<Integer, Integer> frequencies = new HashMap<>();
+        for (String alternative : keyword.split("\\" + ALTERNATIVE_SEPARATOR)) {
+            String phrase = alternative.trim().replace("\"", "");
+            boolean isPrefix = phrase.endsWith(PREFIX_WILDCARD);
+            List<String> words = tokenize(phrase);
+            if (words.isEmpty()) {
+                continue;
+            }
+
+            Map<Integer, int[]> ends = getPositions(words.get(0), isPrefix && words.size() == 1);
+            for (int i = 1; i < words.size() && !ends.isEmpty(); i++) {
+                ends = follow(ends, getPositions(words.get(i), isPrefix && i == words.size() - 1));
+            }
+            for (Map.Entry<Integer, int[]> end : ends.entrySet()) {
+                int titleLength = docs.get(end.getKey()).titleLength;
+                int frequency = 0;
+                for (int position : end.getValue()) {
+                    frequency += position < titleLength ? TITLE_WEIGHT : 1;
+                }
+                frequencies.merge(end.getKey(), frequency, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * Returns the positions {@code word} occurs at in each note, or those of every word starting with {@code word} if
+     * {@code isPrefix}.
+     */
+    private Map<Integer, int[]> getPositions(String word, boolean isPrefix) {
+        if (!isPrefix) {
+            return postings.getOrDefault(word, new HashMap<>());
+        }
+        Map<Integer, int[]> positions = new HashMap<>();
+        for (Map<Integer, int[]> wordPositions : postings.subMap(word, word + Character.MAX_VALUE).values()) {
+            for (Map.Entry<Integer, int[]> entry : wordPositions.entrySet()) {
+                int[] merged = positions.get(entry.getKey());
+                positions.put(entry.getKey(), merged == null ? entry.getValue() : union(merged, entry.getValue()));
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the positions in {@code next} that directly follow a position in {@code ends}, in each note.
+     */
+    private static Map<Integer, int[]> follow(Map<Integer, int[]> ends, Map<Integer, int[]> next) {
+        Map<Integer, int[]> followed = new HashMap<>();
+        for (Map.Entry<Integer, int[]> entry : ends.entrySet()) {
+            int[] nextPositions = next.get(entry.getKey());
+            if (nextPositions == null) {
+                continue;
+            }
+            int[] positions = new int[nextPositions.length];
+            int count = 0;
+            for (int position : nextPositions) {
+                if (Arrays.binarySearch(entry.getValue(), position - 1) >= 0) {
+                    positions[count++] = position;
+                }
+            }
+            if (count > 0) {
+                followed.put(entry.getKey(), Arrays.copyOf(positions, count));
+            }
+        }
+        return followed;
+    }
+
+    /**
+     * Returns the sorted positions in either {@code first} or {@code second}, which are sorted and disjoint.
+     */
+    private static int[] union(int[] first, int[] second) {
+        int[] positions = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, positions, first.length, second.length);
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Adds the words of {@code note} to the postings under {@code docId}.
+     */
+    private void index(Note note, int docId) {
+        List<String> titleWords = tokenize(note.getTitle().toString());
+        List<String> words = new ArrayList<>(titleWords);
+        // the gap keeps phrases from running from the title into the text
+        words.add(null);
+        words.addAll(tokenize(note.getNoteText().toString()));
+
+        Map<String, int[]> positionsByWord = new HashMap<>();
+        for (int position = 0; position < words.size(); position++) {
+            String word = words.get(position);
+            if (word != null) {
+                int[] positions = positionsByWord.get(word);
+                positions = positions == null ? new int[1] : Arrays.copyOf(positions, positions.length + 1);
+                positions[positions.length - 1] = position;
+                positionsByWord.put(word, positions);
+            }
+        }
+        for (Map.Entry<String, int[]> entry : positionsByWord.entrySet()) {
+            Map<Integer, int[]> wordPostings = postings.get(entry.getKey());
+            if (wordPostings == null) {
+                wordPostings = new HashMap<>();
+                postings.put(entry.getKey(), wordPostings);
+            }
+            wordPostings.put(docId, entry.getValue());
+        }
+        docs.set(docId, new IndexedNote(note, titleWords.size(), positionsByWord.keySet()));
+    }
+
+    /**
+     * Removes the words of the note with {@code docId} from the postings.
+     */
+    private void unindex(int docId) {
+        for (String word : docs.get(docId).words) {
+            Map<Integer, int[]> wordPostings = postings.get(word);
+            wordPostings.remove(docId);
+            if (wordPostings.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the words of {@code text}, in lower case, in the order they occur.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * A note in the index, with the number of words in its title and the distinct words it was indexed with.
+     */
+    private static class IndexedNote {
+        private final Note note;
+        private final int titleLength;
+        private final Set<String> words;
+
+        IndexedNote(Note note, int titleLength, Set<String> words) {
+            this.note = note;
+            this.titleLength = titleLength;
+            this.words = words;
+        }
+    }
+}
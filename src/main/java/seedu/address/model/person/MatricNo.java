@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a person's matriculation number.
  * Guarantees: immutable; is valid as declared in {@link #isValidMatricNo(String)}
@@ -16,6 +19,8 @@ public class MatricNo {
 
     public static final String MATRIC_NO_VALIDATION_REGEX = "^[A]{1}\\d{7}[A-Z]{1}$";
 
+    private static final Interner<MatricNo> INTERNER = new Interner<>();
+
     public final String matricNo;
 
     /**
@@ -29,6 +34,14 @@ public class MatricNo {
         this.matricNo = matricNo;
     }
 
+    /**
+     * Returns the canonical {@code MatricNo} for {@code matricNo}, so that equal matric numbers share one instance.
+     * @param matricNo has to be a valid matric number.
+     */
+    public static MatricNo of(String matricNo) {
+        return INTERNER.intern(new MatricNo(StringUtil.intern(matricNo)));
+    }
+
     /**
      * Returns true if a given string is a valid matric number.
      */
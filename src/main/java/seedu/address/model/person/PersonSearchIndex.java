@@ -0,0 +1,291 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the words in the names, emails and matric no. of persons, for finding persons by keywords.
+ * Each distinct word is held once, with the persons it belongs to, in a sorted map for finding words by prefix, and
+ * under each of its trigrams, for finding words containing a keyword and words a typo away from it. A search only
+ * looks at the words sharing trigrams with its keywords, instead of every person. The index is updated as persons are
+ * added, edited and removed.
+ *
+ * A keyword matches a word exactly, as the start of the word, or within the word if it has at least three characters,
+ * in that order of rank. A keyword matching no word in these ways matches the words a typo away from it: one typo for
+ * keywords of four to seven characters, and two for longer ones, where a typo is a missing, extra, wrong or swapped
+ * character. Words are compared case-insensitively.
+ */
+public class PersonSearchIndex {
+    private static final double EXACT_SCORE = 4;
+    private static final double PREFIX_SCORE = 2;
+    private static final double SUBSTRING_SCORE = 1;
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String GRAM_START_PADDING = "\u0002\u0002";
+    private static final String GRAM_END_PADDING = "\u0003\u0003";
+    private static final int MIN_ONE_TYPO_LENGTH = 4;
+    private static final int MIN_TWO_TYPOS_LENGTH = 8;
+    // a swap of two characters changes at most this many of the trigrams of a word, and other typos fewer
+    private static final int GRAMS_PER_TYPO = 4;
+
+    private final TreeMap<String, Word> words = new TreeMap<>();
+    private final Map<String, Set<Word>> wordsByGram = new HashMap<>();
+
+    /**
+     * Adds the words of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String text : getWords(person)) {
+            Word word = words.get(text);
+            if (word == null) {
+                word = new Word(text);
+                words.put(text, word);
+                for (String gram : getGrams(text)) {
+                    wordsByGram.computeIfAbsent(gram, unused -> newIdentitySet()).add(word);
+                }
+            }
+            word.persons.add(person);
+        }
+    }
+
+    /**
+     * Removes the words of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        for (String text : getWords(person)) {
+            Word word = words.get(text);
+            if (word == null || !word.persons.remove(person) || !word.persons.isEmpty()) {
+                continue;
+            }
+            words.remove(text);
+            for (String gram : getGrams(text)) {
+                Set<Word> gramWords = wordsByGram.get(gram);
+                gramWords.remove(word);
+                if (gramWords.isEmpty()) {
+                    wordsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every person.
+     */
+    public void clear() {
+        words.clear();
+        wordsByGram.clear();
+    }
+
+    /**
+     * Returns the persons matching any of {@code keywords}, with their scores. A person scores the sum over the
+     * keywords of its best match for each, so a higher score is a better match.
+     */
+    public Map<Person, Double> search(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Double> scores = new IdentityHashMap<>();
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim().toLowerCase();
+            if (trimmedKeyword.isEmpty()) {
+                continue;
+            }
+            Map<Person, Double> keywordScores = new IdentityHashMap<>();
+            match(trimmedKeyword, keywordScores);
+            if (keywordScores.isEmpty()) {
+                matchWithTypos(trimmedKeyword, keywordScores);
+            }
+
+            if (scores.isEmpty()) {
+                scores = keywordScores;
+            } else {
+                for (Map.Entry<Person, Double> score : keywordScores.entrySet()) {
+                    scores.merge(score.getKey(), score.getValue(), Double::sum);
+                }
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Adds the persons with the words {@code keyword} matches exactly, as a prefix or as a substring, to
+     * {@code scores}, with the score of their best matching word.
+     */
+    private void match(String keyword, Map<Person, Double> scores) {
+        if (keyword.length() >= GRAM_LENGTH) {
+            // every word containing the keyword has all its trigrams, so only the rarest one needs to be scanned
+            Set<Word> rarestGramWords = null;
+            for (String gram : getInnerGrams(keyword)) {
+                Set<Word> gramWords = wordsByGram.getOrDefault(gram, Collections.emptySet());
+                if (rarestGramWords == null || gramWords.size() < rarestGramWords.size()) {
+                    rarestGramWords = gramWords;
+                }
+            }
+            for (Word word : rarestGramWords) {
+                if (word.text.contains(keyword) && !word.text.startsWith(keyword)) {
+                    addScore(word, SUBSTRING_SCORE, scores);
+                }
+            }
+        }
+        for (Word word : words.subMap(keyword, keyword + Character.MAX_VALUE).values()) {
+            addScore(word, word.text.equals(keyword) ? EXACT_SCORE : PREFIX_SCORE, scores);
+        }
+    }
+
+    /**
+     * Adds the persons with the words a typo or two away from {@code keyword}, depending on its length, to
+     * {@code scores}, with the score of their best matching word. Words with fewer typos score higher.
+     */
+    private void matchWithTypos(String keyword, Map<Person, Double> scores) {
+        int maxTypos = keyword.length() >= MIN_TWO_TYPOS_LENGTH ? 2 : keyword.length() >= MIN_ONE_TYPO_LENGTH ? 1 : 0;
+        if (maxTypos == 0) {
+            return;
+        }
+
+        for (Word word : getCandidates(keyword, maxTypos)) {
+            int typos = getTypos(keyword, word.text, maxTypos);
+            if (typos <= maxTypos) {
+                addScore(word, SUBSTRING_SCORE / (1 + typos), scores);
+            }
+        }
+    }
+
+    /**
+     * Gives the persons with {@code word} at least {@code score} in {@code scores}.
+     */
+    private static void addScore(Word word, double score, Map<Person, Double> scores) {
+        Double boxedScore = score;
+        for (Person person : word.persons) {
+            Double previous = scores.putIfAbsent(person, boxedScore);
+            if (previous != null && previous < score) {
+                scores.put(person, boxedScore);
+            }
+        }
+    }
+
+    /**
+     * Returns the words that could be up to {@code maxTypos} typos away from {@code keyword}, by their lengths and
+     * trigrams. Such a word shares at least {@code n} of the trigrams of the keyword, and so at least one of any of its
+     * trigrams but {@code n - 1}: only the trigrams with the fewest words are scanned.
+     */
+    private Set<Word> getCandidates(String keyword, int maxTypos) {
+        List<Set<Word>> gramWords = new ArrayList<>();
+        for (String gram : getGrams(keyword)) {
+            gramWords.add(wordsByGram.getOrDefault(gram, Collections.emptySet()));
+        }
+        gramWords.sort(Comparator.comparingInt(Set::size));
+        int minSharedGrams = Math.max(1, gramWords.size() - GRAMS_PER_TYPO * maxTypos);
+
+        Set<Word> candidates = newIdentitySet();
+        for (Set<Word> words : gramWords.subList(0, gramWords.size() - minSharedGrams + 1)) {
+            for (Word word : words) {
+                if (Math.abs(word.text.length() - keyword.length()) <= maxTypos) {
+                    candidates.add(word);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of typos between {@code first} and {@code second}, or {@code maxTypos + 1} if there are more
+     * than {@code maxTypos}. A typo is a missing, extra or wrong character, or two adjacent characters swapped.
+     */
+    static int getTypos(String first, String second, int maxTypos) {
+        if (Math.abs(first.length() - second.length()) > maxTypos) {
+            return maxTypos + 1;
+        }
+        int[][] typos = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            typos[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            typos[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int rowMin = Integer.MAX_VALUE;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                typos[i][j] = Math.min(typos[i - 1][j - 1] + substitution,
+                        Math.min(typos[i - 1][j], typos[i][j - 1]) + 1);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    typos[i][j] = Math.min(typos[i][j], typos[i - 2][j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, typos[i][j]);
+            }
+            if (rowMin > maxTypos) {
+                return maxTypos + 1;
+            }
+        }
+        return Math.min(typos[first.length()][second.length()], maxTypos + 1);
+    }
+
+    /**
+     * Returns the distinct words of the name, email and matric no. of {@code person}, in lower case.
+     * The email is indexed both as a whole and by the words of its local part.
+     */
+    private static Set<String> getWords(Person person) {
+        Set<String> personWords = new LinkedHashSet<>();
+        for (String word : person.getName().fullName.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                personWords.add(word);
+            }
+        }
+        personWords.add(person.getMatricNo().matricNo.toLowerCase());
+
+        String email = person.getEmail().value.toLowerCase();
+        personWords.add(email);
+        String localPart = email.substring(0, Math.max(0, email.indexOf('@')));
+        for (String word : localPart.split("[^\\p{Alnum}]+")) {
+            if (!word.isEmpty()) {
+                personWords.add(word);
+            }
+        }
+        return personWords;
+    }
+
+    /**
+     * Returns the trigrams of {@code text} padded at both ends, so that typos at its ends change as many trigrams as
+     * typos within it.
+     */
+    private static Set<String> getGrams(String text) {
+        return getInnerGrams(GRAM_START_PADDING + text + GRAM_END_PADDING);
+    }
+
+    /**
+     * Returns the trigrams within {@code text}.
+     */
+    private static Set<String> getInnerGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A distinct word in the index, with the persons it is a word of.
+     */
+    private static class Word {
+        private final String text;
+        private final Set<Person> persons = newIdentitySet();
+
+        Word(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,18 +24,26 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identity fields of the persons are indexed alongside the list, so checking for a person with the same
+ * identity takes constant time instead of a scan of the list. The positions of the persons are also indexed, so
+ * editing and removing a person does not scan the list for it. The names, emails and matric no. of the persons are
+ * also indexed, for finding persons by keywords without a scan of the list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final IdentityIndex identityIndex = new IdentityIndex();
+    private final PositionIndex positionIndex = new PositionIndex();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.contains(toCheck);
     }
 
     /**
@@ -44,6 +55,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.add(toAdd);
+        searchIndex.add(toAdd);
+        positionIndex.appended(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -55,7 +69,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionIndex.indexOf(target, internalList);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -64,6 +78,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.remove(target);
+        identityIndex.add(editedPerson);
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(editedPerson);
+        positionIndex.replaced(internalList.get(index), editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -73,14 +92,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionIndex.indexOf(toRemove, internalList);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(toRemove);
+        searchIndex.remove(internalList.get(index));
+        positionIndex.removed(internalList.get(index), index);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.setAll(replacement.identityIndex);
         internalList.setAll(replacement.internalList);
+        positionIndex.clear();
+        rebuildSearchIndex();
     }
 
     /**
@@ -89,11 +116,60 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        IdentityIndex replacementIndex = new IdentityIndex();
+        for (Person person : persons) {
+            if (replacementIndex.contains(person)) {
+                throw new DuplicatePersonException();
+            }
+            replacementIndex.add(person);
         }
 
+        identityIndex.setAll(replacementIndex);
         internalList.setAll(persons);
+        positionIndex.clear();
+        rebuildSearchIndex();
+    }
+
+    /**
+     * Replaces the persons from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, with {@code persons}.
+     * {@code persons} must not contain duplicate persons, nor persons with the same identity as those left in the list.
+     */
+    public void setPersons(int fromIndex, int toIndex, List<Person> persons) {
+        requireAllNonNull(persons);
+        List<Person> replaced = internalList.subList(fromIndex, toIndex);
+        replaced.forEach(identityIndex::remove);
+        for (int i = 0; i < persons.size(); i++) {
+            if (identityIndex.contains(persons.get(i))) {
+                persons.subList(0, i).forEach(identityIndex::remove);
+                replaced.forEach(identityIndex::add);
+                throw new DuplicatePersonException();
+            }
+            identityIndex.add(persons.get(i));
+        }
+
+        replaced.forEach(searchIndex::remove);
+        persons.forEach(searchIndex::add);
+        for (int i = 0; i < replaced.size(); i++) {
+            positionIndex.removed(replaced.get(i), fromIndex + i);
+        }
+        replaced.clear();
+        internalList.addAll(fromIndex, persons);
+    }
+
+    /**
+     * Returns the persons whose names, emails or matric no. match any of {@code keywords}, with their scores.
+     * A higher score is a better match.
+     *
+     * @see PersonSearchIndex
+     */
+    public Map<Person, Double> search(List<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.search(keywords);
+    }
+
+    private void rebuildSearchIndex() {
+        searchIndex.clear();
+        internalList.forEach(searchIndex::add);
     }
 
     /**
@@ -121,16 +197,104 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Counts the persons in a list by the identity fields compared by {@code Person#isSamePerson(Person)}.
+     * Two persons are the same person if they share a name and either a phone or an email, so the persons are
+     * counted both by name and phone and by name and email.
+     */
+    private static class IdentityIndex {
+        private final Map<List<Object>, Integer> byNameAndPhone = new HashMap<>();
+        private final Map<List<Object>, Integer> byNameAndEmail = new HashMap<>();
+
+        boolean contains(Person person) {
+            return byNameAndPhone.containsKey(nameAndPhone(person))
+                    || byNameAndEmail.containsKey(nameAndEmail(person));
+        }
+
+        void add(Person person) {
+            byNameAndPhone.merge(nameAndPhone(person), 1, Integer::sum);
+            byNameAndEmail.merge(nameAndEmail(person), 1, Integer::sum);
+        }
+
+        void remove(Person person) {
+            byNameAndPhone.computeIfPresent(nameAndPhone(person), (key, count) -> count == 1 ? null : count - 1);
+            byNameAndEmail.computeIfPresent(nameAndEmail(person), (key, count) -> count == 1 ? null : count - 1);
+        }
+
+        /**
+         * Replaces the counts of this index with those of {@code replacement}.
+         */
+        void setAll(IdentityIndex replacement) {
+            byNameAndPhone.clear();
+            byNameAndPhone.putAll(replacement.byNameAndPhone);
+            byNameAndEmail.clear();
+            byNameAndEmail.putAll(replacement.byNameAndEmail);
+        }
+
+        private static List<Object> nameAndPhone(Person person) {
+            return Arrays.asList(person.getName(), person.getPhone());
+        }
+
+        private static List<Object> nameAndEmail(Person person) {
+            return Arrays.asList(person.getName(), person.getEmail());
+        }
+    }
+
+    /**
+     * The positions of the persons in a list. Persons in a list are distinct by {@code Person#equals(Object)}, as
+     * equal persons have the same identity. Removing or inserting a person shifts the persons after it, so their
+     * positions are only recomputed when one of them is next looked up.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    private static class PositionIndex {
+        private final Map<Person, Integer> positions = new HashMap<>();
+        // the positions of the persons before this index are up to date
+        private int upToDateCount = 0;
+
+        /**
+         * Returns the index of {@code person} in {@code list}, or -1 if it is not in the list.
+         */
+        int indexOf(Person person, List<Person> list) {
+            Integer position = positions.get(person);
+            if ((position == null || position >= upToDateCount) && upToDateCount < list.size()) {
+                for (int i = upToDateCount; i < list.size(); i++) {
+                    positions.put(list.get(i), i);
                 }
+                upToDateCount = list.size();
+                position = positions.get(person);
+            }
+            return position == null ? -1 : position;
+        }
+
+        /**
+         * Records that {@code person} was added at {@code index}, the end of the list.
+         */
+        void appended(Person person, int index) {
+            if (index == upToDateCount) {
+                positions.put(person, index);
+                upToDateCount++;
             }
         }
-        return true;
+
+        /**
+         * Records that {@code target} at {@code index} was replaced by {@code editedPerson}.
+         */
+        void replaced(Person target, Person editedPerson, int index) {
+            positions.remove(target);
+            if (index < upToDateCount) {
+                positions.put(editedPerson, index);
+            }
+        }
+
+        /**
+         * Records that {@code person} at {@code index} is no longer in the list.
+         */
+        void removed(Person person, int index) {
+            positions.remove(person);
+            upToDateCount = Math.min(upToDateCount, index);
+        }
+
+        void clear() {
+            positions.clear();
+            upToDateCount = 0;
+        }
     }
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes the students of a person list by matriculation number, by email address and by course code.
+ * Course codes are indexed case-insensitively.
+ * The index listens to the change events of the list it is attached to, so lookups stay in sync with the list
+ * without scanning it.
+ */
+public class StudentIndex {
+
+    private final Map<String, List<Person>> byMatricNo = new HashMap<>();
+    private final Map<String, List<Person>> byEmail = new HashMap<>();
+    private final Map<String, List<Person>> byCourseCode = new HashMap<>();
+    private final ListChangeListener<Person> listener = this::onChanged;
+
+    /** The list being indexed, held strongly as unmodifiable views only listen weakly to their backing list. */
+    private ObservableList<Person> persons;
+
+    /**
+     * Indexes {@code persons} and keeps the index in sync with its changes, detaching from any list indexed before.
+     */
+    public void attach(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        detach();
+        this.persons = persons;
+        persons.forEach(this::index);
+        persons.addListener(listener);
+    }
+
+    /**
+     * Stops listening to the indexed list and empties the index.
+     */
+    public void detach() {
+        if (persons != null) {
+            persons.removeListener(listener);
+            persons = null;
+        }
+        byMatricNo.clear();
+        byEmail.clear();
+        byCourseCode.clear();
+    }
+
+    /**
+     * Returns the student with the given matriculation number, or null if there is none.
+     */
+    public Person getByMatricNo(String matricNo) {
+        return first(byMatricNo, matricNo);
+    }
+
+    /**
+     * Returns the student with the given email address, or null if there is none.
+     */
+    public Person getByEmail(String email) {
+        return first(byEmail, email);
+    }
+
+    /**
+     * Returns the students in the course with the given code, or an empty list if there are none.
+     */
+    public List<Person> getByCourseCode(String courseCode) {
+        List<Person> matches = byCourseCode.get(courseCode.toLowerCase());
+        return matches == null ? Collections.emptyList() : Collections.unmodifiableList(matches);
+    }
+
+    /**
+     * Unindexes the persons removed from the list and indexes the persons added to it.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    private void index(Person person) {
+        add(byMatricNo, person.getMatricNo().matricNo, person);
+        add(byEmail, person.getEmail().value, person);
+        add(byCourseCode, person.getCourseCode().courseCode.toLowerCase(), person);
+    }
+
+    private void unindex(Person person) {
+        remove(byMatricNo, person.getMatricNo().matricNo, person);
+        remove(byEmail, person.getEmail().value, person);
+        remove(byCourseCode, person.getCourseCode().courseCode.toLowerCase(), person);
+    }
+
+    private static void add(Map<String, List<Person>> map, String key, Person person) {
+        map.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the entry of {@code key}, comparing by reference so that an equal person indexed
+     * twice is only removed once.
+     */
+    private static void remove(Map<String, List<Person>> map, String key, Person person) {
+        List<Person> matches = map.get(key);
+        if (matches == null) {
+            return;
+        }
+        for (int i = 0; i < matches.size(); i++) {
+            if (matches.get(i) == person) {
+                matches.remove(i);
+                break;
+            }
+        }
+        if (matches.isEmpty()) {
+            map.remove(key);
+        }
+    }
+
+    private static Person first(Map<String, List<Person>> map, String key) {
+        List<Person> matches = map.get(key);
+        return matches == null ? null : matches.get(0);
+    }
+}
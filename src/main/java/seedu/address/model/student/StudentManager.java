@@ -2,6 +2,7 @@ package seedu.address.model.student;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import seedu.address.model.Model;
 import seedu.address.model.course.CourseManager;
@@ -16,6 +17,8 @@ public class StudentManager {
 
     private static StudentManager initSM = new StudentManager();
     private Model studentModel;
+    private final StudentIndex studentIndex = new StudentIndex();
+    private boolean isIndexAttached;
 
     public String getTableRepresentationForModel(Model model) {
         StringBuilder sb = new StringBuilder();
@@ -69,8 +72,23 @@ public class StudentManager {
      * @param model
      */
     public void initializeModel(Model model) {
+        if (studentModel == model) {
+            return;
+        }
         studentModel = model;
+        studentIndex.detach();
+        isIndexAttached = false;
+    }
 
+    /**
+     * Returns the index of the students in the linked model, attaching it to the model's person list on first use.
+     */
+    private StudentIndex getStudentIndex() {
+        if (!isIndexAttached) {
+            studentIndex.attach(studentModel.getAddressBook().getPersonList());
+            isIndexAttached = true;
+        }
+        return studentIndex;
     }
 
     /**
@@ -79,14 +97,14 @@ public class StudentManager {
      * @return
      */
     public ArrayList<Person> getStudentsInCourse(String courseCode) {
-        ArrayList<Person> studList = new ArrayList<Person>();
-        for (Person p: studentModel.getAddressBook().getPersonList()) {
-            if (p.getCourseCode().toString().equals(courseCode)) {
-                studList.add(p);
-            }
-        }
+        return new ArrayList<>(getStudentIndex().getByCourseCode(courseCode));
+    }
 
-        return studList;
+    /**
+     * Returns the number of students in a given course.
+     */
+    public int getStudentCountInCourse(String courseCode) {
+        return getStudentIndex().getByCourseCode(courseCode).size();
     }
 
 
@@ -97,20 +115,19 @@ public class StudentManager {
                 .getCourse(courseCode).getCourseName().courseName + " (" + courseCode + ")"));
 
 
-        if (StudentManager.getInstance().getStudentsInCourse(courseCode).size() == 0) {
+        List<Person> studentsInCourse = getStudentIndex().getByCourseCode(courseCode);
+        if (studentsInCourse.isEmpty()) {
             sb.append("<div class=\"alert alert-dismissible alert-info\">\n"
                     + " This course does not have any registered students.\n"
                     + "</div>");
         } else {
             sb.append(HtmlTableProcessor.renderTableStart(new ArrayList<String>(
                     Arrays.asList("Matric No", "Full Name", "Email Address"))));
-            for (Person p : studentModel.getAddressBook().getPersonList()) {
-                if (p.getCourseCode().toString().equals(courseCode)) {
-                    sb.append(HtmlTableProcessor
-                            .renderTableItem(new ArrayList<String>(Arrays
-                                    .asList(p.getMatricNo().toString(), p.getName().toString(),
-                                            p.getEmail().toString()))));
-                }
+            for (Person p : studentsInCourse) {
+                sb.append(HtmlTableProcessor
+                        .renderTableItem(new ArrayList<String>(Arrays
+                                .asList(p.getMatricNo().toString(), p.getName().toString(),
+                                        p.getEmail().toString()))));
             }
             sb.append(HtmlTableProcessor.getTableEnd());
         }
@@ -131,13 +148,7 @@ public class StudentManager {
      * @return
      */
     public boolean doesStudentExistForGivenMatricNo(String matricNo) {
-        for (Person p: studentModel.getAddressBook().getPersonList()) {
-            if (p.getMatricNo().matricNo.equals(matricNo)) {
-                return true;
-            }
-        }
-
-        return false;
+        return getStudentIndex().getByMatricNo(matricNo) != null;
     }
 
     /**
@@ -146,13 +157,7 @@ public class StudentManager {
      * @return
      */
     public boolean doesStudentExistForGivenEmail(String email) {
-        for (Person p:studentModel.getAddressBook().getPersonList()) {
-            if (p.getEmail().value.equals(email)) {
-                return true;
-            }
-        }
-
-        return false;
+        return getStudentIndex().getByEmail(email) != null;
     }
 
 
@@ -162,19 +167,11 @@ public class StudentManager {
      * @return
      */
     public Person retrieveStudentByMatricNo(String matricNo) {
-        boolean studentFound = false;
-        for (Person p:studentModel.getAddressBook().getPersonList()) {
-            if (p.getMatricNo().matricNo.equals(matricNo)) {
-                studentFound = true;
-                return p;
-            }
-        }
-
-        if (!studentFound) {
+        Person student = getStudentIndex().getByMatricNo(matricNo);
+        if (student == null) {
             throw new NullPointerException();
         }
-
-        return null;
+        return student;
     }
 
     /**
@@ -183,18 +180,10 @@ public class StudentManager {
      * @return
      */
     public Person retrieveStudentByEmail(String email) {
-        boolean studentFound = false;
-        for (Person p:studentModel.getAddressBook().getPersonList()) {
-            if (p.getEmail().value.equals(email)) {
-                studentFound = true;
-                return p;
-            }
-        }
-
-        if (!studentFound) {
+        Person student = getStudentIndex().getByEmail(email);
+        if (student == null) {
             throw new NullPointerException();
         }
-
-        return null;
+        return student;
     }
 }
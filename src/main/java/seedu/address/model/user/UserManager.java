@@ -1,24 +1,30 @@
 package seedu.address.model.user;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.RecordConverter;
 import seedu.address.model.StorageController;
+import seedu.address.model.StorageController.Dataset;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.adapter.XmlAdaptedUser;
+import seedu.address.storage.serializable.XmlSerializableUserList;
 
 
 
 /**
  * This class represents the model-level layer for user management.
+ * Each change to the users is passed on to the storage-layer as it is made.
  */
 public class UserManager {
 
-    private static UserManager initUM = new UserManager();
+    private static UserManager initUM;
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ArrayList<User> userList = new ArrayList<User>();
+    private final Map<User, XmlAdaptedUser> storedRecords = new IdentityHashMap<>();
     private User loggedInUser;
     private boolean isAuthenticated = false;
     private boolean disarmAuthSystem = false;
@@ -32,9 +38,16 @@ public class UserManager {
      * Loads all the users from the storage-layer.
      */
     public void loadUsers() {
-        for (XmlAdaptedUser xmlUser : StorageController.getUserStorage()) {
-            userList.add(xmlUser.toModelType());
-        }
+        RecordConverter.convertEach("users", StorageController.getUserStorage(),
+                XmlSerializableUserList.CODEC, XmlAdaptedUser::toModelType, this::loadUser);
+    }
+
+    /**
+     * Adds {@code user}, read from {@code record} in the storage-layer.
+     */
+    private void loadUser(XmlAdaptedUser record, User user) {
+        userList.add(user);
+        storedRecords.put(user, record);
     }
 
     public boolean isDisarmAuthSystem() {
@@ -48,11 +61,24 @@ public class UserManager {
         return initUM;
     }
 
+    /**
+     * Deletes a user.
+     */
     public void deleteUser (User user) {
-        userList.remove(user);
+        int index = userList.indexOf(user);
+        if (index >= 0) {
+            StorageController.removeRecord(Dataset.USERS, storedRecords.remove(userList.remove(index)));
+        }
     }
+
+    /**
+     * Adds a user.
+     */
     public void addUser(User user) {
         userList.add(user);
+        XmlAdaptedUser record = new XmlAdaptedUser(user);
+        storedRecords.put(user, record);
+        StorageController.addRecord(Dataset.USERS, record);
     }
 
     /**
@@ -142,9 +168,6 @@ public class UserManager {
      * Saves all users currently in memory to file.
      */
     public void saveUserList() {
-        ArrayList<XmlAdaptedUser> xmlAdaptedUsers =
-                userList.stream().map(XmlAdaptedUser::new).collect(Collectors.toCollection(ArrayList::new));
-        StorageController.setUserStorage(xmlAdaptedUsers);
         StorageController.storeData();
     }
 
@@ -153,8 +176,19 @@ public class UserManager {
         return userList;
     }
 
+    /**
+     * Replaces all users with {@code users}.
+     */
     public void setUsers(ArrayList<User> users) {
         this.userList = users;
+        storedRecords.clear();
+        ArrayList<XmlAdaptedUser> records = new ArrayList<>();
+        for (User user : users) {
+            XmlAdaptedUser record = new XmlAdaptedUser(user);
+            storedRecords.put(user, record);
+            records.add(record);
+        }
+        StorageController.setUserStorage(records);
     }
 
     /**
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+
+/**
+ * Performs file writes on a single background thread so that saving does not block the UI.
+ * Writes are keyed by the dataset they save; a write submitted while an earlier write for the same key is still
+ * pending replaces it, so a burst of changes within the coalescing window results in a single write per dataset.
+ * Failed writes are reported by posting a {@link DataSavingExceptionEvent}.
+ */
+public class BackgroundStorageWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundStorageWriter.class);
+
+    private static BackgroundStorageWriter instance;
+
+    private final ScheduledExecutorService executor;
+    private final Map<String, WriteTask> pendingWrites = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledDrain;
+    private long coalescingWindow = new Config().getSaveCoalescingWindow();
+    private long writesCoalesced = 0;
+
+    /**
+     * A write to local storage.
+     */
+    @FunctionalInterface
+    public interface WriteTask {
+        void write() throws Exception;
+    }
+
+    private BackgroundStorageWriter() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized BackgroundStorageWriter getInstance() {
+        if (instance == null) {
+            instance = new BackgroundStorageWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Sets the time in milliseconds that writes are held back for so that later writes to the same key can
+     * replace them.
+     */
+    public synchronized void setCoalescingWindow(long coalescingWindow) {
+        if (coalescingWindow < 0) {
+            throw new IllegalArgumentException("Coalescing window cannot be negative");
+        }
+        this.coalescingWindow = coalescingWindow;
+    }
+
+    public synchronized long getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    /**
+     * Returns the number of writes that were replaced by a later write to the same key before they ran.
+     */
+    public synchronized long getWritesCoalesced() {
+        return writesCoalesced;
+    }
+
+    /**
+     * Queues {@code task} to be run on the writer thread, replacing any pending write with the same {@code key}.
+     */
+    public synchronized void submit(String key, WriteTask task) {
+        requireNonNull(key);
+        requireNonNull(task);
+
+        if (pendingWrites.put(key, task) != null) {
+            writesCoalesced++;
+        }
+        if (scheduledDrain == null && !executor.isShutdown()) {
+            scheduledDrain = executor.schedule(this::drain, coalescingWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs all pending writes and blocks until they, and any write already in progress, have completed.
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            drain();
+            return;
+        }
+        try {
+            executor.submit(this::drain).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush pending writes: " + e.getCause());
+        }
+    }
+
+    /**
+     * Flushes all pending writes and stops the writer thread.
+     * Writes submitted afterwards are only run on the next {@link #flush()}.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the writes that are pending at the time of the call, reporting any that fail.
+     */
+    private void drain() {
+        Map<String, WriteTask> writes;
+        synchronized (this) {
+            writes = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            // a drain scheduled for writes this drain already ran would otherwise cut short the next window
+            if (scheduledDrain != null) {
+                scheduledDrain.cancel(false);
+                scheduledDrain = null;
+            }
+        }
+
+        for (Map.Entry<String, WriteTask> write : writes.entrySet()) {
+            try {
+                write.getValue().write();
+            } catch (Exception e) {
+                logger.warning("Failed to write " + write.getKey() + ": " + e);
+                EventsCenter.getInstance().post(new DataSavingExceptionEvent(e));
+            }
+        }
+    }
+}
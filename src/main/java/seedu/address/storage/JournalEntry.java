@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A change to a list-backed dataset, recorded in a {@link StorageJournal}.
+ * The change replaces the {@code removeCount} elements starting at {@code index} with {@code records}, which
+ * covers adding, editing and deleting elements as well as any mix of them.
+ */
+public class JournalEntry<T> {
+
+    private final int index;
+    private final int removeCount;
+    private final T records;
+
+    public JournalEntry(int index, int removeCount, T records) {
+        requireNonNull(records);
+        if (index < 0 || removeCount < 0) {
+            throw new IllegalArgumentException("Index and remove count cannot be negative");
+        }
+        this.index = index;
+        this.removeCount = removeCount;
+        this.records = records;
+    }
+
+    /**
+     * Returns the entry that turns {@code oldList} into {@code newList}, or null if the lists are equal.
+     * Only the range between the longest common prefix and the longest common suffix of the two lists is recorded.
+     */
+    public static <E> JournalEntry<List<E>> between(List<? extends E> oldList, List<? extends E> newList) {
+        int prefix = 0;
+        int maxPrefix = Math.min(oldList.size(), newList.size());
+        while (prefix < maxPrefix && oldList.get(prefix).equals(newList.get(prefix))) {
+            prefix++;
+        }
+        if (prefix == oldList.size() && prefix == newList.size()) {
+            return null;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && oldList.get(oldList.size() - 1 - suffix).equals(newList.get(newList.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<E> inserted = new ArrayList<>(newList.subList(prefix, newList.size() - suffix));
+        return new JournalEntry<>(prefix, oldList.size() - suffix - prefix, inserted);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemoveCount() {
+        return removeCount;
+    }
+
+    public T getRecords() {
+        return records;
+    }
+
+    /**
+     * Returns an entry for the same change with the records converted by {@code mapper}.
+     */
+    public <U> JournalEntry<U> map(Function<? super T, ? extends U> mapper) {
+        return new JournalEntry<>(index, removeCount, mapper.apply(records));
+    }
+
+    /**
+     * Applies this change to {@code target}, using {@code elements} as the converted records.
+     *
+     * @throws IndexOutOfBoundsException if the change does not fit {@code target}.
+     */
+    public <E> void applyTo(List<E> target, List<? extends E> elements) {
+        if (index + removeCount > target.size()) {
+            throw new IndexOutOfBoundsException("Journal entry at " + index + " removing " + removeCount
+                    + " element(s) does not fit a list of size " + target.size());
+        }
+        target.subList(index, index + removeCount).clear();
+        target.addAll(index, elements);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JournalEntry)) {
+            return false;
+        }
+
+        JournalEntry<?> otherEntry = (JournalEntry<?>) other;
+        return index == otherEntry.index
+                && removeCount == otherEntry.removeCount
+                && records.equals(otherEntry.records);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removeCount, records);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the positions of records in the list of a dataset, so that a record can be removed or replaced without
+ * scanning the list each time.
+ * Records are found by identity, as the managers hand back the very records they stored. The positions are only
+ * trusted for a prefix of the list, which is extended as far as the record looked up. A change that shifts the
+ * records after it shortens the prefix to where the change was made, while a change that replaces records one for
+ * one keeps it. A record that is not in the list itself, such as one stored before the list was reloaded, is looked
+ * for by equality instead.
+ */
+public class RecordPositions {
+    private final Map<Object, Integer> positions = new IdentityHashMap<>();
+    private int upToDateCount;
+
+    /**
+     * Returns the position of {@code record} in {@code list}, or -1 if {@code list} holds no record equal to it.
+     */
+    public int indexOf(List<?> list, Object record) {
+        Integer position = positions.get(record);
+        if (position != null && position < upToDateCount && list.get(position) == record) {
+            return position;
+        }
+        while (upToDateCount < list.size()) {
+            Object current = list.get(upToDateCount);
+            positions.put(current, upToDateCount);
+            upToDateCount++;
+            if (current == record) {
+                return upToDateCount - 1;
+            }
+        }
+        return list.indexOf(record);
+    }
+
+    /**
+     * Records that the {@code removed} records from {@code index} of the list have been replaced with {@code added}.
+     */
+    public void spliced(int index, List<?> removed, List<?> added) {
+        removed.forEach(positions::remove);
+        if (removed.size() != added.size()) {
+            upToDateCount = Math.min(upToDateCount, index);
+            return;
+        }
+        for (int i = 0; i < added.size() && index + i < upToDateCount; i++) {
+            positions.put(added.get(i), index + i);
+        }
+    }
+
+    /**
+     * Forgets every position, after the list has been replaced.
+     */
+    public void clear() {
+        positions.clear();
+        upToDateCount = 0;
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.XmlUtil;
+
+/**
+ * An append-only journal of the changes made to a data file since it was last written in full.
+ * The journal is stored next to the data file with a {@code .journal} extension, and starts with a header that
+ * holds the checksum of the data file it applies to. Each entry is written as a line holding the index, remove count
+ * and length of the entry, followed by its records as an xml fragment.
+ * <p>
+ * A journal whose checksum does not match its data file is ignored, so the journal is only replayed on top of the
+ * snapshot it was recorded against, even if the program stopped between writing the snapshot and resetting the
+ * journal. A partially written entry at the end of the journal is discarded.
+ */
+public class StorageJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    /** Journals smaller than this are never compacted, however small the data file is. */
+    private static final long MIN_COMPACTION_SIZE = 256 * 1024;
+    private static final String HEADER_PREFIX = "JOURNAL ";
+
+    private static final Logger logger = LogsCenter.getLogger(StorageJournal.class);
+
+    private final Path dataFile;
+    private final Path journalFile;
+
+    public StorageJournal(Path dataFile) {
+        requireNonNull(dataFile);
+        this.dataFile = dataFile;
+        this.journalFile = dataFile.resolveSibling(dataFile.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    public Path getJournalFilePath() {
+        return journalFile;
+    }
+
+    /**
+     * Returns the size of the journal in bytes.
+     */
+    public long size() throws IOException {
+        return Files.exists(journalFile) ? Files.size(journalFile) : 0;
+    }
+
+    /**
+     * Returns the time in milliseconds at which the data file or its journal was last written, whichever is later,
+     * or -1 if the data file does not exist or is empty.
+     */
+    public long lastModified() throws IOException {
+        if (!Files.exists(dataFile) || Files.size(dataFile) == 0) {
+            return -1;
+        }
+        long dataFileTime = Files.getLastModifiedTime(dataFile).toMillis();
+        long journalTime = Files.exists(journalFile) ? Files.getLastModifiedTime(journalFile).toMillis() : -1;
+        return Math.max(dataFileTime, journalTime);
+    }
+
+    /**
+     * Returns true if the journal has grown large enough that writing the data file in full and resetting the
+     * journal is cheaper than replaying it.
+     */
+    public boolean shouldCompact() throws IOException {
+        long dataFileSize = Files.exists(dataFile) ? Files.size(dataFile) : 0;
+        return size() > Math.max(MIN_COMPACTION_SIZE, dataFileSize);
+    }
+
+    /**
+     * Appends {@code entry} to the journal and forces it to the disk.
+     * The records of the entry must be a JAXB-annotated object.
+     */
+    public void append(JournalEntry<?> entry) throws IOException {
+        requireNonNull(entry);
+        if (!Files.exists(journalFile)) {
+            reset();
+        }
+
+        byte[] xml;
+        try {
+            xml = XmlUtil.toXmlBytes(entry.getRecords());
+        } catch (JAXBException e) {
+            throw new IOException("Failed to convert journal entry to xml", e);
+        }
+        byte[] header = (entry.getIndex() + " " + entry.getRemoveCount() + " " + xml.length + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = ByteBuffer.allocate(header.length + xml.length + 1);
+        buffer.put(header).put(xml).put((byte) '\n');
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Empties the journal and records the current contents of the data file as the snapshot it applies to.
+     * Must be called every time the data file has been written in full.
+     */
+    public void reset() throws IOException {
+        byte[] header = (HEADER_PREFIX + checksum(dataFile) + "\n").getBytes(StandardCharsets.UTF_8);
+        Path tempFile = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+        Files.write(tempFile, header);
+        Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the entries in the journal, with their records converted to {@code recordsClass}.
+     * Returns no entries if there is no journal or if it was recorded against a different version of the data file.
+     * A partially written entry at the end of the journal is discarded and cut off the journal.
+     */
+    public <T> List<JournalEntry<T>> read(Class<T> recordsClass) throws IOException {
+        List<JournalEntry<T>> entries = new ArrayList<>();
+        if (!Files.exists(journalFile)) {
+            return entries;
+        }
+
+        byte[] bytes = Files.readAllBytes(journalFile);
+        int headerEnd = indexOfNewline(bytes, 0);
+        String header = headerEnd < 0 ? "" : new String(bytes, 0, headerEnd, StandardCharsets.UTF_8);
+        if (!header.equals(HEADER_PREFIX + checksum(dataFile))) {
+            logger.warning("Journal " + journalFile + " does not match " + dataFile + ", ignoring it");
+            return entries;
+        }
+
+        int position = headerEnd + 1;
+        while (position < bytes.length) {
+            int lineEnd = indexOfNewline(bytes, position);
+            try {
+                if (lineEnd < 0) {
+                    throw new IllegalArgumentException("Missing entry header");
+                }
+                String[] fields = new String(bytes, position, lineEnd - position, StandardCharsets.UTF_8).split(" ");
+                int index = Integer.parseInt(fields[0]);
+                int removeCount = Integer.parseInt(fields[1]);
+                int length = Integer.parseInt(fields[2]);
+                int xmlStart = lineEnd + 1;
+                if (length < 0 || xmlStart + length >= bytes.length || bytes[xmlStart + length] != '\n') {
+                    throw new IllegalArgumentException("Incomplete entry");
+                }
+
+                byte[] xml = new byte[length];
+                System.arraycopy(bytes, xmlStart, xml, 0, length);
+                entries.add(new JournalEntry<>(index, removeCount, XmlUtil.fromXmlBytes(xml, recordsClass)));
+                position = xmlStart + length + 1;
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | JAXBException e) {
+                logger.warning("Discarding incomplete entry at byte " + position + " of " + journalFile + ": " + e);
+                truncate(position);
+                break;
+            }
+        }
+
+        logger.fine("Read " + entries.size() + " journal entries from " + journalFile);
+        return entries;
+    }
+
+    /**
+     * Cuts the journal off at {@code position} so that later entries are appended after the last complete entry.
+     */
+    private void truncate(long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate(position);
+        }
+    }
+
+    /**
+     * Returns the position of the first line break in {@code bytes} at or after {@code from}, or -1 if there is none.
+     */
+    private static int indexOfNewline(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the CRC32 checksum of {@code file}, or 0 if it does not exist.
+     */
+    private static long checksum(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
@@ -2,33 +2,60 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
-import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Manages storage of AddressBook data in local storage.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    private static final String ADDRESS_BOOK_WRITE_KEY = "addressBook:";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
+    private AddressBookStorage alternativeAddressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundStorageWriter writer;
+    /** The persons in the address book as last read or saved, or null if the next save has to be in full. */
+    private volatile List<Person> lastSavedPersons;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, null, userPrefsStorage);
+    }
+
+    /**
+     * Creates a StorageManager that saves the address book to {@code addressBookStorage}, but loads it from
+     * {@code alternativeAddressBookStorage} if that was written more recently, such as after switching between
+     * data file formats or when a file has been imported in the other format.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, AddressBookStorage alternativeAddressBookStorage,
+            UserPrefsStorage userPrefsStorage) {
         super();
         this.addressBookStorage = addressBookStorage;
+        this.alternativeAddressBookStorage = alternativeAddressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = BackgroundStorageWriter.getInstance();
     }
 
     // ================ UserPrefs methods ==============================
@@ -56,9 +83,44 @@ public class StorageManager extends ComponentManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    /**
+     * Reads the address book from its file and replays the changes recorded in its journal on top of it.
+     * If there is an alternative storage whose file was written more recently, the address book is read from it
+     * instead, and is saved in full to the main storage on the next save.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        AddressBookStorage source = addressBookStorage;
+        if (alternativeAddressBookStorage != null
+                && new StorageJournal(alternativeAddressBookStorage.getAddressBookFilePath()).lastModified()
+                > new StorageJournal(addressBookStorage.getAddressBookFilePath()).lastModified()) {
+            source = alternativeAddressBookStorage;
+        }
+        Path filePath = source.getAddressBookFilePath();
+        logger.fine("Attempting to read data from file: " + filePath);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook(filePath);
+        if (!addressBook.isPresent()) {
+            return addressBook;
+        }
+
+        List<JournalEntry<XmlSerializableAddressBook>> entries =
+                new StorageJournal(filePath).read(XmlSerializableAddressBook.class);
+        List<Person> persons = new ArrayList<>(addressBook.get().getPersonList());
+        try {
+            for (JournalEntry<XmlSerializableAddressBook> entry : entries) {
+                entry.applyTo(persons, entry.getRecords().toModelType().getPersonList());
+            }
+            AddressBook replayedAddressBook = new AddressBook();
+            replayedAddressBook.setPersons(persons);
+            lastSavedPersons = source == addressBookStorage ? Collections.unmodifiableList(persons) : null;
+            if (!entries.isEmpty()) {
+                logger.info("Replayed " + entries.size() + " journal entries for " + filePath);
+            }
+            return Optional.of(replayedAddressBook);
+        } catch (IllegalValueException | IndexOutOfBoundsException | DuplicatePersonException e) {
+            logger.info("Journal for " + filePath + " cannot be replayed: " + e.getMessage());
+            throw new DataConversionException(e);
+        }
     }
 
     @Override
@@ -83,11 +145,34 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        // Persons are immutable, so copying the list is enough to snapshot the address book for the writer thread
+        ObservableList<Person> persons =
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(event.data.getPersonList()));
+        writer.submit(ADDRESS_BOOK_WRITE_KEY + getAddressBookFilePath(), () -> saveAddressBookChanges(persons));
+    }
+
+    /**
+     * Appends the changes between the last saved address book and {@code persons} to the journal of the address
+     * book file, or writes the file in full if it has not been saved yet or its journal should be compacted.
+     * Runs on the writer thread.
+     */
+    private void saveAddressBookChanges(ObservableList<Person> persons) throws IOException {
+        StorageJournal journal = new StorageJournal(getAddressBookFilePath());
+        List<Person> previousPersons = lastSavedPersons;
+        // If saving fails part way, the journal may be missing changes, so the next save has to be in full
+        lastSavedPersons = null;
+
+        if (previousPersons == null || journal.shouldCompact()) {
+            saveAddressBook(() -> persons);
+            journal.reset();
+        } else {
+            JournalEntry<List<Person>> entry = JournalEntry.between(previousPersons, persons);
+            if (entry != null) {
+                journal.append(entry.map(records ->
+                        new XmlSerializableAddressBook(() -> FXCollections.observableArrayList(records))));
+            }
         }
+        lastSavedPersons = persons;
     }
 
 }
@@ -1,17 +1,78 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.RecordCodec;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.adapter.XmlAdaptedPerson;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlFileStorage {
+    /**
+     * Saves the given address book to the specified file, converting one person at a time.
+     */
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBookToFile(file, addressBook, XmlSerializableAddressBook.CODEC);
+    }
+
+    /**
+     * Saves the given address book to the specified file in the format of {@code codec}.
+     */
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook,
+            RecordCodec<XmlAdaptedPerson> codec) throws IOException {
+        Iterable<XmlAdaptedPerson> persons = () -> addressBook.getPersonList().stream()
+                .map(XmlAdaptedPerson::new).iterator();
+        try {
+            codec.write(file, persons);
+        } catch (DataConversionException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the address book in the file, converting one person at a time as it is read.
+     *
+     * @throws DataConversionException if the file is not in the correct format or holds invalid or duplicate
+     * persons.
+     */
+    public static AddressBook loadAddressBookFromFile(Path file) throws DataConversionException, IOException {
+        return loadAddressBookFromFile(file, XmlSerializableAddressBook.CODEC);
+    }
+
+    /**
+     * Returns the address book in the file, which is in the format of {@code codec}.
+     *
+     * @throws DataConversionException if the file is not in the correct format or holds invalid or duplicate
+     * persons.
+     */
+    public static AddressBook loadAddressBookFromFile(Path file, RecordCodec<XmlAdaptedPerson> codec)
+            throws DataConversionException, IOException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            codec.read(file, xmlPerson -> {
+                Person person = xmlPerson.toModelType();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            });
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+        return addressBook;
+    }
+
     /**
      * Saves the given addressbook data to the specified file.
      */
@@ -6,8 +6,10 @@ import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -21,6 +23,10 @@ public class XmlSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Reads and writes the persons in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedPerson> CODEC =
+            new XmlRecordCodec<>(new QName("addressbook"), null, "persons", XmlAdaptedPerson.class);
+
     @XmlElement
     private List<XmlAdaptedPerson> persons;
 
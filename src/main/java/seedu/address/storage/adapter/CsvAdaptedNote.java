@@ -1,6 +1,10 @@
 package seedu.address.storage.adapter;
 
+import java.time.LocalDate;
+
 import seedu.address.model.note.Note;
+import seedu.address.model.note.NoteDate;
+import seedu.address.model.note.NoteTime;
 
 /**
  * CSV-friendly version of Note.
@@ -20,12 +24,19 @@ public class CsvAdaptedNote {
     private String noteText;
 
     public CsvAdaptedNote(Note note) {
+        this(note, note.getStartDate().getDate());
+    }
+
+    /**
+     * Converts the occurrence of {@code note} starting on {@code occurrenceDate} into a CSV-friendly note.
+     */
+    public CsvAdaptedNote(Note note, LocalDate occurrenceDate) {
         this.moduleCode = note.getModuleCode() == null ? "" : note.getModuleCode().toString();
         this.title = note.getTitle().toString();
-        this.startDate = note.getStartDate().toString();
+        this.startDate = occurrenceDate.format(NoteDate.DATE_FORMAT);
         this.startTime = note.getStartTime().toString();
-        this.endDate = note.getEndDate().toString();
-        this.endTime = note.getEndTime().toString();
+        this.endDate = note.getEndDateTime(occurrenceDate).format(NoteDate.DATE_FORMAT);
+        this.endTime = note.getEndDateTime(occurrenceDate).format(NoteTime.TIME_FORMAT);
         this.location = note.getLocation().toString();
         this.noteText = adaptToCsv(note.getNoteText().toString());
     }
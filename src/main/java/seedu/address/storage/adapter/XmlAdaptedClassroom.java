@@ -1,12 +1,15 @@
 package seedu.address.storage.adapter;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.classroom.ClassName;
 import seedu.address.model.classroom.Classroom;
 import seedu.address.model.classroom.Enrollment;
@@ -56,7 +59,15 @@ public class XmlAdaptedClassroom {
         this.className = classroom.getClassName().getValue();
         this.moduleCode = classroom.getModuleCode().moduleCode;
         this.maxEnrollment = classroom.getMaxEnrollment().getValue();
-        this.studentList = classroom.getStudents();
+        this.studentList = new ArrayList<>(classroom.getStudents());
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getModuleCode() {
+        return moduleCode;
     }
 
     /**
@@ -70,7 +81,7 @@ public class XmlAdaptedClassroom {
         if (!ClassName.isValidClassName(className)) {
             throw new IllegalValueException(ClassName.MESSAGE_CLASSNAME_CONSTRAINTS);
         }
-        final ClassName modelClassName = new ClassName(className);
+        final ClassName modelClassName = ClassName.of(className);
 
         if (moduleCode == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -79,7 +90,7 @@ public class XmlAdaptedClassroom {
         if (!ModuleCode.isValidModuleCode(moduleCode)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_MODULE_CODE_CONSTRAINT);
         }
-        final ModuleCode modelModuleCode = new ModuleCode(moduleCode);
+        final ModuleCode modelModuleCode = ModuleCode.of(moduleCode);
 
         if (maxEnrollment == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -91,11 +102,11 @@ public class XmlAdaptedClassroom {
         final Enrollment modelEnrollment = new Enrollment(maxEnrollment);
         Classroom classroom = new Classroom(modelClassName, modelModuleCode, modelEnrollment);
 
-        ArrayList<String> modelStudentList = new ArrayList<>();
+        Set<String> modelStudentList = new LinkedHashSet<>();
 
         for (String matricNo : studentList) {
             if (MatricNo.isValidMatricNo(matricNo)) {
-                modelStudentList.add(matricNo);
+                modelStudentList.add(StringUtil.intern(matricNo));
             }
         }
 
@@ -116,6 +127,12 @@ public class XmlAdaptedClassroom {
         XmlAdaptedClassroom otherClassroom = (XmlAdaptedClassroom) other;
         return Objects.equals(className, otherClassroom.className)
                 && Objects.equals(moduleCode, otherClassroom.moduleCode)
-                && Objects.equals(maxEnrollment, otherClassroom.maxEnrollment);
+                && Objects.equals(maxEnrollment, otherClassroom.maxEnrollment)
+                && Objects.equals(studentList, otherClassroom.studentList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(className, moduleCode, maxEnrollment, studentList);
     }
 }
@@ -1,11 +1,13 @@
 package seedu.address.storage.adapter;
 
 import java.util.ArrayList;
+import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.classroom.Attendance;
 import seedu.address.model.person.MatricNo;
 
@@ -77,10 +79,32 @@ public class XmlAdaptedClassroomAttendance {
 
         for (String matricNo : studentsPresent) {
             if (MatricNo.isValidMatricNo(matricNo)) {
-                modelStudentsPresent.add(matricNo);
+                modelStudentsPresent.add(StringUtil.intern(matricNo));
             }
         }
 
         return new Attendance(date, modelStudentsPresent);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedClassroomAttendance)) {
+            return false;
+        }
+
+        XmlAdaptedClassroomAttendance otherAttendance = (XmlAdaptedClassroomAttendance) other;
+        return Objects.equals(date, otherAttendance.date)
+                && Objects.equals(className, otherAttendance.className)
+                && Objects.equals(moduleCode, otherAttendance.moduleCode)
+                && Objects.equals(studentsPresent, otherAttendance.studentsPresent);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, className, moduleCode, studentsPresent);
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage.adapter;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -62,6 +64,27 @@ public class XmlAdaptedCourse {
     }
 
     public Course toModelType() {
-        return new Course(new CourseCode(courseCode), new CourseName(courseName), new FacultyName(facultyName));
+        return new Course(CourseCode.of(courseCode), new CourseName(courseName), new FacultyName(facultyName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedCourse)) {
+            return false;
+        }
+
+        XmlAdaptedCourse otherCourse = (XmlAdaptedCourse) other;
+        return Objects.equals(courseCode, otherCourse.courseCode)
+                && Objects.equals(courseName, otherCourse.courseName)
+                && Objects.equals(facultyName, otherCourse.facultyName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(courseCode, courseName, facultyName);
     }
 }
@@ -1,10 +1,13 @@
 package seedu.address.storage.adapter;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.gradebook.Gradebook;
 
 /**
@@ -44,7 +47,8 @@ public class XmlAdaptedGradebook {
      * Converts this XmlAdaptedGradebook into the model's Gradebook object
      */
     public Gradebook toGradebookType() {
-        return new Gradebook(moduleCode, gradeComponentName, gradeComponentMaxMarks, gradeComponentWeightage);
+        return new Gradebook(StringUtil.intern(moduleCode), StringUtil.intern(gradeComponentName),
+                gradeComponentMaxMarks, gradeComponentWeightage);
     }
 
     public String getModuleCode() {
@@ -62,4 +66,26 @@ public class XmlAdaptedGradebook {
     public int getGradeComponentWeightage() {
         return gradeComponentWeightage;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedGradebook)) {
+            return false;
+        }
+
+        XmlAdaptedGradebook otherGradebook = (XmlAdaptedGradebook) other;
+        return Objects.equals(moduleCode, otherGradebook.moduleCode)
+                && Objects.equals(gradeComponentName, otherGradebook.gradeComponentName)
+                && gradeComponentMaxMarks == otherGradebook.gradeComponentMaxMarks
+                && gradeComponentWeightage == otherGradebook.gradeComponentWeightage;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleCode, gradeComponentName, gradeComponentMaxMarks, gradeComponentWeightage);
+    }
 }
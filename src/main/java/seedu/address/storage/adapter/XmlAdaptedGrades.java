@@ -1,10 +1,13 @@
 package seedu.address.storage.adapter;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.grades.Grades;
 
 /**
@@ -44,7 +47,8 @@ public class XmlAdaptedGrades {
      * Converts this XmlAdaptedGrades into the model's Grades object
      */
     public Grades toGradeType() {
-        return new Grades(moduleCode, gradeComponentName, adminNo, studentMarks);
+        return new Grades(StringUtil.intern(moduleCode), StringUtil.intern(gradeComponentName),
+                StringUtil.intern(adminNo), studentMarks);
     }
 
     public String getModuleCode() {
@@ -62,4 +66,26 @@ public class XmlAdaptedGrades {
     public float getStudentMarks() {
         return studentMarks;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedGrades)) {
+            return false;
+        }
+
+        XmlAdaptedGrades otherGrades = (XmlAdaptedGrades) other;
+        return Objects.equals(moduleCode, otherGrades.moduleCode)
+                && Objects.equals(gradeComponentName, otherGrades.gradeComponentName)
+                && Objects.equals(adminNo, otherGrades.adminNo)
+                && studentMarks == otherGrades.studentMarks;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleCode, gradeComponentName, adminNo, studentMarks);
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage.adapter;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -54,7 +56,7 @@ public class XmlAdaptedModule {
         if (!ModuleCode.isValidModuleCode(code)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_MODULE_CODE_CONSTRAINT);
         }
-        final ModuleCode moduleCode = new ModuleCode(code);
+        final ModuleCode moduleCode = ModuleCode.of(code);
 
         if (name == null) {
             throw new IllegalValueException(
@@ -67,4 +69,24 @@ public class XmlAdaptedModule {
 
         return new Module(moduleCode, moduleName);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedModule)) {
+            return false;
+        }
+
+        XmlAdaptedModule otherModule = (XmlAdaptedModule) other;
+        return Objects.equals(name, otherModule.name)
+                && Objects.equals(code, otherModule.code);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, code);
+    }
 }
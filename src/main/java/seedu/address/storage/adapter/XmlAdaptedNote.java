@@ -1,5 +1,11 @@
 package seedu.address.storage.adapter;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
@@ -9,6 +15,7 @@ import seedu.address.model.module.ModuleCode;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.NoteDate;
 import seedu.address.model.note.NoteLocation;
+import seedu.address.model.note.NoteRecurrence;
 import seedu.address.model.note.NoteText;
 import seedu.address.model.note.NoteTime;
 import seedu.address.model.note.NoteTitle;
@@ -44,6 +51,15 @@ public class XmlAdaptedNote {
     @XmlElement(name = "noteText", required = true, nillable = true)
     private String noteText;
 
+    @XmlElement(name = "repeatEvery")
+    private String repeatEvery;
+
+    @XmlElement(name = "repeatUntil")
+    private String repeatUntil;
+
+    @XmlElement(name = "repeatException")
+    private List<String> repeatExceptions = new ArrayList<>();
+
     /**
      * Constructs an XmlAdaptedNote.
      * This is the no-arg constructor that is required by JAXB.
@@ -84,6 +100,15 @@ public class XmlAdaptedNote {
         this.endTime = note.getEndTime().toString();
         this.location = note.getLocation().toString();
         this.noteText = note.getNoteText().toString();
+
+        NoteRecurrence recurrence = note.getRecurrence();
+        if (recurrence != null) {
+            this.repeatEvery = Integer.toString(recurrence.getIntervalDays());
+            this.repeatUntil = recurrence.getUntil().format(NoteDate.DATE_FORMAT);
+            this.repeatExceptions = recurrence.getExceptions().stream()
+                    .map(date -> date.format(NoteDate.DATE_FORMAT))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
     }
 
     /**
@@ -109,7 +134,7 @@ public class XmlAdaptedNote {
         ModuleCode moduleCode = null;
         if (!this.moduleCode.trim().isEmpty()) {
             try {
-                moduleCode = new ModuleCode(this.moduleCode);
+                moduleCode = ModuleCode.of(this.moduleCode);
             } catch (IllegalArgumentException | NullPointerException e) {
                 return null;
             }
@@ -176,7 +201,16 @@ public class XmlAdaptedNote {
             return null;
         }
 
-        return new Note(
+        NoteRecurrence recurrence = null;
+        if (startDate != null && this.repeatEvery != null && !this.repeatEvery.trim().isEmpty()) {
+            try {
+                recurrence = toRecurrence();
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return null;
+            }
+        }
+
+        Note note = new Note(
                 moduleCode,
                 title,
                 startDate,
@@ -186,6 +220,25 @@ public class XmlAdaptedNote {
                 location,
                 noteText
         );
+        note.setRecurrence(recurrence);
+        return note;
+    }
+
+    /**
+     * Converts the repeat fields of this XmlAdaptedNote into a {@code NoteRecurrence}.
+     *
+     * @throws IllegalArgumentException if the fields are not valid.
+     */
+    private NoteRecurrence toRecurrence() {
+        int intervalDays = Integer.parseInt(this.repeatEvery.trim());
+        LocalDate until = new NoteDate(this.repeatUntil.trim()).getDate();
+        List<LocalDate> exceptions = new ArrayList<>();
+        if (this.repeatExceptions != null) {
+            for (String exception : this.repeatExceptions) {
+                exceptions.add(new NoteDate(exception.trim()).getDate());
+            }
+        }
+        return new NoteRecurrence(intervalDays, until, exceptions);
     }
 
     public String getModuleCode() {
@@ -219,4 +272,34 @@ public class XmlAdaptedNote {
     public String getNoteText() {
         return this.noteText;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedNote)) {
+            return false;
+        }
+
+        XmlAdaptedNote otherNote = (XmlAdaptedNote) other;
+        return Objects.equals(moduleCode, otherNote.moduleCode)
+                && Objects.equals(title, otherNote.title)
+                && Objects.equals(startDate, otherNote.startDate)
+                && Objects.equals(startTime, otherNote.startTime)
+                && Objects.equals(endDate, otherNote.endDate)
+                && Objects.equals(endTime, otherNote.endTime)
+                && Objects.equals(location, otherNote.location)
+                && Objects.equals(noteText, otherNote.noteText)
+                && Objects.equals(repeatEvery, otherNote.repeatEvery)
+                && Objects.equals(repeatUntil, otherNote.repeatUntil)
+                && Objects.equals(repeatExceptions, otherNote.repeatExceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleCode, title, startDate, startTime, endDate, endTime, location, noteText,
+                repeatEvery, repeatUntil, repeatExceptions);
+    }
 }
@@ -133,7 +133,7 @@ public class XmlAdaptedPerson {
         if (!MatricNo.isValidMatricNo(matricNo)) {
             throw new IllegalValueException(MatricNo.MESSAGE_MATRIC_NO_CONSTRAINTS);
         }
-        final MatricNo modelMatricNo = new MatricNo(matricNo);
+        final MatricNo modelMatricNo = MatricNo.of(matricNo);
 
         if (courseCode == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -142,7 +142,7 @@ public class XmlAdaptedPerson {
         if (!CourseCode.isValidCourseCode(courseCode)) {
             throw new IllegalValueException(CourseCode.MESSAGE_COURSE_CODE_CONSTRAINTS);
         }
-        final CourseCode modelCourseCode = new CourseCode(courseCode);
+        final CourseCode modelCourseCode = CourseCode.of(courseCode);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelCourseCode, modelMatricNo);
@@ -167,4 +167,9 @@ public class XmlAdaptedPerson {
                 && Objects.equals(matricNo, otherPerson.matricNo)
                 && tagged.equals(otherPerson.tagged);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address, courseCode, matricNo, tagged);
+    }
 }
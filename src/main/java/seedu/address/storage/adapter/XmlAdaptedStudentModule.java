@@ -1,5 +1,7 @@
 package seedu.address.storage.adapter;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -34,4 +36,24 @@ public class XmlAdaptedStudentModule {
     public String getModuleCode() {
         return moduleCode;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedStudentModule)) {
+            return false;
+        }
+
+        XmlAdaptedStudentModule otherStudentModule = (XmlAdaptedStudentModule) other;
+        return Objects.equals(studentMatricNo, otherStudentModule.studentMatricNo)
+                && Objects.equals(moduleCode, otherStudentModule.moduleCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentMatricNo, moduleCode);
+    }
 }
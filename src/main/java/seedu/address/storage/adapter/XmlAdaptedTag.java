@@ -59,4 +59,9 @@ public class XmlAdaptedTag {
 
         return tagName.equals(((XmlAdaptedTag) other).tagName);
     }
+
+    @Override
+    public int hashCode() {
+        return tagName.hashCode();
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.storage.adapter;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -62,4 +64,25 @@ public class XmlAdaptedUser {
     public User toModelType() {
         return new User(email, unhashedPassword, Integer.parseInt(role));
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedUser)) {
+            return false;
+        }
+
+        XmlAdaptedUser otherUser = (XmlAdaptedUser) other;
+        return Objects.equals(email, otherUser.email)
+                && Objects.equals(unhashedPassword, otherUser.unhashedPassword)
+                && Objects.equals(role, otherUser.role);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(email, unhashedPassword, role);
+    }
 }
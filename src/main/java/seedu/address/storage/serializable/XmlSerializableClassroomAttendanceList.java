@@ -7,7 +7,9 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.storage.adapter.XmlAdaptedClassroomAttendance;
 
 /**
@@ -16,6 +18,11 @@ import seedu.address.storage.adapter.XmlAdaptedClassroomAttendance;
 @XmlRootElement(namespace = "seedu.address.storage.serializable")
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableClassroomAttendanceList {
+    /** Reads and writes the classroom attendance records in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedClassroomAttendance> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.storage.serializable", "xmlSerializableClassroomAttendanceList", "ns2"),
+            "attendanceList", "attendance", XmlAdaptedClassroomAttendance.class);
+
     @XmlElementWrapper(name = "attendanceList")
     @XmlElement(name = "attendance")
     private ArrayList<XmlAdaptedClassroomAttendance> classroomAttendanceList;
@@ -7,7 +7,9 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.storage.adapter.XmlAdaptedClassroom;
 
 /**
@@ -16,6 +18,11 @@ import seedu.address.storage.adapter.XmlAdaptedClassroom;
 @XmlRootElement(namespace = "seedu.address.storage.serializable")
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableClassroomList {
+    /** Reads and writes the classrooms in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedClassroom> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.storage.serializable", "xmlSerializableClassroomList", "ns2"),
+            "classrooms", "class", XmlAdaptedClassroom.class);
+
     @XmlElementWrapper(name = "classrooms")
     @XmlElement(name = "class")
     private ArrayList<XmlAdaptedClassroom> classroomList;
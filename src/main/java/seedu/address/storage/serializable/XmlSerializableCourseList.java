@@ -6,7 +6,9 @@ import java.util.stream.Collectors;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.model.course.Course;
 import seedu.address.storage.adapter.XmlAdaptedCourse;
 
@@ -19,6 +21,11 @@ This course manager stores courses for Trajectory.
 @XmlRootElement(namespace = "seedu.address.model")
 public class XmlSerializableCourseList {
 
+    /** Reads and writes the courses in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedCourse> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.model", "xmlSerializableCourseList", "ns2"),
+            "courses", "course", XmlAdaptedCourse.class);
+
     @XmlElementWrapper(name = "courses")
     @XmlElement(name = "course")
     private ArrayList<XmlAdaptedCourse> courseList = new ArrayList<XmlAdaptedCourse>();
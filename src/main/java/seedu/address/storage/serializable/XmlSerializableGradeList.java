@@ -7,7 +7,9 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.storage.adapter.XmlAdaptedGrades;
 
 /**
@@ -16,6 +18,11 @@ import seedu.address.storage.adapter.XmlAdaptedGrades;
 @XmlRootElement(namespace = "seedu.address.model")
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableGradeList {
+    /** Reads and writes the grades in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedGrades> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.model", "xmlSerializableGradeList", "ns2"),
+            "grade", "gradeInfo", XmlAdaptedGrades.class);
+
     @XmlElementWrapper(name = "grade")
     @XmlElement(name = "gradeInfo")
     private ArrayList<XmlAdaptedGrades> gradeList = new ArrayList<XmlAdaptedGrades>();
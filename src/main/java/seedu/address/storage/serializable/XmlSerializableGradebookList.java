@@ -1,12 +1,15 @@
 package seedu.address.storage.serializable;
 
 import java.util.ArrayList;
+
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.storage.adapter.XmlAdaptedGradebook;
 
 /**
@@ -15,6 +18,11 @@ import seedu.address.storage.adapter.XmlAdaptedGradebook;
 @XmlRootElement(namespace = "seedu.address.model")
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableGradebookList {
+    /** Reads and writes the gradebook components in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedGradebook> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.model", "xmlSerializableGradebookList", "ns2"),
+            "gradebook", "gradeComponent", XmlAdaptedGradebook.class);
+
     @XmlElementWrapper(name = "gradebook")
     @XmlElement(name = "gradeComponent")
     private ArrayList<XmlAdaptedGradebook> gradebookList = new ArrayList<XmlAdaptedGradebook>();
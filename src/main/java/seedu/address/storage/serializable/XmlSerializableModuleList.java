@@ -8,7 +8,9 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.model.module.Module;
 import seedu.address.storage.adapter.XmlAdaptedModule;
 
@@ -19,6 +21,11 @@ import seedu.address.storage.adapter.XmlAdaptedModule;
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableModuleList {
 
+    /** Reads and writes the modules in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedModule> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.storage.serializable", "xmlSerializableModuleList", "ns2"),
+            "modules", "module", XmlAdaptedModule.class);
+
     @XmlElementWrapper(name = "modules")
     @XmlElement(name = "module")
     private ArrayList<XmlAdaptedModule> modules;
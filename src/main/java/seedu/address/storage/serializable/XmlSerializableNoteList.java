@@ -8,7 +8,9 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.model.note.Note;
 import seedu.address.storage.adapter.XmlAdaptedNote;
 
@@ -20,6 +22,11 @@ import seedu.address.storage.adapter.XmlAdaptedNote;
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableNoteList {
 
+    /** Reads and writes the notes in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedNote> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.storage.serializable", "xmlSerializableNoteList", "ns2"),
+            "notes", "note", XmlAdaptedNote.class);
+
     @XmlElementWrapper(name = "notes")
     @XmlElement(name = "note")
     private ArrayList<XmlAdaptedNote> notes;
@@ -7,7 +7,9 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.storage.adapter.XmlAdaptedStudentModule;
 
 /**
@@ -17,6 +19,11 @@ import seedu.address.storage.adapter.XmlAdaptedStudentModule;
 @XmlAccessorType(XmlAccessType.FIELD)
 public class XmlSerializableStudentModuleList {
 
+    /** Reads and writes the student enrolments in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedStudentModule> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.storage.serializable", "xmlSerializableStudentModuleList", "ns2"),
+            "studentModules", "studentModule", XmlAdaptedStudentModule.class);
+
     @XmlElementWrapper(name = "studentModules")
     @XmlElement(name = "studentModule")
     private ArrayList<XmlAdaptedStudentModule> studentModules;
@@ -6,7 +6,9 @@ import java.util.stream.Collectors;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
 
+import seedu.address.commons.util.XmlRecordCodec;
 import seedu.address.model.user.User;
 import seedu.address.storage.adapter.XmlAdaptedUser;
 
@@ -16,6 +18,11 @@ import seedu.address.storage.adapter.XmlAdaptedUser;
 @XmlRootElement(namespace = "seedu.address.model")
 public class XmlSerializableUserList {
 
+    /** Reads and writes the users in this format one at a time. */
+    public static final XmlRecordCodec<XmlAdaptedUser> CODEC = new XmlRecordCodec<>(
+            new QName("seedu.address.model", "xmlSerializableUserList", "ns2"),
+            "users", "user", XmlAdaptedUser.class);
+
     @XmlElementWrapper(name = "users")
     @XmlElement(name = "user")
     private ArrayList<XmlAdaptedUser> userList = new ArrayList<XmlAdaptedUser>();
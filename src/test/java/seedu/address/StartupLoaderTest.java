@@ -0,0 +1,58 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.StorageController;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.storage.adapter.XmlAdaptedNote;
+
+/**
+ * Contains tests for loading data on startup with StartupLoader.
+ */
+public class StartupLoaderTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private StorageManager storageManager;
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        Path folder = testFolder.getRoot().toPath();
+        storageManager = new StorageManager(new XmlAddressBookStorage(folder.resolve("ab")),
+                new JsonUserPrefsStorage(folder.resolve("prefs")));
+    }
+
+    @Test
+    public void loadData_addressBookAndDataFiles_bothLoadedAndTimed() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        ArrayList<XmlAdaptedNote> notes = new ArrayList<>();
+        notes.add(new XmlAdaptedNote("", "Title", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+        StorageController.storeData();
+        StorageController.flush();
+        StorageController.setNoteStorage(new ArrayList<>());
+
+        StartupLoader startupLoader = new StartupLoader();
+
+        assertEquals(addressBook, new AddressBook(startupLoader.loadData(storageManager).get()));
+        assertEquals(notes, StorageController.getNoteStorage());
+        assertTrue(startupLoader.getPhaseMillis().containsKey("data files"));
+        assertTrue(startupLoader.getPhaseMillis().containsKey("address book"));
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.grades.Grades;
+import seedu.address.model.person.Person;
+import seedu.address.storage.XmlSerializableAddressBook;
+import seedu.address.storage.adapter.XmlAdaptedClassroom;
+import seedu.address.storage.adapter.XmlAdaptedGrades;
+import seedu.address.storage.adapter.XmlAdaptedNote;
+import seedu.address.storage.adapter.XmlAdaptedPerson;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Contains tests for reading and writing records with BinaryRecordCodec.
+ */
+public class BinaryRecordCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlUtilTest");
+    private static final Path MISSING_FILE = TEST_DATA_FOLDER.resolve("missing.bin");
+    private static final Path XML_FILE = TEST_DATA_FOLDER.resolve("validAddressBook.xml");
+    private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempCodecAddressBook.bin");
+    private static final Path TEMP_XML_FILE = TestUtil.getFilePathInSandboxFolder("tempCodecAddressBook.xml");
+
+    private static final BinaryRecordCodec<XmlAdaptedPerson> PERSON_CODEC =
+            BinaryRecordCodec.forClass(XmlAdaptedPerson.class);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void toBinaryPath_xmlFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "notes.bin"), BinaryRecordCodec.toBinaryPath(Paths.get("data", "notes.xml")));
+    }
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        PERSON_CODEC.read(MISSING_FILE, person -> { });
+    }
+
+    @Test
+    public void read_xmlFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        PERSON_CODEC.read(XML_FILE, person -> { });
+    }
+
+    @Test
+    public void read_differentRecordClass_throwsDataConversionException() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        PERSON_CODEC.write(TEMP_FILE, toXmlPersons(TypicalPersons.getTypicalPersons()));
+
+        thrown.expect(DataConversionException.class);
+        BinaryRecordCodec.forClass(XmlAdaptedGrades.class).read(TEMP_FILE, grades -> { });
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        PERSON_CODEC.write(TEMP_FILE, toXmlPersons(TypicalPersons.getTypicalPersons()));
+        byte[] bytes = Files.readAllBytes(TEMP_FILE);
+        Files.write(TEMP_FILE, Arrays.copyOf(bytes, bytes.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        PERSON_CODEC.read(TEMP_FILE, person -> { });
+    }
+
+    @Test
+    public void write_persons_sameRecordsReadBackAndSmallerThanXml() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        FileUtil.createIfMissing(TEMP_XML_FILE);
+        List<Person> persons = new ArrayList<>(TypicalPersons.getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Hans Muster").withAddress("4th street é & co").build());
+        List<XmlAdaptedPerson> xmlPersons = toXmlPersons(persons);
+
+        PERSON_CODEC.write(TEMP_FILE, xmlPersons);
+        XmlSerializableAddressBook.CODEC.write(TEMP_XML_FILE, xmlPersons);
+
+        List<XmlAdaptedPerson> readBack = new ArrayList<>();
+        PERSON_CODEC.read(TEMP_FILE, readBack::add);
+        assertEquals(xmlPersons, readBack);
+        assertTrue(Files.size(TEMP_FILE) < Files.size(TEMP_XML_FILE));
+    }
+
+    @Test
+    public void write_repeatedAndNullValues_roundTrip() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        BinaryRecordCodec<XmlAdaptedGrades> gradesCodec = BinaryRecordCodec.forClass(XmlAdaptedGrades.class);
+        List<XmlAdaptedGrades> grades = Arrays.asList(new XmlAdaptedGrades(),
+                new XmlAdaptedGrades(new Grades("CS2113", "Exam", "A0123456A", 87.5f)),
+                new XmlAdaptedGrades(new Grades("CS2113", "Exam", "A0123457A", -1f)));
+
+        gradesCodec.write(TEMP_FILE, grades);
+
+        List<XmlAdaptedGrades> readBack = new ArrayList<>();
+        gradesCodec.read(TEMP_FILE, readBack::add);
+        assertEquals(grades, readBack);
+    }
+
+    @Test
+    public void write_listsAndNullValues_roundTrip() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        BinaryRecordCodec<XmlAdaptedClassroom> classroomCodec = BinaryRecordCodec.forClass(XmlAdaptedClassroom.class);
+        ArrayList<String> students = new ArrayList<>(Arrays.asList("A0123456A", "A0123457A"));
+        List<XmlAdaptedClassroom> classrooms = Arrays.asList(new XmlAdaptedClassroom(),
+                new XmlAdaptedClassroom("T16", "CS2113", "20", students));
+
+        classroomCodec.write(TEMP_FILE, classrooms);
+
+        List<XmlAdaptedClassroom> readBack = new ArrayList<>();
+        classroomCodec.read(TEMP_FILE, readBack::add);
+        assertEquals(classrooms, readBack);
+    }
+
+    @Test
+    public void read_olderLayout_missingFieldsLeftUnset() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        BinaryRecordCodec.forClass(NoteWithoutRecurrence.class).write(TEMP_FILE,
+                Arrays.asList(new NoteWithoutRecurrence("CS2113", "Lecture", "Text")));
+
+        List<XmlAdaptedNote> readBack = new ArrayList<>();
+        BinaryRecordCodec.forClass(XmlAdaptedNote.class).read(TEMP_FILE, readBack::add);
+        assertEquals(Arrays.asList(new XmlAdaptedNote("CS2113", "Lecture", "", "", "", "", "", "Text")), readBack);
+    }
+
+    @Test
+    public void read_fieldChangedType_throwsDataConversionException() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        BinaryRecordCodec.forClass(NoteWithNumericTitle.class).write(TEMP_FILE,
+                Arrays.asList(new NoteWithNumericTitle()));
+
+        thrown.expect(DataConversionException.class);
+        BinaryRecordCodec.forClass(XmlAdaptedNote.class).read(TEMP_FILE, note -> { });
+    }
+
+    private static List<XmlAdaptedPerson> toXmlPersons(List<Person> persons) {
+        List<XmlAdaptedPerson> xmlPersons = new ArrayList<>();
+        persons.forEach(person -> xmlPersons.add(new XmlAdaptedPerson(person)));
+        return xmlPersons;
+    }
+
+    /**
+     * The fields of {@code XmlAdaptedNote} before notes could repeat.
+     */
+    private static class NoteWithoutRecurrence {
+        private String moduleCode;
+        private String title;
+        private String startDate = "";
+        private String startTime = "";
+        private String endDate = "";
+        private String endTime = "";
+        private String location = "";
+        private String noteText;
+
+        private NoteWithoutRecurrence() {}
+
+        NoteWithoutRecurrence(String moduleCode, String title, String noteText) {
+            this.moduleCode = moduleCode;
+            this.title = title;
+            this.noteText = noteText;
+        }
+    }
+
+    /**
+     * A note whose title has a different type from the title of {@code XmlAdaptedNote}.
+     */
+    private static class NoteWithNumericTitle {
+        private int title = 1;
+    }
+}
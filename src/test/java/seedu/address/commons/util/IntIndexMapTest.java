@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Contains tests for mapping int keys to consecutive indexes.
+ */
+public class IntIndexMapTest {
+
+    private final IntIndexMap map = new IntIndexMap();
+
+    @Test
+    public void add_newKeys_indexesInOrderAdded() {
+        assertEquals(0, map.add(42));
+        assertEquals(1, map.add(7));
+        assertEquals(2, map.add(0));
+
+        assertEquals(3, map.size());
+        assertEquals(42, map.keyAt(0));
+        assertEquals(7, map.keyAt(1));
+        assertEquals(0, map.keyAt(2));
+    }
+
+    @Test
+    public void add_existingKey_existingIndexReturned() {
+        map.add(5);
+        map.add(9);
+
+        assertEquals(0, map.add(5));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void indexOf_missingKey_returnsMinusOne() {
+        map.add(3);
+
+        assertEquals(-1, map.indexOf(4));
+        assertEquals(0, map.indexOf(3));
+    }
+
+    @Test
+    public void add_manyKeys_allFoundAfterGrowing() {
+        for (int key = 0; key < 1000; key++) {
+            map.add(key * 16);
+        }
+
+        assertEquals(1000, map.size());
+        for (int key = 0; key < 1000; key++) {
+            assertEquals(key, map.indexOf(key * 16));
+            assertEquals(key * 16, map.keyAt(key));
+        }
+        assertEquals(-1, map.indexOf(8));
+    }
+
+    @Test
+    public void remove_existingKey_laterKeysMovedDown() {
+        map.add(42);
+        map.add(7);
+        map.add(0);
+
+        assertEquals(0, map.remove(42));
+        assertEquals(-1, map.remove(42));
+        assertEquals(2, map.size());
+        assertEquals(-1, map.indexOf(42));
+        assertEquals(0, map.indexOf(7));
+        assertEquals(1, map.indexOf(0));
+        assertEquals(2, map.add(42));
+    }
+}
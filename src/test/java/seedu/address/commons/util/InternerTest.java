@@ -0,0 +1,40 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Contains tests for sharing canonical instances of equal values.
+ */
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_equalValues_firstInstanceReturned() {
+        String first = new String("A0168372L");
+        String second = new String("A0168372L");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_bothKept() {
+        interner.intern("CS2113");
+        interner.intern("CS1010");
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_null_returnsNull() {
+        assertNull(interner.intern(null));
+        assertEquals(0, interner.size());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.Person;
+import seedu.address.storage.XmlSerializableAddressBook;
+import seedu.address.storage.adapter.XmlAdaptedPerson;
+import seedu.address.storage.serializable.XmlSerializableCourseList;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TestUtil;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Contains tests for streaming records with XmlRecordCodec.
+ */
+public class XmlRecordCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlUtilTest");
+    private static final Path EMPTY_FILE = TEST_DATA_FOLDER.resolve("empty.xml");
+    private static final Path MISSING_FILE = TEST_DATA_FOLDER.resolve("missing.xml");
+    private static final Path VALID_FILE = TEST_DATA_FOLDER.resolve("validAddressBook.xml");
+    private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempCodecAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlSerializableAddressBook.CODEC.read(MISSING_FILE, person -> { });
+    }
+
+    @Test
+    public void read_emptyFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlSerializableAddressBook.CODEC.read(EMPTY_FILE, person -> { });
+    }
+
+    @Test
+    public void read_differentRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlSerializableCourseList.CODEC.read(VALID_FILE, course -> { });
+    }
+
+    @Test
+    public void read_fileWrittenByJaxb_sameRecordsAsJaxb() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        XmlSerializableAddressBook.CODEC.read(VALID_FILE, person -> persons.add(person.toModelType()));
+
+        assertEquals(XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class).toModelType()
+                .getPersonList(), persons);
+    }
+
+    @Test
+    public void write_records_readableByJaxbAndCodec() throws Exception {
+        FileUtil.createIfMissing(TEMP_FILE);
+        List<Person> persons = new ArrayList<>(TypicalPersons.getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Hans Muster").withAddress("4th street <b> & co").build());
+        List<XmlAdaptedPerson> xmlPersons = new ArrayList<>();
+        persons.forEach(person -> xmlPersons.add(new XmlAdaptedPerson(person)));
+
+        XmlSerializableAddressBook.CODEC.write(TEMP_FILE, xmlPersons);
+
+        assertEquals(XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class).toModelType()
+                .getPersonList(), persons);
+        List<XmlAdaptedPerson> readBack = new ArrayList<>();
+        XmlSerializableAddressBook.CODEC.read(TEMP_FILE, readBack::add);
+        assertEquals(xmlPersons, readBack);
+    }
+}
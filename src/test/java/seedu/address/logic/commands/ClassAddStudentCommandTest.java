@@ -108,9 +108,9 @@ public class ClassAddStudentCommandTest {
         classroom = new ClassroomBuilder().withClassName("T16").withModuleCode("CG1111").build();
         miniClassroom = new ClassroomBuilder().withClassName("T17")
                 .withEnrollment("1").build();
-        miniClassroom.getStudents().add(student.getMatricNo().matricNo);
         classroomManager.addClassroom(classroom);
         classroomManager.addClassroom(miniClassroom);
+        classroomManager.assignStudent(miniClassroom, student.getMatricNo().matricNo);
     }
 
     @Test
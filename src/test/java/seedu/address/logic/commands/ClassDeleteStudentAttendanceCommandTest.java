@@ -60,7 +60,7 @@ public class ClassDeleteStudentAttendanceCommandTest {
     private Person student3;
     private Classroom classroom;
     private Classroom classroom2;
-    private Attendance attendance;
+    private String date;
 
     @Before
     public void setUp() {
@@ -96,12 +96,12 @@ public class ClassDeleteStudentAttendanceCommandTest {
 
         classroom = new ClassroomBuilder().withClassName("T16").withModuleCode("CG1111").build();
         classroom2 = new ClassroomBuilder().withClassName("T17").withModuleCode("CG1111").build();
-        classroom.getStudents().add(student.getMatricNo().matricNo);
-        classroom2.getStudents().add(student3.getMatricNo().matricNo);
         classroomManager.addClassroom(classroom);
         classroomManager.addClassroom(classroom2);
-        attendance = new Attendance();
-        classroomManager.markStudentAttendance(classroom, attendance, student.getMatricNo().matricNo);
+        classroomManager.assignStudent(classroom, student.getMatricNo().matricNo);
+        classroomManager.assignStudent(classroom2, student3.getMatricNo().matricNo);
+        date = new Attendance().getDate();
+        classroomManager.markStudentAttendance(classroom, date, student.getMatricNo().matricNo);
     }
 
     @Test
@@ -175,7 +175,7 @@ public class ClassDeleteStudentAttendanceCommandTest {
     public void execute_classroomMarkStudentAlreadyAbsent_throwsCommandException() throws CommandException {
         String expectedMessage = String.format(MESSAGE_UNMARKED_CLASSROOM_STUDENT_ATTENDANCE,
                 student.getMatricNo().matricNo);
-        attendance.getStudentsPresent().remove(student.getMatricNo().matricNo);
+        classroomManager.modifyStudentAttendance(classroom, date, student.getMatricNo().matricNo);
         ClassDeleteStudentAttendanceCommand classDeleteStudentAttendanceCommand =
                 new ClassDeleteStudentAttendanceCommand(classroom.getClassName().getValue(),
                         classroom.getModuleCode().moduleCode, student.getMatricNo().matricNo);
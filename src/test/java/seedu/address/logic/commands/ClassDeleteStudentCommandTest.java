@@ -101,8 +101,8 @@ public class ClassDeleteStudentCommandTest {
         }
 
         classroom = new ClassroomBuilder().build();
-        classroom.getStudents().add(student.getMatricNo().matricNo);
         classroomManager.addClassroom(classroom);
+        classroomManager.assignStudent(classroom, student.getMatricNo().matricNo);
     }
 
     @Test
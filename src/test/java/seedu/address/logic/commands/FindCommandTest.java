@@ -5,7 +5,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -86,6 +89,17 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_typoAndPartialKeywords_personsFoundBestMatchFirst() {
+        CourseManager.getInstance().addCourse(new Course(new CourseCode("CEG"), new CourseName("Computer Engineering"),
+                new FacultyName("Faculty of Engineering")));
+        StudentFindCommand command = new StudentFindCommand(preparePredicate("Alcie Daniel mei"));
+        CommandResult result = command.execute(model, commandHistory);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), result.feedbackToUser);
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -11,7 +11,7 @@ import seedu.address.model.grades.GradesManager;
  * Contains tests for GradeAddCommand.
  */
 public class GradeAddCommandTest {
-    private static GradesManager gradesManager = new GradesManager();
+    private static GradesManager gradesManager = GradesManager.getInstance();
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -19,7 +19,7 @@ import seedu.address.testutil.GradeBuilder;
  * Contains tests for GradeListCommand.
  */
 public class GradeListCommandTest {
-    private static GradesManager gradesManager = new GradesManager();
+    private static GradesManager gradesManager = GradesManager.getInstance();
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
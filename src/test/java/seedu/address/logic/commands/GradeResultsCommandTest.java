@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.GradeResultsCommand.MESSAGE_NO_RESULTS;
+import static seedu.address.logic.commands.GradeResultsCommand.MESSAGE_PAGE_INVALID;
+import static seedu.address.logic.commands.GradeResultsCommand.MESSAGE_RESULTS_SUCCESS;
+import static seedu.address.logic.commands.GradeResultsCommand.MESSAGE_WEIGHTAGE_INCOMPLETE;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.StorageController;
+import seedu.address.model.gradebook.Gradebook;
+import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.testutil.GradeBuilder;
+
+/**
+ * Contains tests for GradeResultsCommand.
+ */
+public class GradeResultsCommandTest {
+    private static GradebookManager gradebookManager = GradebookManager.getInstance();
+    private static GradesManager gradesManager = GradesManager.getInstance();
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        gradebookManager.addGradebookComponent(new Gradebook("ZZ9102", "Finals", 100, 100));
+        for (int i = 0; i < 25; i++) {
+            gradesManager.addGrade(new GradeBuilder()
+                    .withModuleCode("ZZ9102")
+                    .withComponentName("Finals")
+                    .withAdminNo(String.format("A01%05dZ", i))
+                    .withMarks(i)
+                    .build());
+        }
+    }
+
+    @After
+    public void tearDown() {
+        gradebookManager.deleteGradebookComponent(gradebookManager.findGradebookComponent("ZZ9102", "Finals"));
+    }
+
+    @Test
+    public void execute_lastPage_remainingResultsShown() {
+        CommandResult result = new GradeResultsCommand("ZZ9102", 2).execute(new ModelManager(), new CommandHistory());
+        assertEquals(String.format(MESSAGE_RESULTS_SUCCESS, 21, 25, 25, 2, 2), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_pageOutOfRange_pageCountShown() {
+        CommandResult result = new GradeResultsCommand("ZZ9102", 3).execute(new ModelManager(), new CommandHistory());
+        assertEquals(String.format(MESSAGE_PAGE_INVALID, 2), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_weightageBelowHundred_noteShown() {
+        gradebookManager.editGradebookComponent(gradebookManager.findGradebookComponent("ZZ9102", "Finals"), "", 0, 80);
+        CommandResult result = new GradeResultsCommand("ZZ9102", 1).execute(new ModelManager(), new CommandHistory());
+        assertEquals(String.format(MESSAGE_RESULTS_SUCCESS, 1, 20, 25, 1, 2)
+                + String.format(MESSAGE_WEIGHTAGE_INCOMPLETE, "ZZ9102", 80), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_noGrades_noResultsShown() {
+        CommandResult result = new GradeResultsCommand("ZZ9103", 1).execute(new ModelManager(), new CommandHistory());
+        assertEquals(String.format(MESSAGE_NO_RESULTS, "ZZ9103"), result.feedbackToUser);
+    }
+}
@@ -20,7 +20,7 @@ import seedu.address.model.gradebook.GradebookManager;
  * Contains tests for GradebookAddCommand.
  */
 public class GradebookAddCommandTest {
-    private static GradebookManager gradebookManager = new GradebookManager();
+    private static GradebookManager gradebookManager = GradebookManager.getInstance();
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
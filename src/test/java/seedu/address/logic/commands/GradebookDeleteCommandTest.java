@@ -22,7 +22,7 @@ import seedu.address.testutil.GradebookBuilder;
  * Contains tests for GradebookDeleteCommand.
  */
 public class GradebookDeleteCommandTest {
-    private static GradebookManager gradebookManager = new GradebookManager();
+    private static GradebookManager gradebookManager = GradebookManager.getInstance();
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
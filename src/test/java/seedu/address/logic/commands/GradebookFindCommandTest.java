@@ -21,7 +21,7 @@ import seedu.address.testutil.GradebookBuilder;
  * Contains tests for GradebookFindCommand.
  */
 public class GradebookFindCommandTest {
-    private static GradebookManager gradebookManager = new GradebookManager();
+    private static GradebookManager gradebookManager = GradebookManager.getInstance();
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
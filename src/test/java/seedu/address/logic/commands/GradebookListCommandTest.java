@@ -19,7 +19,7 @@ import seedu.address.testutil.GradebookBuilder;
  * Contains tests for GradebookListCommand.
  */
 public class GradebookListCommandTest {
-    private static GradebookManager gradebookManager = new GradebookManager();
+    private static GradebookManager gradebookManager = GradebookManager.getInstance();
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -68,7 +68,9 @@ public class NoteEditCommandTest {
                         editedNote1.getStartTime(),
                         editedNote1.getEndDate(),
                         editedNote1.getEndTime(),
-                        editedNote1.getLocation()
+                        editedNote1.getLocation(),
+                        null,
+                        false
                 );
 
         CommandResult result = noteEditCommand.execute(new ModelManager(), new CommandHistory());
@@ -109,7 +111,9 @@ public class NoteEditCommandTest {
                         editedNote2.getStartTime(),
                         editedNote2.getEndDate(),
                         editedNote2.getEndTime(),
-                        editedNote2.getLocation()
+                        editedNote2.getLocation(),
+                        null,
+                        false
                 );
 
         thrown.expect(CommandException.class);
@@ -147,7 +151,9 @@ public class NoteEditCommandTest {
                         editedNote.getStartTime(),
                         editedNote.getEndDate(),
                         editedNote.getEndTime(),
-                        editedNote.getLocation()
+                        editedNote.getLocation(),
+                        null,
+                        false
                 );
 
         thrown.expect(CommandException.class);
@@ -185,7 +191,9 @@ public class NoteEditCommandTest {
                         newStartTime,
                         newEndDate,
                         newEndTime,
-                        newLocation
+                        newLocation,
+                        null,
+                        false
                 );
 
         thrown.expect(CommandException.class);
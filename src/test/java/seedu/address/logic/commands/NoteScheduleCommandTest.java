@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.StorageController;
+import seedu.address.model.note.NoteManager;
+import seedu.address.testutil.NoteBuilder;
+
+/**
+ * Contains tests for NoteScheduleCommand.
+ */
+public class NoteScheduleCommandTest {
+
+    private static NoteManager noteManager = NoteManager.getInstance();
+
+    private final LocalDateTime from = LocalDateTime.of(2113, 12, 22, 0, 0);
+    private final LocalDateTime to = LocalDateTime.of(2113, 12, 22, 23, 59);
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        noteManager.clearNotes();
+        noteManager.saveNoteList();
+    }
+
+    @Test
+    public void execute_noNotesInPeriod_displaysMessageNotFound() throws CommandException {
+        noteManager.addNote(new NoteBuilder().withStartDate("23-12-2113").withEndDate("24-12-2113").build());
+        noteManager.addNote(new NoteBuilder().withNullStartDate().withNullEndDate().build());
+
+        CommandResult result = new NoteScheduleCommand(from, to).execute(new ModelManager(), new CommandHistory());
+
+        assertEquals(NoteScheduleCommand.MESSAGE_NOT_FOUND, result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_notesInPeriod_displaysList() throws CommandException {
+        // on from 21-12-2113 to 22-12-2113
+        noteManager.addNote(new NoteBuilder().build());
+        noteManager.addNote(new NoteBuilder().withStartDate("23-12-2113").withEndDate("24-12-2113").build());
+
+        CommandResult result = new NoteScheduleCommand(from, to).execute(new ModelManager(), new CommandHistory());
+
+        assertEquals(String.format(NoteScheduleCommand.MESSAGE_SUCCESS, 1,
+                "22-12-2113 12:00 AM", "22-12-2113 11:59 PM"), result.feedbackToUser);
+        assertEquals(1, noteManager.getFilteredNotes().size());
+    }
+
+    @Test
+    public void getClashWarning_overlappingNotes_listsClashingNotes() {
+        noteManager.addNote(new NoteBuilder().withTitle("Lecture").build());
+        NoteBuilder clashing = new NoteBuilder().withStartDate("22-12-2113").withStartTime("9:00 AM")
+                .withEndDate("23-12-2113");
+        noteManager.addNote(clashing.build());
+
+        String expectedWarning = String.format(NoteManager.MESSAGE_CLASH_WARNING, 1) + "\n"
+                + String.format(NoteManager.MESSAGE_CLASHING_NOTE,
+                        "Lecture", "21-12-2113", "10:00 AM", "22-12-2113", "10:00 AM");
+        assertEquals(expectedWarning, noteManager.getClashWarning(noteManager.getNotes().get(1)));
+        assertEquals("", noteManager.getClashWarning(new NoteBuilder().withStartDate("1-1-2114")
+                .withEndDate("1-1-2114").build()));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        noteManager.clearNotes();
+        noteManager.saveNoteList();
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -140,6 +141,11 @@ public class StudentAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void findPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -160,6 +166,16 @@ public class StudentAddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginCommand() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitCommand() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -6,9 +6,12 @@ import static seedu.address.logic.commands.CommandTestUtil.MODULE_CODE_DESC_CG11
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.ClassListStudentAttendanceCommand;
+import seedu.address.model.classroom.Attendance;
 import seedu.address.model.classroom.Classroom;
 import seedu.address.model.classroom.ClassroomManager;
 import seedu.address.testutil.ClassroomBuilder;
@@ -28,6 +31,23 @@ public class ClassListStudentAttendanceCommandParserTest {
                         classroom.getModuleCode().moduleCode));
     }
 
+    @Test
+    public void parse_dateRange_success() {
+        assertParseSuccess(parser, CLASS_NAME_DESC_T16 + MODULE_CODE_DESC_CG1111 + " fr/01-10-2018 to/31-10-2018",
+                new ClassListStudentAttendanceCommand("T16", "CG1111", LocalDate.of(2018, 10, 1),
+                        LocalDate.of(2018, 10, 31)));
+        assertParseSuccess(parser, CLASS_NAME_DESC_T16 + MODULE_CODE_DESC_CG1111 + " fr/01-10-2018",
+                new ClassListStudentAttendanceCommand("T16", "CG1111", LocalDate.of(2018, 10, 1), LocalDate.MAX));
+    }
+
+    @Test
+    public void parse_invalidDateRange_failure() {
+        assertParseFailure(parser, CLASS_NAME_DESC_T16 + MODULE_CODE_DESC_CG1111 + " fr/2018-10-01",
+                Attendance.MESSAGE_DATE_CONSTRAINTS);
+        assertParseFailure(parser, CLASS_NAME_DESC_T16 + MODULE_CODE_DESC_CG1111 + " fr/31-10-2018 to/01-10-2018",
+                ClassListStudentAttendanceCommand.MESSAGE_INVALID_DATE_RANGE);
+    }
+
     @Test
     public void parse_missingCompulsoryField_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.GradeGraphCommandParser.MESSAGE_RANK_COUNT_INVALID;
+import static seedu.address.logic.parser.GradeGraphCommandParser.MESSAGE_STUDENT_NOT_GRADED;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.StorageController;
+import seedu.address.model.gradebook.Gradebook;
+import seedu.address.model.gradebook.GradebookManager;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.model.module.ModuleManager;
+import seedu.address.testutil.GradeBuilder;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Contains tests for the optional arguments of GradeGraphCommandParser.
+ */
+public class GradeGraphCommandParserTest {
+    private static final String COMPONENT_ARGS = " mc/ZZ9104 cn/Finals";
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ModuleManager moduleManager = ModuleManager.getInstance();
+    private final GradebookManager gradebookManager = GradebookManager.getInstance();
+    private final GradeGraphCommandParser parser = new GradeGraphCommandParser();
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        moduleManager.addModule(new ModuleBuilder().withModuleCode("ZZ9104").build());
+        gradebookManager.addGradebookComponent(new Gradebook("ZZ9104", "Finals", 100, 100));
+        GradesManager.getInstance().addGrade(new GradeBuilder().withModuleCode("ZZ9104").withComponentName("Finals")
+                .withAdminNo("A0190001Z").withMarks(50).build());
+    }
+
+    @After
+    public void tearDown() {
+        gradebookManager.deleteGradebookComponent(gradebookManager.findGradebookComponent("ZZ9104", "Finals"));
+        moduleManager.deleteModule(moduleManager.getModuleByModuleCode("ZZ9104"));
+    }
+
+    @Test
+    public void parse_gradedStudentAndRankCount_success() throws ParseException {
+        parser.parse(COMPONENT_ARGS + " top/3 i/A0190001Z");
+    }
+
+    @Test
+    public void parse_nonPositiveRankCount_throwsParseException() throws ParseException {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_RANK_COUNT_INVALID);
+        parser.parse(COMPONENT_ARGS + " top/0");
+    }
+
+    @Test
+    public void parse_ungradedStudent_throwsParseException() throws ParseException {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_STUDENT_NOT_GRADED);
+        parser.parse(COMPONENT_ARGS + " i/A0190002Z");
+    }
+}
@@ -82,6 +82,12 @@ public class NoteFindCommandParserTest {
 
         noteFindCommand = parser.parse(args);
         assertNotNull(noteFindCommand);
+
+        // valid args with a phrase within double quotes
+        args = " " + PREFIX_NOTE_KEY_WORD + "\"merge conflict\"|rebase";
+
+        noteFindCommand = parser.parse(args);
+        assertNotNull(noteFindCommand);
     }
 
     @AfterClass
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE_START_TIME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.NoteScheduleCommand;
+
+/**
+ * Contains tests for NoteScheduleCommandParser.
+ */
+public class NoteScheduleCommandParserTest {
+
+    private NoteScheduleCommandParser parser = new NoteScheduleCommandParser();
+
+    @Test
+    public void parse_startDateOnly_wholeDay() {
+        assertParseSuccess(parser, " " + PREFIX_NOTE_START_DATE + "2-11-2018",
+                new NoteScheduleCommand(LocalDateTime.of(2018, 11, 2, 0, 0), LocalDateTime.of(2018, 11, 2, 23, 59)));
+    }
+
+    @Test
+    public void parse_allFields_success() {
+        assertParseSuccess(parser, " " + PREFIX_NOTE_START_DATE + "1-10-2018 " + PREFIX_NOTE_START_TIME + "2:00 PM "
+                + PREFIX_NOTE_END_DATE + "7-10-2018 " + PREFIX_NOTE_END_TIME + "4:30 pm",
+                new NoteScheduleCommand(LocalDateTime.of(2018, 10, 1, 14, 0), LocalDateTime.of(2018, 10, 7, 16, 30)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_NOTE_END_DATE + "7-10-2018",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, NoteScheduleCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_NOTE_START_DATE + "7-10-2018 " + PREFIX_NOTE_END_DATE + "1-10-2018",
+                NoteAddCommandParser.MESSAGE_INVALID_DATE_TIME_DIFFERENCE);
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TIME_FORMAT;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -20,6 +21,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.note.NoteDate;
 import seedu.address.model.note.NoteLocation;
+import seedu.address.model.note.NoteRecurrence;
 import seedu.address.model.note.NoteTime;
 import seedu.address.model.note.NoteTitle;
 import seedu.address.model.person.Address;
@@ -260,6 +262,33 @@ public class ParserUtilTest {
         ParserUtil.parseNoteTime(INVALID_TIME);
     }
 
+    @Test
+    public void parseNoteRecurrence_validValues_returnsNoteRecurrence() throws Exception {
+        NoteRecurrence expectedRecurrence = new NoteRecurrence(NoteRecurrence.DAYS_PER_WEEK,
+                LocalDate.of(2018, 11, 12), Arrays.asList(LocalDate.of(2018, 11, 5)));
+        assertEquals(expectedRecurrence, ParserUtil.parseNoteRecurrence(
+                WHITESPACE + "Weekly" + WHITESPACE, VALID_DATE, Arrays.asList("5-11-2018")));
+
+        assertEquals(1, ParserUtil.parseNoteRecurrence("daily", VALID_DATE, Collections.emptyList())
+                .getIntervalDays());
+        assertEquals(3, ParserUtil.parseNoteRecurrence("3", VALID_DATE, Collections.emptyList())
+                .getIntervalDays());
+    }
+
+    @Test
+    public void parseNoteRecurrence_invalidInterval_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(NoteRecurrence.MESSAGE_INVALID_INTERVAL);
+        ParserUtil.parseNoteRecurrence("0", VALID_DATE, Collections.emptyList());
+    }
+
+    @Test
+    public void parseNoteRecurrence_invalidExceptionDate_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_DATE_FORMAT);
+        ParserUtil.parseNoteRecurrence("weekly", VALID_DATE, Arrays.asList(INVALID_DATE));
+    }
+
     @Test
     public void parseNoteTitle_validValue_returnsNoteTitle() throws Exception {
         String titleWithWhitespace = WHITESPACE + VALID_TITLE + WHITESPACE;
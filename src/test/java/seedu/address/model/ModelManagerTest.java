@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -8,13 +9,16 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Provides a test for ModelManager
@@ -48,6 +52,21 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void findPersons_foundPersonEdited_stillFound() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.findPersons(Arrays.asList("Alice"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.updatePerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), modelManager.getFilteredPersonList());
+
+        modelManager.updatePerson(editedAlice, new PersonBuilder(ALICE).withName("Carol Pauline")
+                .withEmail("carol@example.com").build());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
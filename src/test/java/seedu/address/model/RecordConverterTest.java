@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.util.XmlRecordCodec;
+import seedu.address.model.course.Course;
+import seedu.address.storage.adapter.XmlAdaptedCourse;
+import seedu.address.storage.adapter.XmlAdaptedNote;
+import seedu.address.storage.serializable.XmlSerializableCourseList;
+import seedu.address.storage.serializable.XmlSerializableNoteList;
+
+/**
+ * Contains tests for converting records in parallel chunks with RecordConverter.
+ */
+public class RecordConverterTest {
+
+    @Before
+    public void setUp() {
+        QuarantineReport.getInstance().clear();
+    }
+
+    @Test
+    public void convertAll_manyRecords_convertedInOrder() {
+        List<XmlAdaptedCourse> records = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            records.add(new XmlAdaptedCourse(toLetters(i), "Course", "Faculty"));
+        }
+
+        List<Course> courses = RecordConverter.convertAll("courses", records, XmlSerializableCourseList.CODEC,
+                XmlAdaptedCourse::toModelType);
+
+        assertEquals(records.size(), courses.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(toLetters(i), courses.get(i).getCourseCode().toString());
+        }
+        assertEquals(0, QuarantineReport.getInstance().size());
+    }
+
+    @Test
+    public void convertAll_invalidRecords_quarantined() {
+        List<XmlAdaptedNote> records = new ArrayList<>();
+        records.add(new XmlAdaptedNote("", "Valid", "", "", "", "", "", "Text"));
+        // a note without a title cannot be converted
+        records.add(new XmlAdaptedNote("", null, "", "", "", "", "", "Text"));
+        records.add(new XmlAdaptedNote("", "Also valid", "", "", "", "", "", "Text"));
+
+        assertEquals(2, RecordConverter.convertAll("notes", records, XmlSerializableNoteList.CODEC,
+                XmlAdaptedNote::toModelType).size());
+
+        List<QuarantineReport.Entry> entries = QuarantineReport.getInstance().getEntries();
+        assertEquals(1, entries.size());
+        assertEquals("notes", entries.get(0).getDatasetName());
+        assertEquals(1, entries.get(0).getIndex());
+        assertTrue(entries.get(0).getRecord().contains("<noteText>Text</noteText>"));
+    }
+
+    @Test
+    public void convertAll_converterThrows_quarantinedWithReason() {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            records.add(Integer.toString(i));
+        }
+        records.set(1500, "not a number");
+
+        XmlRecordCodec<String> codec = new XmlRecordCodec<>(new QName("numbers"), null, "number", String.class);
+        List<Integer> numbers = RecordConverter.convertAll("numbers", records, codec, Integer::valueOf);
+
+        assertEquals(1999, numbers.size());
+        assertEquals(Integer.valueOf(1501), numbers.get(1500));
+        assertEquals(1500, QuarantineReport.getInstance().getEntries().get(0).getIndex());
+        assertTrue(QuarantineReport.getInstance().getEntries().get(0).getReason().contains("not a number"));
+    }
+
+    /**
+     * Returns {@code number} written with letters, as course codes cannot hold digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.util.BinaryRecordCodec;
+import seedu.address.model.StorageController.Dataset;
+import seedu.address.storage.adapter.XmlAdaptedGrades;
+import seedu.address.storage.adapter.XmlAdaptedNote;
+
+/**
+ * Contains tests for the dirty tracking in StorageController.
+ */
+public class StorageControllerTest {
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        StorageController.storeData();
+        StorageController.flush();
+    }
+
+    @Test
+    public void storeData_allDatasetsClean() {
+        for (Dataset dataset : Dataset.values()) {
+            assertFalse(StorageController.isDirty(dataset));
+        }
+    }
+
+    @Test
+    public void setStorage_sameContent_remainsClean() {
+        long version = StorageController.getVersion(Dataset.GRADES);
+        StorageController.setGradeStorage(new ArrayList<>(StorageController.getGradeStorage()));
+
+        assertFalse(StorageController.isDirty(Dataset.GRADES));
+        assertEquals(version, StorageController.getVersion(Dataset.GRADES));
+    }
+
+    @Test
+    public void setStorage_changedContent_onlyThatDatasetDirty() {
+        ArrayList<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+        notes.add(new XmlAdaptedNote("", "Title", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+
+        assertTrue(StorageController.isDirty(Dataset.NOTES));
+        assertFalse(StorageController.isDirty(Dataset.GRADES));
+
+        StorageController.storeData();
+        StorageController.flush();
+        assertFalse(StorageController.isDirty(Dataset.NOTES));
+    }
+
+    @Test
+    public void setStorage_listChangedAfterwards_storageUnchanged() {
+        ArrayList<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+        notes.add(new XmlAdaptedNote("", "Title", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+        List<XmlAdaptedNote> stored = new ArrayList<>(notes);
+        long version = StorageController.getVersion(Dataset.NOTES);
+
+        notes.clear();
+        assertEquals(stored, StorageController.getNoteStorage());
+        assertEquals(version, StorageController.getVersion(Dataset.NOTES));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getStorage_modifyList_throwsUnsupportedOperationException() {
+        StorageController.getNoteStorage().add(new XmlAdaptedNote("", "Title", "", "", "", "", "", "Text"));
+    }
+
+    @Test
+    public void retrieveData_changesStoredInJournal_replayed() {
+        ArrayList<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+        notes.add(new XmlAdaptedNote("", "First", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+        StorageController.storeData();
+        StorageController.flush();
+        long fileSize = new File("testStorage/notes.xml").length();
+
+        notes = new ArrayList<>(notes);
+        notes.add(0, new XmlAdaptedNote("", "Second", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+        StorageController.storeData();
+        StorageController.flush();
+
+        // the second change was appended to the journal instead of rewriting the file
+        assertEquals(fileSize, new File("testStorage/notes.xml").length());
+
+        StorageController.retrieveData();
+        assertEquals(notes, StorageController.getNoteStorage());
+        assertFalse(StorageController.isDirty(Dataset.NOTES));
+    }
+
+    @Test
+    public void changeRecords_recordsChanged_journaledAndRecordedWithoutRewritingFile() {
+        ArrayList<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+        notes.add(new XmlAdaptedNote("", "First", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+        StorageController.storeData();
+        StorageController.flush();
+        long fileSize = new File("testStorage/notes.xml").length();
+
+        List<DatasetChange> changes = new ArrayList<>();
+        StorageController.setChangeRecorder(changes::add);
+        try {
+            XmlAdaptedNote second = new XmlAdaptedNote("", "Second", "", "", "", "", "", "Text");
+            StorageController.changeRecords(Dataset.NOTES, notes.size() - 1, 1, Collections.singletonList(second));
+            notes.set(notes.size() - 1, second);
+        } finally {
+            StorageController.setChangeRecorder(null);
+        }
+        assertEquals(notes, StorageController.getNoteStorage());
+        assertEquals(1, changes.size());
+        assertTrue(StorageController.isDirty(Dataset.NOTES));
+
+        StorageController.storeData();
+        StorageController.flush();
+        assertEquals(fileSize, new File("testStorage/notes.xml").length());
+
+        StorageController.retrieveData();
+        assertEquals(notes, StorageController.getNoteStorage());
+
+        // undoing the change restores the record it replaced
+        StorageController.applyChange(changes.get(0).invert());
+        assertEquals("First", StorageController.getNoteStorage().get(notes.size() - 1).getTitle());
+    }
+
+    @Test
+    public void removeRecord_equalRecordsStored_identicalRecordRemoved() {
+        List<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+        XmlAdaptedNote first = new XmlAdaptedNote("", "Same", "", "", "", "", "", "Text");
+        XmlAdaptedNote second = new XmlAdaptedNote("", "Same", "", "", "", "", "", "Text");
+        StorageController.addRecord(Dataset.NOTES, first);
+        StorageController.addRecord(Dataset.NOTES, second);
+        XmlAdaptedNote edited = new XmlAdaptedNote("", "Edited", "", "", "", "", "", "Text");
+        StorageController.replaceRecord(Dataset.NOTES, first, edited);
+        StorageController.removeRecord(Dataset.NOTES, second);
+
+        notes.add(edited);
+        assertEquals(notes, StorageController.getNoteStorage());
+        assertTrue(StorageController.getNoteStorage().get(notes.size() - 1) == edited);
+    }
+
+    @Test
+    public void retrieveData_binarySnapshotsEnabled_xmlConvertedToBinary() {
+        ArrayList<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+        notes.add(new XmlAdaptedNote("CS2113", "Title", "", "", "", "", "", "Text"));
+        StorageController.setNoteStorage(notes);
+        StorageController.storeData();
+        StorageController.flush();
+
+        StorageController.setUseBinarySnapshots(true);
+        try {
+            StorageController.retrieveData();
+            assertEquals(notes, StorageController.getNoteStorage());
+            assertTrue(StorageController.isDirty(Dataset.NOTES));
+
+            StorageController.storeData();
+            StorageController.flush();
+            assertTrue(new File("testStorage/notes.bin").length() > 0);
+
+            StorageController.retrieveData();
+            assertEquals(notes, StorageController.getNoteStorage());
+            assertFalse(StorageController.isDirty(Dataset.NOTES));
+        } finally {
+            StorageController.setUseBinarySnapshots(false);
+        }
+    }
+
+    @Test
+    public void retrieveData_unreadableBinaryFile_fileKept() throws Exception {
+        Path binaryFile = Paths.get("testStorage", "notes.bin");
+        BinaryRecordCodec.forClass(XmlAdaptedGrades.class).write(binaryFile,
+                Collections.singletonList(new XmlAdaptedGrades()));
+        byte[] bytes = Files.readAllBytes(binaryFile);
+
+        StorageController.setUseBinarySnapshots(true);
+        try {
+            StorageController.retrieveData();
+            assertTrue(StorageController.isUnreadable(Dataset.NOTES));
+
+            ArrayList<XmlAdaptedNote> notes = new ArrayList<>(StorageController.getNoteStorage());
+            notes.add(new XmlAdaptedNote("", "Title", "", "", "", "", "", "Text"));
+            StorageController.setNoteStorage(notes);
+            StorageController.storeData();
+            StorageController.flush();
+            assertArrayEquals(bytes, Files.readAllBytes(binaryFile));
+        } finally {
+            StorageController.setUseBinarySnapshots(false);
+        }
+    }
+
+    @Test
+    public void storeData_cleanDatasets_skipsAndRecordsSavings() {
+        ArrayList<XmlAdaptedGrades> grades = new ArrayList<>(StorageController.getGradeStorage());
+        grades.add(new XmlAdaptedGrades());
+        StorageController.setGradeStorage(grades);
+        long bytesSkipped = StorageController.getTotalBytesSkipped();
+
+        StorageController.storeData();
+
+        // the eight clean datasets still hold well-formed (non-empty) xml files that were not rewritten
+        assertTrue(StorageController.getTotalBytesSkipped() > bytesSkipped);
+    }
+}
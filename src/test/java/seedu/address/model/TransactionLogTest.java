@@ -0,0 +1,168 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.grades.Grades;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.model.note.NoteManager;
+import seedu.address.testutil.NoteBuilder;
+
+/**
+ * Contains tests for undoing and redoing commands that change the address book and other datasets together.
+ */
+public class TransactionLogTest {
+
+    private final NoteManager noteManager = NoteManager.getInstance();
+    private ModelManager model;
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        noteManager.clearNotes();
+        noteManager.saveNoteList();
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void undoRedo_noteAdded_noteRemovedAndRestored() {
+        model.beginCommand();
+        noteManager.addNote(new NoteBuilder().withTitle("Lecture").build());
+        noteManager.saveNoteList();
+        model.commitCommand();
+
+        assertTrue(model.canUndoAddressBook());
+        model.undoAddressBook();
+        assertEquals(0, noteManager.getNotes().size());
+        assertEquals(0, StorageController.getNoteStorage().size());
+
+        assertTrue(model.canRedoAddressBook());
+        model.redoAddressBook();
+        assertEquals(1, noteManager.getNotes().size());
+        assertEquals("Lecture", noteManager.getNotes().get(0).getTitle().toString());
+    }
+
+    @Test
+    public void undo_commandChangingAddressBookAndNotes_bothReverted() {
+        model.beginCommand();
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        noteManager.addNote(new NoteBuilder().build());
+        noteManager.saveNoteList();
+        model.commitCommand();
+
+        model.undoAddressBook();
+        assertTrue(model.hasPerson(ALICE));
+        assertEquals(0, noteManager.getNotes().size());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitCommand_noChanges_nothingToUndo() {
+        model.beginCommand();
+        model.commitCommand();
+
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void beginCommand_afterUndo_redoDiscarded() {
+        model.beginCommand();
+        noteManager.addNote(new NoteBuilder().build());
+        noteManager.saveNoteList();
+        model.commitCommand();
+        model.undoAddressBook();
+
+        model.beginCommand();
+        noteManager.addNote(new NoteBuilder().withTitle("Other").build());
+        noteManager.saveNoteList();
+        model.commitCommand();
+
+        assertFalse(model.canRedoAddressBook());
+        model.undoAddressBook();
+        assertEquals(0, noteManager.getNotes().size());
+    }
+
+    @Test
+    public void undo_withinCommand_redoKept() {
+        model.beginCommand();
+        noteManager.addNote(new NoteBuilder().build());
+        noteManager.saveNoteList();
+        model.commitCommand();
+
+        // undo and redo are run as commands of their own
+        model.beginCommand();
+        model.undoAddressBook();
+        model.commitCommand();
+
+        assertTrue(model.canRedoAddressBook());
+        model.beginCommand();
+        model.redoAddressBook();
+        model.commitCommand();
+        assertEquals(1, noteManager.getNotes().size());
+    }
+
+    @Test
+    public void undoRedo_noteDeleted_noteRestoredInPlace() {
+        noteManager.addNote(new NoteBuilder().withTitle("First").build());
+        noteManager.addNote(new NoteBuilder().withTitle("Second").build());
+        noteManager.addNote(new NoteBuilder().withTitle("Third").build());
+        noteManager.saveNoteList();
+
+        model.beginCommand();
+        noteManager.deleteNote(1);
+        noteManager.saveNoteList();
+        model.commitCommand();
+
+        model.undoAddressBook();
+        assertEquals(Arrays.asList("First", "Second", "Third"), noteManager.getNotes().stream()
+                .map(note -> note.getTitle().toString()).collect(Collectors.toList()));
+        assertEquals("Second", StorageController.getNoteStorage().get(1).getTitle());
+
+        model.redoAddressBook();
+        assertEquals(2, noteManager.getNotes().size());
+        assertEquals("Third", noteManager.getNotes().get(1).getTitle().toString());
+    }
+
+    @Test
+    public void undoRedo_componentGradesDeleted_gradesRestoredInPlace() {
+        GradesManager gradesManager = GradesManager.getInstance();
+        gradesManager.clearGrade();
+        gradesManager.addGrade(new Grades("CS2113", "Finals", "A0168372L", 80));
+        gradesManager.addGrade(new Grades("CS2113", "Quiz", "A0168372L", 7.5f));
+        gradesManager.addGrade(new Grades("CS2113", "Finals", "A0166371K", 60));
+        gradesManager.saveGradeList();
+        List<String> grades = describe(gradesManager.getGrades());
+
+        model.beginCommand();
+        gradesManager.deleteGrades(gradesManager.getGrades().get(0));
+        gradesManager.saveGradeList();
+        model.commitCommand();
+
+        model.undoAddressBook();
+        assertEquals(grades, describe(gradesManager.getGrades()));
+        assertEquals(70, gradesManager.getStatistics("CS2113", "Finals").getMean(), 1e-9);
+
+        model.redoAddressBook();
+        assertEquals(1, gradesManager.getGradeSize());
+        assertNull(gradesManager.findAdminNo("CS2113", "Finals", "A0168372L"));
+        assertEquals(1, StorageController.getGradeStorage().size());
+    }
+
+    private static List<String> describe(List<Grades> grades) {
+        return grades.stream()
+                .map(grade -> grade.getGradeComponentName() + " " + grade.getAdminNo() + " " + grade.getMarks())
+                .collect(Collectors.toList());
+    }
+}
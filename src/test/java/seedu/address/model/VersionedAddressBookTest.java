@@ -210,6 +210,63 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void commit_beyondHistoryLimit_oldestStatesDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 2, Integer.MAX_VALUE);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void commit_beyondHistoryPersonLimit_latestStateKept() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, Integer.MAX_VALUE, 1);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.removePerson(AMY);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undoRedo_editsInMiddleOfList_orderRestored() {
+        ReadOnlyAddressBook addressBookWithAll = new AddressBookBuilder().withPerson(AMY).withPerson(BOB)
+                .withPerson(CARL).build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAll);
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.updatePerson(CARL, BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAll, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -0,0 +1,65 @@
+package seedu.address.model.classroom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Contains tests for marking and querying the attendance of a classroom.
+ */
+public class AttendanceStoreTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2018, 8, 13);
+    private static final LocalDate SECOND_DAY = LocalDate.of(2018, 8, 20);
+    private static final LocalDate THIRD_DAY = LocalDate.of(2018, 8, 27);
+
+    private final AttendanceStore attendance = new AttendanceStore();
+
+    @Before
+    public void setUp() {
+        attendance.mark(SECOND_DAY, "A0168372L");
+        attendance.mark(FIRST_DAY, "A0166371K");
+        attendance.mark(FIRST_DAY, "A0168372L");
+        attendance.addDate(THIRD_DAY);
+    }
+
+    @Test
+    public void mark_datesKeptInDateOrder() {
+        assertEquals(Arrays.asList(FIRST_DAY, SECOND_DAY, THIRD_DAY), attendance.getDates());
+        assertFalse(attendance.mark(FIRST_DAY, "A0168372L"));
+        assertTrue(attendance.isPresent(FIRST_DAY, "A0166371K"));
+        assertFalse(attendance.isPresent(SECOND_DAY, "A0166371K"));
+    }
+
+    @Test
+    public void getStudentsPresent_orderedByFirstAttendance() {
+        assertEquals(Arrays.asList("A0168372L", "A0166371K"), attendance.getStudentsPresent(FIRST_DAY));
+        assertEquals(Collections.emptyList(), attendance.getStudentsPresent(THIRD_DAY));
+        assertEquals(2, attendance.countPresent(FIRST_DAY));
+    }
+
+    @Test
+    public void unmark_recordForDateKept() {
+        assertTrue(attendance.unmark(SECOND_DAY, "A0168372L"));
+        assertFalse(attendance.unmark(SECOND_DAY, "A0168372L"));
+        assertFalse(attendance.isPresent(SECOND_DAY, "A0168372L"));
+        assertTrue(attendance.hasDate(SECOND_DAY));
+    }
+
+    @Test
+    public void dateRangeQueries() {
+        assertEquals(Arrays.asList(SECOND_DAY, THIRD_DAY), attendance.getDates(SECOND_DAY, THIRD_DAY.plusDays(1)));
+        assertEquals(2, attendance.countPresent("A0168372L", FIRST_DAY, THIRD_DAY));
+        assertEquals(1, attendance.countPresent("A0168372L", SECOND_DAY, THIRD_DAY));
+        assertEquals(0.5, attendance.getAttendanceRate("A0168372L", SECOND_DAY, THIRD_DAY), 0);
+        assertEquals(0, attendance.getAttendanceRate("A0196361C", FIRST_DAY, THIRD_DAY), 0);
+        assertEquals(Collections.emptyList(), attendance.getDates(THIRD_DAY, FIRST_DAY));
+    }
+}
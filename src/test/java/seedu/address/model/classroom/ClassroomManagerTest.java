@@ -0,0 +1,198 @@
+package seedu.address.model.classroom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.StorageController;
+import seedu.address.model.module.ModuleManager;
+import seedu.address.storage.adapter.XmlAdaptedClassroomAttendance;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.ClassroomBuilder;
+import seedu.address.testutil.ModuleBuilder;
+
+/**
+ * Contains tests for loading classrooms and their attendance from storage.
+ */
+public class ClassroomManagerTest {
+
+    private final ModuleManager moduleManager = ModuleManager.getInstance();
+    private final ClassroomManager classroomManager = ClassroomManager.getInstance();
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        moduleManager.addModule(new ModuleBuilder().withModuleCode("ZZ9001").build());
+        moduleManager.addModule(new ModuleBuilder().withModuleCode("ZZ9002").build());
+        moduleManager.saveModuleList();
+
+        classroomManager.addClassroom(new ClassroomBuilder().withClassName("L01").withModuleCode("ZZ9001").build());
+        classroomManager.addClassroom(new ClassroomBuilder().withClassName("L02").withModuleCode("ZZ9002").build());
+        classroomManager.saveClassroomList();
+    }
+
+    @After
+    public void tearDown() {
+        moduleManager.deleteModule(moduleManager.getModuleByModuleCode("ZZ9001"));
+        moduleManager.deleteModule(moduleManager.getModuleByModuleCode("ZZ9002"));
+        moduleManager.saveModuleList();
+        classroomManager.saveClassroomList();
+    }
+
+    @Test
+    public void reloadClassroomList_attendanceGroupedByClassroomIgnoringCase() {
+        StorageController.setClassAttendanceStorage(new ArrayList<>(Arrays.asList(
+                new XmlAdaptedClassroomAttendance("l01", "zz9001", "01-01-2018", new ArrayList<>()),
+                new XmlAdaptedClassroomAttendance("L02", "ZZ9002", "02-01-2018", new ArrayList<>()),
+                new XmlAdaptedClassroomAttendance("L01", "ZZ9001", "03-01-2018", new ArrayList<>()))));
+        classroomManager.reloadClassroomList();
+
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        assertEquals(Arrays.asList(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 3)),
+                l01.getAttendance().getDates());
+        assertEquals(1, classroomManager.findClassroom("L02", "ZZ9002").getAttendance().getDates().size());
+    }
+
+    @Test
+    public void reloadClassroomList_noAttendance_onePlaceholderPerClassroom() {
+        StorageController.setClassAttendanceStorage(new ArrayList<>());
+        classroomManager.reloadClassroomList();
+
+        assertEquals(1, classroomManager.findClassroom("L01", "ZZ9001").getAttendance().getDates().size());
+        assertEquals(1, classroomManager.findClassroom("L02", "ZZ9002").getAttendance().getDates().size());
+    }
+
+    @Test
+    public void findClassroom_differentCase_found() {
+        Classroom classroom = classroomManager.findClassroom("L01", "ZZ9001");
+        assertSame(classroom, classroomManager.findClassroom("l01", "zz9001"));
+        assertNull(classroomManager.findClassroom("L02", "ZZ9001"));
+    }
+
+    @Test
+    public void handleModuleDeletedByModuleCode_severalClassrooms_allRemoved() {
+        classroomManager.addClassroom(new ClassroomBuilder().withClassName("L03").withModuleCode("ZZ9001").build());
+        classroomManager.addClassroom(new ClassroomBuilder().withClassName("L04").withModuleCode("ZZ9001").build());
+        assertEquals(3, classroomManager.getClassroomsOfModule("zz9001").size());
+
+        classroomManager.handleModuleDeletedByModuleCode("ZZ9001");
+        assertEquals(0, classroomManager.getClassroomsOfModule("ZZ9001").size());
+        assertNull(classroomManager.findClassroom("L03", "ZZ9001"));
+        assertEquals(Collections.singletonList(classroomManager.findClassroom("L02", "ZZ9002")),
+                classroomManager.getClassroomsOfModule("ZZ9002"));
+    }
+
+    @Test
+    public void handleStudentDeletedByMatricNo_studentInSeveralClassrooms_removedFromAll() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        Classroom l02 = classroomManager.findClassroom("L02", "ZZ9002");
+        classroomManager.assignStudent(l01, "A0168372L");
+        classroomManager.assignStudent(l01, "A0166371K");
+        classroomManager.assignStudent(l02, "A0168372L");
+
+        classroomManager.handleStudentDeletedByMatricNo("A0168372L");
+        assertEquals(Collections.singleton("A0166371K"), l01.getStudents());
+        assertFalse(classroomManager.hasClassroomStudent(l02, "A0168372L"));
+    }
+
+    @Test
+    public void handleStudentDeletedByMatricNo_differentCase_removedFromClassroom() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        classroomManager.assignStudent(l01, "a0168372l");
+        classroomManager.assignStudent(l01, "A0166371K");
+
+        classroomManager.handleStudentDeletedByMatricNo("A0168372L");
+        assertEquals(Collections.singleton("A0166371K"), l01.getStudents());
+    }
+
+    @Test
+    public void getStudents_modifyRoster_throwsUnsupportedOperationException() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        Assert.assertThrows(UnsupportedOperationException.class, () -> l01.getStudents().add("A0168372L"));
+    }
+
+    @Test
+    public void handleStudentDeletedByMatricNo_classroomsAddedAndDeleted_onlyCurrentClassroomsUpdated() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        classroomManager.assignStudent(l01, "A0168372L");
+        classroomManager.deleteClassroom(l01);
+        Classroom l03 = new ClassroomBuilder().withClassName("L03").withModuleCode("ZZ9001").build();
+        l03.setStudents(new LinkedHashSet<>(Arrays.asList("A0168372L", "A0166371K")));
+        classroomManager.addClassroom(l03);
+
+        classroomManager.handleStudentDeletedByMatricNo("A0168372L");
+        assertEquals(Collections.singleton("A0166371K"), l03.getStudents());
+        assertEquals(Collections.singleton("A0168372L"), l01.getStudents());
+    }
+
+    @Test
+    public void getClassroomAttendanceHtmlRepresentation_dateRange_onlyDatesInRangeAndRates() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        classroomManager.assignStudent(l01, "A0168372L");
+        classroomManager.markStudentAttendance(l01, "01-01-2018", "A0168372L");
+        classroomManager.markStudentAttendance(l01, "02-01-2018", "A0168372L");
+        l01.getAttendance().addDate(LocalDate.of(2018, 1, 3));
+        l01.getAttendance().addDate(LocalDate.of(2018, 1, 4));
+
+        String html = classroomManager.getClassroomAttendanceHtmlRepresentation(l01, LocalDate.of(2018, 1, 2),
+                LocalDate.of(2018, 1, 3));
+        assertFalse(html.contains("01-01-2018"));
+        assertTrue(html.contains("02-01-2018"));
+        assertTrue(html.contains("03-01-2018"));
+        assertFalse(html.contains("04-01-2018"));
+        assertTrue(html.contains("50%"));
+    }
+
+    @Test
+    public void saveClassroomAttendance_afterFullSave_onlyChangedRecordReplaced() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        classroomManager.markStudentAttendance(l01, "01-01-2018", "A0168372L");
+        classroomManager.saveClassroomAttendanceList();
+        int recordCount = StorageController.getClassAttendanceStorage().size();
+
+        classroomManager.markStudentAttendance(l01, "01-01-2018", "A0166371K");
+        classroomManager.saveClassroomAttendance(l01, "01-01-2018");
+        assertEquals(recordCount, StorageController.getClassAttendanceStorage().size());
+        classroomManager.markStudentAttendance(l01, "02-01-2018", "A0166371K");
+        classroomManager.saveClassroomAttendance(l01, "02-01-2018");
+        assertEquals(recordCount + 1, StorageController.getClassAttendanceStorage().size());
+        classroomManager.modifyStudentAttendance(l01, "01-01-2018", "A0168372L");
+        classroomManager.saveClassroomAttendance(l01, "01-01-2018");
+
+        classroomManager.reloadClassroomList();
+        l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        assertEquals(Collections.singletonList("A0166371K"),
+                l01.getAttendance().getStudentsPresent(LocalDate.of(2018, 1, 1)));
+        assertTrue(classroomManager.isStudentAttendanceMarked(l01, "02-01-2018", "A0166371K"));
+    }
+
+    @Test
+    public void saveClassroomAttendanceList_reload_attendanceRestored() {
+        Classroom l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        classroomManager.markStudentAttendance(l01, "02-01-2018", "A0168372L");
+        classroomManager.markStudentAttendance(l01, "02-01-2018", "A0166371K");
+        classroomManager.markStudentAttendance(l01, "01-01-2018", "A0166371K");
+        classroomManager.modifyStudentAttendance(l01, "02-01-2018", "A0168372L");
+        classroomManager.saveClassroomAttendanceList();
+        classroomManager.reloadClassroomList();
+
+        l01 = classroomManager.findClassroom("L01", "ZZ9001");
+        assertEquals(Arrays.asList(LocalDate.of(2018, 1, 1), LocalDate.of(2018, 1, 2)),
+                l01.getAttendance().getDates());
+        assertTrue(classroomManager.isStudentAttendanceMarked(l01, "02-01-2018", "A0166371K"));
+        assertFalse(classroomManager.isStudentAttendanceMarked(l01, "02-01-2018", "A0168372L"));
+        assertTrue(classroomManager.hasAttendanceForClass(l01, "01-01-2018"));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.course;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.StorageController;
+
+/**
+ * Contains tests for looking up courses by course code in CourseManager.
+ */
+public class CourseManagerTest {
+
+    private final CourseManager courseManager = CourseManager.getInstance();
+    private final Course computerEngineering = createCourse("CEG", "Computer Engineering");
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        courseManager.clearAll();
+        courseManager.addCourse(computerEngineering);
+    }
+
+    @Test
+    public void getCourse_differentCase_found() {
+        assertEquals(computerEngineering, courseManager.getCourse("ceg"));
+        assertTrue(courseManager.hasCourse("Ceg"));
+        assertFalse(courseManager.hasCourse("CS"));
+    }
+
+    @Test
+    public void updateCourse_codeChanged_indexUpdated() {
+        Course computerScience = createCourse("CS", "Computer Science");
+        courseManager.updateCourse(computerEngineering, computerScience);
+
+        assertNull(courseManager.getCourse("CEG"));
+        assertEquals(computerScience, courseManager.getCourse("CS"));
+    }
+
+    @Test
+    public void deleteCourse_existingCourse_noLongerFound() {
+        courseManager.deleteCourse(computerEngineering);
+
+        assertFalse(courseManager.hasCourse("CEG"));
+    }
+
+    private static Course createCourse(String courseCode, String courseName) {
+        return new Course(new CourseCode(courseCode), new CourseName(courseName), new FacultyName("Engineering"));
+    }
+}
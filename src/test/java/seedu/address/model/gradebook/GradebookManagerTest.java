@@ -0,0 +1,120 @@
+package seedu.address.model.gradebook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.StorageController;
+import seedu.address.model.grades.Grades;
+import seedu.address.model.grades.GradesManager;
+import seedu.address.model.grades.ModuleResult;
+
+/**
+ * Contains tests for indexing gradebook components and keeping their grades and weighted scores in step with them.
+ */
+public class GradebookManagerTest {
+
+    private final GradebookManager gradebookManager = GradebookManager.getInstance();
+    private final GradesManager gradesManager = GradesManager.getInstance();
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        gradebookManager.addGradebookComponent(new Gradebook("ZZ9101", "Quiz", 20, 30));
+        gradebookManager.addGradebookComponent(new Gradebook("ZZ9101", "Finals", 100, 50));
+        gradesManager.addGrade(new Grades("ZZ9101", "Quiz", "A0168372L", 15));
+        gradesManager.addGrade(new Grades("ZZ9101", "Finals", "A0168372L", 70));
+    }
+
+    @After
+    public void tearDown() {
+        for (Gradebook gradebook : gradebookManager.getGradebooks()) {
+            if (gradebook.getModuleCode().equals("ZZ9101")) {
+                gradebookManager.deleteGradebookComponent(gradebook);
+            }
+        }
+    }
+
+    @Test
+    public void addGradebookComponent_duplicate_notAdded() {
+        Gradebook quiz = gradebookManager.findGradebookComponent("ZZ9101", "Quiz");
+        int size = gradebookManager.getGradebookSize();
+        gradebookManager.addGradebookComponent(new Gradebook("ZZ9101", "Quiz", 10, 10));
+
+        assertEquals(size, gradebookManager.getGradebookSize());
+        assertSame(quiz, gradebookManager.findGradebookComponent("ZZ9101", "Quiz"));
+        assertTrue(gradebookManager.hasAddWeightageExceed("ZZ9101", 21));
+        assertFalse(gradebookManager.hasAddWeightageExceed("ZZ9101", 20));
+    }
+
+    @Test
+    public void editGradebookComponent_renamed_gradesMoved() {
+        Gradebook quiz = gradebookManager.findGradebookComponent("ZZ9101", "Quiz");
+        gradebookManager.editGradebookComponent(quiz, "Midterms", 0, 40);
+
+        assertNull(gradebookManager.findGradebookComponent("ZZ9101", "Quiz"));
+        assertSame(quiz, gradebookManager.findGradebookComponent("ZZ9101", "Midterms"));
+        assertEquals(20, quiz.getGradeComponentMaxMarks());
+        assertTrue(gradebookManager.hasAddWeightageExceed("ZZ9101", 11));
+        assertFalse(gradebookManager.hasEditWeightageExceed("ZZ9101", "Midterms", 50));
+
+        assertNull(gradesManager.findAdminNo("ZZ9101", "Quiz", "A0168372L"));
+        assertEquals(15, gradesManager.findAdminNo("ZZ9101", "Midterms", "A0168372L").getMarks(), 0);
+    }
+
+    @Test
+    public void deleteGradebookComponent_gradesDeleted() {
+        gradebookManager.deleteGradebookComponent(gradebookManager.findGradebookComponent("ZZ9101", "Finals"));
+
+        assertNull(gradesManager.findGrade("ZZ9101", "Finals"));
+        assertFalse(gradesManager.isDuplicate("ZZ9101", "Finals", "A0168372L"));
+        assertTrue(gradesManager.isDuplicate("ZZ9101", "Quiz", "A0168372L"));
+        assertFalse(gradebookManager.hasAddWeightageExceed("ZZ9101", 70));
+    }
+
+    @Test
+    public void getWeightedScore_componentsEdited_scoreUpdated() {
+        assertEquals(57.5, gradesManager.getWeightedScore("ZZ9101", "A0168372L"), 1e-9);
+
+        gradebookManager.editGradebookComponent(
+                gradebookManager.findGradebookComponent("ZZ9101", "Quiz"), "Midterms", 0, 40);
+        assertEquals(65, gradesManager.getWeightedScore("ZZ9101", "A0168372L"), 1e-9);
+
+        gradebookManager.editGradebookComponent(
+                gradebookManager.findGradebookComponent("ZZ9101", "Finals"), "", 200, 0);
+        assertEquals(47.5, gradesManager.getWeightedScore("ZZ9101", "A0168372L"), 1e-9);
+
+        gradebookManager.deleteGradebookComponent(gradebookManager.findGradebookComponent("ZZ9101", "Midterms"));
+        assertEquals(17.5, gradesManager.getWeightedScore("ZZ9101", "A0168372L"), 1e-9);
+    }
+
+    @Test
+    public void getModuleResults_rankedByScore_tiesShareRank() {
+        gradesManager.addGrade(new Grades("ZZ9101", "Finals", "A0166371K", 100));
+        gradesManager.addGrade(new Grades("ZZ9101", "Quiz", "A0166371K", 20));
+        gradesManager.addGrade(new Grades("ZZ9101", "Quiz", "A0196361C", 20));
+        gradesManager.addGrade(new Grades("ZZ9101", "Finals", "A0196361C", 55));
+
+        List<ModuleResult> results = gradesManager.getModuleResults("ZZ9101");
+        assertEquals(3, results.size());
+        assertEquals("A0166371K", results.get(0).getAdminNo());
+        assertEquals(1, results.get(0).getRank());
+        assertEquals("A0168372L", results.get(1).getAdminNo());
+        assertEquals(57.5, results.get(1).getScore(), 1e-9);
+        assertEquals(2, results.get(2).getRank());
+
+        gradebookManager.deleteGradebookComponent(gradebookManager.findGradebookComponent("ZZ9101", "Finals"));
+        results = gradesManager.getModuleResults("ZZ9101");
+        assertEquals("A0166371K", results.get(0).getAdminNo());
+        assertEquals(1, results.get(1).getRank());
+        assertEquals(22.5, results.get(2).getScore(), 1e-9);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.model.grades;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Contains tests for summarising the marks of a gradebook component.
+ */
+public class GradeStatisticsTest {
+
+    private final GradeStatistics statistics = new GradeStatistics();
+
+    @Before
+    public void setUp() {
+        statistics.add("A0168372L", 80);
+        statistics.add("A0166371K", 40);
+        statistics.add("A0196361C", 60);
+        statistics.add("A0177777Z", 60);
+        statistics.add("A0188888Y", 100);
+    }
+
+    @Test
+    public void runningValues() {
+        assertEquals(5, statistics.getCount());
+        assertEquals(68, statistics.getMean(), 1e-9);
+        assertEquals(416, statistics.getVariance(), 1e-9);
+        assertEquals(40, statistics.getMin(), 0);
+        assertEquals(100, statistics.getMax(), 0);
+    }
+
+    @Test
+    public void getQuantile_nearestRank() {
+        assertEquals(40, statistics.getQuantile(0), 0);
+        assertEquals(60, statistics.getQuantile(0.5), 0);
+        assertEquals(80, statistics.getQuantile(0.8), 0);
+        assertEquals(100, statistics.getQuantile(1), 0);
+        assertEquals(60, statistics.getPercentileRank(60), 0);
+        assertEquals(0, statistics.getPercentileRank(39), 0);
+    }
+
+    @Test
+    public void getTopAndBottom_tiesInGradingOrder() {
+        assertEquals(Arrays.asList("A0188888Y", "A0168372L", "A0196361C"), statistics.getTop(3));
+        assertEquals(Arrays.asList("A0166371K", "A0196361C", "A0177777Z"), statistics.getBottom(3));
+        assertEquals(5, statistics.getTop(10).size());
+        assertEquals(Collections.emptyList(), statistics.getBottom(0));
+    }
+
+    @Test
+    public void frequenciesAndHistogram() {
+        assertEquals(Arrays.asList(40f, 60f, 80f, 100f), Arrays.asList(
+                statistics.getFrequencies().keySet().toArray(new Float[0])));
+        assertEquals(2, (int) statistics.getFrequencies().get(60f));
+        assertArrayEquals(new int[] {0, 0, 0, 0, 1, 0, 2, 0, 1, 1}, statistics.getHistogram());
+    }
+
+    @Test
+    public void noMarks_zeroes() {
+        GradeStatistics empty = new GradeStatistics();
+        assertEquals(0, empty.getVariance(), 0);
+        assertEquals(0, empty.getQuantile(0.5), 0);
+        assertEquals(0, empty.getPercentileRank(50), 0);
+        assertEquals(Collections.emptyList(), empty.getTop(3));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.grades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.QuarantineReport;
+import seedu.address.model.StorageController;
+import seedu.address.model.grades.exceptions.DuplicateGradeException;
+import seedu.address.storage.adapter.XmlAdaptedGrades;
+import seedu.address.testutil.Assert;
+
+/**
+ * Contains tests for looking up and deleting grades by gradebook component.
+ */
+public class GradesManagerTest {
+
+    private GradesManager gradesManager;
+
+    @Before
+    public void setUp() {
+        StorageController.enterTestMode();
+        gradesManager = GradesManager.getInstance();
+        gradesManager.clearGrade();
+        gradesManager.addGrade(new Grades("CS2113", "Finals", "A0168372L", 80));
+        gradesManager.addGrade(new Grades("CS2113", "Quiz", "A0168372L", 7.5f));
+        gradesManager.addGrade(new Grades("CS2113", "Finals", "A0166371K", 65));
+    }
+
+    @Test
+    public void findAdminNo_gradedStudent_marksFound() {
+        assertEquals(65, gradesManager.findAdminNo("CS2113", "Finals", "A0166371K").getMarks(), 0);
+        assertEquals(7.5f, gradesManager.findAdminNo("CS2113", "Quiz", "A0168372L").getMarks(), 0);
+        assertNull(gradesManager.findAdminNo("CS2113", "Quiz", "A0166371K"));
+        assertNull(gradesManager.findAdminNo("CS2101", "Finals", "A0168372L"));
+    }
+
+    @Test
+    public void addGrade_alreadyGraded_throwsDuplicateGradeException() {
+        assertTrue(gradesManager.isDuplicate("CS2113", "Finals", "A0168372L"));
+        Assert.assertThrows(DuplicateGradeException.class, () ->
+                gradesManager.addGrade(new Grades("CS2113", "Finals", "A0168372L", 10)));
+
+        assertEquals(80, gradesManager.findAdminNo("CS2113", "Finals", "A0168372L").getMarks(), 0);
+        assertEquals(3, gradesManager.getGradeSize());
+    }
+
+    @Test
+    public void getGrades_inOrderAdded() {
+        assertEquals(3, gradesManager.getGrades().size());
+        assertEquals("Quiz", gradesManager.getGrades().get(1).getGradeComponentName());
+        assertEquals("A0166371K", gradesManager.getGrades().get(2).getAdminNo());
+    }
+
+    @Test
+    public void getGrades_componentDeletedAndRegraded_otherGradesKeepOrder() {
+        gradesManager.addGrade(new Grades("CS2113", "Midterm", "A0166371K", 40));
+        gradesManager.deleteGrades(gradesManager.findGrade("CS2113", "Finals"));
+        gradesManager.addGrade(new Grades("CS2113", "Finals", "A0196361C", 95));
+
+        List<Grades> grades = gradesManager.getGrades();
+        assertEquals(Arrays.asList("Quiz", "Midterm", "Finals"), grades.stream()
+                .map(Grades::getGradeComponentName).collect(Collectors.toList()));
+        assertEquals(3, gradesManager.getGradeSize());
+    }
+
+    @Test
+    public void reloadGradeList_duplicateGradeStored_quarantined() {
+        gradesManager.saveGradeList();
+        ArrayList<XmlAdaptedGrades> stored = new ArrayList<>(StorageController.getGradeStorage());
+        stored.add(new XmlAdaptedGrades(new Grades("CS2113", "Finals", "A0168372L", 10)));
+        StorageController.setGradeStorage(stored);
+        int quarantined = QuarantineReport.getInstance().getEntries().size();
+
+        gradesManager.reloadGradeList();
+        assertEquals(3, gradesManager.getGradeSize());
+        assertEquals(80, gradesManager.findAdminNo("CS2113", "Finals", "A0168372L").getMarks(), 0);
+        assertEquals(quarantined + 1, QuarantineReport.getInstance().getEntries().size());
+        assertEquals(3, QuarantineReport.getInstance().getEntries().get(quarantined).getIndex());
+    }
+
+    @Test
+    public void deleteGrades_wholeComponentDeleted() {
+        gradesManager.deleteGrades(gradesManager.findGrade("CS2113", "Finals"));
+
+        assertNull(gradesManager.findGrade("CS2113", "Finals"));
+        assertFalse(gradesManager.isDuplicate("CS2113", "Finals", "A0166371K"));
+        assertEquals(1, gradesManager.getGradeSize());
+    }
+
+    @Test
+    public void getStatistics_followsGrades() {
+        GradeStatistics statistics = gradesManager.getStatistics("CS2113", "Finals");
+        assertEquals(2, statistics.getCount());
+        assertEquals(72.5, statistics.getMean(), 1e-9);
+
+        gradesManager.addGrade(new Grades("CS2113", "Finals", "A0196361C", 95));
+        assertEquals(95, statistics.getMax(), 0);
+        assertEquals(Arrays.asList("A0196361C", "A0168372L"), statistics.getTop(2));
+
+        gradesManager.deleteGrades(gradesManager.findGrade("CS2113", "Finals"));
+        assertNull(gradesManager.getStatistics("CS2113", "Finals"));
+    }
+
+    @Test
+    public void saveGradeList_reload_gradesRestored() {
+        gradesManager.saveGradeList();
+        gradesManager.reloadGradeList();
+
+        assertEquals(3, gradesManager.getGradeSize());
+        assertEquals(80, gradesManager.findAdminNo("CS2113", "Finals", "A0168372L").getMarks(), 0);
+    }
+
+    @Test
+    public void addGrade_gradesSaved_onlyNewGradeAppended() {
+        gradesManager.saveGradeList();
+        gradesManager.addGrade(new Grades("CS2113", "Quiz", "A0166371K", 9));
+        gradesManager.saveGradeList();
+
+        assertEquals(4, StorageController.getGradeStorage().size());
+        assertEquals("A0166371K", StorageController.getGradeStorage().get(3).getAdminNo());
+        gradesManager.reloadGradeList();
+        assertEquals(9, gradesManager.findAdminNo("CS2113", "Quiz", "A0166371K").getMarks(), 0);
+    }
+
+    @Test
+    public void deleteGrades_componentGraded_recordsRemovedFromStorage() {
+        gradesManager.deleteGrades(gradesManager.findGrade("CS2113", "Finals"));
+
+        assertEquals(1, StorageController.getGradeStorage().size());
+        assertEquals("Quiz", StorageController.getGradeStorage().get(0).getGradeComponentName());
+    }
+}
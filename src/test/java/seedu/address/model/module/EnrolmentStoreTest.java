@@ -0,0 +1,90 @@
+package seedu.address.model.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.EntityRegistry;
+
+/**
+ * Contains tests for keeping both directions of an EnrolmentStore consistent.
+ */
+public class EnrolmentStoreTest {
+
+    private final EnrolmentStore enrolments = new EnrolmentStore();
+
+    @Before
+    public void setUp() {
+        enrolments.enrol("CS1010", "A0168372L");
+        enrolments.enrol("CS1010", "A0166371K");
+        enrolments.enrol("CS2113", "A0168372L");
+    }
+
+    @Test
+    public void enrol_bothDirectionsIndexed() {
+        assertTrue(enrolments.isEnrolled("CS1010", "A0166371K"));
+        assertFalse(enrolments.isEnrolled("CS2113", "A0166371K"));
+        assertEquals(new LinkedHashSet<>(Arrays.asList("A0168372L", "A0166371K")),
+                enrolments.getStudentsOfModule("CS1010"));
+        assertEquals(new LinkedHashSet<>(Arrays.asList("CS1010", "CS2113")),
+                enrolments.getModulesOfStudent("A0168372L"));
+    }
+
+    @Test
+    public void getStudentsOfModule_idsAssignedInOtherOrder_enrolmentOrderKept() {
+        // the student enrolled last is seen first elsewhere, so it has the smaller ID
+        EntityRegistry.getInstance().getStudentIds().getOrAssignId("A0900003X");
+        enrolments.enrol("CS2040", "A0900001X");
+        enrolments.enrol("CS2040", "A0900002X");
+        enrolments.enrol("CS2040", "A0900003X");
+        assertEquals(Arrays.asList("A0900001X", "A0900002X", "A0900003X"),
+                new ArrayList<>(enrolments.getStudentsOfModule("CS2040")));
+
+        enrolments.unenrol("CS2040", "A0900002X");
+        enrolments.enrol("CS2040", "A0900002X");
+        assertEquals(Arrays.asList("A0900001X", "A0900003X", "A0900002X"),
+                new ArrayList<>(enrolments.getStudentsOfModule("CS2040")));
+    }
+
+    @Test
+    public void enrol_alreadyEnrolled_returnsFalse() {
+        assertFalse(enrolments.enrol("CS1010", "A0168372L"));
+        assertEquals(2, enrolments.getStudentsOfModule("CS1010").size());
+    }
+
+    @Test
+    public void unenrol_bothDirectionsUpdated() {
+        assertTrue(enrolments.unenrol("CS2113", "A0168372L"));
+        assertFalse(enrolments.unenrol("CS2113", "A0168372L"));
+        assertEquals(Collections.emptySet(), enrolments.getStudentsOfModule("CS2113"));
+        assertEquals(Collections.singleton("CS1010"), enrolments.getModulesOfStudent("A0168372L"));
+    }
+
+    @Test
+    public void removeModule_studentsNoLongerEnrolled() {
+        enrolments.removeModule("CS1010");
+        assertFalse(enrolments.isEnrolled("CS1010", "A0168372L"));
+        assertEquals(Collections.emptySet(), enrolments.getModulesOfStudent("A0166371K"));
+        assertEquals(Collections.singleton("CS2113"), enrolments.getModulesOfStudent("A0168372L"));
+    }
+
+    @Test
+    public void removeStudent_modulesNoLongerListStudent() {
+        enrolments.removeStudent("A0168372L");
+        assertEquals(Collections.singleton("A0166371K"), enrolments.getStudentsOfModule("CS1010"));
+        assertEquals(Collections.emptySet(), enrolments.getStudentsOfModule("CS2113"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getStudentsOfModule_modify_throwsUnsupportedOperationException() {
+        enrolments.getStudentsOfModule("CS1010").clear();
+    }
+}
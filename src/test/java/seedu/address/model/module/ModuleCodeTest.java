@@ -2,6 +2,7 @@ package seedu.address.model.module;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -79,4 +80,13 @@ public class ModuleCodeTest {
         // different module codes -> returns false
         assertFalse(cs2113.equals(geq1000));
     }
+
+    @Test
+    public void of_equalModuleCodes_sameInstance() {
+        ModuleCode cs2113 = ModuleCode.of("CS2113");
+        assertSame(cs2113, ModuleCode.of(new String("CS2113")));
+        assertSame(cs2113.moduleCode, ModuleCode.of(new String("CS2113")).moduleCode);
+        assertEquals(new ModuleCode("CS2113"), cs2113);
+        Assert.assertThrows(IllegalArgumentException.class, () -> ModuleCode.of("cs2113"));
+    }
 }
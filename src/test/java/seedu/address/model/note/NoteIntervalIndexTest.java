@@ -0,0 +1,143 @@
+package seedu.address.model.note;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.testutil.NoteBuilder;
+
+/**
+ * Contains tests for finding notes by date through the NoteIntervalIndex.
+ */
+public class NoteIntervalIndexTest {
+
+    private final NoteIntervalIndex index = new NoteIntervalIndex();
+
+    private final Note lecture = buildNote("2-11-2018", "2:00 PM", "2-11-2018", "4:00 PM");
+    private final Note tutorial = buildNote("2-11-2018", "4:00 PM", "2-11-2018", "5:00 PM");
+    private final Note recess = buildNote("1-11-2018", "12:00 AM", "8-11-2018", "11:59 PM");
+    private final Note undated = new NoteBuilder().withNullStartDate().withNullEndDate().build();
+
+    @Test
+    public void getNotesBetween_period_overlappingNotesByStart() {
+        addAll();
+
+        assertEquals(Arrays.asList(recess, lecture),
+                index.getNotesBetween(LocalDateTime.of(2018, 11, 2, 15, 0), LocalDateTime.of(2018, 11, 2, 16, 0)));
+        assertEquals(Arrays.asList(recess, lecture, tutorial),
+                index.getNotesBetween(LocalDateTime.of(2018, 11, 2, 0, 0), LocalDateTime.of(2018, 11, 2, 23, 59)));
+        assertTrue(index.getNotesBetween(LocalDateTime.of(2018, 11, 9, 0, 0),
+                LocalDateTime.of(2018, 11, 9, 23, 59)).isEmpty());
+    }
+
+    @Test
+    public void getClashes_adjacentNotes_doNotClash() {
+        addAll();
+
+        assertEquals(Arrays.asList(recess), index.getClashes(lecture));
+        assertEquals(Arrays.asList(lecture, tutorial), index.getClashes(recess));
+        assertTrue(index.getClashes(undated).isEmpty());
+    }
+
+    @Test
+    public void getNotesBetween_repeatingNote_foundOnlyOnOccurrences() {
+        Note consultation = buildNote("29-10-2018", "3:00 PM", "29-10-2018", "3:30 PM");
+        consultation.setRecurrence(new NoteRecurrence(NoteRecurrence.DAYS_PER_WEEK, LocalDate.of(2018, 11, 30),
+                Collections.singletonList(LocalDate.of(2018, 11, 12))));
+        index.add(consultation);
+        addAll();
+
+        assertEquals(Arrays.asList(consultation, recess),
+                index.getNotesBetween(LocalDateTime.of(2018, 11, 5, 15, 0), LocalDateTime.of(2018, 11, 5, 16, 0)));
+        assertFalse(index.getNotesBetween(LocalDateTime.of(2018, 11, 6, 15, 0),
+                LocalDateTime.of(2018, 11, 6, 16, 0)).contains(consultation));
+        assertTrue(index.getNotesBetween(LocalDateTime.of(2018, 11, 12, 15, 0),
+                LocalDateTime.of(2018, 11, 12, 16, 0)).isEmpty());
+        assertEquals(Arrays.asList(consultation),
+                index.getNotesBetween(LocalDateTime.of(2018, 11, 26, 15, 15), LocalDateTime.of(2018, 11, 26, 15, 20)));
+        assertEquals(Arrays.asList(recess), index.getClashes(consultation));
+    }
+
+    @Test
+    public void update_editedNote_foundByNewDates() {
+        addAll();
+        tutorial.setStartTime(new NoteTime("3:00 PM"));
+        index.update(tutorial);
+
+        assertEquals(Arrays.asList(recess, tutorial), index.getClashes(lecture));
+    }
+
+    @Test
+    public void remove_note_notFound() {
+        addAll();
+        index.remove(recess);
+
+        assertEquals(2, index.size());
+        assertTrue(index.getClashes(lecture).isEmpty());
+    }
+
+    @Test
+    public void getNotesBetween_manyNotes_sameAsScanningEveryNote() {
+        Random random = new Random(2113);
+        LocalDateTime base = LocalDateTime.of(2018, 8, 13, 0, 0);
+        List<Note> notes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(24 * 120));
+            LocalDateTime end = start.plusHours(random.nextInt(72));
+            Note note = buildNote(start, end);
+            notes.add(note);
+            index.add(note);
+        }
+        for (int i = 0; i < 100; i++) {
+            index.remove(notes.remove(random.nextInt(notes.size())));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            LocalDateTime from = base.plusHours(random.nextInt(24 * 120));
+            LocalDateTime to = from.plusHours(random.nextInt(48));
+            List<Note> expected = new ArrayList<>();
+            for (Note note : notes) {
+                if (note.getStartDateTime().isBefore(to) && from.isBefore(note.getEndDateTime())
+                        || note.getStartDateTime().equals(from)) {
+                    expected.add(note);
+                }
+            }
+            List<Note> found = index.getNotesBetween(from, to);
+            assertEquals(expected.size(), found.size());
+            assertTrue(found.containsAll(expected));
+        }
+    }
+
+    /**
+     * Adds the dated notes and the undated note to the index.
+     */
+    private void addAll() {
+        index.add(lecture);
+        index.add(tutorial);
+        index.add(recess);
+        index.add(undated);
+    }
+
+    /**
+     * Returns a note that is on from {@code startDate} {@code startTime} to {@code endDate} {@code endTime}.
+     */
+    private static Note buildNote(String startDate, String startTime, String endDate, String endTime) {
+        return new NoteBuilder().withStartDate(startDate).withStartTime(startTime)
+                .withEndDate(endDate).withEndTime(endTime).build();
+    }
+
+    private static Note buildNote(LocalDateTime start, LocalDateTime end) {
+        return buildNote(start.format(NoteDate.DATE_FORMAT), start.format(NoteTime.TIME_FORMAT),
+                end.format(NoteDate.DATE_FORMAT), end.format(NoteTime.TIME_FORMAT));
+    }
+}
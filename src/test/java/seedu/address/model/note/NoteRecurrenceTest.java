@@ -0,0 +1,83 @@
+package seedu.address.model.note;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.NoteBuilder;
+
+/**
+ * Contains tests for generating the occurrences of repeating notes.
+ */
+public class NoteRecurrenceTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2018, 11, 1);
+
+    private final NoteRecurrence weekly = new NoteRecurrence(NoteRecurrence.DAYS_PER_WEEK,
+            LocalDate.of(2018, 11, 30), Arrays.asList(LocalDate.of(2018, 11, 15)));
+
+    @Test
+    public void constructor_nonPositiveInterval_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new NoteRecurrence(0, FIRST_DATE, Collections.emptyList()));
+    }
+
+    @Test
+    public void getDates_wholeRange_everyIntervalExceptExceptions() {
+        assertEquals(Arrays.asList(LocalDate.of(2018, 11, 1), LocalDate.of(2018, 11, 8),
+                LocalDate.of(2018, 11, 22), LocalDate.of(2018, 11, 29)),
+                toList(weekly, FIRST_DATE, LocalDate.of(2018, 12, 31)));
+    }
+
+    @Test
+    public void getDates_partOfRange_onlyDatesInRange() {
+        assertEquals(Arrays.asList(LocalDate.of(2018, 11, 22)),
+                toList(weekly, LocalDate.of(2018, 11, 9), LocalDate.of(2018, 11, 28)));
+        assertTrue(toList(weekly, LocalDate.of(2018, 12, 1), LocalDate.of(2018, 12, 31)).isEmpty());
+    }
+
+    @Test
+    public void getLastDate_untilBetweenOccurrences_lastOccurrenceBeforeUntil() {
+        assertEquals(LocalDate.of(2018, 11, 29), weekly.getLastDate(FIRST_DATE));
+        assertEquals(LocalDate.of(2018, 12, 6), weekly.getLastDate(LocalDate.of(2018, 12, 6)));
+    }
+
+    @Test
+    public void getOccurrenceDatesBetween_multiDayNote_includesOccurrenceStartedEarlier() {
+        Note note = new NoteBuilder().withStartDate("1-11-2018").withStartTime("10:00 PM")
+                .withEndDate("2-11-2018").withEndTime("2:00 AM").build();
+        note.setRecurrence(weekly);
+
+        assertEquals(Arrays.asList(LocalDate.of(2018, 11, 8)),
+                note.getOccurrenceDatesBetween(LocalDateTime.of(2018, 11, 9, 1, 0),
+                        LocalDateTime.of(2018, 11, 9, 3, 0)).collect(Collectors.toList()));
+        assertEquals(LocalDateTime.of(2018, 11, 9, 2, 0), note.getEndDateTime(LocalDate.of(2018, 11, 8)));
+        assertFalse(note.getOccurrenceDatesBetween(LocalDateTime.of(2018, 11, 16, 1, 0),
+                LocalDateTime.of(2018, 11, 16, 3, 0)).findAny().isPresent());
+    }
+
+    @Test
+    public void toString_weeklyWithException_describesRule() {
+        assertEquals("Every week until 30-11-2018, except 15-11-2018", weekly.toString());
+        assertEquals("Every 3 days until 01-11-2018",
+                new NoteRecurrence(3, FIRST_DATE, Collections.emptyList()).toString());
+    }
+
+    /**
+     * Returns the dates a note first on {@link #FIRST_DATE} repeats on by {@code recurrence}, from {@code from} to
+     * {@code to}.
+     */
+    private static List<LocalDate> toList(NoteRecurrence recurrence, LocalDate from, LocalDate to) {
+        return recurrence.getDates(FIRST_DATE, from, to).collect(Collectors.toList());
+    }
+}
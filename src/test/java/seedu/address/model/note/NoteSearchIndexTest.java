@@ -0,0 +1,90 @@
+package seedu.address.model.note;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.NoteBuilder;
+
+/**
+ * Contains tests for finding notes through the NoteSearchIndex.
+ */
+public class NoteSearchIndexTest {
+
+    private final NoteSearchIndex index = new NoteSearchIndex();
+
+    private final Note gitNote = new NoteBuilder().withTitle("Git").withNoteText("Resolve a merge conflict").build();
+    private final Note svnNote = new NoteBuilder().withTitle("Lab").withNoteText("svn merge, then commit").build();
+    private final Note sortNote = new NoteBuilder().withTitle("Sorting").withNoteText("Algorithms: merge sort").build();
+
+    @Test
+    public void search_allKeywords_notesContainingEveryKeyword() {
+        addAll();
+
+        assertEquals(Arrays.asList(sortNote), index.search(Arrays.asList("MERGE", "sort")));
+        assertTrue(index.search(Arrays.asList("merge", "quick")).isEmpty());
+    }
+
+    @Test
+    public void search_alternatives_notesContainingAnyAlternative() {
+        addAll();
+
+        assertEquals(Arrays.asList(gitNote, svnNote), index.search(Collections.singletonList("git|svn")));
+    }
+
+    @Test
+    public void search_phrase_wordsMustBeConsecutive() {
+        addAll();
+
+        assertEquals(Arrays.asList(gitNote), index.search(Collections.singletonList("\"merge conflict\"")));
+        assertEquals(Arrays.asList(sortNote), index.search(Collections.singletonList("merge-sort")));
+        assertTrue(index.search(Collections.singletonList("\"conflict merge\"")).isEmpty());
+    }
+
+    @Test
+    public void search_prefix_wordsStartingWithPrefix() {
+        addAll();
+
+        assertEquals(Arrays.asList(sortNote), index.search(Collections.singletonList("algo*")));
+        assertTrue(index.search(Collections.singletonList("algo")).isEmpty());
+    }
+
+    @Test
+    public void search_keywordInTitle_rankedHigher() {
+        Note textNote = new NoteBuilder().withTitle("Notes").withNoteText("stack").build();
+        Note titleNote = new NoteBuilder().withTitle("Stack").withNoteText("push and pop").build();
+        index.add(textNote);
+        index.add(titleNote);
+
+        assertEquals(Arrays.asList(titleNote, textNote), index.search(Collections.singletonList("stack")));
+    }
+
+    @Test
+    public void update_editedNote_foundByNewText() {
+        addAll();
+        gitNote.setNoteText(new NoteText("Rebase onto master"));
+        index.update(gitNote);
+
+        assertTrue(index.search(Collections.singletonList("conflict")).isEmpty());
+        assertEquals(Arrays.asList(gitNote), index.search(Collections.singletonList("rebase")));
+    }
+
+    @Test
+    public void remove_note_notFound() {
+        addAll();
+        index.remove(svnNote);
+
+        assertEquals(2, index.size());
+        assertEquals(Arrays.asList(gitNote, sortNote), index.search(Collections.singletonList("merge")));
+    }
+
+    private void addAll() {
+        index.add(gitNote);
+        index.add(svnNote);
+        index.add(sortNote);
+    }
+}
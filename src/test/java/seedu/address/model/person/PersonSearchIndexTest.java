@@ -0,0 +1,127 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains tests for finding persons by keywords through the PersonSearchIndex.
+ */
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Before
+    public void setUp() {
+        getTypicalPersons().forEach(index::add);
+    }
+
+    @Test
+    public void search_exactPrefixAndSubstring_rankedInThatOrder() {
+        Person meiers = new PersonBuilder().withName("Meiersson Tan").withEmail("tan@example.com")
+                .withMatricNo("A0000001A").build();
+        Person almeier = new PersonBuilder().withName("Almeier Lim").withEmail("lim@example.com")
+                .withMatricNo("A0000002A").build();
+        index.add(meiers);
+        index.add(almeier);
+
+        Map<Person, Double> scores = index.search(Collections.singletonList("meier"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL, meiers, almeier)), scores.keySet());
+        assertEquals(scores.get(BENSON), scores.get(DANIEL));
+        assertTrue(scores.get(BENSON) > scores.get(meiers));
+        assertTrue(scores.get(meiers) > scores.get(almeier));
+    }
+
+    @Test
+    public void search_emailAndMatricNo_found() {
+        assertEquals(Collections.singleton(CARL), index.search(Arrays.asList("heinz@example.com")).keySet());
+        assertEquals(Collections.singleton(FIONA), index.search(Arrays.asList("LYDIA")).keySet());
+        assertEquals(Collections.singleton(CARL), index.search(Arrays.asList("a0168347c")).keySet());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, CARL, DANIEL, ELLE)),
+                index.search(Arrays.asList("A016834")).keySet());
+    }
+
+    @Test
+    public void search_typo_foundOnlyIfNothingElseMatches() {
+        // a swapped, a missing and an extra character
+        assertEquals(Collections.singleton(ALICE), index.search(Arrays.asList("Alcie")).keySet());
+        assertEquals(Collections.singleton(ELLE), index.search(Arrays.asList("Meyr")).keySet());
+        assertEquals(Collections.singleton(FIONA), index.search(Arrays.asList("Fionna")).keySet());
+
+        // "kunz" matches exactly, so it does not also match "kurz"
+        assertEquals(Collections.singleton(FIONA), index.search(Arrays.asList("kunz")).keySet());
+
+        // too short to correct, or too many typos
+        assertTrue(index.search(Arrays.asList("Kub")).isEmpty());
+        assertTrue(index.search(Arrays.asList("Aclei")).isEmpty());
+    }
+
+    @Test
+    public void search_severalKeywords_scoresAdded() {
+        Map<Person, Double> scores = index.search(Arrays.asList("Daniel", "Meier", " "));
+
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), scores.keySet());
+        assertTrue(scores.get(DANIEL) > scores.get(BENSON));
+    }
+
+    @Test
+    public void remove_editedPerson_foundByNewWords() {
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Schmidt").build();
+        index.remove(CARL);
+        index.add(editedCarl);
+
+        // no longer matched exactly, so "kurz" now matches "kunz" with a typo
+        assertEquals(Collections.singleton(FIONA), index.search(Arrays.asList("Kurz")).keySet());
+        assertEquals(Collections.singleton(editedCarl), index.search(Arrays.asList("schmid")).keySet());
+        assertEquals(Collections.singleton(editedCarl), index.search(Arrays.asList("carl")).keySet());
+    }
+
+    @Test
+    public void search_manyPersons_sameAsScanningEveryPerson() {
+        index.clear();
+        List<Person> persons = new ArrayList<>();
+        String[] names = {"Tan", "Lim", "Lee", "Ng", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo"};
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder()
+                    .withName(names[i % names.length] + " Student" + i)
+                    .withEmail("e" + i + "@u.nus.edu")
+                    .withMatricNo(String.format("A%07dX", i)).build();
+            persons.add(person);
+            index.add(person);
+        }
+
+        Map<Person, Double> scores = index.search(Arrays.asList("student12"));
+        for (Person person : persons) {
+            boolean isExpected = person.getName().fullName.toLowerCase().contains("student12");
+            assertEquals(person.getName().fullName, isExpected, scores.containsKey(person));
+        }
+        assertEquals(1 + 10 + 100, scores.size());
+    }
+
+    @Test
+    public void getTypos_pairsOfWords_typosCounted() {
+        assertEquals(0, PersonSearchIndex.getTypos("kurz", "kurz", 1));
+        assertEquals(1, PersonSearchIndex.getTypos("kurz", "kruz", 1));
+        assertEquals(1, PersonSearchIndex.getTypos("kurz", "kunz", 1));
+        assertEquals(2, PersonSearchIndex.getTypos("kurz", "kun", 2));
+        assertEquals(2, PersonSearchIndex.getTypos("kurz", "kzur", 1));
+    }
+}
@@ -3,10 +3,19 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -114,6 +123,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_equalButDistinctTarget_targetNoLongerFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(new PersonBuilder(ALICE).build(), BOB);
+        assertTrue(uniquePersonList.search(Collections.singletonList("alice")).isEmpty());
+        assertEquals(Collections.singleton(BOB), uniquePersonList.search(Collections.singletonList("bob")).keySet());
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -122,6 +139,15 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonChangesIdentity_oldIdentityFreed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -140,6 +166,24 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personsBeforeOthers_shiftedPersonsStillFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(FIONA);
+        uniquePersonList.remove(ALICE);
+        Person editedElle = new PersonBuilder(ELLE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ELLE, editedElle);
+        uniquePersonList.setPersons(0, 1, Arrays.asList(GEORGE, HOON));
+        uniquePersonList.remove(DANIEL);
+
+        assertEquals(Arrays.asList(GEORGE, HOON, editedElle, FIONA), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(FIONA);
+        uniquePersonList.setPerson(HOON, IDA);
+        assertEquals(Arrays.asList(GEORGE, IDA, editedElle), uniquePersonList.asUnmodifiableObservableList());
     }
 
     @Test
@@ -180,6 +224,26 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithSameNameAndEmailOnly_throwsDuplicatePersonException() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("99999999").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceWithOtherPhone);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_ownListUnchanged() {
+        uniquePersonList.add(BOB);
+        try {
+            uniquePersonList.setPersons(Arrays.asList(ALICE, ALICE));
+            fail("Expected DuplicatePersonException");
+        } catch (DuplicatePersonException e) {
+            assertTrue(uniquePersonList.contains(BOB));
+            assertFalse(uniquePersonList.contains(ALICE));
+        }
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
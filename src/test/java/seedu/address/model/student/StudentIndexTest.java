@@ -0,0 +1,91 @@
+package seedu.address.model.student;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains tests for keeping a StudentIndex in sync with a person list.
+ */
+public class StudentIndexTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final StudentIndex studentIndex = new StudentIndex();
+
+    @Before
+    public void setUp() {
+        addressBook.addPerson(ALICE);
+        studentIndex.attach(addressBook.getPersonList());
+    }
+
+    @Test
+    public void attach_existingPersons_indexed() {
+        assertEquals(ALICE, studentIndex.getByMatricNo(ALICE.getMatricNo().matricNo));
+        assertEquals(ALICE, studentIndex.getByEmail(ALICE.getEmail().value));
+        assertNull(studentIndex.getByMatricNo(BENSON.getMatricNo().matricNo));
+    }
+
+    @Test
+    public void addAndRemovePerson_indexUpdated() {
+        addressBook.addPerson(BENSON);
+        assertEquals(BENSON, studentIndex.getByMatricNo(BENSON.getMatricNo().matricNo));
+
+        addressBook.removePerson(BENSON);
+        assertNull(studentIndex.getByMatricNo(BENSON.getMatricNo().matricNo));
+        assertNull(studentIndex.getByEmail(BENSON.getEmail().value));
+    }
+
+    @Test
+    public void updatePerson_oldKeysRemovedAndNewKeysIndexed() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@trajectory.com").withMatricNo("A0000001Z")
+                .build();
+        addressBook.updatePerson(ALICE, editedAlice);
+
+        assertNull(studentIndex.getByMatricNo(ALICE.getMatricNo().matricNo));
+        assertNull(studentIndex.getByEmail(ALICE.getEmail().value));
+        assertEquals(editedAlice, studentIndex.getByMatricNo("A0000001Z"));
+        assertEquals(editedAlice, studentIndex.getByEmail("alice@trajectory.com"));
+    }
+
+    @Test
+    public void resetData_indexRebuilt() {
+        AddressBook other = new AddressBook();
+        other.addPerson(BENSON);
+        addressBook.resetData(other);
+
+        assertNull(studentIndex.getByMatricNo(ALICE.getMatricNo().matricNo));
+        assertEquals(BENSON, studentIndex.getByEmail(BENSON.getEmail().value));
+    }
+
+    @Test
+    public void getByCourseCode_studentsAddedAndMoved_countsMaintained() {
+        addressBook.addPerson(BENSON);
+        String courseCode = ALICE.getCourseCode().courseCode;
+        int studentsInCourse = studentIndex.getByCourseCode(courseCode).size();
+        assertEquals(studentsInCourse, studentIndex.getByCourseCode(courseCode.toLowerCase()).size());
+
+        Person movedAlice = new PersonBuilder(ALICE).withCourseCode("ZZZ").build();
+        addressBook.updatePerson(ALICE, movedAlice);
+        assertEquals(studentsInCourse - 1, studentIndex.getByCourseCode(courseCode).size());
+        assertEquals(Collections.singletonList(movedAlice), studentIndex.getByCourseCode("zzz"));
+    }
+
+    @Test
+    public void detach_listChanges_ignored() {
+        studentIndex.detach();
+        addressBook.addPerson(BENSON);
+
+        assertNull(studentIndex.getByMatricNo(ALICE.getMatricNo().matricNo));
+        assertNull(studentIndex.getByMatricNo(BENSON.getMatricNo().matricNo));
+    }
+}
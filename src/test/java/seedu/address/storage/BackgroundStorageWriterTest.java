@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+/**
+ * Contains tests for the coalescing and error reporting of BackgroundStorageWriter.
+ */
+public class BackgroundStorageWriterTest {
+
+    private static final long LONG_WINDOW = 60_000;
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final BackgroundStorageWriter writer = BackgroundStorageWriter.getInstance();
+    private long originalWindow;
+
+    @Before
+    public void setUp() {
+        writer.flush();
+        originalWindow = writer.getCoalescingWindow();
+        // keep writes pending until flushed so that the tests do not depend on timing
+        writer.setCoalescingWindow(LONG_WINDOW);
+    }
+
+    @After
+    public void tearDown() {
+        writer.flush();
+        writer.setCoalescingWindow(originalWindow);
+    }
+
+    @Test
+    public void submit_sameKey_onlyLatestWriteRuns() {
+        List<String> written = new ArrayList<>();
+        long coalesced = writer.getWritesCoalesced();
+
+        writer.submit("dataset", () -> written.add("first"));
+        writer.submit("dataset", () -> written.add("second"));
+        writer.submit("other", () -> written.add("other"));
+        writer.flush();
+
+        assertEquals(2, written.size());
+        assertTrue(written.contains("second"));
+        assertTrue(written.contains("other"));
+        assertEquals(coalesced + 1, writer.getWritesCoalesced());
+    }
+
+    @Test
+    public void flush_writeFails_eventRaised() {
+        writer.submit("dataset", () -> {
+            throw new IOException("dummy exception");
+        });
+        writer.flush();
+
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setCoalescingWindow_negative_throwsIllegalArgumentException() {
+        writer.setCoalescingWindow(-1);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Contains tests for computing and applying JournalEntry changes.
+ */
+public class JournalEntryTest {
+
+    private static final List<String> ORIGINAL = Arrays.asList("a", "b", "c", "d");
+
+    @Test
+    public void between_equalLists_returnsNull() {
+        assertNull(JournalEntry.between(ORIGINAL, new ArrayList<>(ORIGINAL)));
+    }
+
+    @Test
+    public void between_elementAppended_recordsOnlyNewElement() {
+        assertEquals(new JournalEntry<>(4, 0, Collections.singletonList("e")),
+                JournalEntry.between(ORIGINAL, Arrays.asList("a", "b", "c", "d", "e")));
+    }
+
+    @Test
+    public void between_elementEdited_recordsReplacement() {
+        assertEquals(new JournalEntry<>(1, 1, Collections.singletonList("x")),
+                JournalEntry.between(ORIGINAL, Arrays.asList("a", "x", "c", "d")));
+    }
+
+    @Test
+    public void between_elementsRemoved_recordsRemoval() {
+        assertEquals(new JournalEntry<>(1, 2, Collections.emptyList()),
+                JournalEntry.between(ORIGINAL, Arrays.asList("a", "d")));
+    }
+
+    @Test
+    public void between_repeatedElements_recordsSingleChange() {
+        assertEquals(new JournalEntry<>(2, 0, Collections.singletonList("a")),
+                JournalEntry.between(Arrays.asList("a", "a"), Arrays.asList("a", "a", "a")));
+    }
+
+    @Test
+    public void applyTo_entryBetweenLists_producesNewList() {
+        List<String> changed = Arrays.asList("x", "b", "y", "z", "d");
+        JournalEntry<List<String>> entry = JournalEntry.between(ORIGINAL, changed);
+        List<String> target = new ArrayList<>(ORIGINAL);
+
+        entry.applyTo(target, entry.getRecords());
+
+        assertEquals(changed, target);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void applyTo_entryDoesNotFit_throwsIndexOutOfBoundsException() {
+        new JournalEntry<>(3, 2, Collections.emptyList()).applyTo(new ArrayList<>(ORIGINAL), Collections.emptyList());
+    }
+}
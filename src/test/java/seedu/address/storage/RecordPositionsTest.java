@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Contains tests for finding records by identity through RecordPositions.
+ */
+public class RecordPositionsTest {
+
+    @Test
+    public void indexOf_equalRecords_identicalRecordFound() {
+        String first = new String("a");
+        String second = new String("a");
+        List<String> list = Arrays.asList(first, second);
+
+        RecordPositions positions = new RecordPositions();
+        assertEquals(1, positions.indexOf(list, second));
+        assertEquals(0, positions.indexOf(list, first));
+    }
+
+    @Test
+    public void indexOf_recordsRemovedBefore_positionsShifted() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c", "d"));
+        RecordPositions positions = new RecordPositions();
+        String d = list.get(3);
+        assertEquals(3, positions.indexOf(list, d));
+
+        List<String> removed = new ArrayList<>(list.subList(1, 2));
+        list.remove(1);
+        positions.spliced(1, removed, Collections.emptyList());
+        assertEquals(2, positions.indexOf(list, d));
+    }
+
+    @Test
+    public void indexOf_recordReplaced_replacementFound() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        RecordPositions positions = new RecordPositions();
+        assertEquals(2, positions.indexOf(list, list.get(2)));
+
+        String replacement = new String("x");
+        List<String> removed = Collections.singletonList(list.set(1, replacement));
+        positions.spliced(1, removed, Collections.singletonList(replacement));
+        assertEquals(1, positions.indexOf(list, replacement));
+        assertEquals(-1, positions.indexOf(list, removed.get(0)));
+    }
+
+    @Test
+    public void indexOf_recordNotInList_foundByEquality() {
+        List<String> list = Arrays.asList("a", "b");
+        assertEquals(1, new RecordPositions().indexOf(list, new String("b")));
+        assertEquals(-1, new RecordPositions().indexOf(list, "c"));
+    }
+}
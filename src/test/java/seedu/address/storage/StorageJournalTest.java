@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains tests for appending, reading and resetting a StorageJournal.
+ */
+public class StorageJournalTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path dataFile;
+    private StorageJournal journal;
+
+    @Before
+    public void setUp() throws Exception {
+        dataFile = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        new XmlAddressBookStorage(dataFile).saveAddressBook(getTypicalAddressBook());
+        journal = new StorageJournal(dataFile);
+        journal.reset();
+    }
+
+    @Test
+    public void read_appendedEntries_returnedInOrder() throws Exception {
+        journal.append(entryOf(2, 1, ALICE));
+        journal.append(entryOf(0, 0, BENSON));
+
+        List<JournalEntry<XmlSerializableAddressBook>> entries = journal.read(XmlSerializableAddressBook.class);
+
+        assertEquals(Arrays.asList(entryOf(2, 1, ALICE), entryOf(0, 0, BENSON)), entries);
+    }
+
+    @Test
+    public void read_dataFileChangedSinceReset_noEntries() throws Exception {
+        journal.append(entryOf(0, 0, ALICE));
+        Files.write(dataFile, " ".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertTrue(journal.read(XmlSerializableAddressBook.class).isEmpty());
+    }
+
+    @Test
+    public void read_incompleteLastEntry_discardedAndCutOff() throws Exception {
+        journal.append(entryOf(0, 0, ALICE));
+        long completeSize = journal.size();
+        Files.write(journal.getJournalFilePath(), "0 0 500\n<addressbook>".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(Arrays.asList(entryOf(0, 0, ALICE)), journal.read(XmlSerializableAddressBook.class));
+        assertEquals(completeSize, journal.size());
+    }
+
+    @Test
+    public void reset_afterAppend_noEntries() throws Exception {
+        journal.append(entryOf(0, 0, ALICE));
+        journal.reset();
+
+        assertTrue(journal.read(XmlSerializableAddressBook.class).isEmpty());
+    }
+
+    private JournalEntry<XmlSerializableAddressBook> entryOf(int index, int removeCount, Person... persons) {
+        return new JournalEntry<>(index, removeCount,
+                new XmlSerializableAddressBook(() -> FXCollections.observableArrayList(persons)));
+    }
+}
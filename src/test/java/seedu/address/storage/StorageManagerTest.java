@@ -3,9 +3,12 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -72,6 +75,46 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_laterChanges_journaledAndReplayedOnRead() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(addressBook)));
+        BackgroundStorageWriter.getInstance().flush();
+        long fileSize = Files.size(getTempFilePath("ab"));
+
+        addressBook.addPerson(AMY);
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(addressBook)));
+        BackgroundStorageWriter.getInstance().flush();
+        addressBook.removePerson(ALICE);
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(addressBook)));
+        BackgroundStorageWriter.getInstance().flush();
+
+        // the changes went to the journal instead of rewriting the file
+        assertEquals(fileSize, Files.size(getTempFilePath("ab")));
+
+        StorageManager reopened = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_alternativeStorageNewer_readFromAlternativeAndSavedInFull() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+
+        StorageManager binaryStorageManager = new StorageManager(
+                new BinaryAddressBookStorage(getTempFilePath("ab.bin")),
+                new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(addressBook, new AddressBook(binaryStorageManager.readAddressBook().get()));
+
+        addressBook.addPerson(AMY);
+        binaryStorageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(addressBook)));
+        BackgroundStorageWriter.getInstance().flush();
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(getTempFilePath("ab.bin"))
+                .readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -83,6 +126,7 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        BackgroundStorageWriter.getInstance().flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -123,4 +123,12 @@ public class XmlAdaptedPersonTest {
         Assert.assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void hashCode_equalAdapters_sameHashCode() {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(BENSON);
+        XmlAdaptedPerson samePerson = new XmlAdaptedPerson(BENSON);
+        assertEquals(person, samePerson);
+        assertEquals(person.hashCode(), samePerson.hashCode());
+    }
+
 }